@@ -0,0 +1,125 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.benchmarks;
+
+import tr.havelsan.ueransim.itms.Itms;
+import tr.havelsan.ueransim.itms.ItmsActor;
+import tr.havelsan.ueransim.itms.ItmsMessage;
+import tr.havelsan.ueransim.itms.ItmsScheduler;
+import tr.havelsan.ueransim.itms.ItmsTask;
+import tr.havelsan.ueransim.itms.ItmsThreadFactory;
+import tr.havelsan.ueransim.utils.console.Log;
+import tr.havelsan.ueransim.utils.console.Logger;
+
+import java.util.ArrayList;
+
+/**
+ * Starts idle UE-like ITMS task sets until the requested count is reached or the JVM runs out of threads or heap,
+ * and reports how far it got. Each UE has the same number of actor and blocking tasks as a simulated UE.
+ * <p>
+ * Usage: {@code ItmsCapacity <platform|virtual|pooled> <ue-count> [actors-per-ue] [blocking-per-ue]}
+ */
+public class ItmsCapacity {
+
+    private static final int REPORT_INTERVAL = 1000;
+
+    public static void main(String[] args) {
+        var mode = args[0];
+        int ueCount = Integer.parseInt(args[1]);
+        int actorsPerUe = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        int blockingPerUe = args.length > 3 ? Integer.parseInt(args[3]) : 0;
+
+        var threadFactory = mode.equals("virtual") ? ItmsThreadFactory.virtual() : ItmsThreadFactory.PLATFORM;
+        var scheduler = mode.equals("pooled") ? ItmsScheduler.perCore() : null;
+        var logger = new Logger("capacity");
+        var itmsList = new ArrayList<Itms>();
+
+        long startTime = System.currentTimeMillis();
+        int started = 0;
+        try {
+            while (started < ueCount) {
+                var itms = new Itms(scheduler, threadFactory);
+                var tasks = new ArrayList<ItmsTask>();
+                for (int i = 0; i < actorsPerUe; i++) {
+                    tasks.add(new IdleActor(itms, i));
+                }
+                for (int i = 0; i < blockingPerUe; i++) {
+                    tasks.add(new IdleTask(itms, actorsPerUe + i));
+                }
+                for (var task : tasks) {
+                    Log.registerLogger(task.thread, logger);
+                    itms.createTask(task);
+                }
+                for (var task : tasks) {
+                    itms.startTask(task);
+                }
+                itmsList.add(itms);
+                started++;
+
+                if (started % REPORT_INTERVAL == 0) {
+                    report(started, startTime);
+                }
+            }
+        } catch (OutOfMemoryError e) {
+            System.out.println("Stopped: " + e.getMessage());
+        }
+
+        if (started % REPORT_INTERVAL != 0) {
+            report(started, startTime);
+        }
+        System.exit(0);
+    }
+
+    private static void report(int ueCount, long startTime) {
+        var runtime = Runtime.getRuntime();
+        long usedHeap = runtime.totalMemory() - runtime.freeMemory();
+        System.out.printf("UEs: %d, live threads: %d, used heap: %d MiB, elapsed: %d ms%n", ueCount,
+                Thread.activeCount(), usedHeap / (1024 * 1024), System.currentTimeMillis() - startTime);
+    }
+
+    private static class IdleActor extends ItmsActor {
+        IdleActor(Itms itms, int taskId) {
+            super(itms, taskId);
+        }
+
+        @Override
+        protected void onMessage(ItmsMessage msg) {
+        }
+    }
+
+    private static class IdleTask extends ItmsTask {
+        IdleTask(Itms itms, int taskId) {
+            super(itms, taskId);
+        }
+
+        @Override
+        public void main() {
+            while (true) {
+                itms.receiveMessage(this);
+            }
+        }
+    }
+}
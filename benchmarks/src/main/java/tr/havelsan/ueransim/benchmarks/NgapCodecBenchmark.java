@@ -0,0 +1,90 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tr.havelsan.ueransim.ngap0.NgapEncoding;
+import tr.havelsan.ueransim.ngap0.NgapXerEncoder;
+import tr.havelsan.ueransim.ngap0.core.NGAP_Value;
+import tr.havelsan.ueransim.ngap0.pdu.NGAP_PDU;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the Java side of the NGAP codec: APER to/from NGAP objects and the XER encoder.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NgapCodecBenchmark {
+
+    @Param({
+            "NGSetupRequest",
+            "NGSetupResponse",
+            "InitialUEMessage",
+            "DownlinkNASTransport",
+            "UplinkNASTransport",
+            "InitialContextSetupRequest",
+            "InitialContextSetupResponse",
+            "PDUSessionResourceSetupRequest",
+            "PDUSessionResourceSetupResponse"
+    })
+    public String pdu;
+
+    private byte[] aper;
+    private NGAP_PDU decoded;
+    private String xer;
+
+    @Setup
+    public void setup() {
+        aper = NgapCorpus.getPdu(pdu);
+        decoded = NgapEncoding.decodeAper(aper);
+        xer = NgapXerEncoder.encode(decoded);
+    }
+
+    @Benchmark
+    public NGAP_PDU decodeAper() {
+        return NgapEncoding.decodeAper(aper);
+    }
+
+    @Benchmark
+    public byte[] encodeAper() {
+        return NgapEncoding.encodeAper(decoded);
+    }
+
+    @Benchmark
+    public String xerEncode() {
+        return NgapXerEncoder.encode(decoded);
+    }
+
+    @Benchmark
+    public NGAP_Value xerDecode() {
+        return NgapXerEncoder.decode(xer, NGAP_PDU.class);
+    }
+}
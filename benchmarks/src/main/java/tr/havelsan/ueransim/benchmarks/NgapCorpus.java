@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.benchmarks;
+
+import tr.havelsan.ueransim.utils.octets.OctetString;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class NgapCorpus {
+
+    private static final String RESOURCE = "/ngap-corpus.txt";
+
+    private static Map<String, byte[]> pdus;
+
+    public static synchronized Map<String, byte[]> getPdus() {
+        if (pdus == null) {
+            pdus = load();
+        }
+        return pdus;
+    }
+
+    public static byte[] getPdu(String name) {
+        var pdu = getPdus().get(name);
+        if (pdu == null) {
+            throw new IllegalArgumentException("PDU not found in corpus: " + name);
+        }
+        return pdu;
+    }
+
+    private static Map<String, byte[]> load() {
+        var res = new LinkedHashMap<String, byte[]>();
+
+        var stream = NgapCorpus.class.getResourceAsStream(RESOURCE);
+        if (stream == null) {
+            throw new RuntimeException("resource not found: " + RESOURCE);
+        }
+
+        try (var reader = new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#")) {
+                    continue;
+                }
+                var parts = line.split("\\s+");
+                if (parts.length != 2) {
+                    throw new RuntimeException("invalid corpus line: " + line);
+                }
+                res.put(parts[0], new OctetString(parts[1]).toByteArray());
+            }
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return res;
+    }
+}
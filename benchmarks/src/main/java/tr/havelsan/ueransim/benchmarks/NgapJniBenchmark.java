@@ -0,0 +1,104 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.benchmarks;
+
+import org.openjdk.jmh.annotations.*;
+import tr.havelsan.ueransim.ngap0.NgapDataUnitType;
+import tr.havelsan.ueransim.ngap0.NgapJni;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the native conversions alone, without building NGAP objects on the Java side.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Thread)
+public class NgapJniBenchmark {
+
+    @Param({
+            "NGSetupRequest",
+            "DownlinkNASTransport",
+            "InitialContextSetupRequest",
+            "PDUSessionResourceSetupRequest"
+    })
+    public String pdu;
+
+    private byte[] aper;
+    private String xer;
+    private byte[] valueTree;
+    private ByteBuffer directAper;
+    private ByteBuffer directXer;
+
+    @Setup
+    public void setup() {
+        aper = NgapCorpus.getPdu(pdu);
+        xer = NgapJni.aperToXer(aper, NgapDataUnitType.NGAP_PDU);
+        valueTree = NgapJni.aperToValueTree(aper, NgapDataUnitType.NGAP_PDU);
+
+        directAper = ByteBuffer.allocateDirect(aper.length);
+        directAper.put(aper).flip();
+
+        var xerBytes = xer.getBytes(StandardCharsets.UTF_8);
+        directXer = ByteBuffer.allocateDirect(xerBytes.length);
+        directXer.put(xerBytes).flip();
+    }
+
+    @Benchmark
+    public String aperToXer() {
+        return NgapJni.aperToXer(aper, NgapDataUnitType.NGAP_PDU);
+    }
+
+    @Benchmark
+    public byte[] xerToAper() {
+        return NgapJni.xerToAper(xer, NgapDataUnitType.NGAP_PDU);
+    }
+
+    @Benchmark
+    public ByteBuffer aperToXerDirect() {
+        return NgapJni.aperToXer(directAper, NgapDataUnitType.NGAP_PDU);
+    }
+
+    @Benchmark
+    public ByteBuffer xerToAperDirect() {
+        return NgapJni.xerToAper(directXer, NgapDataUnitType.NGAP_PDU);
+    }
+
+    @Benchmark
+    public byte[] aperToValueTree() {
+        return NgapJni.aperToValueTree(aper, NgapDataUnitType.NGAP_PDU);
+    }
+
+    @Benchmark
+    public byte[] valueTreeToAper() {
+        return NgapJni.valueTreeToAper(valueTree, valueTree.length, NgapDataUnitType.NGAP_PDU);
+    }
+}
@@ -33,4 +33,14 @@ public final class Constants {
 
     public static boolean USE_LONG_MNC = true;
     public static boolean TREAT_ERRORS_AS_FATAL = false;
+    public static boolean USE_NGAP_VALUE_TREE = true;
+    public static int NGAP_DECODE_THREADS = 0;
+    public static int UE_WORKER_THREADS = 0;
+    public static String ITMS_THREAD_TYPE = "platform";
+    public static int DATA_PLANE_QUEUE_CAPACITY = 0;
+    public static String DATA_PLANE_OVERFLOW_POLICY = "block";
+    public static int ITMS_METRICS_INTERVAL = 0;
+    public static int UE_SHARDS = 0;
+    public static boolean UE_SHARD_AFFINITY = false;
+    public static boolean LOG_DEBUG = true;
 }
@@ -6,8 +6,10 @@ import tr.havelsan.ueransim.core.exceptions.ReservedOrInvalidValueException;
 import tr.havelsan.ueransim.gtp.ext.*;
 import tr.havelsan.ueransim.gtp.pdusup.PduSessionInformation;
 import tr.havelsan.ueransim.utils.OctetInputStream;
+import tr.havelsan.ueransim.utils.octets.Octet2;
 import tr.havelsan.ueransim.utils.octets.OctetString;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 
 // TODO: General note for GTP-U: check for IP fragmentation and fitting IP packet inside of UDP carried GTP packet
@@ -22,38 +24,49 @@ public class GtpDecoder {
         return decode(new OctetInputStream(data));
     }
 
+    /**
+     * Decodes the message starting at the buffer's position, and advances the position past the message.
+     * The payload is copied out, so the buffer can be reused after this method returns.
+     */
+    public static GtpMessage decode(ByteBuffer buffer) {
+        var stream = new OctetInputStream(buffer);
+        var res = decode(stream);
+        buffer.position(stream.sourcePosition());
+        return res;
+    }
+
     public static GtpMessage decode(OctetInputStream stream) {
         var res = new GtpMessage();
 
         int fistIndex = stream.currentIndex();
 
-        var flags = stream.readOctet();
+        int flags = stream.readOctetI();
 
-        int version = flags.getBitRangeI(5, 7);
+        int version = flags >> 5 & 0b111;
         if (version != 1) {
             throw new NotImplementedException("GTP-U version not implemented");
         }
 
-        int protocolType = flags.getBitI(4);
+        int protocolType = flags >> 4 & 1;
         if (protocolType != 1) {
             throw new NotImplementedException("GTP' not implemented");
         }
 
-        boolean nextExtensionHeaderPresent = flags.getBitB(2);
-        boolean sequenceNumberPresent = flags.getBitB(1);
-        boolean nPduNumberPresent = flags.getBitB(0);
+        boolean nextExtensionHeaderPresent = (flags & 0b100) != 0;
+        boolean sequenceNumberPresent = (flags & 0b10) != 0;
+        boolean nPduNumberPresent = (flags & 0b1) != 0;
 
         res.msgType = stream.readOctet();
         int gtpLen = stream.readOctet2I();
         res.teid = stream.readOctet4();
 
         if (sequenceNumberPresent || nPduNumberPresent || nextExtensionHeaderPresent) {
-            var seq = stream.readOctet2();
+            int seq = stream.readOctet2I();
             var nPduNum = stream.readOctet();
             var nextExtHeaderType = stream.readOctetI();
 
             if (sequenceNumberPresent)
-                res.seq = seq;
+                res.seq = new Octet2(seq);
             if (nPduNumberPresent)
                 res.nPduNum = nPduNum;
             if (nextExtensionHeaderPresent) {
@@ -115,7 +128,7 @@ public class GtpDecoder {
         if (len != 2)
             throw new DecodingException("length must be 2 for LongPdcpPduNumberExtHeader");
 
-        int num = stream.readOctet().getBitRangeI(0, 1);
+        int num = stream.readOctetI() & 0b11;
         num <<= 8;
         num |= stream.readOctetI();
         num <<= 8;
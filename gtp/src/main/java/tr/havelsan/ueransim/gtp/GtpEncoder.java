@@ -21,8 +21,8 @@ public class GtpEncoder {
         return new OctetString(encode(gtp));
     }
 
-    public static void encode(GtpMessage gtp, OctetOutputStream outputStream) {
-        var stream = new OctetOutputStream();
+    public static void encode(GtpMessage gtp, OctetOutputStream stream) {
+        int start = stream.length();
 
         boolean pn = gtp.nPduNum != null;
         boolean s = gtp.seq != null;
@@ -33,7 +33,7 @@ public class GtpEncoder {
         var pt = 1;
         var version = 1;
 
-        stream.writeOctet(new Octet()
+        stream.writeOctet(Octet.valueOf(0)
                 .setBit(0, pn)
                 .setBit(1, s)
                 .setBit(2, e)
@@ -61,14 +61,10 @@ public class GtpEncoder {
 
         stream.writeOctetString(gtp.payload);
 
-        var data = stream.toByteArray();
-
         // assigning length field
-        int length = data.length - 8;
-        data[2] = (byte) (length >> 8 & 0xFF);
-        data[3] = (byte) (length & 0xFF);
-
-        outputStream.writeOctets(data);
+        int length = stream.length() - start - 8;
+        stream.setOctet(start + 2, length >> 8 & 0xFF);
+        stream.setOctet(start + 3, length & 0xFF);
     }
 
     private static void encodeExtensionHeader(GtpExtHeader header, OctetOutputStream stream) {
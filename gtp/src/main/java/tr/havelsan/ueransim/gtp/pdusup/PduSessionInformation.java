@@ -109,20 +109,20 @@ public abstract class PduSessionInformation {
             var dl = (DlPduSessionInformation) pdu;
 
             var snp = dl.dlQfiSeq != null;
-            stream.writeOctet(new Octet()
+            stream.writeOctet(Octet.valueOf(0)
                     .setBit(2, snp)
                     .setBit(4, dl.qmp)
                     .setBitRange(4, 7, pdu.pduType)
                     .intValue());
 
-            stream.writeOctet(new Octet()
+            stream.writeOctet(Octet.valueOf(0)
                     .setBitRange(0, 5, dl.qfi.intValue())
                     .setBit(6, dl.rqi)
                     .setBit(7, dl.ppi != null)
                     .intValue());
 
             if (dl.ppi != null) {
-                stream.writeOctet(new Octet()
+                stream.writeOctet(Octet.valueOf(0)
                         .setBitRange(5, 7, dl.ppi)
                         .intValue());
             }
@@ -139,7 +139,7 @@ public abstract class PduSessionInformation {
             var ul = (UlPduSessionInformation) pdu;
 
             var snp = ul.ulQfiSeq != null;
-            stream.writeOctet(new Octet()
+            stream.writeOctet(Octet.valueOf(0)
                     .setBit(0, snp)
                     .setBit(1, ul.ulDelayResult != null)
                     .setBit(2, ul.dlDelayResult != null)
@@ -147,7 +147,7 @@ public abstract class PduSessionInformation {
                     .setBitRange(4, 7, pdu.pduType)
                     .intValue());
 
-            stream.writeOctet(new Octet()
+            stream.writeOctet(Octet.valueOf(0)
                     .setBitRange(0, 5, ul.qfi.intValue())
                     .intValue());
 
@@ -24,46 +24,129 @@
 
 package tr.havelsan.ueransim.itms;
 
+import java.util.List;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadFactory;
 
 public class Itms {
 
     private final ConcurrentHashMap<Integer, ItmsTask> taskMap;
+    private final ItmsScheduler scheduler;
+    private final ThreadFactory threadFactory;
+    private volatile ItmsMetricsSink metricsSink;
 
     public Itms() {
+        this(null, ItmsThreadFactory.PLATFORM);
+    }
+
+    public Itms(ItmsScheduler scheduler) {
+        this(scheduler, ItmsThreadFactory.PLATFORM);
+    }
+
+    /**
+     * Creates an ITMS whose {@link ItmsActor} tasks run on the given scheduler instead of dedicated threads.
+     * Other tasks still get a dedicated thread, created by the given thread factory.
+     */
+    public Itms(ItmsScheduler scheduler, ThreadFactory threadFactory) {
         this.taskMap = new ConcurrentHashMap<>();
+        this.scheduler = scheduler;
+        this.threadFactory = threadFactory;
+    }
+
+    public ItmsScheduler getScheduler() {
+        return scheduler;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    public ItmsMetricsSink getMetricsSink() {
+        return metricsSink;
+    }
+
+    /**
+     * Starts collecting metrics for all current and future tasks. Metrics are passed to the sink on each
+     * {@link #reportMetrics()} call.
+     */
+    public void enableMetrics(ItmsMetricsSink sink) {
+        if (sink == null)
+            throw new IllegalArgumentException("sink must not be null");
+        this.metricsSink = sink;
+        for (var task : taskMap.values()) {
+            if (task.metrics == null) {
+                task.metrics = new ItmsTaskMetrics(task);
+            }
+        }
+    }
+
+    public void reportMetrics() {
+        var sink = metricsSink;
+        if (sink == null)
+            return;
+        for (var task : taskMap.values()) {
+            var metrics = task.metrics;
+            if (metrics != null) {
+                sink.report(task, metrics);
+            }
+        }
     }
 
     public void createTask(ItmsTask task) {
-        // TODO: statements together are not atomic
-        if (taskMap.containsKey(task.taskId))
+        if (taskMap.putIfAbsent(task.taskId, task) != null)
             throw new IllegalStateException("task id already exists");
-        taskMap.put(task.taskId, task);
+        if (metricsSink != null) {
+            task.metrics = new ItmsTaskMetrics(task);
+        }
     }
 
     public void startTask(ItmsTask task) {
         task.start();
     }
 
-    public Object receiveMessage(ItmsTask task) {
+    public ItmsMessage receiveMessage(ItmsTask task) {
         return task.receiveMessage();
     }
 
-    public Object receiveMessageNonBlocking(ItmsTask task) {
+    public ItmsMessage receiveMessageNonBlocking(ItmsTask task) {
         return task.receiveMessageNonBlocking();
     }
 
-    public void sendMessage(ItmsTask task, Object msg) {
+    /**
+     * Blocks until at least one message is available, then moves up to maxMessages messages to the list.
+     * Returns the number of messages moved.
+     */
+    public int receiveMessages(ItmsTask task, List<? super ItmsMessage> out, int maxMessages) {
+        return task.receiveMessages(out, maxMessages);
+    }
+
+    public void sendMessage(ItmsTask task, ItmsMessage msg) {
         task.putMessage(msg);
     }
 
-    public void sendMessage(int taskId, Object msg) {
+    public void sendMessage(int taskId, ItmsMessage msg) {
         var task = taskMap.get(taskId);
         if (task == null)
             throw new IllegalStateException("task id not found");
         sendMessage(task, msg);
     }
 
+    /**
+     * Sends the messages in order, waking the receiving task up only once.
+     */
+    public void sendMessages(ItmsTask task, List<? extends ItmsMessage> messages) {
+        if (!messages.isEmpty()) {
+            task.putMessages(messages);
+        }
+    }
+
+    public void sendMessages(int taskId, List<? extends ItmsMessage> messages) {
+        var task = taskMap.get(taskId);
+        if (task == null)
+            throw new IllegalStateException("task id not found");
+        sendMessages(task, messages);
+    }
+
     public ItmsTask findTask(int taskId) {
         return taskMap.get(taskId);
     }
@@ -0,0 +1,140 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.itms;
+
+import tr.havelsan.ueransim.utils.console.Log;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * An ITMS task that is driven by its mailbox instead of a blocking loop. If the owning {@link Itms} has a
+ * scheduler, the task is run on the scheduler's worker pool, otherwise it gets a dedicated thread as usual.
+ * In both cases messages of a task are handled one at a time and in order.
+ */
+public abstract class ItmsActor extends ItmsTask {
+
+    private static final int MAX_MESSAGES_PER_RUN = 32;
+
+    private final AtomicBoolean isScheduled;
+    private final Runnable runner;
+    private volatile ItmsScheduler scheduler;
+    private boolean isInitialized;
+
+    protected ItmsActor(Itms itms, int taskId) {
+        this(itms, taskId, new ItmsQueueMailbox());
+    }
+
+    protected ItmsActor(Itms itms, int taskId, ItmsMailbox mailbox) {
+        super(itms, taskId, mailbox);
+        this.isScheduled = new AtomicBoolean(false);
+        this.runner = this::run;
+    }
+
+    protected void onStart() {
+    }
+
+    protected abstract void onMessage(ItmsMessage msg);
+
+    @Override
+    public final void main() {
+        onStart();
+        while (true) {
+            onMessage(itms.receiveMessage(this));
+        }
+    }
+
+    @Override
+    void start() {
+        var scheduler = itms.getScheduler();
+        if (scheduler == null) {
+            super.start();
+            return;
+        }
+        markStarted();
+        this.scheduler = scheduler;
+        trySchedule();
+    }
+
+    @Override
+    void putMessage(ItmsMessage msg) {
+        super.putMessage(msg);
+        if (scheduler != null) {
+            trySchedule();
+        }
+    }
+
+    @Override
+    void putMessages(List<? extends ItmsMessage> messages) {
+        super.putMessages(messages);
+        if (scheduler != null) {
+            trySchedule();
+        }
+    }
+
+    private void trySchedule() {
+        if (isScheduled.compareAndSet(false, true)) {
+            scheduler.execute(runner);
+        }
+    }
+
+    private void run() {
+        var logger = Log.getLoggerOrDefault(thread);
+        if (logger != null) {
+            Log.registerLogger(Thread.currentThread(), logger);
+        }
+
+        try {
+            if (!isInitialized) {
+                isInitialized = true;
+                onStart();
+            }
+            for (int i = 0; i < MAX_MESSAGES_PER_RUN; i++) {
+                var msg = mailbox.poll();
+                if (msg == null)
+                    break;
+
+                var metrics = this.metrics;
+                if (metrics == null) {
+                    onMessage(msg);
+                } else {
+                    metrics.onDequeued(msg, System.nanoTime());
+                    onMessage(msg);
+                    metrics.onProcessed(System.nanoTime());
+                }
+            }
+        } catch (Exception e) {
+            // The task stays marked as scheduled and is never run again, same as a dedicated thread dying.
+            onException(e);
+            throw e;
+        }
+
+        isScheduled.set(false);
+        if (!mailbox.isEmpty()) {
+            trySchedule();
+        }
+    }
+}
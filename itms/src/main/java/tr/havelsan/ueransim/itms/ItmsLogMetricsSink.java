@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.itms;
+
+import tr.havelsan.ueransim.utils.Tag;
+import tr.havelsan.ueransim.utils.console.Log;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.IntFunction;
+
+/**
+ * Writes task metrics to the log of the reporting thread, one line per task. Message rates are computed from the
+ * difference to the previous report.
+ */
+public class ItmsLogMetricsSink implements ItmsMetricsSink {
+
+    private final IntFunction<String> kindNames;
+    private final Map<ItmsTask, long[]> previous;
+
+    public ItmsLogMetricsSink() {
+        this(String::valueOf);
+    }
+
+    public ItmsLogMetricsSink(IntFunction<String> kindNames) {
+        this.kindNames = kindNames;
+        this.previous = new IdentityHashMap<>();
+    }
+
+    @Override
+    public synchronized void report(ItmsTask task, ItmsTaskMetrics metrics) {
+        long now = System.nanoTime();
+        long processed = metrics.getProcessedCount();
+
+        var last = previous.get(task);
+        if (last == null) {
+            last = new long[]{metrics.getStartNanos(), 0};
+        }
+        double rate = now > last[0] ? (processed - last[1]) * 1e9 / (now - last[0]) : 0;
+        previous.put(task, new long[]{now, processed});
+
+        var latency = metrics.getQueueLatency();
+        var sb = new StringBuilder();
+        sb.append(String.format("%s: %.1f msg/s, depth %d, dropped %d, overflowed %d, errors %d, "
+                        + "queue p50 %s p99 %s max %s",
+                task.getClass().getSimpleName(), rate, metrics.getQueueDepth(), metrics.getDroppedCount(),
+                metrics.getOverflowCount(), metrics.getExceptionCount(), formatNanos(latency.getValueAtPercentile(50)),
+                formatNanos(latency.getValueAtPercentile(99)), formatNanos(latency.getMax())));
+
+        for (var entry : new TreeMap<>(metrics.getProcessingTimes()).entrySet()) {
+            var histogram = entry.getValue();
+            sb.append(String.format(" | %s x%d p50 %s p99 %s", kindNames.apply(entry.getKey()),
+                    histogram.getTotalCount(), formatNanos(histogram.getValueAtPercentile(50)),
+                    formatNanos(histogram.getValueAtPercentile(99))));
+        }
+
+        Log.info(Tag.METRICS, "%s", sb);
+    }
+
+    private static String formatNanos(long nanos) {
+        if (nanos < 1_000)
+            return nanos + "ns";
+        if (nanos < 1_000_000)
+            return String.format("%.1fus", nanos / 1e3);
+        if (nanos < 1_000_000_000)
+            return String.format("%.1fms", nanos / 1e6);
+        return String.format("%.1fs", nanos / 1e9);
+    }
+}
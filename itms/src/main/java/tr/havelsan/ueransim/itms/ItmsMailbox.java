@@ -0,0 +1,73 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.itms;
+
+import java.util.List;
+
+/**
+ * Message queue of an ITMS task. Any thread may offer messages, but only the owning task polls or takes them.
+ */
+public interface ItmsMailbox {
+
+    /**
+     * Creates a bounded mailbox, or an unbounded one if the capacity is not positive.
+     */
+    static ItmsMailbox create(int capacity, ItmsOverflowPolicy overflowPolicy) {
+        if (capacity <= 0)
+            return new ItmsQueueMailbox();
+        return new ItmsRingMailbox(capacity, overflowPolicy);
+    }
+
+    /**
+     * Returns false if the message was dropped because the mailbox is full.
+     */
+    boolean offer(ItmsMessage msg);
+
+    /**
+     * Offers the messages in order, returns the number of messages that were not dropped.
+     */
+    int offerAll(List<? extends ItmsMessage> messages);
+
+    ItmsMessage take() throws InterruptedException;
+
+    ItmsMessage poll();
+
+    /**
+     * Moves up to the given number of available messages to the list without blocking, returns the number moved.
+     */
+    int drainTo(List<? super ItmsMessage> out, int maxMessages);
+
+    boolean isEmpty();
+
+    int size();
+
+    long getDroppedCount();
+
+    /**
+     * Returns the number of messages that were accepted beyond the capacity, see {@link ItmsOverflowPolicy#COUNT}.
+     */
+    long getOverflowCount();
+}
@@ -0,0 +1,59 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.itms;
+
+import java.util.function.Supplier;
+
+/**
+ * Bounded free list for recycling high-rate messages. A message must not be used by anyone once it is
+ * released. Acquiring from an empty pool creates a new message, and releasing to a full pool leaves the
+ * message to the garbage collector.
+ * <p>
+ * Messages that a mailbox drops by its {@link ItmsOverflowPolicy} are never released, since the mailbox does not know
+ * their pool. They are collected like unpooled messages, and the pool makes up for them by creating new ones.
+ */
+public class ItmsMessagePool<T extends ItmsMessage> {
+
+    private final ItmsRingMailbox freeList;
+    private final Supplier<T> factory;
+
+    public ItmsMessagePool(int capacity, Supplier<T> factory) {
+        this.freeList = new ItmsRingMailbox(capacity, ItmsOverflowPolicy.DROP_NEWEST);
+        this.factory = factory;
+    }
+
+    @SuppressWarnings("unchecked")
+    public T acquire() {
+        var msg = freeList.poll();
+        if (msg == null)
+            return factory.get();
+        return (T) msg;
+    }
+
+    public void release(T msg) {
+        freeList.offer(msg);
+    }
+}
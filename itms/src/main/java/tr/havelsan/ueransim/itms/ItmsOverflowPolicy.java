@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.itms;
+
+public enum ItmsOverflowPolicy {
+    /**
+     * The sender waits until there is room in the mailbox. Senders that are actors sharing a scheduler with the
+     * receiver may stall the pool, so this is meant for dedicated sender threads.
+     */
+    BLOCK,
+    /**
+     * The message being sent is dropped. Dropped messages are not handed back to an {@link ItmsMessagePool}, they are
+     * left to the garbage collector.
+     */
+    DROP_NEWEST,
+    /**
+     * The oldest message in the mailbox is dropped to make room. As with {@link #DROP_NEWEST}, the dropped message is
+     * not handed back to its pool.
+     */
+    DROP_OLDEST,
+    /**
+     * Nothing is dropped and the sender does not wait. Messages that do not fit are kept in an unbounded overflow
+     * queue behind the mailbox and counted, which shows how often a bounded mailbox would overflow before choosing a
+     * policy that drops or blocks.
+     */
+    COUNT;
+
+    /**
+     * Parses the configuration form of a policy, e.g. "drop-newest".
+     */
+    public static ItmsOverflowPolicy parse(String value) {
+        return valueOf(value.replace('-', '_').toUpperCase());
+    }
+}
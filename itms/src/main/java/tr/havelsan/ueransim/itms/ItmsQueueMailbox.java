@@ -0,0 +1,88 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.itms;
+
+import java.util.List;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Unbounded mailbox, never drops messages.
+ */
+public class ItmsQueueMailbox implements ItmsMailbox {
+
+    private final LinkedBlockingQueue<ItmsMessage> queue;
+
+    public ItmsQueueMailbox() {
+        this.queue = new LinkedBlockingQueue<>();
+    }
+
+    @Override
+    public boolean offer(ItmsMessage msg) {
+        queue.add(msg);
+        return true;
+    }
+
+    @Override
+    public int offerAll(List<? extends ItmsMessage> messages) {
+        queue.addAll(messages);
+        return messages.size();
+    }
+
+    @Override
+    public ItmsMessage take() throws InterruptedException {
+        return queue.take();
+    }
+
+    @Override
+    public ItmsMessage poll() {
+        return queue.poll();
+    }
+
+    @Override
+    public int drainTo(List<? super ItmsMessage> out, int maxMessages) {
+        return queue.drainTo(out, maxMessages);
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return queue.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return 0;
+    }
+
+    @Override
+    public long getOverflowCount() {
+        return 0;
+    }
+}
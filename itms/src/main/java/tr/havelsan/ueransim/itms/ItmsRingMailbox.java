@@ -0,0 +1,267 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.itms;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bounded lock-free mailbox based on a ring buffer with per-slot sequence numbers. Nothing is allocated per
+ * message, and what happens when the ring is full is decided by the {@link ItmsOverflowPolicy}.
+ * <p>
+ * Slots are claimed with CAS on both ends, so senders can evict the oldest message for
+ * {@link ItmsOverflowPolicy#DROP_OLDEST} while the owning task is polling.
+ * <p>
+ * With {@link ItmsOverflowPolicy#COUNT}, messages that do not fit go to an overflow queue. Once the overflow queue is
+ * in use, new messages are appended to it as well until it is drained, so that the messages of a sender stay in order.
+ */
+public class ItmsRingMailbox implements ItmsMailbox {
+
+    private static final long BLOCK_PARK_NANOS = 10_000;
+
+    private final int mask;
+    private final ItmsOverflowPolicy overflowPolicy;
+    private final AtomicReferenceArray<ItmsMessage> elements;
+    private final AtomicLongArray sequences;
+    private final AtomicLong head;
+    private final AtomicLong tail;
+    private final AtomicLong droppedCount;
+    private final AtomicLong overflowCount;
+    private final ConcurrentLinkedQueue<ItmsMessage> overflow;
+    private volatile Thread waiter;
+
+    /**
+     * The capacity is rounded up to the next power of two.
+     */
+    public ItmsRingMailbox(int capacity, ItmsOverflowPolicy overflowPolicy) {
+        if (capacity <= 0 || capacity > (1 << 30))
+            throw new IllegalArgumentException("invalid capacity: " + capacity);
+
+        int size = Integer.highestOneBit(capacity);
+        if (size < capacity)
+            size <<= 1;
+
+        this.mask = size - 1;
+        this.overflowPolicy = overflowPolicy;
+        this.elements = new AtomicReferenceArray<>(size);
+        this.sequences = new AtomicLongArray(size);
+        this.head = new AtomicLong(0);
+        this.tail = new AtomicLong(0);
+        this.droppedCount = new AtomicLong(0);
+        this.overflowCount = new AtomicLong(0);
+        this.overflow = overflowPolicy == ItmsOverflowPolicy.COUNT ? new ConcurrentLinkedQueue<>() : null;
+
+        for (int i = 0; i < size; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    public ItmsOverflowPolicy getOverflowPolicy() {
+        return overflowPolicy;
+    }
+
+    @Override
+    public boolean offer(ItmsMessage msg) {
+        boolean isAccepted = offerWithoutWakeUp(msg);
+        if (isAccepted) {
+            wakeUp();
+        }
+        return isAccepted;
+    }
+
+    @Override
+    public int offerAll(List<? extends ItmsMessage> messages) {
+        int accepted = 0;
+        for (var msg : messages) {
+            if (offerWithoutWakeUp(msg)) {
+                accepted++;
+            }
+        }
+        if (accepted > 0) {
+            wakeUp();
+        }
+        return accepted;
+    }
+
+    private boolean offerWithoutWakeUp(ItmsMessage msg) {
+        if (msg == null)
+            throw new NullPointerException();
+
+        if (overflow != null && !overflow.isEmpty()) {
+            addOverflow(msg);
+            return true;
+        }
+
+        while (!tryOffer(msg)) {
+            switch (overflowPolicy) {
+                case BLOCK:
+                    // Wake the task up in case it is waiting on messages offered earlier in a batch
+                    wakeUp();
+                    LockSupport.parkNanos(this, BLOCK_PARK_NANOS);
+                    break;
+                case DROP_NEWEST:
+                    droppedCount.incrementAndGet();
+                    return false;
+                case DROP_OLDEST:
+                    if (pollRing() != null) {
+                        droppedCount.incrementAndGet();
+                    }
+                    break;
+                case COUNT:
+                    addOverflow(msg);
+                    return true;
+            }
+        }
+        return true;
+    }
+
+    private void addOverflow(ItmsMessage msg) {
+        overflow.add(msg);
+        overflowCount.incrementAndGet();
+    }
+
+    private void wakeUp() {
+        var thread = waiter;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private boolean tryOffer(ItmsMessage msg) {
+        while (true) {
+            long position = tail.get();
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - position;
+
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements.lazySet(index, msg);
+                    // Volatile write, pairs with the waiter check in take()
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            } else if (diff < 0) {
+                return false;
+            }
+        }
+    }
+
+    @Override
+    public ItmsMessage poll() {
+        var msg = pollRing();
+        if (msg == null && overflow != null) {
+            msg = overflow.poll();
+        }
+        return msg;
+    }
+
+    private ItmsMessage pollRing() {
+        while (true) {
+            long position = head.get();
+            int index = (int) position & mask;
+            long diff = sequences.get(index) - (position + 1);
+
+            if (diff == 0) {
+                if (head.compareAndSet(position, position + 1)) {
+                    var msg = elements.get(index);
+                    elements.lazySet(index, null);
+                    sequences.set(index, position + mask + 1);
+                    return msg;
+                }
+            } else if (diff < 0) {
+                return null;
+            }
+        }
+    }
+
+    @Override
+    public int drainTo(List<? super ItmsMessage> out, int maxMessages) {
+        int count = 0;
+        while (count < maxMessages) {
+            var msg = poll();
+            if (msg == null)
+                break;
+            out.add(msg);
+            count++;
+        }
+        return count;
+    }
+
+    @Override
+    public ItmsMessage take() throws InterruptedException {
+        while (true) {
+            var msg = poll();
+            if (msg != null)
+                return msg;
+
+            waiter = Thread.currentThread();
+            try {
+                msg = poll();
+                if (msg != null)
+                    return msg;
+
+                LockSupport.park(this);
+                if (Thread.interrupted())
+                    throw new InterruptedException();
+            } finally {
+                waiter = null;
+            }
+        }
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return ringSize() == 0 && (overflow == null || overflow.isEmpty());
+    }
+
+    @Override
+    public int size() {
+        return overflow == null ? ringSize() : ringSize() + overflow.size();
+    }
+
+    private int ringSize() {
+        long size = tail.get() - head.get();
+        return (int) Math.max(0, Math.min(size, mask + 1));
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    @Override
+    public long getOverflowCount() {
+        return overflowCount.get();
+    }
+}
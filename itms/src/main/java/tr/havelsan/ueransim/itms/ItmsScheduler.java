@@ -0,0 +1,96 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.itms;
+
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounded worker pool that runs {@link ItmsActor} tasks. An instance can be shared between many {@link Itms}
+ * instances, so the number of threads no longer depends on the number of tasks.
+ */
+public class ItmsScheduler {
+
+    private final ThreadPoolExecutor executor;
+    private final int workerCount;
+
+    public ItmsScheduler(int workerCount) {
+        this(workerCount, namedThreads("itms-worker-"));
+    }
+
+    /**
+     * Creates a scheduler whose workers are created by the given factory, e.g. to name or pin them.
+     */
+    public ItmsScheduler(int workerCount, ThreadFactory threadFactory) {
+        if (workerCount <= 0)
+            throw new IllegalArgumentException("workerCount must be positive");
+
+        this.workerCount = workerCount;
+        this.executor = new ThreadPoolExecutor(workerCount, workerCount, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), threadFactory);
+    }
+
+    public static ThreadFactory namedThreads(String prefix) {
+        var threadIndex = new AtomicInteger(0);
+        return runnable -> new Thread(runnable, prefix + threadIndex.getAndIncrement());
+    }
+
+    /**
+     * Creates a scheduler with one worker per available processor.
+     */
+    public static ItmsScheduler perCore() {
+        return new ItmsScheduler(Runtime.getRuntime().availableProcessors());
+    }
+
+    public int getWorkerCount() {
+        return workerCount;
+    }
+
+    /**
+     * Number of actor runs that are waiting for a free worker.
+     */
+    public int getPendingRunCount() {
+        return executor.getQueue().size();
+    }
+
+    /**
+     * Approximate number of actor runs completed so far.
+     */
+    public long getCompletedRunCount() {
+        return executor.getCompletedTaskCount();
+    }
+
+    void execute(Runnable runnable) {
+        executor.execute(runnable);
+    }
+
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
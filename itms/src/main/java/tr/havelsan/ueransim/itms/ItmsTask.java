@@ -24,28 +24,37 @@
 
 package tr.havelsan.ueransim.itms;
 
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import tr.havelsan.ueransim.utils.console.Log;
+import tr.havelsan.ueransim.utils.Tag;
+
+import java.util.List;
 
 public abstract class ItmsTask {
 
     public final int taskId;
-    public final BlockingQueue<Object> msgQueue;
+    public final ItmsMailbox mailbox;
     public final Thread thread;
     protected final Itms itms;
 
+    volatile ItmsTaskMetrics metrics;
     private boolean isStarted;
 
     protected ItmsTask(Itms itms, int taskId) {
+        this(itms, taskId, new ItmsQueueMailbox());
+    }
+
+    protected ItmsTask(Itms itms, int taskId, ItmsMailbox mailbox) {
         this.itms = itms;
         this.taskId = taskId;
-        this.msgQueue = new LinkedBlockingQueue<>();
-        this.thread = new Thread(() -> {
+        this.mailbox = mailbox;
+        this.thread = itms.getThreadFactory().newThread(() -> {
             try {
                 main();
             } catch (Exception e) {
                 onException(e);
                 throw e;
+            } finally {
+                Log.unregisterLogger(Thread.currentThread());
             }
         });
     }
@@ -53,30 +62,136 @@ public abstract class ItmsTask {
     public abstract void main();
 
     void start() {
+        markStarted();
+        thread.start();
+    }
+
+    void markStarted() {
         if (isStarted)
             throw new IllegalStateException("ITMS task already started");
         isStarted = true;
-        thread.start();
     }
 
-    void putMessage(Object msg) {
-        msgQueue.add(msg);
+    void putMessage(ItmsMessage msg) {
+        if (metrics != null) {
+            msg.enqueueNanos = System.nanoTime();
+        }
+        mailbox.offer(msg);
+    }
+
+    void putMessages(List<? extends ItmsMessage> messages) {
+        if (metrics != null) {
+            long now = System.nanoTime();
+            for (var msg : messages) {
+                msg.enqueueNanos = now;
+            }
+        }
+        mailbox.offerAll(messages);
     }
 
-    Object receiveMessage() {
+    ItmsMessage receiveMessage() {
+        var metrics = this.metrics;
+        if (metrics != null) {
+            metrics.onProcessed(System.nanoTime());
+        }
+
+        ItmsMessage msg;
         try {
-            return msgQueue.take();
+            msg = mailbox.take();
         } catch (InterruptedException e) {
-            onException(e);
+            // Reported by the task thread when the exception leaves main()
             throw new RuntimeException(e);
         }
+
+        if (metrics != null) {
+            metrics.onDequeued(msg, System.nanoTime());
+        }
+        return msg;
+    }
+
+    ItmsMessage receiveMessageNonBlocking() {
+        var metrics = this.metrics;
+        if (metrics == null) {
+            return mailbox.poll();
+        }
+
+        long now = System.nanoTime();
+        metrics.onProcessed(now);
+        var msg = mailbox.poll();
+        if (msg != null) {
+            metrics.onDequeued(msg, now);
+        }
+        return msg;
+    }
+
+    int receiveMessages(List<? super ItmsMessage> out, int maxMessages) {
+        if (maxMessages <= 0)
+            throw new IllegalArgumentException("maxMessages must be positive");
+
+        var metrics = this.metrics;
+        if (metrics == null) {
+            int count = mailbox.drainTo(out, maxMessages);
+            if (count == 0) {
+                out.add(receiveMessage());
+                count = 1 + mailbox.drainTo(out, maxMessages - 1);
+            }
+            return count;
+        }
+
+        metrics.onProcessed(System.nanoTime());
+
+        int start = out.size();
+        int count = mailbox.drainTo(out, maxMessages);
+        if (count == 0) {
+            try {
+                out.add(mailbox.take());
+            } catch (InterruptedException e) {
+                throw new RuntimeException(e);
+            }
+            count = 1 + mailbox.drainTo(out, maxMessages - 1);
+        }
+
+        long now = System.nanoTime();
+        for (int i = 0; i < count; i++) {
+            metrics.onDequeued((ItmsMessage) out.get(start + i), now);
+        }
+        return count;
     }
 
-    Object receiveMessageNonBlocking() {
-        return msgQueue.poll();
+    public int getQueueDepth() {
+        return mailbox.size();
     }
 
-    private void onException(Exception e) {
-        // TODO
+    public long getDroppedCount() {
+        return mailbox.getDroppedCount();
+    }
+
+    public long getOverflowCount() {
+        return mailbox.getOverflowCount();
+    }
+
+    /**
+     * Returns the metrics of this task, or null if metrics are not enabled for the owning {@link Itms}.
+     */
+    public ItmsTaskMetrics getMetrics() {
+        return metrics;
+    }
+
+    void onException(Exception e) {
+        var metrics = this.metrics;
+        if (metrics != null) {
+            metrics.onException();
+        }
+
+        var sink = itms.getMetricsSink();
+        if (sink != null) {
+            sink.onException(this, e);
+        }
+
+        // Tasks that never registered a logger must not log, Log exits the process for them.
+        var logger = Log.getLoggerOrDefault(Thread.currentThread());
+        if (logger != null) {
+            Log.error(Tag.SYSTEM, "ITMS task %s (%d) failed: %s", getClass().getSimpleName(), taskId, e);
+        }
     }
 }
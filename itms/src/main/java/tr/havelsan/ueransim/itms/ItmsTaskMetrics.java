@@ -0,0 +1,131 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.itms;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Metrics of a single ITMS task: how long messages wait in the mailbox, how long the task spends on each message
+ * kind, and the current mailbox depth.
+ * <p>
+ * For tasks with their own main loop, the processing time of a message is the time until the task asks for the
+ * next message. When messages are received in a batch, the batch time is shared evenly between its messages.
+ */
+public class ItmsTaskMetrics {
+
+    private final ItmsTask task;
+    private final ItmsHistogram queueLatency;
+    private final ConcurrentHashMap<Integer, ItmsHistogram> processingTimes;
+    private final AtomicLong exceptionCount;
+    private final long startNanos;
+
+    // Only accessed by the thread that is currently running the task
+    private int[] pendingKinds;
+    private int pendingCount;
+    private long dequeueNanos;
+
+    ItmsTaskMetrics(ItmsTask task) {
+        this.task = task;
+        this.queueLatency = new ItmsHistogram();
+        this.processingTimes = new ConcurrentHashMap<>();
+        this.exceptionCount = new AtomicLong();
+        this.pendingKinds = new int[16];
+        this.startNanos = System.nanoTime();
+    }
+
+    /**
+     * {@link System#nanoTime()} value at which collecting the metrics started.
+     */
+    public long getStartNanos() {
+        return startNanos;
+    }
+
+    /**
+     * Time between a message being sent and the task receiving it, in nanoseconds.
+     */
+    public ItmsHistogram getQueueLatency() {
+        return queueLatency;
+    }
+
+    /**
+     * Processing time in nanoseconds, by message kind.
+     */
+    public Map<Integer, ItmsHistogram> getProcessingTimes() {
+        return Collections.unmodifiableMap(processingTimes);
+    }
+
+    public long getProcessedCount() {
+        return queueLatency.getTotalCount();
+    }
+
+    public int getQueueDepth() {
+        return task.mailbox.size();
+    }
+
+    public long getDroppedCount() {
+        return task.mailbox.getDroppedCount();
+    }
+
+    public long getOverflowCount() {
+        return task.mailbox.getOverflowCount();
+    }
+
+    public long getExceptionCount() {
+        return exceptionCount.get();
+    }
+
+    void onDequeued(ItmsMessage msg, long now) {
+        if (msg.enqueueNanos != 0) {
+            queueLatency.record(now - msg.enqueueNanos);
+        }
+        if (pendingCount == 0) {
+            dequeueNanos = now;
+        }
+        if (pendingCount == pendingKinds.length) {
+            pendingKinds = Arrays.copyOf(pendingKinds, pendingCount * 2);
+        }
+        pendingKinds[pendingCount++] = msg.kind;
+    }
+
+    void onProcessed(long now) {
+        if (pendingCount == 0)
+            return;
+
+        long perMessage = (now - dequeueNanos) / pendingCount;
+        for (int i = 0; i < pendingCount; i++) {
+            processingTimes.computeIfAbsent(pendingKinds[i], kind -> new ItmsHistogram()).record(perMessage);
+        }
+        pendingCount = 0;
+    }
+
+    void onException() {
+        exceptionCount.incrementAndGet();
+    }
+}
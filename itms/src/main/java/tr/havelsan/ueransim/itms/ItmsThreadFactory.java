@@ -0,0 +1,91 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.itms;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Thread factories for the dedicated threads of ITMS tasks. Virtual threads are looked up reflectively, so
+ * they are used when running on a JDK that supports them while the project still targets Java 11.
+ */
+public final class ItmsThreadFactory {
+
+    public static final ThreadFactory PLATFORM = Thread::new;
+
+    private static final ThreadFactory VIRTUAL = createVirtual();
+
+    public static boolean isVirtualSupported() {
+        return VIRTUAL != null;
+    }
+
+    public static ThreadFactory virtual() {
+        if (VIRTUAL == null)
+            throw new UnsupportedOperationException("virtual threads are not supported by this JDK");
+        return VIRTUAL;
+    }
+
+    /**
+     * Returns the factory for the given type, either "platform" or "virtual".
+     */
+    public static ThreadFactory of(String type) {
+        switch (type) {
+            case "platform":
+                return PLATFORM;
+            case "virtual":
+                return virtual();
+            default:
+                throw new IllegalArgumentException("unknown thread type: " + type);
+        }
+    }
+
+    private static ThreadFactory createVirtual() {
+        MethodHandle unstarted;
+        Object builder;
+        try {
+            var lookup = MethodHandles.publicLookup();
+            var builderClass = Class.forName("java.lang.Thread$Builder");
+            builder = lookup.findStatic(Thread.class, "ofVirtual",
+                    MethodType.methodType(Class.forName("java.lang.Thread$Builder$OfVirtual"))).invoke();
+            unstarted = lookup.findVirtual(builderClass, "unstarted",
+                    MethodType.methodType(Thread.class, Runnable.class));
+        } catch (Throwable e) {
+            return null;
+        }
+
+        return runnable -> {
+            try {
+                return (Thread) unstarted.invoke(builder, runnable);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        };
+    }
+}
@@ -0,0 +1,229 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tr.havelsan.ueransim.itms;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class Test_ItmsRingMailbox {
+
+    private static final int PRODUCERS = 4;
+    private static final int MESSAGES_PER_PRODUCER = 20_000;
+    private static final int CAPACITY = 64;
+    private static final int SENT = PRODUCERS * MESSAGES_PER_PRODUCER;
+
+    @Test
+    public void testBlockWithConsumer() throws Exception {
+        var box = new ItmsRingMailbox(CAPACITY, ItmsOverflowPolicy.BLOCK);
+        var received = sendWithConsumer(box);
+
+        assertComplete(received);
+        Assert.assertEquals(0, box.getDroppedCount());
+        Assert.assertEquals(0, box.getOverflowCount());
+    }
+
+    @Test
+    public void testDropNewestWithConsumer() throws Exception {
+        var box = new ItmsRingMailbox(CAPACITY, ItmsOverflowPolicy.DROP_NEWEST);
+        var received = sendWithConsumer(box);
+
+        Assert.assertEquals(SENT, count(received) + box.getDroppedCount());
+        assertInOrder(received);
+        Assert.assertEquals(0, box.getOverflowCount());
+    }
+
+    @Test
+    public void testDropNewestWhenFull() throws Exception {
+        var box = new ItmsRingMailbox(CAPACITY, ItmsOverflowPolicy.DROP_NEWEST);
+        var received = sendThenDrain(box);
+
+        // Nothing is taken while sending, so each producer keeps the messages sent before the ring filled up
+        Assert.assertEquals(CAPACITY, count(received));
+        Assert.assertEquals(SENT - CAPACITY, box.getDroppedCount());
+        for (var list : received) {
+            for (int i = 0; i < list.size(); i++) {
+                Assert.assertEquals(i, (int) list.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testDropOldestWithConsumer() throws Exception {
+        var box = new ItmsRingMailbox(CAPACITY, ItmsOverflowPolicy.DROP_OLDEST);
+        var received = sendWithConsumer(box);
+
+        Assert.assertEquals(SENT, count(received) + box.getDroppedCount());
+        assertInOrder(received);
+        Assert.assertEquals(0, box.getOverflowCount());
+    }
+
+    @Test
+    public void testDropOldestWhenFull() throws Exception {
+        var box = new ItmsRingMailbox(CAPACITY, ItmsOverflowPolicy.DROP_OLDEST);
+        var received = sendThenDrain(box);
+
+        // Nothing is taken while sending, so each producer keeps its last messages
+        Assert.assertEquals(CAPACITY, count(received));
+        Assert.assertEquals(SENT - CAPACITY, box.getDroppedCount());
+        for (var list : received) {
+            int first = MESSAGES_PER_PRODUCER - list.size();
+            for (int i = 0; i < list.size(); i++) {
+                Assert.assertEquals(first + i, (int) list.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void testCountWithConsumer() throws Exception {
+        var box = new ItmsRingMailbox(CAPACITY, ItmsOverflowPolicy.COUNT);
+        var received = sendWithConsumer(box);
+
+        assertComplete(received);
+        Assert.assertEquals(0, box.getDroppedCount());
+    }
+
+    @Test
+    public void testCountWhenFull() throws Exception {
+        var box = new ItmsRingMailbox(CAPACITY, ItmsOverflowPolicy.COUNT);
+        var received = sendThenDrain(box);
+
+        assertComplete(received);
+        Assert.assertEquals(0, box.getDroppedCount());
+        Assert.assertEquals(SENT - CAPACITY, box.getOverflowCount());
+        Assert.assertTrue(box.isEmpty());
+    }
+
+    private static List<List<Integer>> sendWithConsumer(ItmsRingMailbox box) throws Exception {
+        var received = newReceivedLists();
+        var done = new AtomicBoolean(false);
+
+        var consumer = new Thread(() -> {
+            while (true) {
+                var msg = box.poll();
+                if (msg == null) {
+                    // Producers have finished before done is set, so an empty poll after that means nothing is left
+                    if (done.get() && (msg = box.poll()) == null)
+                        break;
+                    if (msg == null) {
+                        Thread.yield();
+                        continue;
+                    }
+                }
+                var testMsg = (TestMessage) msg;
+                received.get(testMsg.producer).add(testMsg.sequence);
+            }
+        });
+        consumer.start();
+
+        runProducers(box);
+        done.set(true);
+        consumer.join();
+        return received;
+    }
+
+    private static List<List<Integer>> sendThenDrain(ItmsRingMailbox box) throws Exception {
+        runProducers(box);
+
+        var received = newReceivedLists();
+        ItmsMessage msg;
+        while ((msg = box.poll()) != null) {
+            var testMsg = (TestMessage) msg;
+            received.get(testMsg.producer).add(testMsg.sequence);
+        }
+        return received;
+    }
+
+    private static void runProducers(ItmsRingMailbox box) throws Exception {
+        var start = new CountDownLatch(1);
+        var producers = new Thread[PRODUCERS];
+        for (int i = 0; i < PRODUCERS; i++) {
+            int producer = i;
+            producers[i] = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int j = 0; j < MESSAGES_PER_PRODUCER; j++) {
+                    box.offer(new TestMessage(producer, j));
+                }
+            });
+            producers[i].start();
+        }
+        start.countDown();
+        for (var producer : producers) {
+            producer.join();
+        }
+    }
+
+    private static List<List<Integer>> newReceivedLists() {
+        var received = new ArrayList<List<Integer>>();
+        for (int i = 0; i < PRODUCERS; i++) {
+            received.add(new ArrayList<>());
+        }
+        return received;
+    }
+
+    private static long count(List<List<Integer>> received) {
+        long count = 0;
+        for (var list : received) {
+            count += list.size();
+        }
+        return count;
+    }
+
+    private static void assertComplete(List<List<Integer>> received) {
+        for (var list : received) {
+            Assert.assertEquals(MESSAGES_PER_PRODUCER, list.size());
+            for (int i = 0; i < list.size(); i++) {
+                Assert.assertEquals(i, (int) list.get(i));
+            }
+        }
+    }
+
+    private static void assertInOrder(List<List<Integer>> received) {
+        for (var list : received) {
+            for (int i = 1; i < list.size(); i++) {
+                Assert.assertTrue(list.get(i - 1) < list.get(i));
+            }
+        }
+    }
+
+    private static final class TestMessage extends ItmsMessage {
+        final int producer;
+        final int sequence;
+
+        TestMessage(int producer, int sequence) {
+            super(0);
+            this.producer = producer;
+            this.sequence = sequence;
+        }
+    }
+}
@@ -66,7 +66,7 @@ public class EapDecoder {
     }
 
     public static Eap eapPdu(OctetString pdu) {
-        return eapPdu(new OctetInputStream(pdu.toByteArray()));
+        return eapPdu(new OctetInputStream(pdu));
     }
 
     public static Eap eapPdu(String hex) {
@@ -78,7 +78,7 @@ public class EapDecoder {
     }
 
     private static Octet decodeId(OctetInputStream stream) {
-        return new Octet(stream.readOctetI());
+        return Octet.valueOf(stream.readOctetI());
     }
 
     private static Octet2 decodeLength(OctetInputStream stream) {
@@ -55,7 +55,7 @@ public class NasDecoder {
         if (data == null) {
             return null;
         }
-        return nasPdu(data.toByteArray());
+        return nasPdu(new OctetInputStream(data));
     }
 
     public static NasMessage nasPdu(OctetInputStream stream) {
@@ -248,7 +248,7 @@ public class NasDecoder {
     public static <T extends InformationElement1> T ie1(int halfOctet, Class<T> clazz) {
         try {
             T instance = clazz.getConstructor().newInstance();
-            return (T) instance.decodeIE1(new Bit4(halfOctet & 0xF));
+            return (T) instance.decodeIE1(Bit4.valueOf(halfOctet & 0xF));
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
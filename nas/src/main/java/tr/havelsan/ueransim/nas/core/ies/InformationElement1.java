@@ -38,7 +38,7 @@ public abstract class InformationElement1 extends InformationElement {
         int octet = stream.readOctetI();
         int iei = octet >> 4 & 0xF;
         int value = octet & 0xF;
-        return decodeIE1(new Bit4(value));
+        return decodeIE1(Bit4.valueOf(value));
     }
 
     public abstract int encodeIE1();
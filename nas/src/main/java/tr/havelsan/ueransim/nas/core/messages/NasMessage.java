@@ -208,11 +208,11 @@ public abstract class NasMessage extends ProtocolValue {
                     if (value1 == null) {
                         stream.writeOctet(0);
                     } else {
-                        NasEncoder.ie1(stream, (InformationElement1) value1, new Bit4(0));
+                        NasEncoder.ie1(stream, (InformationElement1) value1, Bit4.valueOf(0));
                     }
                 } else {
                     if (value1 == null) {
-                        NasEncoder.ie1(stream, new Bit4(0), (InformationElement1) value0);
+                        NasEncoder.ie1(stream, Bit4.valueOf(0), (InformationElement1) value0);
                     } else {
                         NasEncoder.ie1(stream, (InformationElement1) value1, (InformationElement1) value0);
                     }
@@ -248,7 +248,7 @@ public abstract class NasMessage extends ProtocolValue {
                 Object value = getFieldValue(field);
                 if (value == null)
                     continue;
-                NasEncoder.ie1(stream, new Bit4(ie.iei), (InformationElement1) value);
+                NasEncoder.ie1(stream, Bit4.valueOf(ie.iei), (InformationElement1) value);
             } else {
                 var field = findField(ie.field0);
 
@@ -42,7 +42,7 @@ public class SecuredMmMessage extends NasMessage {
 
         this.securityHeaderType = ESecurityHeaderType.NOT_PROTECTED;
         this.messageAuthenticationCode = new Octet4();
-        this.sequenceNumber = new Octet();
+        this.sequenceNumber = Octet.valueOf(0);
         this.plainNasMessage = null;
     }
 
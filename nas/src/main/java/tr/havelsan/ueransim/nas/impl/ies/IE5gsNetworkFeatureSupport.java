@@ -82,7 +82,7 @@ public class IE5gsNetworkFeatureSupport extends InformationElement4 {
 
     @Override
     public void encodeIE4(OctetOutputStream stream) {
-        var octet = new Octet();
+        var octet = Octet.valueOf(0);
         octet = octet.setBit(0, imsVoPs3gpp.intValue());
         octet = octet.setBit(1, imsVoPsN3gpp.intValue());
         octet = octet.setBitRange(2, 3, emc.intValue());
@@ -92,7 +92,7 @@ public class IE5gsNetworkFeatureSupport extends InformationElement4 {
         stream.writeOctet(octet);
 
         if (emcn3 != null && mcsi != null) {
-            octet = new Octet();
+            octet = Octet.valueOf(0);
             octet = octet.setBit(0, emcn3.intValue());
             octet = octet.setBit(1, mcsi.intValue());
             stream.writeOctet(octet);
@@ -120,7 +120,7 @@ public class IE5gsTrackingAreaIdentityList extends InformationElement4 {
             if (tacs.length == 0)
                 throw new EncodingException("tacs cannot be empty");
 
-            var flags = new Octet();
+            var flags = Octet.valueOf(0);
             flags = flags.setBitRange(0, 4, tacs.length - 1);
             flags = flags.setBitRange(5, 6, 0b00);
             stream.writeOctet(flags);
@@ -157,7 +157,7 @@ public class IE5gsTrackingAreaIdentityList extends InformationElement4 {
 
         @Override
         public void encode(OctetOutputStream stream) {
-            var flags = new Octet();
+            var flags = Octet.valueOf(0);
             flags = flags.setBitRange(0, 4, 0);
             flags = flags.setBitRange(5, 6, 0b01);
             stream.writeOctet(flags);
@@ -194,7 +194,7 @@ public class IE5gsTrackingAreaIdentityList extends InformationElement4 {
             if (tais.length == 0)
                 throw new EncodingException("tais cannot be empty");
 
-            var flags = new Octet();
+            var flags = Octet.valueOf(0);
             flags = flags.setBitRange(0, 4, tais.length - 1);
             flags = flags.setBitRange(5, 6, 0b10);
             stream.writeOctet(flags);
@@ -52,7 +52,7 @@ public class IE5gsUpdateType extends InformationElement4 {
 
     @Override
     public void encodeIE4(OctetOutputStream stream) {
-        var octet = new Octet();
+        var octet = Octet.valueOf(0);
         octet = octet.setBit(0, smsRequested.intValue());
         octet = octet.setBit(1, ngRanRcu.intValue());
         stream.writeOctet(octet);
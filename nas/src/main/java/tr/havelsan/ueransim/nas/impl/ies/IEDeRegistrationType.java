@@ -54,7 +54,7 @@ public class IEDeRegistrationType extends InformationElement1 {
 
     @Override
     public int encodeIE1() {
-        var value = new Octet();
+        var value = Octet.valueOf(0);
         value = value.setBitRange(0, 1, accessType.intValue());
         value = value.setBit(2, reRegistrationRequired.intValue());
         value = value.setBit(3, switchOff.intValue());
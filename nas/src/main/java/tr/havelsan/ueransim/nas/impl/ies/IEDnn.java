@@ -47,9 +47,9 @@ public class IEDnn extends InformationElement4 {
 
         var octets = new Octet[bytes.length + 1];
         for (int i = 0; i < bytes.length; i++) {
-            octets[i + 1] = new Octet(bytes[i]);
+            octets[i + 1] = Octet.valueOf(bytes[i]);
         }
-        octets[0] = new Octet(bytes.length);
+        octets[0] = Octet.valueOf(bytes.length);
 
         this.data = new OctetString(octets);
     }
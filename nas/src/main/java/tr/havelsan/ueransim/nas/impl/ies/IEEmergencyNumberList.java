@@ -118,7 +118,7 @@ public class IEEmergencyNumberList extends InformationElement4 {
         @Override
         public void encode(OctetOutputStream stream) {
             var bits = new Bit8(police, ambulance, fireBrigade, marineGuard,
-                    mountainRescue, manuallyInitiatedECall, automaticallyInitiatedECall, new Bit(0));
+                    mountainRescue, manuallyInitiatedECall, automaticallyInitiatedECall, Bit.valueOf(0));
             stream.writeOctet(bits.intValue());
         }
     }
@@ -47,14 +47,14 @@ public class IEGprsTimer extends InformationElement3 {
     protected IEGprsTimer decodeIE3(OctetInputStream stream) {
         var res = new IEGprsTimer();
         var octet = stream.readOctet();
-        res.timerValue = new Bit5(octet.getBitRangeI(0, 4));
+        res.timerValue = Bit5.valueOf(octet.getBitRangeI(0, 4));
         res.timerValueUnit = EGprsTimerValueUnit.fromValue(octet.getBitRangeI(5, 7));
         return res;
     }
 
     @Override
     public void encodeIE3(OctetOutputStream stream) {
-        var octet = new Octet();
+        var octet = Octet.valueOf(0);
         octet = octet.setBitRange(0, 4, timerValue.intValue());
         octet = octet.setBitRange(5, 5, timerValueUnit.intValue());
         stream.writeOctet(octet);
@@ -47,7 +47,7 @@ public class IEGprsTimer3 extends InformationElement4 {
         var octet = stream.readOctet();
 
         var res = new IEGprsTimer3();
-        res.timerValue = new Bit5(octet.getBitRangeI(0, 4));
+        res.timerValue = Bit5.valueOf(octet.getBitRangeI(0, 4));
         res.unit = EGprsTimerValueUnit3.fromValue(octet.getBitRangeI(5, 7));
         return res;
     }
@@ -44,6 +44,6 @@ public class IEImeiMobileIdentity extends IE5gsMobileIdentity {
         if (imei.length() % 2 != 0)
             imeiFlag |= 0b1000; // odd flag set if imei has odd number of digits.
 
-        NasEncoder.bcdString(stream, imei, -1, true, new Bit4(imeiFlag));
+        NasEncoder.bcdString(stream, imei, -1, true, Bit4.valueOf(imeiFlag));
     }
 }
@@ -44,6 +44,6 @@ public class IEImeiSvMobileIdentity extends IE5gsMobileIdentity {
         if (imeiSv.length() % 2 != 0)
             imeiSvFlag |= 0b1000; // odd flag set if imeisv has odd number of digits.
 
-        NasEncoder.bcdString(stream, imeiSv, -1, true, new Bit4(imeiSvFlag));
+        NasEncoder.bcdString(stream, imeiSv, -1, true, Bit4.valueOf(imeiSvFlag));
     }
 }
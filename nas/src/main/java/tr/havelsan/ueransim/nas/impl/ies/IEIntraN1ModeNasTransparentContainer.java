@@ -69,7 +69,7 @@ public class IEIntraN1ModeNasTransparentContainer extends InformationElement4 {
 
         octet = stream.readOctet();
 
-        res.keySetIdentifierIn5g = new Bit3(octet.getBitRangeI(0, 2));
+        res.keySetIdentifierIn5g = Bit3.valueOf(octet.getBitRangeI(0, 2));
         res.tsc = ETypeOfSecurityContext.fromValue(octet.getBitI(3));
         res.kacf = EKeyAmfChangeFlag.fromValue(octet.getBitI(4));
 
@@ -81,7 +81,7 @@ public class IEIntraN1ModeNasTransparentContainer extends InformationElement4 {
     public void encodeIE4(OctetOutputStream stream) {
         stream.writeOctet4(mac);
         stream.writeOctet((cipheringAlg.intValue() << 4) | integrityProtectionAlg.intValue());
-        stream.writeOctet(new Octet().setBitRange(0, 2, keySetIdentifierIn5g.intValue())
+        stream.writeOctet(Octet.valueOf(0).setBitRange(0, 2, keySetIdentifierIn5g.intValue())
                 .setBit(3, tsc.intValue()).setBit(4, kacf.intValue()));
         stream.writeOctet(sequenceNumber);
     }
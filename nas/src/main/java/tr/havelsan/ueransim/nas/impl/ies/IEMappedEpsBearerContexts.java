@@ -96,7 +96,7 @@ public class IEMappedEpsBearerContexts extends InformationElement6 {
             stream.writeOctet(epsBearerIdentity.intValue() << 4);
             stream.writeOctet(innerStream.length() + 1);
 
-            var flags = new Octet();
+            var flags = Octet.valueOf(0);
             flags = flags.setBitRange(6, 7, operationCode.intValue());
             flags = flags.setBit(4, ebit.intValue());
             flags = flags.setBitRange(0, 3, epsParameterList.length);
@@ -34,7 +34,7 @@ public class IENasKeySetIdentifier extends InformationElement1 {
      * 'no key is available' for UE to network
      * 'reserved' for network to UE
      */
-    public static final Bit3 NOT_AVAILABLE_OR_RESERVED = new Bit3(0b111);
+    public static final Bit3 NOT_AVAILABLE_OR_RESERVED = Bit3.valueOf(0b111);
 
     public ETypeOfSecurityContext tsc;
     public Bit3 nasKeySetIdentifier;
@@ -53,7 +53,7 @@ public class IENasKeySetIdentifier extends InformationElement1 {
 
         var res = new IENasKeySetIdentifier();
         res.tsc = ETypeOfSecurityContext.fromValue(val >> 3 & 0b1);
-        res.nasKeySetIdentifier = new Bit3(val & 0b111);
+        res.nasKeySetIdentifier = Bit3.valueOf(val & 0b111);
         return res;
     }
 
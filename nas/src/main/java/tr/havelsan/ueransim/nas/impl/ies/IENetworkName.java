@@ -53,7 +53,7 @@ public class IENetworkName extends InformationElement4 {
         int flags = stream.readOctetI();
 
         var res = new IENetworkName();
-        res.numOfSpareBits = new Bit3(flags);
+        res.numOfSpareBits = Bit3.valueOf(flags);
         res.addCi = EAddCountryInitials.fromValue(flags >> 3 & 0b1);
         res.codingScheme = ECodingScheme.fromValue(flags >> 4 & 0b111);
         res.textString = stream.readOctetString(length - 1);
@@ -62,7 +62,7 @@ public class IENetworkName extends InformationElement4 {
 
     @Override
     public void encodeIE4(OctetOutputStream stream) {
-        var flags = new Octet();
+        var flags = Octet.valueOf(0);
         flags = flags.setBitRange(0, 2, numOfSpareBits.intValue());
         flags = flags.setBit(3, addCi.intValue());
         flags = flags.setBitRange(4, 6, codingScheme.intValue());
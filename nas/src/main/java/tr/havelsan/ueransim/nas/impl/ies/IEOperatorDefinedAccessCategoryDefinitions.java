@@ -84,13 +84,13 @@ public class IEOperatorDefinedAccessCategoryDefinitions extends InformationEleme
             res.precedence = stream.readOctet();
 
             int octet = stream.readOctetI();
-            res.operatorDefinedAccessCategoryNumber = new Bit5(octet);
+            res.operatorDefinedAccessCategoryNumber = Bit5.valueOf(octet);
             res.psac = EPresenceOfStandardizedAccessCategory.fromValue(octet >> 7 & 0b1);
 
             int lengthOfCriteria = stream.readOctetI();
             res.criteria = stream.readOctetString(lengthOfCriteria);
 
-            res.standardizedAccessCategory = new Bit5(stream.readOctetI());
+            res.standardizedAccessCategory = Bit5.valueOf(stream.readOctetI());
             return res;
         }
 
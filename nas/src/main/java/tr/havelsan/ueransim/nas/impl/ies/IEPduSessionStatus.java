@@ -30,7 +30,7 @@ import tr.havelsan.ueransim.utils.OctetOutputStream;
 import tr.havelsan.ueransim.utils.bits.Bit;
 
 public class IEPduSessionStatus extends InformationElement4 {
-    public final Bit psi00 = new Bit(0); // this bit specified as spare;
+    public final Bit psi00 = Bit.valueOf(0); // this bit specified as spare;
     public Bit psi01;
     public Bit psi02;
     public Bit psi03;
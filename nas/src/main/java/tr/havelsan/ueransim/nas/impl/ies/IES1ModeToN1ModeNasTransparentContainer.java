@@ -55,9 +55,9 @@ public class IES1ModeToN1ModeNasTransparentContainer extends InformationElement4
         res.cipheringAlg = ETypeOfCipheringAlgorithm.fromValue(octet.getBitRangeI(4, 7));
 
         octet = stream.readOctet();
-        res.keySetIdentifierIn5g = new Bit3(octet.getBitRangeI(0, 2));
+        res.keySetIdentifierIn5g = Bit3.valueOf(octet.getBitRangeI(0, 2));
         res.tsc = ETypeOfSecurityContext.fromValue(octet.getBitI(3));
-        res.ncc = new Bit3(octet.getBitRangeI(4, 6));
+        res.ncc = Bit3.valueOf(octet.getBitRangeI(4, 6));
 
         res.ueSecurityCapability5g = stream.readOctet2();
 
@@ -72,7 +72,7 @@ public class IES1ModeToN1ModeNasTransparentContainer extends InformationElement4
     public void encodeIE4(OctetOutputStream stream) {
         stream.writeOctet4(mac);
         stream.writeOctet((cipheringAlg.intValue() << 4) | integrityProtectionAlg.intValue());
-        stream.writeOctet(new Octet().setBitRange(0, 2, keySetIdentifierIn5g.intValue())
+        stream.writeOctet(Octet.valueOf(0).setBitRange(0, 2, keySetIdentifierIn5g.intValue())
                 .setBit(3, tsc.intValue()).setBitRange(4, 6, ncc.intValue()));
         stream.writeOctet2(ueSecurityCapability5g);
         if (ueSecurityCapabilityEps != null) {
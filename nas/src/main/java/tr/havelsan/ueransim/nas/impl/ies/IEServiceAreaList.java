@@ -136,7 +136,7 @@ public class IEServiceAreaList extends InformationElement4 {
             if (tacs.length == 0)
                 throw new EncodingException("tacs cannot be empty");
 
-            var flags = new Octet();
+            var flags = Octet.valueOf(0);
             flags = flags.setBitRange(0, 4, tacs.length - 1);
             flags = flags.setBitRange(5, 6, 0b00);
             flags = flags.setBit(7, allowedType.intValue());
@@ -174,7 +174,7 @@ public class IEServiceAreaList extends InformationElement4 {
 
         @Override
         public void encode(OctetOutputStream stream) {
-            var flags = new Octet(0);
+            var flags = Octet.valueOf(0);
             flags = flags.setBitRange(0, 4, 0);
             flags = flags.setBitRange(5, 6, 0b01);
             flags = flags.setBit(7, allowedType.intValue());
@@ -213,7 +213,7 @@ public class IEServiceAreaList extends InformationElement4 {
             if (tais.length == 0)
                 throw new EncodingException("tais cannot be empty");
 
-            var flags = new Octet();
+            var flags = Octet.valueOf(0);
             flags = flags.setBitRange(0, 4, tais.length - 1);
             flags = flags.setBitRange(5, 6, 0b10);
             flags = flags.setBit(7, allowedType.intValue());
@@ -247,7 +247,7 @@ public class IEServiceAreaList extends InformationElement4 {
 
         @Override
         public void encode(OctetOutputStream stream) {
-            var flags = new Octet();
+            var flags = Octet.valueOf(0);
             flags = flags.setBitRange(0, 4, 0);
             flags = flags.setBitRange(5, 6, 0b01);
             flags = flags.setBit(7, allowedType.intValue());
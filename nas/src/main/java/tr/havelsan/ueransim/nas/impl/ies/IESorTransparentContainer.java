@@ -125,7 +125,7 @@ public class IESorTransparentContainer extends InformationElement6 {
 
         @Override
         public void encodeIE6(OctetOutputStream stream) {
-            var flags = new Octet();
+            var flags = Octet.valueOf(0);
             flags = flags.setBit(0, sorDataType.intValue());
             flags = flags.setBit(1, listIndication.intValue());
             flags = flags.setBit(2, listType.intValue());
@@ -31,7 +31,7 @@ import tr.havelsan.ueransim.utils.bits.Bit;
 import tr.havelsan.ueransim.utils.bits.Bit8;
 
 public class IEUplinkDataStatus extends InformationElement4 {
-    public final Bit psi00 = new Bit(0);
+    public final Bit psi00 = Bit.valueOf(0);
     public Bit psi01;
     public Bit psi02;
     public Bit psi03;
@@ -75,21 +75,21 @@ public class IEUplinkDataStatus extends InformationElement4 {
         var octet2 = stream.readOctet();
 
         var res = new IEUplinkDataStatus();
-        res.psi01 = new Bit(octet1.getBitI(1));
-        res.psi02 = new Bit(octet1.getBitI(2));
-        res.psi03 = new Bit(octet1.getBitI(3));
-        res.psi04 = new Bit(octet1.getBitI(4));
-        res.psi05 = new Bit(octet1.getBitI(5));
-        res.psi06 = new Bit(octet1.getBitI(6));
-        res.psi07 = new Bit(octet1.getBitI(7));
-        res.psi08 = new Bit(octet2.getBitI(0));
-        res.psi09 = new Bit(octet2.getBitI(1));
-        res.psi10 = new Bit(octet2.getBitI(2));
-        res.psi11 = new Bit(octet2.getBitI(3));
-        res.psi12 = new Bit(octet2.getBitI(4));
-        res.psi13 = new Bit(octet2.getBitI(5));
-        res.psi14 = new Bit(octet2.getBitI(6));
-        res.psi15 = new Bit(octet2.getBitI(7));
+        res.psi01 = Bit.valueOf(octet1.getBitI(1));
+        res.psi02 = Bit.valueOf(octet1.getBitI(2));
+        res.psi03 = Bit.valueOf(octet1.getBitI(3));
+        res.psi04 = Bit.valueOf(octet1.getBitI(4));
+        res.psi05 = Bit.valueOf(octet1.getBitI(5));
+        res.psi06 = Bit.valueOf(octet1.getBitI(6));
+        res.psi07 = Bit.valueOf(octet1.getBitI(7));
+        res.psi08 = Bit.valueOf(octet2.getBitI(0));
+        res.psi09 = Bit.valueOf(octet2.getBitI(1));
+        res.psi10 = Bit.valueOf(octet2.getBitI(2));
+        res.psi11 = Bit.valueOf(octet2.getBitI(3));
+        res.psi12 = Bit.valueOf(octet2.getBitI(4));
+        res.psi13 = Bit.valueOf(octet2.getBitI(5));
+        res.psi14 = Bit.valueOf(octet2.getBitI(6));
+        res.psi15 = Bit.valueOf(octet2.getBitI(7));
 
         // Other octets are spare, if any
         stream.readOctetString(length - 2);
@@ -40,7 +40,7 @@ public class VHomeNetworkPki extends NasValue {
     }
 
     public VHomeNetworkPki(int value) {
-        this(new Octet(value));
+        this(Octet.valueOf(value));
     }
 
     public VHomeNetworkPki(String hex) {
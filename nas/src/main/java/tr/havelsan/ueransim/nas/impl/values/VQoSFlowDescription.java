@@ -60,7 +60,7 @@ public class VQoSFlowDescription extends NasValue {
         res.qfi = EQoSFlowIdentifier.fromValue(stream.readOctetI() & 0b111111);
         res.operationCode = EOperationCode.fromValue((stream.readOctetI() >> 5) & 0b111);
         res.numberOfParameters = new Bit6(stream.peekOctetI() & 0b111111);
-        res.eBit = new Bit(stream.readOctet().getBit(6));
+        res.eBit = stream.readOctet().getBit(6);
         res.parametersList = new VParameter[res.numberOfParameters.intValue()];
         for (int i = 0; i < res.parametersList.length; i++) {
             res.parametersList[i] = new VParameter().decode(stream);
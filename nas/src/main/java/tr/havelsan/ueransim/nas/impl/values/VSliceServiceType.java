@@ -40,7 +40,7 @@ public class VSliceServiceType extends NasValue {
     }
 
     public VSliceServiceType(int value) {
-        this(new Octet(value));
+        this(Octet.valueOf(value));
     }
 
     public VSliceServiceType(String hex) {
@@ -53,12 +53,12 @@ public class VTime extends NasValue {
 
     public VTime(String hex) {
         var bytes = Utils.hexStringToByteArray(Utils.padLeft(hex, 12, '0'));
-        this.year = new Octet(bytes[0] & 0xFF);
-        this.month = new Octet(bytes[1] & 0xFF);
-        this.day = new Octet(bytes[2] & 0xFF);
-        this.hour = new Octet(bytes[3] & 0xFF);
-        this.minute = new Octet(bytes[4] & 0xFF);
-        this.second = new Octet(bytes[5] & 0xFF);
+        this.year = Octet.valueOf(bytes[0] & 0xFF);
+        this.month = Octet.valueOf(bytes[1] & 0xFF);
+        this.day = Octet.valueOf(bytes[2] & 0xFF);
+        this.hour = Octet.valueOf(bytes[3] & 0xFF);
+        this.minute = Octet.valueOf(bytes[4] & 0xFF);
+        this.second = Octet.valueOf(bytes[5] & 0xFF);
     }
 
     public VTime(Integer year, Integer month, Integer day, Integer hour, Integer minute, Integer second) {
@@ -68,12 +68,12 @@ public class VTime extends NasValue {
         if (hour == null) hour = 0;
         if (minute == null) minute = 0;
         if (second == null) second = 0;
-        this.year = new Octet(year);
-        this.month = new Octet(month);
-        this.day = new Octet(day);
-        this.hour = new Octet(hour);
-        this.minute = new Octet(minute);
-        this.second = new Octet(second);
+        this.year = Octet.valueOf(year);
+        this.month = Octet.valueOf(month);
+        this.day = Octet.valueOf(day);
+        this.hour = Octet.valueOf(hour);
+        this.minute = Octet.valueOf(minute);
+        this.second = Octet.valueOf(second);
     }
 
     @Override
@@ -86,26 +86,26 @@ public class VTime extends NasValue {
     }
 
     public static VTime fromOctets(int year, int month, int day, int hour, int minute, int second) {
-        if (toInt(new Octet(year)) > 99)
-            throw new ReservedOrInvalidValueException("invalid year: " + toInt(new Octet(year)));
-        if (toInt(new Octet(month)) > 12)
-            throw new ReservedOrInvalidValueException("invalid month: " + toInt(new Octet(month)));
-        if (toInt(new Octet(day)) > 31)
-            throw new ReservedOrInvalidValueException("invalid day: " + toInt(new Octet(day)));
-        if (toInt(new Octet(hour)) > 23)
-            throw new ReservedOrInvalidValueException("invalid hour: " + toInt(new Octet(hour)));
-        if (toInt(new Octet(minute)) > 59)
-            throw new ReservedOrInvalidValueException("invalid minute: " + toInt(new Octet(minute)));
-        if (toInt(new Octet(second)) > 59)
-            throw new ReservedOrInvalidValueException("invalid second: " + toInt(new Octet(second)));
+        if (toInt(Octet.valueOf(year)) > 99)
+            throw new ReservedOrInvalidValueException("invalid year: " + toInt(Octet.valueOf(year)));
+        if (toInt(Octet.valueOf(month)) > 12)
+            throw new ReservedOrInvalidValueException("invalid month: " + toInt(Octet.valueOf(month)));
+        if (toInt(Octet.valueOf(day)) > 31)
+            throw new ReservedOrInvalidValueException("invalid day: " + toInt(Octet.valueOf(day)));
+        if (toInt(Octet.valueOf(hour)) > 23)
+            throw new ReservedOrInvalidValueException("invalid hour: " + toInt(Octet.valueOf(hour)));
+        if (toInt(Octet.valueOf(minute)) > 59)
+            throw new ReservedOrInvalidValueException("invalid minute: " + toInt(Octet.valueOf(minute)));
+        if (toInt(Octet.valueOf(second)) > 59)
+            throw new ReservedOrInvalidValueException("invalid second: " + toInt(Octet.valueOf(second)));
 
         var res = new VTime();
-        res.year = new Octet(year);
-        res.month = new Octet(month);
-        res.day = new Octet(day);
-        res.hour = new Octet(hour);
-        res.minute = new Octet(minute);
-        res.second = new Octet(second);
+        res.year = Octet.valueOf(year);
+        res.month = Octet.valueOf(month);
+        res.day = Octet.valueOf(day);
+        res.hour = Octet.valueOf(hour);
+        res.minute = Octet.valueOf(minute);
+        res.second = Octet.valueOf(second);
         return res;
     }
 
@@ -124,7 +124,7 @@ public class VTime extends NasValue {
         int nibble0 = value % 10;
         int nibble1 = value / 10;
 
-        var octet = new Octet();
+        var octet = Octet.valueOf(0);
         octet = octet.setBitRange(0, 3, nibble1);
         octet = octet.setBitRange(4, 7, nibble0);
         return octet;
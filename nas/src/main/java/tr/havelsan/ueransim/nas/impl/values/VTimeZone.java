@@ -61,7 +61,7 @@ public class VTimeZone extends NasValue {
     }
 
     public static VTimeZone fromOctet(int octet) {
-        return fromOctet(new Octet(octet));
+        return fromOctet(Octet.valueOf(octet));
     }
 
     public static VTimeZone fromHourDifference(int difference) {
@@ -73,7 +73,7 @@ public class VTimeZone extends NasValue {
     }
 
     public static VTimeZone fromDifference(boolean isNegative, int difference) {
-        var octet = new Octet();
+        var octet = Octet.valueOf(0);
         octet = octet.setBit(7, isNegative ? 1 : 0);
 
         int nibble0 = difference % 10;
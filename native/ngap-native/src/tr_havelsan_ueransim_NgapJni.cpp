@@ -25,48 +25,259 @@
 #include <jni.h>
 #include "pdu_include.h"
 #include "pdu_data.h"
+#include "value_tree.h"
+
+#include <atomic>
+#include <cstring>
 
 static constexpr int RESULT_OK = 0;
 static constexpr int RESULT_DECODING_FAILED = 1;
 static constexpr int RESULT_ENCODING_FAILED = 2;
+static constexpr int RESULT_INVALID_BUFFER = 3;
+
+static constexpr int COUNTER_PDU_ALLOCATED = 0;
+static constexpr int COUNTER_PDU_FREED = 1;
+static constexpr int COUNTER_SCRATCH_BYTES = 2;
+static constexpr int COUNTER_CONVERSIONS = 3;
+static constexpr int COUNTER_FAILURES = 4;
+static constexpr int COUNTER_COUNT = 5;
+
+static std::atomic<int64_t> counters[COUNTER_COUNT];
+
+static void count(int counter, int64_t delta = 1)
+{
+  counters[counter].fetch_add(delta, std::memory_order_relaxed);
+}
+
+static void free_pdu(asn_TYPE_descriptor_t *desc, void *pdu)
+{
+  ASN_STRUCT_FREE(*desc, pdu);
+  count(COUNTER_PDU_FREED);
+}
+
+static void *decode_pdu(asn_TYPE_descriptor_t *desc, asn_transfer_syntax syntax, const void *data, size_t size)
+{
+  void *pdu = nullptr;
+  asn_dec_rval_t decode_res = asn_decode(NULL, syntax, desc, &pdu, data, size);
+
+  // asn_decode may leave a partially filled structure behind even if it fails
+  if (pdu)
+    count(COUNTER_PDU_ALLOCATED);
+
+  if (decode_res.code != asn_dec_rval_code_e::RC_OK)
+  {
+    if (pdu)
+      free_pdu(desc, pdu);
+    return nullptr;
+  }
+  return pdu;
+}
+
+class ScratchBuffer
+{
+  std::vector<uint8_t> data;
+
+public:
+  ScratchBuffer() : data(4096)
+  {
+    count(COUNTER_SCRATCH_BYTES, static_cast<int64_t>(data.size()));
+  }
+
+  ~ScratchBuffer()
+  {
+    count(COUNTER_SCRATCH_BYTES, -static_cast<int64_t>(data.size()));
+  }
+
+  // Encodes into the per-thread buffer, growing it once if the encoding does not fit.
+  ssize_t encode(asn_TYPE_descriptor_t *desc, asn_transfer_syntax syntax, const void *pdu)
+  {
+    asn_enc_rval_t encode_res = asn_encode_to_buffer(NULL, syntax, desc, pdu, data.data(), data.size());
+    if (encode_res.encoded > static_cast<ssize_t>(data.size()))
+    {
+      auto new_size = static_cast<size_t>(encode_res.encoded);
+      count(COUNTER_SCRATCH_BYTES, static_cast<int64_t>(new_size - data.size()));
+      data.resize(new_size);
+      encode_res = asn_encode_to_buffer(NULL, syntax, desc, pdu, data.data(), data.size());
+    }
+    return encode_res.encoded;
+  }
+
+  const uint8_t *bytes() const
+  {
+    return data.data();
+  }
+};
+
+static ScratchBuffer &scratch_buffer()
+{
+  static thread_local ScratchBuffer buffer;
+  return buffer;
+}
+
+static void set_result(JNIEnv *pEnv, jintArray result, jint code)
+{
+  jint *res_arr = pEnv->GetIntArrayElements(result, nullptr);
+  res_arr[0] = code;
+  pEnv->ReleaseIntArrayElements(result, res_arr, 0);
+}
 
 extern "C" JNIEXPORT jbyteArray JNICALL Java_tr_havelsan_ueransim_ngap0_NgapJni_convertEncoding(JNIEnv *pEnv, jclass cls, jbyteArray data, jint fromEncoding, jint toEncoding, jintArray result, jint pduType)
 {
   auto pdu_type = static_cast<PduType>(pduType);
   asn_TYPE_descriptor_t* desc = pdu_type_description(pdu_type);
-  size_t pdu_size = pdu_type_size(pdu_type);
 
   jbyte *buffer = pEnv->GetByteArrayElements(data, nullptr);
   size_t buffer_size = static_cast<size_t>(pEnv->GetArrayLength(data));
 
-  auto pdu = calloc(1, pdu_size);
-  asn_dec_rval_t decode_res = asn_decode(NULL, static_cast<asn_transfer_syntax>(fromEncoding), desc, (void **)&pdu, buffer, buffer_size);
-  pEnv->ReleaseByteArrayElements(data, buffer, 0);
+  void *pdu = decode_pdu(desc, static_cast<asn_transfer_syntax>(fromEncoding), buffer, buffer_size);
+  pEnv->ReleaseByteArrayElements(data, buffer, JNI_ABORT);
 
-  if (decode_res.code != asn_dec_rval_code_e::RC_OK)
+  count(COUNTER_CONVERSIONS);
+
+  if (!pdu)
   {
-    jint *res_arr = pEnv->GetIntArrayElements(result, nullptr);
-    res_arr[0] = RESULT_DECODING_FAILED;
-    pEnv->ReleaseIntArrayElements(result, res_arr, 0);
+    count(COUNTER_FAILURES);
+    set_result(pEnv, result, RESULT_DECODING_FAILED);
     return nullptr;
   }
 
-  asn_encode_to_new_buffer_result_t encode_res =
-      asn_encode_to_new_buffer(NULL, static_cast<asn_transfer_syntax>(toEncoding), desc, pdu);
+  ScratchBuffer &scratch = scratch_buffer();
+  ssize_t encoded = scratch.encode(desc, static_cast<asn_transfer_syntax>(toEncoding), pdu);
+  free_pdu(desc, pdu);
 
-  if (encode_res.result.encoded == -1)
+  if (encoded == -1)
   {
-    jint *res_arr = pEnv->GetIntArrayElements(result, nullptr);
-    res_arr[0] = RESULT_ENCODING_FAILED;
-    pEnv->ReleaseIntArrayElements(result, res_arr, 0);
+    count(COUNTER_FAILURES);
+    set_result(pEnv, result, RESULT_ENCODING_FAILED);
     return nullptr;
   }
 
-  jbyteArray ret = pEnv->NewByteArray(encode_res.result.encoded);
-  pEnv->SetByteArrayRegion(ret, 0, encode_res.result.encoded, (jbyte*)encode_res.buffer);
+  jbyteArray ret = pEnv->NewByteArray(static_cast<jsize>(encoded));
+  pEnv->SetByteArrayRegion(ret, 0, static_cast<jsize>(encoded), reinterpret_cast<const jbyte *>(scratch.bytes()));
+  return ret;
+}
+
+/*
+ * Converts between two encodings using direct buffers only. Returns the length of the converted data, or the
+ * negated result code on failure. If the converted data does not fit into the output buffer, nothing is written and
+ * the required length is returned, so that the caller can retry with a larger buffer.
+ */
+extern "C" JNIEXPORT jint JNICALL Java_tr_havelsan_ueransim_ngap0_NgapJni_convertDirect(JNIEnv *pEnv, jclass cls, jobject input, jint inputOffset, jint inputLength, jobject output, jint outputOffset, jint outputCapacity, jint fromEncoding, jint toEncoding, jint pduType)
+{
+  auto in = static_cast<uint8_t *>(pEnv->GetDirectBufferAddress(input));
+  auto out = static_cast<uint8_t *>(pEnv->GetDirectBufferAddress(output));
+  if (!in || !out)
+    return -RESULT_INVALID_BUFFER;
 
-  free(encode_res.buffer);
-  free(pdu);
+  auto pdu_type = static_cast<PduType>(pduType);
+  asn_TYPE_descriptor_t* desc = pdu_type_description(pdu_type);
+
+  count(COUNTER_CONVERSIONS);
+
+  void *pdu = decode_pdu(desc, static_cast<asn_transfer_syntax>(fromEncoding), in + inputOffset, static_cast<size_t>(inputLength));
+  if (!pdu)
+  {
+    count(COUNTER_FAILURES);
+    return -RESULT_DECODING_FAILED;
+  }
+
+  ScratchBuffer &scratch = scratch_buffer();
+  ssize_t encoded = scratch.encode(desc, static_cast<asn_transfer_syntax>(toEncoding), pdu);
+  free_pdu(desc, pdu);
+
+  if (encoded == -1)
+  {
+    count(COUNTER_FAILURES);
+    return -RESULT_ENCODING_FAILED;
+  }
+
+  if (encoded <= outputCapacity)
+    memcpy(out + outputOffset, scratch.bytes(), static_cast<size_t>(encoded));
+  return static_cast<jint>(encoded);
+}
+
+extern "C" JNIEXPORT jlongArray JNICALL Java_tr_havelsan_ueransim_ngap0_NgapJni_nativeCounters(JNIEnv *pEnv, jclass cls)
+{
+  jlong values[COUNTER_COUNT];
+  for (int i = 0; i < COUNTER_COUNT; i++)
+    values[i] = static_cast<jlong>(counters[i].load(std::memory_order_relaxed));
+
+  jlongArray ret = pEnv->NewLongArray(COUNTER_COUNT);
+  pEnv->SetLongArrayRegion(ret, 0, COUNTER_COUNT, values);
+  return ret;
+}
+
+extern "C" JNIEXPORT jbyteArray JNICALL Java_tr_havelsan_ueransim_ngap0_NgapJni_aperToTree(JNIEnv *pEnv, jclass cls, jbyteArray data, jintArray result, jint pduType)
+{
+  auto pdu_type = static_cast<PduType>(pduType);
+  asn_TYPE_descriptor_t* desc = pdu_type_description(pdu_type);
+
+  jbyte *buffer = pEnv->GetByteArrayElements(data, nullptr);
+  size_t buffer_size = static_cast<size_t>(pEnv->GetArrayLength(data));
+
+  void *pdu = decode_pdu(desc, ATS_ALIGNED_CANONICAL_PER, buffer, buffer_size);
+  pEnv->ReleaseByteArrayElements(data, buffer, JNI_ABORT);
+
+  count(COUNTER_CONVERSIONS);
+
+  if (!pdu)
+  {
+    count(COUNTER_FAILURES);
+    set_result(pEnv, result, RESULT_DECODING_FAILED);
+    return nullptr;
+  }
+
+  std::vector<uint8_t> tree;
+  tree.reserve(buffer_size * 4);
+  bool written = value_tree_write(desc, pdu, tree);
+  free_pdu(desc, pdu);
+
+  if (!written)
+  {
+    count(COUNTER_FAILURES);
+    set_result(pEnv, result, RESULT_ENCODING_FAILED);
+    return nullptr;
+  }
+
+  jbyteArray ret = pEnv->NewByteArray(static_cast<jsize>(tree.size()));
+  pEnv->SetByteArrayRegion(ret, 0, static_cast<jsize>(tree.size()), reinterpret_cast<const jbyte *>(tree.data()));
+  return ret;
+}
+
+extern "C" JNIEXPORT jbyteArray JNICALL Java_tr_havelsan_ueransim_ngap0_NgapJni_treeToAper(JNIEnv *pEnv, jclass cls, jbyteArray tree, jint length, jintArray result, jint pduType)
+{
+  auto pdu_type = static_cast<PduType>(pduType);
+  asn_TYPE_descriptor_t* desc = pdu_type_description(pdu_type);
+
+  void *pdu = calloc(1, pdu_type_size(pdu_type));
+  count(COUNTER_PDU_ALLOCATED);
+
+  jbyte *buffer = pEnv->GetByteArrayElements(tree, nullptr);
+  bool read = value_tree_read(desc, pdu, reinterpret_cast<const uint8_t *>(buffer), static_cast<size_t>(length));
+  pEnv->ReleaseByteArrayElements(tree, buffer, JNI_ABORT);
+
+  count(COUNTER_CONVERSIONS);
+
+  if (!read)
+  {
+    count(COUNTER_FAILURES);
+    free_pdu(desc, pdu);
+    set_result(pEnv, result, RESULT_DECODING_FAILED);
+    return nullptr;
+  }
+
+  ScratchBuffer &scratch = scratch_buffer();
+  ssize_t encoded = scratch.encode(desc, ATS_ALIGNED_CANONICAL_PER, pdu);
+  free_pdu(desc, pdu);
+
+  if (encoded == -1)
+  {
+    count(COUNTER_FAILURES);
+    set_result(pEnv, result, RESULT_ENCODING_FAILED);
+    return nullptr;
+  }
 
+  jbyteArray ret = pEnv->NewByteArray(static_cast<jsize>(encoded));
+  pEnv->SetByteArrayRegion(ret, 0, static_cast<jsize>(encoded), reinterpret_cast<const jbyte *>(scratch.bytes()));
   return ret;
-}
\ No newline at end of file
+}
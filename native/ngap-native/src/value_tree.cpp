@@ -0,0 +1,546 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+#include "value_tree.h"
+
+#include <cstring>
+#include <BIT_STRING.h>
+#include <INTEGER.h>
+#include <NativeEnumerated.h>
+#include <NativeInteger.h>
+#include <OCTET_STRING.h>
+#include <OPEN_TYPE.h>
+#include <PrintableString.h>
+#include <constr_CHOICE.h>
+#include <constr_SEQUENCE.h>
+#include <constr_SEQUENCE_OF.h>
+
+static void put_u8(std::vector<uint8_t> &out, unsigned value)
+{
+    out.push_back(static_cast<uint8_t>(value));
+}
+
+static void put_u16(std::vector<uint8_t> &out, unsigned value)
+{
+    out.push_back(static_cast<uint8_t>(value >> 8));
+    out.push_back(static_cast<uint8_t>(value));
+}
+
+static void put_u32(std::vector<uint8_t> &out, size_t value)
+{
+    for (int i = 3; i >= 0; i--)
+        out.push_back(static_cast<uint8_t>(value >> (i * 8)));
+}
+
+static void put_i64(std::vector<uint8_t> &out, long value)
+{
+    auto u = static_cast<uint64_t>(value);
+    for (int i = 7; i >= 0; i--)
+        out.push_back(static_cast<uint8_t>(u >> (i * 8)));
+}
+
+static void put_bytes(std::vector<uint8_t> &out, const uint8_t *buf, size_t size)
+{
+    put_u32(out, size);
+    out.insert(out.end(), buf, buf + size);
+}
+
+static void put_string(std::vector<uint8_t> &out, const char *str)
+{
+    size_t len = strlen(str);
+    put_u16(out, static_cast<unsigned>(len));
+    out.insert(out.end(), str, str + len);
+}
+
+static const void *member_ptr(const asn_TYPE_member_t *elm, const void *sptr)
+{
+    auto ptr = reinterpret_cast<const char *>(sptr) + elm->memb_offset;
+    if (elm->flags & ATF_POINTER)
+        return *reinterpret_cast<const void *const *>(ptr);
+    return ptr;
+}
+
+static bool write_value(const asn_TYPE_descriptor_t *td, const void *sptr, std::vector<uint8_t> &out);
+
+static bool write_sequence(const asn_TYPE_descriptor_t *td, const void *sptr, std::vector<uint8_t> &out)
+{
+    size_t count_pos = out.size();
+    put_u16(out, 0);
+
+    unsigned count = 0;
+    for (unsigned i = 0; i < td->elements_count; i++)
+    {
+        const asn_TYPE_member_t *elm = &td->elements[i];
+
+        // TODO: "iE-Extensions" is ignored for now, same as the XER decoder on the Java side.
+        if (strcmp(elm->name, "iE-Extensions") == 0)
+            continue;
+
+        const void *mptr = member_ptr(elm, sptr);
+        if (!mptr)
+            continue;
+
+        put_string(out, elm->name);
+        if (!write_value(elm->type, mptr, out))
+            return false;
+        count++;
+    }
+
+    out[count_pos] = static_cast<uint8_t>(count >> 8);
+    out[count_pos + 1] = static_cast<uint8_t>(count);
+    return true;
+}
+
+static bool write_choice(const asn_TYPE_descriptor_t *td, const void *sptr, std::vector<uint8_t> &out)
+{
+    unsigned present = CHOICE_variant_get_presence(td, sptr);
+    if (present == 0 || present > td->elements_count)
+    {
+        put_u8(out, 0);
+        return true;
+    }
+
+    const asn_TYPE_member_t *elm = &td->elements[present - 1];
+    const void *mptr = member_ptr(elm, sptr);
+    if (!mptr)
+        return false;
+
+    put_u8(out, 1);
+    put_string(out, elm->name);
+    return write_value(elm->type, mptr, out);
+}
+
+static bool write_sequence_of(const asn_TYPE_descriptor_t *td, const void *sptr, std::vector<uint8_t> &out)
+{
+    const asn_TYPE_member_t *elm = td->elements;
+    const asn_anonymous_sequence_ *list = _A_CSEQUENCE_FROM_VOID(sptr);
+    const char *tag = (*elm->name) ? elm->name : elm->type->xml_tag;
+
+    put_u32(out, static_cast<size_t>(list->count));
+    for (int i = 0; i < list->count; i++)
+    {
+        if (!list->array[i])
+            return false;
+        put_string(out, tag);
+        if (!write_value(elm->type, list->array[i], out))
+            return false;
+    }
+    return true;
+}
+
+static bool write_integer(const asn_TYPE_descriptor_t *td, const void *sptr, std::vector<uint8_t> &out)
+{
+    auto specs = reinterpret_cast<const asn_INTEGER_specifics_t *>(td->specifics);
+    auto st = reinterpret_cast<const INTEGER_t *>(sptr);
+
+    if (specs && specs->field_unsigned)
+    {
+        unsigned long value;
+        if (asn_INTEGER2ulong(st, &value) != 0)
+            return false;
+        put_i64(out, static_cast<long>(value));
+    }
+    else
+    {
+        long value;
+        if (asn_INTEGER2long(st, &value) != 0)
+            return false;
+        put_i64(out, value);
+    }
+    return true;
+}
+
+static bool write_enumerated(const asn_TYPE_descriptor_t *td, const void *sptr, std::vector<uint8_t> &out)
+{
+    long value = *reinterpret_cast<const long *>(sptr);
+    const asn_INTEGER_enum_map_t *entry = INTEGER_map_value2enum(
+        reinterpret_cast<const asn_INTEGER_specifics_t *>(td->specifics), value);
+    if (!entry)
+        return false;
+    put_string(out, entry->enum_name);
+    return true;
+}
+
+static bool write_value(const asn_TYPE_descriptor_t *td, const void *sptr, std::vector<uint8_t> &out)
+{
+    const asn_TYPE_operation_t *op = td->op;
+
+    if (op == &asn_OP_SEQUENCE)
+        return write_sequence(td, sptr, out);
+    if (op == &asn_OP_CHOICE || op == &asn_OP_OPEN_TYPE)
+        return write_choice(td, sptr, out);
+    if (op == &asn_OP_SEQUENCE_OF)
+        return write_sequence_of(td, sptr, out);
+    if (op == &asn_OP_NativeInteger)
+    {
+        auto specs = reinterpret_cast<const asn_INTEGER_specifics_t *>(td->specifics);
+        if (specs && specs->field_unsigned)
+            put_i64(out, static_cast<long>(*reinterpret_cast<const unsigned long *>(sptr)));
+        else
+            put_i64(out, *reinterpret_cast<const long *>(sptr));
+        return true;
+    }
+    if (op == &asn_OP_INTEGER)
+        return write_integer(td, sptr, out);
+    if (op == &asn_OP_NativeEnumerated)
+        return write_enumerated(td, sptr, out);
+    if (op == &asn_OP_BIT_STRING)
+    {
+        auto st = reinterpret_cast<const BIT_STRING_t *>(sptr);
+        put_bytes(out, st->buf, st->size);
+        put_u8(out, static_cast<unsigned>(st->bits_unused));
+        return true;
+    }
+    if (op == &asn_OP_OCTET_STRING || op == &asn_OP_PrintableString)
+    {
+        auto st = reinterpret_cast<const OCTET_STRING_t *>(sptr);
+        put_bytes(out, st->buf, st->size);
+        return true;
+    }
+    return false;
+}
+
+bool value_tree_write(const asn_TYPE_descriptor_t *td, const void *sptr, std::vector<uint8_t> &out)
+{
+    put_string(out, td->xml_tag);
+    return write_value(td, sptr, out);
+}
+
+namespace
+{
+
+class TreeReader
+{
+  private:
+    const uint8_t *data;
+    size_t size;
+    size_t index;
+
+  public:
+    TreeReader(const uint8_t *data, size_t size) : data(data), size(size), index(0)
+    {
+    }
+
+    bool read_u8(unsigned &value)
+    {
+        if (index + 1 > size)
+            return false;
+        value = data[index++];
+        return true;
+    }
+
+    bool read_u16(unsigned &value)
+    {
+        if (index + 2 > size)
+            return false;
+        value = (static_cast<unsigned>(data[index]) << 8) | data[index + 1];
+        index += 2;
+        return true;
+    }
+
+    bool read_u32(size_t &value)
+    {
+        if (index + 4 > size)
+            return false;
+        value = 0;
+        for (int i = 0; i < 4; i++)
+            value = (value << 8) | data[index++];
+        return true;
+    }
+
+    bool read_i64(long &value)
+    {
+        if (index + 8 > size)
+            return false;
+        uint64_t u = 0;
+        for (int i = 0; i < 8; i++)
+            u = (u << 8) | data[index++];
+        value = static_cast<long>(u);
+        return true;
+    }
+
+    bool read_string(const char *&str, size_t &len)
+    {
+        unsigned length;
+        if (!read_u16(length) || index + length > size)
+            return false;
+        str = reinterpret_cast<const char *>(data + index);
+        len = length;
+        index += length;
+        return true;
+    }
+
+    bool read_bytes(const uint8_t *&buf, size_t &len)
+    {
+        if (!read_u32(len) || index + len > size)
+            return false;
+        buf = data + index;
+        index += len;
+        return true;
+    }
+
+    bool at_end() const
+    {
+        return index == size;
+    }
+};
+
+} // namespace
+
+static bool name_equals(const char *name, const char *str, size_t len)
+{
+    return strlen(name) == len && memcmp(name, str, len) == 0;
+}
+
+static size_t type_size(const asn_TYPE_descriptor_t *td)
+{
+    const asn_TYPE_operation_t *op = td->op;
+
+    if (op == &asn_OP_SEQUENCE)
+        return reinterpret_cast<const asn_SEQUENCE_specifics_t *>(td->specifics)->struct_size;
+    if (op == &asn_OP_CHOICE || op == &asn_OP_OPEN_TYPE)
+        return reinterpret_cast<const asn_CHOICE_specifics_t *>(td->specifics)->struct_size;
+    if (op == &asn_OP_SEQUENCE_OF)
+        return reinterpret_cast<const asn_SET_OF_specifics_t *>(td->specifics)->struct_size;
+    if (op == &asn_OP_NativeInteger || op == &asn_OP_NativeEnumerated)
+        return sizeof(long);
+    if (op == &asn_OP_INTEGER)
+        return sizeof(INTEGER_t);
+    if (op == &asn_OP_BIT_STRING)
+        return sizeof(BIT_STRING_t);
+    if (op == &asn_OP_OCTET_STRING || op == &asn_OP_PrintableString)
+        return sizeof(OCTET_STRING_t);
+    return 0;
+}
+
+static void *member_ptr_for_write(const asn_TYPE_member_t *elm, void *sptr)
+{
+    auto ptr = reinterpret_cast<char *>(sptr) + elm->memb_offset;
+    if (!(elm->flags & ATF_POINTER))
+        return ptr;
+
+    auto pptr = reinterpret_cast<void **>(ptr);
+    if (!*pptr)
+    {
+        size_t size = type_size(elm->type);
+        if (size == 0)
+            return nullptr;
+        *pptr = calloc(1, size);
+    }
+    return *pptr;
+}
+
+static bool copy_bytes(OCTET_STRING_t *st, const uint8_t *buf, size_t len)
+{
+    st->buf = static_cast<uint8_t *>(malloc(len + 1));
+    if (!st->buf)
+        return false;
+    memcpy(st->buf, buf, len);
+    st->buf[len] = 0;
+    st->size = len;
+    return true;
+}
+
+static bool read_value(const asn_TYPE_descriptor_t *td, void *sptr, TreeReader &reader);
+
+static bool read_sequence(const asn_TYPE_descriptor_t *td, void *sptr, TreeReader &reader)
+{
+    unsigned count;
+    if (!reader.read_u16(count))
+        return false;
+
+    for (unsigned i = 0; i < count; i++)
+    {
+        const char *name;
+        size_t len;
+        if (!reader.read_string(name, len))
+            return false;
+
+        const asn_TYPE_member_t *elm = nullptr;
+        for (unsigned j = 0; j < td->elements_count; j++)
+        {
+            if (name_equals(td->elements[j].name, name, len))
+            {
+                elm = &td->elements[j];
+                break;
+            }
+        }
+        if (!elm)
+            return false;
+
+        void *mptr = member_ptr_for_write(elm, sptr);
+        if (!mptr || !read_value(elm->type, mptr, reader))
+            return false;
+    }
+    return true;
+}
+
+static bool read_choice(const asn_TYPE_descriptor_t *td, void *sptr, TreeReader &reader)
+{
+    unsigned present;
+    if (!reader.read_u8(present))
+        return false;
+    if (present == 0)
+        return true;
+
+    const char *name;
+    size_t len;
+    if (!reader.read_string(name, len))
+        return false;
+
+    for (unsigned j = 0; j < td->elements_count; j++)
+    {
+        const asn_TYPE_member_t *elm = &td->elements[j];
+        if (!name_equals(elm->name, name, len))
+            continue;
+
+        if (CHOICE_variant_set_presence(td, sptr, j + 1) != 0)
+            return false;
+        void *mptr = member_ptr_for_write(elm, sptr);
+        return mptr && read_value(elm->type, mptr, reader);
+    }
+    return false;
+}
+
+static bool read_sequence_of(const asn_TYPE_descriptor_t *td, void *sptr, TreeReader &reader)
+{
+    const asn_TYPE_member_t *elm = td->elements;
+    size_t item_size = type_size(elm->type);
+    if (item_size == 0)
+        return false;
+
+    size_t count;
+    if (!reader.read_u32(count))
+        return false;
+
+    for (size_t i = 0; i < count; i++)
+    {
+        const char *tag;
+        size_t len;
+        if (!reader.read_string(tag, len))
+            return false;
+
+        void *item = calloc(1, item_size);
+        if (!item)
+            return false;
+        if (asn_set_add(sptr, item) != 0)
+        {
+            free(item);
+            return false;
+        }
+        if (!read_value(elm->type, item, reader))
+            return false;
+    }
+    return true;
+}
+
+static bool read_integer(const asn_TYPE_descriptor_t *td, void *sptr, TreeReader &reader)
+{
+    long value;
+    if (!reader.read_i64(value))
+        return false;
+
+    auto specs = reinterpret_cast<const asn_INTEGER_specifics_t *>(td->specifics);
+    auto st = reinterpret_cast<INTEGER_t *>(sptr);
+
+    if (specs && specs->field_unsigned)
+        return asn_ulong2INTEGER(st, static_cast<unsigned long>(value)) == 0;
+    return asn_long2INTEGER(st, value) == 0;
+}
+
+static bool read_enumerated(const asn_TYPE_descriptor_t *td, void *sptr, TreeReader &reader)
+{
+    const char *name;
+    size_t len;
+    if (!reader.read_string(name, len))
+        return false;
+
+    auto specs = reinterpret_cast<const asn_INTEGER_specifics_t *>(td->specifics);
+    for (int i = 0; i < specs->map_count; i++)
+    {
+        const asn_INTEGER_enum_map_t *entry = &specs->value2enum[i];
+        if (entry->enum_len == len && memcmp(entry->enum_name, name, len) == 0)
+        {
+            *reinterpret_cast<long *>(sptr) = entry->nat_value;
+            return true;
+        }
+    }
+    return false;
+}
+
+static bool read_value(const asn_TYPE_descriptor_t *td, void *sptr, TreeReader &reader)
+{
+    const asn_TYPE_operation_t *op = td->op;
+
+    if (op == &asn_OP_SEQUENCE)
+        return read_sequence(td, sptr, reader);
+    if (op == &asn_OP_CHOICE || op == &asn_OP_OPEN_TYPE)
+        return read_choice(td, sptr, reader);
+    if (op == &asn_OP_SEQUENCE_OF)
+        return read_sequence_of(td, sptr, reader);
+    if (op == &asn_OP_NativeInteger)
+    {
+        long value;
+        if (!reader.read_i64(value))
+            return false;
+        *reinterpret_cast<long *>(sptr) = value;
+        return true;
+    }
+    if (op == &asn_OP_INTEGER)
+        return read_integer(td, sptr, reader);
+    if (op == &asn_OP_NativeEnumerated)
+        return read_enumerated(td, sptr, reader);
+    if (op == &asn_OP_BIT_STRING)
+    {
+        const uint8_t *buf;
+        size_t len;
+        unsigned unused;
+        if (!reader.read_bytes(buf, len) || !reader.read_u8(unused) || unused > 7)
+            return false;
+        auto st = reinterpret_cast<BIT_STRING_t *>(sptr);
+        st->bits_unused = static_cast<int>(unused);
+        return copy_bytes(reinterpret_cast<OCTET_STRING_t *>(st), buf, len);
+    }
+    if (op == &asn_OP_OCTET_STRING || op == &asn_OP_PrintableString)
+    {
+        const uint8_t *buf;
+        size_t len;
+        if (!reader.read_bytes(buf, len))
+            return false;
+        return copy_bytes(reinterpret_cast<OCTET_STRING_t *>(sptr), buf, len);
+    }
+    return false;
+}
+
+bool value_tree_read(const asn_TYPE_descriptor_t *td, void *sptr, const uint8_t *data, size_t size)
+{
+    TreeReader reader{data, size};
+
+    const char *root_tag;
+    size_t len;
+    if (!reader.read_string(root_tag, len))
+        return false;
+
+    return read_value(td, sptr, reader) && reader.at_end();
+}
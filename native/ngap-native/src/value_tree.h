@@ -0,0 +1,48 @@
+#pragma once
+
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+#include <vector>
+#include <cstdint>
+#include "pdu_include.h"
+
+/*
+ * Value tree is a compact pre-order serialization of an asn1c structure which is exchanged with the
+ * Java side instead of XER. All integers are big endian.
+ *
+ *   string       : u16 length, bytes
+ *   SEQUENCE     : u16 member count, (string name, value) * count
+ *   CHOICE       : u8 present, [string name, value]
+ *   SEQUENCE OF  : u32 item count, (string tag, value) * count
+ *   INTEGER      : i64
+ *   ENUMERATED   : string
+ *   BIT STRING   : u32 length, bytes, u8 unused bits
+ *   OCTET STRING : u32 length, bytes
+ *
+ * The whole tree is prefixed by the XML tag of the root type.
+ */
+
+bool value_tree_write(const asn_TYPE_descriptor_t *td, const void *sptr, std::vector<uint8_t> &out);
+bool value_tree_read(const asn_TYPE_descriptor_t *td, void *sptr, const uint8_t *data, size_t size);
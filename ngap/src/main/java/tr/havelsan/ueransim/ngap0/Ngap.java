@@ -24,6 +24,7 @@
 
 package tr.havelsan.ueransim.ngap0;
 
+import tr.havelsan.ueransim.core.Constants;
 import tr.havelsan.ueransim.ngap0.core.NGAP_BaseMessage;
 import tr.havelsan.ueransim.ngap0.core.NGAP_Value;
 import tr.havelsan.ueransim.ngap0.pdu.NGAP_MessageChoice;
@@ -45,7 +46,11 @@ public class Ngap {
         return (NGAP_BaseMessage) choice.getPresentValue();
     }
 
+    @SuppressWarnings("unchecked")
     public static <T extends NGAP_Value> T deepClone(T value) {
+        if (Constants.USE_NGAP_VALUE_TREE) {
+            return (T) NgapTreeEncoder.decode(NgapTreeEncoder.encode(value));
+        }
         return (T) NgapXerEncoder.decode(NgapXerEncoder.encode(value), value.getClass());
     }
 
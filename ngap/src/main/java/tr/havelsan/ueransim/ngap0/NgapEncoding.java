@@ -24,17 +24,31 @@
 
 package tr.havelsan.ueransim.ngap0;
 
+import tr.havelsan.ueransim.core.Constants;
 import tr.havelsan.ueransim.ngap0.core.NGAP_Value;
 import tr.havelsan.ueransim.ngap0.pdu.NGAP_PDU;
 import tr.havelsan.ueransim.utils.octets.OctetString;
 
 public class NgapEncoding {
 
+    private static final ThreadLocal<NgapTreeEncoder.Writer> treeWriter = ThreadLocal.withInitial(NgapTreeEncoder.Writer::new);
+
     public static NGAP_PDU decodeAper(byte[] pdu) {
         return (NGAP_PDU) decodeAper(pdu, NgapDataUnitType.NGAP_PDU);
     }
 
     public static NGAP_Value decodeAper(byte[] pdu, NgapDataUnitType type) {
+        if (Constants.USE_NGAP_VALUE_TREE) {
+            return decodeAperDirect(pdu, type);
+        }
+        return decodeAperViaXer(pdu, type);
+    }
+
+    public static NGAP_Value decodeAperDirect(byte[] pdu, NgapDataUnitType type) {
+        return NgapTreeEncoder.decode(NgapJni.aperToValueTree(pdu, type));
+    }
+
+    public static NGAP_Value decodeAperViaXer(byte[] pdu, NgapDataUnitType type) {
         return NgapXerEncoder.decode(NgapJni.aperToXer(pdu, type), NGAP_PDU.class);
     }
 
@@ -47,10 +61,24 @@ public class NgapEncoding {
     }
 
     public static byte[] encodeAper(NGAP_PDU pdu) {
-        return NgapJni.xerToAper(NgapXerEncoder.encode(pdu), NgapDataUnitType.NGAP_PDU);
+        return encodeAper(pdu, NgapDataUnitType.NGAP_PDU);
     }
 
     public static byte[] encodeAper(NGAP_Value value, NgapDataUnitType type) {
+        if (Constants.USE_NGAP_VALUE_TREE) {
+            return encodeAperDirect(value, type);
+        }
+        return encodeAperViaXer(value, type);
+    }
+
+    public static byte[] encodeAperDirect(NGAP_Value value, NgapDataUnitType type) {
+        var writer = treeWriter.get();
+        writer.reset();
+        NgapTreeEncoder.encode(value, writer);
+        return NgapJni.valueTreeToAper(writer.getBuffer(), writer.getLength(), type);
+    }
+
+    public static byte[] encodeAperViaXer(NGAP_Value value, NgapDataUnitType type) {
         return NgapJni.xerToAper(NgapXerEncoder.encode(value), type);
     }
 }
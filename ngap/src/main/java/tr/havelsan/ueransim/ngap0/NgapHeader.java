@@ -0,0 +1,227 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.ngap0;
+
+import tr.havelsan.ueransim.ngap0.core.NGAP_BaseMessage;
+import tr.havelsan.ueransim.ngap0.ies.choices.NGAP_UE_NGAP_IDs;
+import tr.havelsan.ueransim.ngap0.ies.integers.NGAP_AMF_UE_NGAP_ID;
+import tr.havelsan.ueransim.ngap0.ies.integers.NGAP_RAN_UE_NGAP_ID;
+
+/**
+ * The routing related part of an NGAP message, which can be read from APER encoded bytes without decoding the whole
+ * PDU. See {@link #scan(byte[])}.
+ */
+public class NgapHeader {
+
+    private static final int IE_ID_AMF_UE_NGAP_ID = 10;
+    private static final int IE_ID_RAN_UE_NGAP_ID = 85;
+    private static final int IE_ID_UE_NGAP_IDS = 114;
+
+    public final int pduType;
+    public final int procedureCode;
+    public final boolean hasUeNgapIds;
+    public final Long amfUeNgapId;
+    public final Long ranUeNgapId;
+
+    public NgapHeader(int pduType, int procedureCode, boolean hasUeNgapIds, Long amfUeNgapId, Long ranUeNgapId) {
+        this.pduType = pduType;
+        this.procedureCode = procedureCode;
+        this.hasUeNgapIds = hasUeNgapIds;
+        this.amfUeNgapId = amfUeNgapId;
+        this.ranUeNgapId = ranUeNgapId;
+    }
+
+    public boolean isUeAssociated() {
+        return hasUeNgapIds || ranUeNgapId != null;
+    }
+
+    public static NgapHeader of(NGAP_BaseMessage message) {
+        Long amfUeNgapId = null;
+        Long ranUeNgapId = null;
+
+        var ueNgapIds = message.getProtocolIe(NGAP_UE_NGAP_IDs.class);
+        if (ueNgapIds != null) {
+            if (ueNgapIds.uE_NGAP_ID_pair != null) {
+                if (ueNgapIds.uE_NGAP_ID_pair.aMF_UE_NGAP_ID != null)
+                    amfUeNgapId = ueNgapIds.uE_NGAP_ID_pair.aMF_UE_NGAP_ID.value;
+                if (ueNgapIds.uE_NGAP_ID_pair.rAN_UE_NGAP_ID != null)
+                    ranUeNgapId = ueNgapIds.uE_NGAP_ID_pair.rAN_UE_NGAP_ID.value;
+            } else if (ueNgapIds.aMF_UE_NGAP_ID != null) {
+                amfUeNgapId = ueNgapIds.aMF_UE_NGAP_ID.value;
+            }
+        } else {
+            var amfIe = message.getProtocolIe(NGAP_AMF_UE_NGAP_ID.class);
+            var ranIe = message.getProtocolIe(NGAP_RAN_UE_NGAP_ID.class);
+            if (amfIe != null) amfUeNgapId = amfIe.value;
+            if (ranIe != null) ranUeNgapId = ranIe.value;
+        }
+
+        return new NgapHeader(message.getPduType(), message.getProcedureCode(), ueNgapIds != null, amfUeNgapId,
+                ranUeNgapId);
+    }
+
+    /**
+     * Reads the PDU type, the procedure code and the UE NGAP IDs of an APER encoded NGAP-PDU by walking only the
+     * outermost containers. The values of all other IEs are skipped by their open type lengths. Returns null if the
+     * data uses an encoding this scanner does not handle, e.g. extensions or fragmented lengths, in which case the
+     * caller should decode the PDU fully.
+     */
+    public static NgapHeader scan(byte[] data) {
+        try {
+            return scan(new AperReader(data, 0, data.length));
+        } catch (IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+
+    private static NgapHeader scan(AperReader pdu) {
+        // NGAP-PDU ::= CHOICE { initiatingMessage, successfulOutcome, unsuccessfulOutcome, ... }
+        if (pdu.readBits(1) != 0) return null;
+        int pduType = pdu.readBits(2);
+        if (pduType > 2) return null;
+
+        // procedureCode INTEGER (0..255), criticality ENUMERATED (3 values), value OPEN TYPE
+        pdu.align();
+        int procedureCode = pdu.readBits(8);
+        pdu.readBits(2);
+        var message = pdu.readOpenType();
+        if (message == null) return null;
+
+        // <Message> ::= SEQUENCE { protocolIEs ProtocolIE-Container, ... }
+        if (message.readBits(1) != 0) return null;
+        message.align();
+        int ieCount = message.readBits(16);
+
+        boolean hasUeNgapIds = false;
+        Long amfUeNgapId = null;
+        Long ranUeNgapId = null;
+
+        for (int i = 0; i < ieCount; i++) {
+            // ProtocolIE-Field ::= SEQUENCE { id INTEGER (0..65535), criticality, value OPEN TYPE }
+            message.align();
+            int id = message.readBits(16);
+            message.readBits(2);
+            var value = message.readOpenType();
+            if (value == null) return null;
+
+            switch (id) {
+                case IE_ID_AMF_UE_NGAP_ID:
+                    amfUeNgapId = value.readAmfUeNgapId();
+                    break;
+                case IE_ID_RAN_UE_NGAP_ID:
+                    ranUeNgapId = value.readRanUeNgapId();
+                    break;
+                case IE_ID_UE_NGAP_IDS: {
+                    hasUeNgapIds = true;
+                    // UE-NGAP-IDs ::= CHOICE { uE-NGAP-ID-pair, aMF-UE-NGAP-ID, choice-Extensions }
+                    int choice = value.readBits(2);
+                    if (choice == 0) {
+                        // UE-NGAP-ID-pair ::= SEQUENCE { aMF-UE-NGAP-ID, rAN-UE-NGAP-ID, iE-Extensions OPTIONAL, ... }
+                        if (value.readBits(1) != 0) return null;
+                        value.readBits(1);
+                        amfUeNgapId = value.readAmfUeNgapId();
+                        ranUeNgapId = value.readRanUeNgapId();
+                    } else if (choice == 1) {
+                        amfUeNgapId = value.readAmfUeNgapId();
+                    } else {
+                        return null;
+                    }
+                    break;
+                }
+            }
+        }
+
+        return new NgapHeader(pduType, procedureCode, hasUeNgapIds, amfUeNgapId, ranUeNgapId);
+    }
+
+    private static class AperReader {
+        private final byte[] data;
+        private final int end;
+        private int bitIndex;
+
+        AperReader(byte[] data, int offset, int length) {
+            if (offset + length > data.length) {
+                throw new IndexOutOfBoundsException();
+            }
+            this.data = data;
+            this.end = offset + length;
+            this.bitIndex = offset * 8;
+        }
+
+        int readBits(int count) {
+            int res = 0;
+            for (int i = 0; i < count; i++) {
+                int byteIndex = bitIndex >> 3;
+                if (byteIndex >= end) {
+                    throw new IndexOutOfBoundsException();
+                }
+                int bit = (data[byteIndex] >> (7 - (bitIndex & 7))) & 1;
+                res = (res << 1) | bit;
+                bitIndex++;
+            }
+            return res;
+        }
+
+        void align() {
+            bitIndex = (bitIndex + 7) & ~7;
+        }
+
+        long readOctets(int count) {
+            align();
+            long res = 0;
+            for (int i = 0; i < count; i++) {
+                res = (res << 8) | readBits(8);
+            }
+            return res;
+        }
+
+        /**
+         * Reads an aligned length determinant and returns a reader for the open type contents, or null if the
+         * length is fragmented.
+         */
+        AperReader readOpenType() {
+            align();
+            int length = readBits(8);
+            if ((length & 0x80) != 0) {
+                if ((length & 0x40) != 0) return null;
+                length = ((length & 0x3F) << 8) | readBits(8);
+            }
+            var res = new AperReader(data, bitIndex >> 3, length);
+            bitIndex += length * 8;
+            return res;
+        }
+
+        // AMF-UE-NGAP-ID ::= INTEGER (0..1099511627775), the octet count (1..5) is encoded in 3 bits
+        long readAmfUeNgapId() {
+            return readOctets(readBits(3) + 1);
+        }
+
+        // RAN-UE-NGAP-ID ::= INTEGER (0..4294967295), the octet count (1..4) is encoded in 2 bits
+        long readRanUeNgapId() {
+            return readOctets(readBits(2) + 1);
+        }
+    }
+}
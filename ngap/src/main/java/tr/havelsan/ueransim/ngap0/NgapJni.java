@@ -26,6 +26,8 @@ package tr.havelsan.ueransim.ngap0;
 
 import tr.havelsan.ueransim.utils.Utils;
 
+import java.nio.ByteBuffer;
+
 public class NgapJni {
 
     private static final int ATS_NONSTANDARD_PLAINTEXT = 1;
@@ -39,6 +41,12 @@ public class NgapJni {
     private static final int RESULT_OK = 0;
     private static final int RESULT_DECODING_FAILED = 1;
     private static final int RESULT_ENCODING_FAILED = 2;
+    private static final int RESULT_INVALID_BUFFER = 3;
+
+    private static final int INITIAL_DIRECT_BUFFER_SIZE = 4096;
+
+    private static final ThreadLocal<ByteBuffer> directOutput =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocateDirect(INITIAL_DIRECT_BUFFER_SIZE));
 
     static {
         Utils.loadLibraryFromResource("libngap-native.so");
@@ -46,6 +54,16 @@ public class NgapJni {
 
     private static native byte[] convertEncoding(byte[] data, int fromEncoding, int toEncoding, int[] result, int pduType);
 
+    private static native int convertDirect(ByteBuffer input, int inputOffset, int inputLength, ByteBuffer output,
+                                            int outputOffset, int outputCapacity, int fromEncoding, int toEncoding,
+                                            int pduType);
+
+    private static native long[] nativeCounters();
+
+    private static native byte[] aperToTree(byte[] data, int[] result, int pduType);
+
+    private static native byte[] treeToAper(byte[] tree, int length, int[] result, int pduType);
+
     private static byte[] convert(byte[] data, int fromEncoding, int toEncoding, NgapDataUnitType pduType) {
         int[] resCode = new int[1];
         var converted = convertEncoding(data, fromEncoding, toEncoding, resCode, pduType.value);
@@ -58,6 +76,56 @@ public class NgapJni {
         return converted;
     }
 
+    /**
+     * Converts the remaining bytes of the given direct buffer without copying them into the Java heap. The returned
+     * buffer is a read-only view of a per-thread output buffer, it is only valid until the next direct conversion on
+     * the same thread.
+     */
+    private static ByteBuffer convert(ByteBuffer data, int fromEncoding, int toEncoding, NgapDataUnitType pduType) {
+        if (!data.isDirect()) {
+            throw new IllegalArgumentException("direct buffer expected");
+        }
+        var output = directOutput.get();
+        int length = convertDirect(data, data.position(), data.remaining(), output, 0, output.capacity(),
+                fromEncoding, toEncoding, pduType.value);
+        if (length > output.capacity()) {
+            output = ByteBuffer.allocateDirect(Integer.highestOneBit(length) << 1);
+            directOutput.set(output);
+            length = convertDirect(data, data.position(), data.remaining(), output, 0, output.capacity(),
+                    fromEncoding, toEncoding, pduType.value);
+        }
+        if (length < 0) {
+            checkResult(-length, "convertDirect");
+        }
+        return output.asReadOnlyBuffer().limit(length);
+    }
+
+    private static void checkResult(int resCode, String function) {
+        if (resCode == RESULT_DECODING_FAILED) {
+            throw new RuntimeException("NgapJni " + function + " RESULT_DECODING_FAILED");
+        }
+        if (resCode == RESULT_ENCODING_FAILED) {
+            throw new RuntimeException("NgapJni " + function + " RESULT_ENCODING_FAILED");
+        }
+        if (resCode == RESULT_INVALID_BUFFER) {
+            throw new RuntimeException("NgapJni " + function + " RESULT_INVALID_BUFFER");
+        }
+    }
+
+    public static byte[] aperToValueTree(byte[] data, NgapDataUnitType pduType) {
+        int[] resCode = new int[1];
+        var tree = aperToTree(data, resCode, pduType.value);
+        checkResult(resCode[0], "aperToTree");
+        return tree;
+    }
+
+    public static byte[] valueTreeToAper(byte[] tree, int length, NgapDataUnitType pduType) {
+        int[] resCode = new int[1];
+        var aper = treeToAper(tree, length, resCode, pduType.value);
+        checkResult(resCode[0], "treeToAper");
+        return aper;
+    }
+
     public static String aperToXer(byte[] data, NgapDataUnitType pduType) {
         var converted = convert(data, ATS_ALIGNED_CANONICAL_PER, ATS_CANONICAL_XER, pduType);
         return new String(converted);
@@ -71,4 +139,48 @@ public class NgapJni {
     public static byte[] xerToAper(String xer, NgapDataUnitType pduType) {
         return convert(xer.getBytes(), ATS_CANONICAL_XER, ATS_ALIGNED_CANONICAL_PER, pduType);
     }
+
+    public static ByteBuffer aperToXer(ByteBuffer data, NgapDataUnitType pduType) {
+        return convert(data, ATS_ALIGNED_CANONICAL_PER, ATS_CANONICAL_XER, pduType);
+    }
+
+    public static ByteBuffer xerToAper(ByteBuffer xer, NgapDataUnitType pduType) {
+        return convert(xer, ATS_CANONICAL_XER, ATS_ALIGNED_CANONICAL_PER, pduType);
+    }
+
+    public static NativeCounters getNativeCounters() {
+        var values = nativeCounters();
+        return new NativeCounters(values[0], values[1], values[2], values[3], values[4]);
+    }
+
+    public static class NativeCounters {
+        public final long pduAllocated;
+        public final long pduFreed;
+        public final long scratchBytes;
+        public final long conversions;
+        public final long failures;
+
+        private NativeCounters(long pduAllocated, long pduFreed, long scratchBytes, long conversions, long failures) {
+            this.pduAllocated = pduAllocated;
+            this.pduFreed = pduFreed;
+            this.scratchBytes = scratchBytes;
+            this.conversions = conversions;
+            this.failures = failures;
+        }
+
+        public long getLivePdus() {
+            return pduAllocated - pduFreed;
+        }
+
+        @Override
+        public String toString() {
+            return "NativeCounters{" +
+                    "pduAllocated=" + pduAllocated +
+                    ", pduFreed=" + pduFreed +
+                    ", scratchBytes=" + scratchBytes +
+                    ", conversions=" + conversions +
+                    ", failures=" + failures +
+                    '}';
+        }
+    }
 }
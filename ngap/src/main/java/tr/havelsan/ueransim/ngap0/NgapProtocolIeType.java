@@ -2,6 +2,8 @@ package tr.havelsan.ueransim.ngap0;
 
 import tr.havelsan.ueransim.ngap0.core.NGAP_Value;
 
+import java.util.HashMap;
+
 public enum NgapProtocolIeType {
     PDUSessionResourceModifyRequestTransferIEs,
     PDUSessionResourceSetupRequestTransferIEs,
@@ -84,30 +86,41 @@ public enum NgapProtocolIeType {
     UERadioCapabilityCheckResponseIEs,
     SecondaryRATDataUsageReportIEs;
 
-    public String getAsnName() {
+    private static final HashMap<String, NgapProtocolIeType> byAsnName = new HashMap<>();
+    private static final HashMap<String, NgapProtocolIeType> byMessage = new HashMap<>();
+
+    static {
+        for (var item : NgapProtocolIeType.values()) {
+            byAsnName.put(item.name(), item);
+            byAsnName.put(item.asnName, item);
+
+            var name = item.name();
+            if (name.endsWith("_IEs"))
+                byMessage.putIfAbsent(name.substring(0, name.length() - "_IEs".length()), item);
+            else if (name.endsWith("IEs"))
+                byMessage.putIfAbsent(name.substring(0, name.length() - "IEs".length()), item);
+        }
+    }
+
+    private final String asnName;
+
+    NgapProtocolIeType() {
         var name = this.name();
         if (name.endsWith("_IEs"))
-            return name.substring(0, name.length() - "_IEs".length()) + "-IEs";
-        return name;
+            this.asnName = name.substring(0, name.length() - "_IEs".length()) + "-IEs";
+        else
+            this.asnName = name;
+    }
+
+    public String getAsnName() {
+        return asnName;
     }
 
     public static NgapProtocolIeType fromAsnName(String name) {
-        if (name.endsWith("-IEs"))
-            name = name.substring(0, name.length() - "-IEs".length()) + "_IEs";
-        for (var item : NgapProtocolIeType.values()) {
-            if (item.name().equals(name))
-                return item;
-        }
-        return null;
+        return byAsnName.get(name);
     }
 
     public static NgapProtocolIeType forMessage(String message) {
-        for (var item : NgapProtocolIeType.values()) {
-            if (item.name().equals(message + "IEs"))
-                return item;
-            if (item.name().equals(message + "_IEs"))
-                return item;
-        }
-        return null;
+        return byMessage.get(message);
     }
 }
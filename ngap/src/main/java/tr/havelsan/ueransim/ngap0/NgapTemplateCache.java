@@ -0,0 +1,234 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.ngap0;
+
+import tr.havelsan.ueransim.ngap0.core.NGAP_BaseMessage;
+import tr.havelsan.ueransim.ngap0.core.NGAP_Enumerated;
+import tr.havelsan.ueransim.ngap0.core.NGAP_Value;
+import tr.havelsan.ueransim.ngap0.ies.enumerations.NGAP_Criticality;
+import tr.havelsan.ueransim.ngap0.ies.integers.NGAP_AMF_UE_NGAP_ID;
+import tr.havelsan.ueransim.ngap0.ies.integers.NGAP_RAN_UE_NGAP_ID;
+import tr.havelsan.ueransim.ngap0.ies.octet_strings.NGAP_NAS_PDU;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+/**
+ * Encodes frequently sent NGAP messages to APER without encoding the whole PDU each time.
+ * <p>
+ * Every protocol IE of a message is an octet aligned open type, so a message is its pre-encoded PDU header followed by
+ * the encodings of its IEs. Constant IEs (e.g. the user location of the gNB) are registered once and their encodings
+ * are reused, UE NGAP IDs and NAS-PDUs are written directly, and the remaining IEs are encoded one by one.
+ * <p>
+ * {@link #encode(NGAP_BaseMessage)} returns null for messages it cannot template, callers should then encode the PDU
+ * fully. Instances are not thread safe.
+ */
+public class NgapTemplateCache {
+
+    private static final int MAX_SHORT_LENGTH = 127;
+    private static final int MAX_LONG_LENGTH = 16383;
+
+    private final HashMap<Class<?>, byte[]> pduHeaders;
+    private final IdentityHashMap<NGAP_Value, byte[]> constantIes;
+    private final HashMap<Class<?>, NgapDataUnitType> ieDataUnitTypes;
+
+    @SafeVarargs
+    public NgapTemplateCache(Class<? extends NGAP_BaseMessage>... messageTypes) {
+        this.pduHeaders = new HashMap<>();
+        this.constantIes = new IdentityHashMap<>();
+        this.ieDataUnitTypes = new HashMap<>();
+
+        for (var messageType : messageTypes) {
+            var sample = (NGAP_BaseMessage) NgapTypeRegistry.of(messageType).newInstance();
+
+            // NGAP-PDU choice index, procedureCode, criticality
+            pduHeaders.put(messageType, new byte[]{
+                    (byte) (sample.getPduType() << 5),
+                    (byte) sample.getProcedureCode(),
+                    (byte) (sample.getCriticality() << 6)
+            });
+        }
+    }
+
+    /**
+     * Pre-encodes the given IE value. The encoding is reused whenever the same instance is added to a message.
+     */
+    public void addConstantIe(NGAP_Value ie) {
+        var encoded = encodeIeValue(ie);
+        if (encoded == null) {
+            throw new IllegalArgumentException("IE cannot be encoded: " + ie.getClass().getSimpleName());
+        }
+        constantIes.put(ie, encoded);
+    }
+
+    public boolean isTemplated(Class<? extends NGAP_BaseMessage> messageType) {
+        return pduHeaders.containsKey(messageType);
+    }
+
+    public byte[] encode(NGAP_BaseMessage message) {
+        var pduHeader = pduHeaders.get(message.getClass());
+        if (pduHeader == null || message.protocolIEs == null) {
+            return null;
+        }
+
+        var ies = message.protocolIEs.list;
+        var ieValues = new byte[ies.size()][];
+
+        // ext bit and the IE count
+        int contentLength = 3;
+        for (int i = 0; i < ies.size(); i++) {
+            var value = ies.get(i).value.getPresentValue();
+
+            var encoded = constantIes.get(value);
+            if (encoded == null) {
+                encoded = encodeIeValue(value);
+            }
+            if (encoded == null || encoded.length > MAX_LONG_LENGTH) {
+                return null;
+            }
+
+            ieValues[i] = encoded;
+            contentLength += 3 + lengthOfLength(encoded.length) + encoded.length;
+        }
+        if (contentLength > MAX_LONG_LENGTH) {
+            return null;
+        }
+
+        var res = new byte[pduHeader.length + lengthOfLength(contentLength) + contentLength];
+        System.arraycopy(pduHeader, 0, res, 0, pduHeader.length);
+        int index = writeLength(res, pduHeader.length, contentLength);
+
+        res[index++] = 0;
+        res[index++] = (byte) (ies.size() >> 8);
+        res[index++] = (byte) ies.size();
+
+        for (int i = 0; i < ies.size(); i++) {
+            var ie = ies.get(i);
+            var id = ie.id.value;
+
+            res[index++] = (byte) (id >> 8);
+            res[index++] = (byte) id;
+            res[index++] = (byte) (criticalityValue(ie.criticality) << 6);
+            index = writeLength(res, index, ieValues[i].length);
+            System.arraycopy(ieValues[i], 0, res, index, ieValues[i].length);
+            index += ieValues[i].length;
+        }
+
+        return res;
+    }
+
+    private byte[] encodeIeValue(NGAP_Value value) {
+        if (value instanceof NGAP_AMF_UE_NGAP_ID) {
+            // INTEGER (0..1099511627775), the octet count (1..5) is encoded in 3 bits
+            return encodeConstrainedInteger(((NGAP_AMF_UE_NGAP_ID) value).value, 5);
+        }
+        if (value instanceof NGAP_RAN_UE_NGAP_ID) {
+            // INTEGER (0..4294967295), the octet count (1..4) is encoded in 2 bits
+            return encodeConstrainedInteger(((NGAP_RAN_UE_NGAP_ID) value).value, 6);
+        }
+        if (value instanceof NGAP_NAS_PDU) {
+            var octets = ((NGAP_NAS_PDU) value).value.toByteArray();
+            if (octets.length > MAX_LONG_LENGTH) {
+                return null;
+            }
+            var res = new byte[lengthOfLength(octets.length) + octets.length];
+            System.arraycopy(octets, 0, res, writeLength(res, 0, octets.length), octets.length);
+            return res;
+        }
+
+        boolean canonicalEnum = value instanceof NGAP_Enumerated
+                && NgapTypeRegistry.of(value.getClass()).enumValue(((NGAP_Enumerated) value).sValue) == value;
+        if (canonicalEnum) {
+            var encoded = constantIes.get(value);
+            if (encoded != null) {
+                return encoded;
+            }
+        }
+
+        var type = dataUnitTypeOf(value);
+        if (type == null) {
+            return null;
+        }
+        var encoded = NgapEncoding.encodeAper(value, type);
+        if (canonicalEnum) {
+            constantIes.put(value, encoded);
+        }
+        return encoded;
+    }
+
+    private NgapDataUnitType dataUnitTypeOf(NGAP_Value value) {
+        var cls = value.getClass();
+        if (ieDataUnitTypes.containsKey(cls)) {
+            return ieDataUnitTypes.get(cls);
+        }
+        NgapDataUnitType type;
+        try {
+            type = NgapDataUnitType.valueOf(value.getAsnName().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            type = null;
+        }
+        ieDataUnitTypes.put(cls, type);
+        return type;
+    }
+
+    private static byte[] encodeConstrainedInteger(long value, int lengthShift) {
+        int octets = 1;
+        while (octets < 8 && (value >>> (octets * 8)) != 0) {
+            octets++;
+        }
+        var res = new byte[1 + octets];
+        res[0] = (byte) ((octets - 1) << lengthShift);
+        for (int i = 0; i < octets; i++) {
+            res[1 + i] = (byte) (value >>> ((octets - 1 - i) * 8));
+        }
+        return res;
+    }
+
+    private static int criticalityValue(NGAP_Criticality criticality) {
+        switch (criticality.sValue) {
+            case "reject":
+                return 0;
+            case "ignore":
+                return 1;
+            default:
+                return 2;
+        }
+    }
+
+    private static int lengthOfLength(int length) {
+        return length <= MAX_SHORT_LENGTH ? 1 : 2;
+    }
+
+    private static int writeLength(byte[] buffer, int index, int length) {
+        if (length <= MAX_SHORT_LENGTH) {
+            buffer[index++] = (byte) length;
+        } else {
+            buffer[index++] = (byte) (0x80 | (length >> 8));
+            buffer[index++] = (byte) length;
+        }
+        return index;
+    }
+}
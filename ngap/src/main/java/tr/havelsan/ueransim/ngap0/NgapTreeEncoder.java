@@ -0,0 +1,342 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tr.havelsan.ueransim.ngap0;
+
+import tr.havelsan.ueransim.ngap0.core.*;
+import tr.havelsan.ueransim.ngap0.pdu.NGAP_ProtocolIE;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+/**
+ * Converts between the NGAP object model and the binary value tree produced and consumed by the
+ * native side (see value_tree.h). The tree carries the same member names and tags as XER, so both
+ * paths build identical objects.
+ */
+public class NgapTreeEncoder {
+
+    public static byte[] encode(NGAP_Value value) {
+        var writer = new Writer();
+        encode(value, writer);
+        return Arrays.copyOf(writer.buffer, writer.length);
+    }
+
+    public static void encode(NGAP_Value value, Writer writer) {
+        writer.writeString(value.getXmlTagName());
+        try {
+            encodeValue(value, writer);
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static void encodeValue(NGAP_Value value, Writer writer) throws Exception {
+        if (value instanceof NGAP_Choice) {
+            var choice = (NGAP_Choice) value;
+
+            int j = choice.getPresentIndex();
+            if (j == -1) {
+                writer.writeU8(0);
+            } else {
+                writer.writeU8(1);
+                writer.writeString(NgapTypeRegistry.of(choice.getClass()).memberName(j));
+                encodeValue(choice.getMemberValue(j), writer);
+            }
+            return;
+        }
+
+        if (value instanceof NGAP_Sequence) {
+            var sequence = (NGAP_Sequence) value;
+            var info = NgapTypeRegistry.of(sequence.getClass());
+
+            int countIndex = writer.length;
+            writer.writeU16(0);
+
+            int count = 0;
+            for (int i = 0; i < info.memberCount(); i++) {
+                var obj = info.getMember(sequence, i);
+                if (obj != null) {
+                    writer.writeString(info.memberName(i));
+                    encodeValue((NGAP_Value) obj, writer);
+                    count++;
+                }
+            }
+
+            writer.buffer[countIndex] = (byte) (count >> 8);
+            writer.buffer[countIndex + 1] = (byte) count;
+            return;
+        }
+
+        if (value instanceof NGAP_SequenceOf<?>) {
+            var sequenceOf = (NGAP_SequenceOf<?>) value;
+
+            writer.writeU32(sequenceOf.list.size());
+            for (var item : sequenceOf.list) {
+                writer.writeString(item.getXmlTagName());
+                encodeValue(item, writer);
+            }
+            return;
+        }
+
+        if (value instanceof NGAP_Integer) {
+            writer.writeI64(((NGAP_Integer) value).value);
+            return;
+        }
+
+        if (value instanceof NGAP_BitString) {
+            var bitString = ((NGAP_BitString) value).value;
+            var octets = bitString.toByteArray();
+            writer.writeBytes(octets);
+            writer.writeU8(octets.length * 8 - bitString.bitLength());
+            return;
+        }
+
+        if (value instanceof NGAP_OctetString) {
+            writer.writeBytes(((NGAP_OctetString) value).value.toByteArray());
+            return;
+        }
+
+        if (value instanceof NGAP_PrintableString) {
+            writer.writeBytes(((NGAP_PrintableString) value).value.getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+
+        if (value instanceof NGAP_Enumerated) {
+            writer.writeString(((NGAP_Enumerated) value).sValue);
+            return;
+        }
+
+        throw new RuntimeException("unrecognized type in NgapTreeEncoder.encode");
+    }
+
+    public static NGAP_Value decode(byte[] tree) {
+        var reader = new Reader(tree);
+        try {
+            var rootTag = reader.readString();
+            var type = NgapTypeRegistry.findTypeFromTagName(rootTag);
+            var value = decode(reader, type, rootTag);
+            if (reader.index != tree.length) {
+                throw new RuntimeException("trailing data in value tree");
+            }
+            return value;
+        } catch (RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    private static NGAP_Value decode(Reader reader, Class<?> type, String tag) throws Exception {
+        var info = NgapTypeRegistry.of(type);
+
+        if (NGAP_Choice.class.isAssignableFrom(type)) {
+            var choice = (NGAP_Choice) info.newInstance();
+
+            if (reader.readU8() != 0) {
+                var name = reader.readString();
+                var memberIndex = info.indexOfMember(name);
+                if (memberIndex == -1) {
+                    throw new RuntimeException("invalid member name in choice value");
+                }
+                choice.setMemberValue(memberIndex, decode(reader, info.memberType(memberIndex), name));
+            }
+
+            return choice;
+        }
+
+        if (NGAP_Sequence.class.isAssignableFrom(type)) {
+            NGAP_Sequence sequence;
+
+            if (NGAP_ProtocolIE.class.isAssignableFrom(type)) {
+                sequence = NGAP_ProtocolIE.newInstanceFromTag(tag);
+            } else {
+                sequence = (NGAP_Sequence) info.newInstance();
+            }
+
+            int count = reader.readU16();
+            for (int i = 0; i < count; i++) {
+                var name = reader.readString();
+                var memberIndex = info.indexOfMember(name);
+                if (memberIndex == -1) {
+                    throw new RuntimeException("invalid member name in sequence value");
+                }
+                info.setMember(sequence, memberIndex, decode(reader, info.memberType(memberIndex), name));
+            }
+
+            return sequence;
+        }
+
+        if (NGAP_SequenceOf.class.isAssignableFrom(type)) {
+            @SuppressWarnings("unchecked")
+            var sequenceOf = (NGAP_SequenceOf<NGAP_Value>) info.newInstance();
+            var itemType = info.itemType();
+
+            int count = reader.readU32();
+            for (int i = 0; i < count; i++) {
+                var itemTag = reader.readString();
+                sequenceOf.list.add(decode(reader, itemType, itemTag));
+            }
+
+            return sequenceOf;
+        }
+
+        if (NGAP_Integer.class.isAssignableFrom(type)) {
+            return info.newInteger(reader.readI64());
+        }
+
+        if (NGAP_BitString.class.isAssignableFrom(type)) {
+            var octets = reader.readBytes();
+            int unusedBits = reader.readU8();
+            return info.newBitString(octets, octets.length * 8 - unusedBits);
+        }
+
+        if (NGAP_OctetString.class.isAssignableFrom(type)) {
+            return info.newOctetString(reader.readBytes());
+        }
+
+        if (NGAP_PrintableString.class.isAssignableFrom(type)) {
+            return info.newFromString(new String(reader.readBytes(), StandardCharsets.US_ASCII));
+        }
+
+        if (NGAP_Enumerated.class.isAssignableFrom(type)) {
+            return info.enumValue(reader.readString());
+        }
+
+        throw new RuntimeException("unrecognized type in NgapTreeEncoder.decode: " + type.getSimpleName());
+    }
+
+    public static class Writer {
+        private byte[] buffer;
+        private int length;
+
+        public Writer() {
+            this(1024);
+        }
+
+        public Writer(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+
+        public byte[] getBuffer() {
+            return buffer;
+        }
+
+        public int getLength() {
+            return length;
+        }
+
+        public void reset() {
+            length = 0;
+        }
+
+        private void ensureCapacity(int extra) {
+            if (length + extra > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, length + extra));
+            }
+        }
+
+        private void writeU8(int value) {
+            ensureCapacity(1);
+            buffer[length++] = (byte) value;
+        }
+
+        private void writeU16(int value) {
+            ensureCapacity(2);
+            buffer[length++] = (byte) (value >> 8);
+            buffer[length++] = (byte) value;
+        }
+
+        private void writeU32(int value) {
+            ensureCapacity(4);
+            buffer[length++] = (byte) (value >> 24);
+            buffer[length++] = (byte) (value >> 16);
+            buffer[length++] = (byte) (value >> 8);
+            buffer[length++] = (byte) value;
+        }
+
+        private void writeI64(long value) {
+            writeU32((int) (value >> 32));
+            writeU32((int) value);
+        }
+
+        private void writeBytes(byte[] bytes) {
+            writeU32(bytes.length);
+            ensureCapacity(bytes.length);
+            System.arraycopy(bytes, 0, buffer, length, bytes.length);
+            length += bytes.length;
+        }
+
+        private void writeString(String str) {
+            int len = str.length();
+            writeU16(len);
+            ensureCapacity(len);
+            for (int i = 0; i < len; i++) {
+                buffer[length++] = (byte) str.charAt(i);
+            }
+        }
+    }
+
+    private static class Reader {
+        private final byte[] data;
+        private int index;
+
+        private Reader(byte[] data) {
+            this.data = data;
+        }
+
+        private int readU8() {
+            return data[index++] & 0xFF;
+        }
+
+        private int readU16() {
+            return (readU8() << 8) | readU8();
+        }
+
+        private int readU32() {
+            return (readU16() << 16) | readU16();
+        }
+
+        private long readI64() {
+            return ((long) readU32() << 32) | (readU32() & 0xFFFFFFFFL);
+        }
+
+        private byte[] readBytes() {
+            int length = readU32();
+            var bytes = new byte[length];
+            System.arraycopy(data, index, bytes, 0, length);
+            index += length;
+            return bytes;
+        }
+
+        private String readString() {
+            int length = readU16();
+            var str = new String(data, index, length, StandardCharsets.US_ASCII);
+            index += length;
+            return str;
+        }
+    }
+}
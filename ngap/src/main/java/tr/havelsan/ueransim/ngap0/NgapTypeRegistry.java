@@ -0,0 +1,362 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tr.havelsan.ueransim.ngap0;
+
+import tr.havelsan.ueransim.ngap0.core.*;
+import tr.havelsan.ueransim.ngap0.ies.enumerations.NGAP_Criticality;
+import tr.havelsan.ueransim.ngap0.pdu.*;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Modifier;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+public class NgapTypeRegistry {
+
+    private static final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+
+    private static final ClassValue<TypeInfo> typeInfos = new ClassValue<>() {
+        @Override
+        protected TypeInfo computeValue(Class<?> type) {
+            return new TypeInfo(type);
+        }
+    };
+
+    private static final Map<String, Class<? extends NGAP_Value>> typesByTag;
+
+    static {
+        var map = new HashMap<String, Class<? extends NGAP_Value>>();
+
+        List<Class<? extends NGAP_Value>> types = List.of(
+                NGAP_InitiatingMessage.class,
+                NGAP_PDU.class,
+                NGAP_ProtocolIEContainer.class,
+                NGAP_SuccessfulOutcome.class,
+                NGAP_UnsuccessfulOutcome.class,
+
+                NGAP_BitString.class,
+                NGAP_Integer.class,
+                NGAP_OctetString.class,
+                NGAP_PrintableString.class
+        );
+
+        for (var type : types) {
+            map.putIfAbsent(of(type).xmlTagName, type);
+        }
+        for (var type : new NGAP_MessageChoice().getMemberTypes()) {
+            map.putIfAbsent(of(type).xmlTagName, type);
+        }
+        for (var type : new NGAP_IEChoice().getMemberTypes()) {
+            map.putIfAbsent(of(type).xmlTagName, type);
+        }
+
+        typesByTag = Collections.unmodifiableMap(map);
+    }
+
+    public static TypeInfo of(Class<?> type) {
+        return typeInfos.get(type);
+    }
+
+    public static Class<? extends NGAP_Value> findTypeFromTagName(String tag) {
+        if (NgapProtocolIeType.fromAsnName(tag) != null) {
+            return NGAP_ProtocolIE.class;
+        }
+
+        var type = typesByTag.get(tag);
+        if (type == null) {
+            throw new RuntimeException("type not found for tag: " + tag);
+        }
+        return type;
+    }
+
+    private static MethodHandle findConstructor(Class<?> type, Class<?>... parameterTypes) {
+        try {
+            return lookup.findConstructor(type, MethodType.methodType(void.class, parameterTypes))
+                    .asType(MethodType.methodType(Object.class, parameterTypes));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    private static String xmlTagNameOf(NGAP_Value sample) {
+        // ProtocolIE and open type choices have no tag of their own
+        if (sample == null || sample instanceof NGAP_ProtocolIE || sample instanceof NGAP_MessageChoice || sample instanceof NGAP_IEChoice) {
+            return null;
+        }
+        return sample.getXmlTagName();
+    }
+
+    public static class TypeInfo {
+        public final Class<?> type;
+        public final String xmlTagName;
+
+        private final MethodHandle constructor;
+        private final MethodHandle bitStringConstructor;
+        private final MethodHandle octetStringConstructor;
+
+        private final String[] memberNames;
+        private final Class<?>[] memberTypes;
+        private final MethodHandle[] getters;
+        private final MethodHandle[] setters;
+        private final Map<String, Integer> memberIndices;
+        private final Map<String, NGAP_Enumerated> enumValues;
+        private final Class<?> itemType;
+
+        private final Class<? extends NGAP_Value>[] ieTypes;
+        private final int[] ieIds;
+        private final NGAP_Criticality[] ieCriticality;
+        private final NgapProtocolIeType protocolIeType;
+        private final Map<Class<?>, Integer> ieOrdinals;
+
+        private TypeInfo(Class<?> type) {
+            this.type = type;
+
+            if (NGAP_Integer.class.isAssignableFrom(type)) {
+                this.constructor = findConstructor(type, long.class);
+            } else if (NGAP_BitString.class.isAssignableFrom(type)
+                    || NGAP_OctetString.class.isAssignableFrom(type)
+                    || NGAP_PrintableString.class.isAssignableFrom(type)) {
+                this.constructor = findConstructor(type, String.class);
+            } else if (Modifier.isAbstract(type.getModifiers()) || NGAP_Enumerated.class.isAssignableFrom(type)) {
+                this.constructor = null;
+            } else {
+                this.constructor = findConstructor(type);
+            }
+            this.bitStringConstructor = NGAP_BitString.class.isAssignableFrom(type)
+                    ? findConstructor(type, byte[].class, int.class) : null;
+            this.octetStringConstructor = NGAP_OctetString.class.isAssignableFrom(type)
+                    ? findConstructor(type, byte[].class) : null;
+
+            NGAP_Value sample = null;
+            Map<String, NGAP_Enumerated> enums = null;
+
+            if (NGAP_Enumerated.class.isAssignableFrom(type)) {
+                enums = new HashMap<>();
+                for (var field : type.getFields()) {
+                    if (Modifier.isStatic(field.getModifiers()) && field.getType() == type) {
+                        try {
+                            var value = (NGAP_Enumerated) field.get(null);
+                            enums.put(value.sValue, value);
+                            sample = value;
+                        } catch (IllegalAccessException e) {
+                            throw new RuntimeException(e);
+                        }
+                    }
+                }
+            } else if (type == NGAP_ProtocolIE.class) {
+                sample = new NGAP_ProtocolIE(NgapProtocolIeType.values()[0]);
+            } else if (NGAP_Integer.class.isAssignableFrom(type)) {
+                sample = newInteger(0);
+            } else if (constructor != null && NGAP_Value.class.isAssignableFrom(type)) {
+                sample = constructor.type().parameterCount() == 0 ? newInstance() : newFromString("");
+            }
+
+            this.enumValues = enums;
+            this.xmlTagName = xmlTagNameOf(sample);
+
+            if (sample instanceof NGAP_Sequence) {
+                var sequence = (NGAP_Sequence) sample;
+                var identifiers = sequence.getMemberIdentifiers();
+                this.memberNames = sequence.getMemberNames();
+                this.memberTypes = new Class<?>[identifiers.length];
+                this.getters = new MethodHandle[identifiers.length];
+                this.setters = new MethodHandle[identifiers.length];
+                for (int i = 0; i < identifiers.length; i++) {
+                    try {
+                        var field = type.getField(identifiers[i]);
+                        memberTypes[i] = field.getType();
+                        getters[i] = lookup.unreflectGetter(field).asType(MethodType.methodType(Object.class, Object.class));
+                        setters[i] = lookup.unreflectSetter(field).asType(MethodType.methodType(void.class, Object.class, Object.class));
+                    } catch (NoSuchFieldException | IllegalAccessException e) {
+                        throw new RuntimeException(e);
+                    }
+                }
+            } else if (sample instanceof NGAP_Choice) {
+                var choice = (NGAP_Choice) sample;
+                this.memberNames = choice.getMemberNames();
+                this.memberTypes = choice.getMemberTypes();
+                this.getters = null;
+                this.setters = null;
+            } else {
+                this.memberNames = new String[0];
+                this.memberTypes = new Class<?>[0];
+                this.getters = null;
+                this.setters = null;
+            }
+
+            var indices = new HashMap<String, Integer>();
+            for (int i = 0; i < memberNames.length; i++) {
+                indices.put(memberNames[i], i);
+            }
+            this.memberIndices = Collections.unmodifiableMap(indices);
+
+            this.itemType = sample instanceof NGAP_SequenceOf<?> ? ((NGAP_SequenceOf<?>) sample).getItemType() : null;
+
+            if (sample instanceof NGAP_BaseMessage) {
+                var message = (NGAP_BaseMessage) sample;
+                this.ieTypes = message.getIeTypes();
+                this.ieIds = message.getIeId();
+                this.protocolIeType = message.getProtocolIeType();
+
+                var criticality = message.getIeCriticality();
+                this.ieCriticality = new NGAP_Criticality[criticality.length];
+                for (int i = 0; i < criticality.length; i++) {
+                    var crt = criticality[i];
+                    ieCriticality[i] = crt == 0 ? NGAP_Criticality.REJECT : crt == 1 ? NGAP_Criticality.IGNORE : NGAP_Criticality.NOTIFY;
+                }
+
+                var ordinals = new HashMap<Class<?>, Integer>();
+                for (int i = 0; i < ieTypes.length; i++) {
+                    ordinals.putIfAbsent(ieTypes[i], i);
+                }
+                this.ieOrdinals = Collections.unmodifiableMap(ordinals);
+            } else {
+                this.ieTypes = null;
+                this.ieIds = null;
+                this.ieCriticality = null;
+                this.protocolIeType = null;
+                this.ieOrdinals = Collections.emptyMap();
+            }
+        }
+
+        public NGAP_Value newInstance() {
+            try {
+                return (NGAP_Value) (Object) constructor.invokeExact();
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        public NGAP_Value newInteger(long value) {
+            try {
+                return (NGAP_Value) (Object) constructor.invokeExact(value);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        public NGAP_Value newFromString(String value) {
+            try {
+                return (NGAP_Value) (Object) constructor.invokeExact(value);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        public NGAP_Value newBitString(byte[] octets, int bitLength) {
+            try {
+                return (NGAP_Value) (Object) bitStringConstructor.invokeExact(octets, bitLength);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        public NGAP_Value newOctetString(byte[] octets) {
+            try {
+                return (NGAP_Value) (Object) octetStringConstructor.invokeExact(octets);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        public NGAP_Enumerated enumValue(String name) {
+            var value = enumValues.get(name);
+            if (value == null) {
+                try {
+                    value = (NGAP_Enumerated) type.getField(name.toUpperCase(Locale.ENGLISH).replace("-", "_")).get(null);
+                } catch (NoSuchFieldException | IllegalAccessException e) {
+                    throw new RuntimeException(e);
+                }
+            }
+            return value;
+        }
+
+        public int memberCount() {
+            return memberNames.length;
+        }
+
+        public String memberName(int index) {
+            return memberNames[index];
+        }
+
+        public Class<?> memberType(int index) {
+            return memberTypes[index];
+        }
+
+        public int indexOfMember(String name) {
+            var index = memberIndices.get(name);
+            return index == null ? -1 : index;
+        }
+
+        public Object getMember(Object instance, int index) {
+            try {
+                return (Object) getters[index].invokeExact(instance);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        public void setMember(Object instance, int index, Object value) {
+            try {
+                setters[index].invokeExact(instance, value);
+            } catch (Throwable e) {
+                throw new RuntimeException(e);
+            }
+        }
+
+        public Class<?> itemType() {
+            return itemType;
+        }
+
+        public int ieTypeCount() {
+            return ieTypes != null ? ieTypes.length : 0;
+        }
+
+        /**
+         * Returns the ordinal of the IE type in getIeTypes() of an NGAP message type, or -1 if it is not usable there.
+         */
+        public int ieOrdinalOf(Class<?> ieType) {
+            var ordinal = ieOrdinals.get(ieType);
+            return ordinal != null ? ordinal : -1;
+        }
+
+        public int ieId(int ordinal) {
+            return ieIds[ordinal];
+        }
+
+        public NGAP_Criticality ieCriticality(int ordinal) {
+            return ieCriticality[ordinal];
+        }
+
+        public NgapProtocolIeType protocolIeType() {
+            return protocolIeType;
+        }
+    }
+}
@@ -42,7 +42,6 @@ import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 
 public class NgapXerEncoder {
 
@@ -144,30 +143,14 @@ public class NgapXerEncoder {
 
         if (value instanceof NGAP_Choice) {
             var choice = (NGAP_Choice) value;
-            var type = choice.getClass();
 
-            var identifiers = choice.getMemberIdentifiers();
-
-            int j = -1;
-            Object object = null;
-
-            for (int i = 0; i < identifiers.length; i++) {
-                var field = type.getField(identifiers[i]);
-                var obj = field.get(choice);
-                if (obj != null) {
-                    if (j == -1) {
-                        j = i;
-                        object = obj;
-                    } else {
-                        throw new RuntimeException("multiple non-null fields in choice value");
-                    }
-                }
-            }
+            int j = choice.getPresentIndex();
+            Object object = j == -1 ? null : choice.getMemberValue(j);
 
             Element element = null;
 
             if (j != -1) {
-                element = document.createElement(choice.getMemberNames()[j]);
+                element = document.createElement(NgapTypeRegistry.of(choice.getClass()).memberName(j));
                 var node = encode(document, object, false);
 
                 for (var item : node) {
@@ -192,18 +175,14 @@ public class NgapXerEncoder {
 
         if (value instanceof NGAP_Sequence) {
             var sequence = (NGAP_Sequence) value;
-            var type = sequence.getClass();
-
-            var identifiers = sequence.getMemberIdentifiers();
-            var names = sequence.getMemberNames();
+            var info = NgapTypeRegistry.of(sequence.getClass());
 
             var root = document.createElement(sequence.getXmlTagName());
 
-            for (int i = 0; i < identifiers.length; i++) {
-                var field = type.getField(identifiers[i]);
-                var obj = field.get(sequence);
+            for (int i = 0; i < info.memberCount(); i++) {
+                var obj = info.getMember(sequence, i);
                 if (obj != null) {
-                    var element = document.createElement(names[i]);
+                    var element = document.createElement(info.memberName(i));
                     for (var item : encode(document, obj, false)) {
                         element.appendChild(item);
                     }
@@ -254,114 +233,24 @@ public class NgapXerEncoder {
             var factory = DocumentBuilderFactory.newInstance();
             DocumentBuilder builder = factory.newDocumentBuilder();
             var doc = builder.parse(new InputSource(new StringReader(xer)));
-            return decodeRoot(doc.getChildNodes().item(0), type);
+            return decodeRoot(doc.getChildNodes().item(0));
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
     }
 
-    private static String getXmlTagNameOfClass(Class<? extends NGAP_Value> type) {
-        try {
-            if (NGAP_BitString.class.isAssignableFrom(type)) {
-                return type.getDeclaredConstructor(String.class).newInstance("").getXmlTagName();
-            }
-            if (NGAP_OctetString.class.isAssignableFrom(type)) {
-                return type.getDeclaredConstructor(String.class).newInstance("").getXmlTagName();
-            }
-            if (NGAP_PrintableString.class.isAssignableFrom(type)) {
-                return type.getDeclaredConstructor(String.class).newInstance("").getXmlTagName();
-            }
-            if (NGAP_Integer.class.isAssignableFrom(type)) {
-                return type.getDeclaredConstructor(long.class).newInstance(0).getXmlTagName();
-            }
-            if (NGAP_Enumerated.class.isAssignableFrom(type)) {
-                var ctor = type.getDeclaredConstructor(String.class);
-                ctor.setAccessible(true);
-                return ctor.newInstance("").getXmlTagName();
-            }
-            return type.getDeclaredConstructor().newInstance().getXmlTagName();
-        } catch (Exception e) {
-            throw new RuntimeException(e);
-        }
-    }
-
-    private static Class<? extends NGAP_Value> findTypeFromTagName(String tag) throws Exception {
-        if (NGAP_ProtocolIE.newInstanceFromTag(tag) != null) {
-            return NGAP_ProtocolIE.class;
-        }
-
-        Class<? extends NGAP_Value>[] arr = new Class[]{
-                NGAP_InitiatingMessage.class,
-                NGAP_PDU.class,
-                NGAP_ProtocolIEContainer.class,
-                NGAP_SuccessfulOutcome.class,
-                NGAP_UnsuccessfulOutcome.class,
-
-                NGAP_BitString.class,
-                NGAP_Integer.class,
-                NGAP_OctetString.class,
-                NGAP_PrintableString.class,
-        };
-
-        for (var item : arr) {
-            if (getXmlTagNameOfClass(item).equals(tag)) {
-                return item;
-            }
-        }
-
-        for (var item : NGAP_MessageChoice.class.getFields()) {
-            var t = item.getType();
-            if (!NGAP_Value.class.isAssignableFrom(t)) {
-                continue;
-            }
-            if (getXmlTagNameOfClass((Class<? extends NGAP_Value>) t).equals(tag)) {
-                return (Class<? extends NGAP_Value>) t;
-            }
-        }
-
-        for (var item : NGAP_IEChoice.class.getFields()) {
-            var t = item.getType();
-            if (!NGAP_Value.class.isAssignableFrom(t)) {
-                continue;
-            }
-            if (getXmlTagNameOfClass((Class<? extends NGAP_Value>) t).equals(tag)) {
-                return (Class<? extends NGAP_Value>) t;
-            }
-        }
-
-        throw new RuntimeException("type not found for tag: " + tag);
-    }
-
-    private static <T extends NGAP_Value> NGAP_Value decodeRoot(Node node, Class<T> type) throws Exception {
+    private static NGAP_Value decodeRoot(Node node) throws Exception {
         String tagName = node instanceof Element ? ((Element) node).getTagName() : "";
-        var neededType = findTypeFromTagName(tagName);
+        var neededType = NgapTypeRegistry.findTypeFromTagName(tagName);
 
         return decode(node.getChildNodes(), neededType, tagName);
     }
 
-    private static int findMemberIndex(NGAP_Choice choice, String memberName) {
-        var names = choice.getMemberNames();
-        for (int i = 0; i < names.length; i++) {
-            if (names[i].equals(memberName)) {
-                return i;
-            }
-        }
-        return -1;
-    }
-
-    private static int findMemberIndex(NGAP_Sequence choice, String memberName) {
-        var names = choice.getMemberNames();
-        for (int i = 0; i < names.length; i++) {
-            if (names[i].equals(memberName)) {
-                return i;
-            }
-        }
-        return -1;
-    }
+    private static NGAP_Value decode(NodeList nodes, Class<?> type, String rootTag) throws Exception {
+        var info = NgapTypeRegistry.of(type);
 
-    private static <T extends NGAP_Value> NGAP_Value decode(NodeList nodes, Class<T> type, String rootTag) throws Exception {
         if (NGAP_Choice.class.isAssignableFrom(type)) {
-            var choice = (NGAP_Choice) type.getDeclaredConstructor().newInstance();
+            var choice = (NGAP_Choice) info.newInstance();
 
             if (nodes.getLength() > 1) {
                 throw new RuntimeException("multiple children in choice value");
@@ -369,14 +258,13 @@ public class NgapXerEncoder {
 
             if (nodes.getLength() > 0) {
                 var child = (Element) nodes.item(0);
-                var memberIndex = findMemberIndex(choice, child.getTagName());
+                var memberIndex = info.indexOfMember(child.getTagName());
                 if (memberIndex == -1) {
                     throw new RuntimeException("invalid member name in choice value");
                 }
 
-                var field = type.getField(choice.getMemberIdentifiers()[memberIndex]);
-                var decoded = decode(child.getChildNodes(), (Class<NGAP_Value>) field.getType(), child.getTagName());
-                field.set(choice, decoded);
+                var decoded = decode(child.getChildNodes(), info.memberType(memberIndex), child.getTagName());
+                choice.setMemberValue(memberIndex, decoded);
             }
 
             return choice;
@@ -388,7 +276,7 @@ public class NgapXerEncoder {
             if (NGAP_ProtocolIE.class.isAssignableFrom(type)) {
                 sequence = NGAP_ProtocolIE.newInstanceFromTag(rootTag);
             } else {
-                sequence = (NGAP_Sequence) type.getDeclaredConstructor().newInstance();
+                sequence = (NGAP_Sequence) info.newInstance();
             }
 
             for (int i = 0; i < nodes.getLength(); i++) {
@@ -399,24 +287,23 @@ public class NgapXerEncoder {
                     continue;
                 }
 
-                var memberIndex = findMemberIndex(sequence, child.getTagName());
+                var memberIndex = info.indexOfMember(child.getTagName());
                 if (memberIndex == -1) {
                     throw new RuntimeException("invalid member name in sequence value");
                 }
-                var field = type.getField(sequence.getMemberIdentifiers()[memberIndex]);
-                var decoded = decode(child.getChildNodes(), (Class<NGAP_Value>) field.getType(), child.getTagName());
-                field.set(sequence, decoded);
+                var decoded = decode(child.getChildNodes(), info.memberType(memberIndex), child.getTagName());
+                info.setMember(sequence, memberIndex, decoded);
             }
 
             return sequence;
         }
 
         if (NGAP_SequenceOf.class.isAssignableFrom(type)) {
-            var sequenceOf = (NGAP_SequenceOf) type.getDeclaredConstructor().newInstance();
+            var sequenceOf = (NGAP_SequenceOf) info.newInstance();
 
             for (int i = 0; i < nodes.getLength(); i++) {
                 var child = (Element) nodes.item(i);
-                sequenceOf.list.add(decodeRoot(child, sequenceOf.getItemType()));
+                sequenceOf.list.add(decodeRoot(child));
             }
 
             return sequenceOf;
@@ -428,7 +315,7 @@ public class NgapXerEncoder {
             }
 
             var child = nodes.item(0);
-            return type.getConstructor(long.class).newInstance(Long.parseLong(child.getNodeValue()));
+            return info.newInteger(Long.parseLong(child.getNodeValue()));
         }
 
         if (NGAP_BitString.class.isAssignableFrom(type)) {
@@ -437,7 +324,7 @@ public class NgapXerEncoder {
             }
 
             var child = nodes.item(0);
-            return type.getConstructor(String.class).newInstance(child.getNodeValue());
+            return info.newFromString(child.getNodeValue());
         }
 
         if (NGAP_OctetString.class.isAssignableFrom(type)) {
@@ -446,7 +333,7 @@ public class NgapXerEncoder {
             }
 
             var child = nodes.item(0);
-            return type.getConstructor(String.class).newInstance(child.getNodeValue());
+            return info.newFromString(child.getNodeValue());
         }
 
         if (NGAP_PrintableString.class.isAssignableFrom(type)) {
@@ -456,10 +343,10 @@ public class NgapXerEncoder {
 
             if (nodes.getLength() > 0) {
                 var child = nodes.item(0);
-                return type.getConstructor(String.class).newInstance(child.getNodeValue());
+                return info.newFromString(child.getNodeValue());
             }
 
-            return type.getConstructor(String.class).newInstance("");
+            return info.newFromString("");
         }
 
         if (NGAP_Enumerated.class.isAssignableFrom(type)) {
@@ -468,9 +355,7 @@ public class NgapXerEncoder {
             }
 
             var child = (Element) nodes.item(0);
-            var fieldName = child.getTagName().toUpperCase(Locale.ENGLISH).replace("-", "_");
-            var field = type.getField(fieldName);
-            return (T) field.get(null);
+            return info.enumValue(child.getTagName());
         }
 
         return null;
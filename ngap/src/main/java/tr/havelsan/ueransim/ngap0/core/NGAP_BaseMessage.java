@@ -28,6 +28,7 @@ import tr.havelsan.ueransim.nas.NasDecoder;
 import tr.havelsan.ueransim.nas.core.messages.NasMessage;
 import tr.havelsan.ueransim.ngap0.NgapMessageType;
 import tr.havelsan.ueransim.ngap0.NgapProtocolIeType;
+import tr.havelsan.ueransim.ngap0.NgapTypeRegistry;
 import tr.havelsan.ueransim.ngap0.ies.enumerations.NGAP_Criticality;
 import tr.havelsan.ueransim.ngap0.ies.integers.NGAP_ProcedureCode;
 import tr.havelsan.ueransim.ngap0.ies.integers.NGAP_ProtocolIE_ID;
@@ -35,7 +36,12 @@ import tr.havelsan.ueransim.ngap0.ies.integers.NGAP_RAN_UE_NGAP_ID;
 import tr.havelsan.ueransim.ngap0.ies.octet_strings.NGAP_NAS_PDU;
 import tr.havelsan.ueransim.ngap0.pdu.*;
 
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 
 public abstract class NGAP_BaseMessage extends NGAP_Sequence {
 
@@ -59,52 +65,67 @@ public abstract class NGAP_BaseMessage extends NGAP_Sequence {
 
     public abstract NgapProtocolIeType getProtocolIeType();
 
-    private int indexOfIeType(Class<? extends NGAP_Value> type) {
-        int i = 0;
-        for (var item : getIeTypes()) {
-            if (item == type) return i;
-            i++;
+    /**
+     * Returns protocolIEs.list as IE slots. A list filled some other way, e.g. by decoding, is moved into the slots
+     * once, which orders it by getIeTypes() with the unknown IEs first.
+     */
+    private ProtocolIeSlots ieSlots() {
+        if (protocolIEs == null) protocolIEs = new NGAP_ProtocolIEContainer();
+
+        var list = protocolIEs.list;
+        if (list instanceof ProtocolIeSlots) {
+            return (ProtocolIeSlots) list;
         }
-        return -1;
-    }
 
-    private void sortProtocolIes() {
-        protocolIEs.list.sort(Comparator.comparingInt(ie -> indexOfIeType(ie.value.getPresentValue().getClass())));
+        var slots = new ProtocolIeSlots(NgapTypeRegistry.of(getClass()));
+        slots.addAll(list);
+        protocolIEs.list = slots;
+        return slots;
     }
 
     public void addProtocolIe(NGAP_Value ie) {
-        if (protocolIEs == null) protocolIEs = new NGAP_ProtocolIEContainer();
+        var layout = NgapTypeRegistry.of(getClass());
 
-        int ind = indexOfIeType(ie.getClass());
+        int ind = layout.ieOrdinalOf(ie.getClass());
         if (ind == -1) {
             throw new RuntimeException("IE is not usable for NGAP message type.");
         }
 
-        if (isProtocolIeUsable(ie.getClass())) {
-            var crt = getIeCriticality()[ind];
-
-            var protocolIe = new NGAP_ProtocolIE(getProtocolIeType());
-            protocolIe.id = new NGAP_ProtocolIE_ID(getIeId()[ind]);
-            protocolIe.criticality = crt == 0 ? NGAP_Criticality.REJECT : crt == 1 ? NGAP_Criticality.IGNORE : NGAP_Criticality.NOTIFY;
-            protocolIe.value = new NGAP_IEChoice();
-            protocolIe.value.setPresentValue(ie);
+        var protocolIe = new NGAP_ProtocolIE(layout.protocolIeType());
+        protocolIe.id = new NGAP_ProtocolIE_ID(layout.ieId(ind));
+        protocolIe.criticality = layout.ieCriticality(ind);
+        protocolIe.value = new NGAP_IEChoice();
+        protocolIe.value.setPresentValue(ie);
 
-            protocolIEs.list.add(protocolIe);
-        }
-
-        sortProtocolIes();
+        ieSlots().add(protocolIe);
     }
 
     public <T extends NGAP_Value> T getProtocolIe(Class<T> type, int occurrenceIndex) {
         if (protocolIEs == null) protocolIEs = new NGAP_ProtocolIEContainer();
 
+        var list = protocolIEs.list;
+        if (list instanceof ProtocolIeSlots) {
+            var slots = (ProtocolIeSlots) list;
+            int ordinal = slots.layout.ieOrdinalOf(type);
+            if (ordinal != -1) {
+                if (occurrenceIndex >= slots.counts[ordinal]) {
+                    return null;
+                }
+                var pres = presentValueOf(slots.getFromSlot(ordinal, occurrenceIndex));
+                // The value may have been replaced in place by one of another type, then the list is scanned
+                if (pres != null && pres.getClass() == type) {
+                    return type.cast(pres);
+                }
+            }
+        }
+
         int occurrence = -1;
-        for (var item : protocolIEs.list) {
-            var pres = item.value.getPresentValue();
-            if (type == pres.getClass()) {
+        for (var item : list) {
+            var pres = presentValueOf(item);
+            if (pres != null && type == pres.getClass()) {
                 occurrence++;
                 if (occurrence == occurrenceIndex)
-                    return (T) pres;
+                    return type.cast(pres);
             }
         }
         return null;
@@ -121,7 +142,7 @@ public abstract class NGAP_BaseMessage extends NGAP_Sequence {
     }
 
     public boolean isProtocolIeUsable(Class<? extends NGAP_Value> type) {
-        return indexOfIeType(type) != -1;
+        return NgapTypeRegistry.of(getClass()).ieOrdinalOf(type) != -1;
     }
 
     public boolean isUeAssociated() {
@@ -163,4 +184,146 @@ public abstract class NGAP_BaseMessage extends NGAP_Sequence {
 
         return pdu;
     }
+
+    private static NGAP_Value presentValueOf(NGAP_ProtocolIE item) {
+        return item.value != null ? item.value.getPresentValue() : null;
+    }
+
+    /**
+     * Protocol IE list that keeps the IEs in slots by the ordinal of their type in getIeTypes(), so adding an IE
+     * does not move the others and the list is always in encoding order: IEs of unknown types first in the order they
+     * were added, then the IEs of each type in the order of getIeTypes().
+     */
+    private static final class ProtocolIeSlots extends AbstractList<NGAP_ProtocolIE> {
+        final NgapTypeRegistry.TypeInfo layout;
+        final int[] counts;
+
+        private final List<NGAP_ProtocolIE> unknown;
+        private final NGAP_ProtocolIE[] first;
+        // Later IEs of the same type, created for the types that occur more than once
+        private final List<NGAP_ProtocolIE>[] more;
+        private int size;
+
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        ProtocolIeSlots(NgapTypeRegistry.TypeInfo layout) {
+            this.layout = layout;
+            this.counts = new int[layout.ieTypeCount()];
+            this.unknown = new ArrayList<>();
+            this.first = new NGAP_ProtocolIE[counts.length];
+            this.more = new List[counts.length];
+        }
+
+        private int ordinalOf(NGAP_ProtocolIE item) {
+            var pres = presentValueOf(item);
+            return pres != null ? layout.ieOrdinalOf(pres.getClass()) : -1;
+        }
+
+        NGAP_ProtocolIE getFromSlot(int ordinal, int occurrence) {
+            return occurrence == 0 ? first[ordinal] : more[ordinal].get(occurrence - 1);
+        }
+
+        @Override
+        public boolean add(NGAP_ProtocolIE item) {
+            int ordinal = ordinalOf(item);
+            if (ordinal == -1) {
+                unknown.add(item);
+            } else if (counts[ordinal] == 0) {
+                first[ordinal] = item;
+            } else {
+                if (more[ordinal] == null) more[ordinal] = new ArrayList<>();
+                more[ordinal].add(item);
+            }
+            if (ordinal != -1) counts[ordinal]++;
+            size++;
+            modCount++;
+            return true;
+        }
+
+        @Override
+        public NGAP_ProtocolIE get(int index) {
+            Objects.checkIndex(index, size);
+            if (index < unknown.size()) {
+                return unknown.get(index);
+            }
+            index -= unknown.size();
+            int ordinal = 0;
+            while (index >= counts[ordinal]) {
+                index -= counts[ordinal++];
+            }
+            return getFromSlot(ordinal, index);
+        }
+
+        /**
+         * Replaces the IE at the index. An IE of another type is moved to the slot of its type.
+         */
+        @Override
+        public NGAP_ProtocolIE set(int index, NGAP_ProtocolIE item) {
+            Objects.checkIndex(index, size);
+            int ordinal = ordinalOf(item);
+            if (ordinal != ordinalOf(get(index))) {
+                var old = remove(index);
+                add(item);
+                return old;
+            }
+            if (ordinal == -1) {
+                return unknown.set(index, item);
+            }
+            int occurrence = index - unknown.size();
+            for (int i = 0; i < ordinal; i++) {
+                occurrence -= counts[i];
+            }
+            var old = getFromSlot(ordinal, occurrence);
+            if (occurrence == 0) first[ordinal] = item;
+            else more[ordinal].set(occurrence - 1, item);
+            return old;
+        }
+
+        @Override
+        public NGAP_ProtocolIE remove(int index) {
+            Objects.checkIndex(index, size);
+            NGAP_ProtocolIE old;
+            if (index < unknown.size()) {
+                old = unknown.remove(index);
+            } else {
+                index -= unknown.size();
+                int ordinal = 0;
+                while (index >= counts[ordinal]) {
+                    index -= counts[ordinal++];
+                }
+                if (index == 0) {
+                    old = first[ordinal];
+                    first[ordinal] = counts[ordinal] > 1 ? more[ordinal].remove(0) : null;
+                } else {
+                    old = more[ordinal].remove(index - 1);
+                }
+                counts[ordinal]--;
+            }
+            size--;
+            modCount++;
+            return old;
+        }
+
+        /**
+         * Not supported, the order is given by the slots.
+         */
+        @Override
+        public void sort(Comparator<? super NGAP_ProtocolIE> c) {
+            throw new UnsupportedOperationException("protocol IEs are kept in the order of getIeTypes()");
+        }
+
+        @Override
+        public void clear() {
+            unknown.clear();
+            Arrays.fill(first, null);
+            Arrays.fill(more, null);
+            Arrays.fill(counts, 0);
+            size = 0;
+            modCount++;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+    }
 }
@@ -30,30 +30,25 @@ public abstract class NGAP_Choice extends NGAP_Value {
 
     public abstract String[] getMemberIdentifiers();
 
+    public abstract Class<? extends NGAP_Value>[] getMemberTypes();
+
+    public abstract int getPresentIndex();
+
+    public abstract NGAP_Value getMemberValue(int index);
+
+    public abstract void setMemberValue(int index, NGAP_Value value);
+
     public NGAP_Value getPresentValue() {
-        var cls = getClass();
-        for (String id : getMemberIdentifiers()) {
-            try {
-                var field = cls.getField(id);
-                var value = field.get(this);
-                if (value != null) return (NGAP_Value) value;
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
-        }
-        return null;
+        int index = getPresentIndex();
+        return index == -1 ? null : getMemberValue(index);
     }
 
     public void setPresentValue(NGAP_Value value) {
-        var cls = getClass();
-        for (String id : getMemberIdentifiers()) {
-            try {
-                var field = cls.getField(id);
-                if (field.getType() == value.getClass()) {
-                    field.set(this, value);
-                }
-            } catch (Exception e) {
-                throw new RuntimeException(e);
+        var types = getMemberTypes();
+        for (int i = 0; i < types.length; i++) {
+            if (types[i] == value.getClass()) {
+                setMemberValue(i, value);
+                return;
             }
         }
     }
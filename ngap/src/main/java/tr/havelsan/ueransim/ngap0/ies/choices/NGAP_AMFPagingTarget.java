@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_AMFPagingTarget extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_GlobalRANNodeID.class, NGAP_TAI.class};
+
     public NGAP_GlobalRANNodeID globalRANNodeID;
     public NGAP_TAI tAI;
 
@@ -39,4 +42,42 @@ public class NGAP_AMFPagingTarget extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"globalRANNodeID", "tAI"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (globalRANNodeID != null) return 0;
+        if (tAI != null) return 1;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return globalRANNodeID;
+            case 1:
+                return tAI;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                globalRANNodeID = (NGAP_GlobalRANNodeID) value;
+                break;
+            case 1:
+                tAI = (NGAP_TAI) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_BroadcastCancelledAreaList extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_CellIDCancelledEUTRA.class, NGAP_TAICancelledEUTRA.class, NGAP_EmergencyAreaIDCancelledEUTRA.class, NGAP_CellIDCancelledNR.class, NGAP_TAICancelledNR.class, NGAP_EmergencyAreaIDCancelledNR.class};
+
     public NGAP_CellIDCancelledEUTRA cellIDCancelledEUTRA;
     public NGAP_TAICancelledEUTRA tAICancelledEUTRA;
     public NGAP_EmergencyAreaIDCancelledEUTRA emergencyAreaIDCancelledEUTRA;
@@ -43,4 +46,66 @@ public class NGAP_BroadcastCancelledAreaList extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"cellIDCancelledEUTRA", "tAICancelledEUTRA", "emergencyAreaIDCancelledEUTRA", "cellIDCancelledNR", "tAICancelledNR", "emergencyAreaIDCancelledNR"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (cellIDCancelledEUTRA != null) return 0;
+        if (tAICancelledEUTRA != null) return 1;
+        if (emergencyAreaIDCancelledEUTRA != null) return 2;
+        if (cellIDCancelledNR != null) return 3;
+        if (tAICancelledNR != null) return 4;
+        if (emergencyAreaIDCancelledNR != null) return 5;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return cellIDCancelledEUTRA;
+            case 1:
+                return tAICancelledEUTRA;
+            case 2:
+                return emergencyAreaIDCancelledEUTRA;
+            case 3:
+                return cellIDCancelledNR;
+            case 4:
+                return tAICancelledNR;
+            case 5:
+                return emergencyAreaIDCancelledNR;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                cellIDCancelledEUTRA = (NGAP_CellIDCancelledEUTRA) value;
+                break;
+            case 1:
+                tAICancelledEUTRA = (NGAP_TAICancelledEUTRA) value;
+                break;
+            case 2:
+                emergencyAreaIDCancelledEUTRA = (NGAP_EmergencyAreaIDCancelledEUTRA) value;
+                break;
+            case 3:
+                cellIDCancelledNR = (NGAP_CellIDCancelledNR) value;
+                break;
+            case 4:
+                tAICancelledNR = (NGAP_TAICancelledNR) value;
+                break;
+            case 5:
+                emergencyAreaIDCancelledNR = (NGAP_EmergencyAreaIDCancelledNR) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_BroadcastCompletedAreaList extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_CellIDBroadcastEUTRA.class, NGAP_TAIBroadcastEUTRA.class, NGAP_EmergencyAreaIDBroadcastEUTRA.class, NGAP_CellIDBroadcastNR.class, NGAP_TAIBroadcastNR.class, NGAP_EmergencyAreaIDBroadcastNR.class};
+
     public NGAP_CellIDBroadcastEUTRA cellIDBroadcastEUTRA;
     public NGAP_TAIBroadcastEUTRA tAIBroadcastEUTRA;
     public NGAP_EmergencyAreaIDBroadcastEUTRA emergencyAreaIDBroadcastEUTRA;
@@ -43,4 +46,66 @@ public class NGAP_BroadcastCompletedAreaList extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"cellIDBroadcastEUTRA", "tAIBroadcastEUTRA", "emergencyAreaIDBroadcastEUTRA", "cellIDBroadcastNR", "tAIBroadcastNR", "emergencyAreaIDBroadcastNR"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (cellIDBroadcastEUTRA != null) return 0;
+        if (tAIBroadcastEUTRA != null) return 1;
+        if (emergencyAreaIDBroadcastEUTRA != null) return 2;
+        if (cellIDBroadcastNR != null) return 3;
+        if (tAIBroadcastNR != null) return 4;
+        if (emergencyAreaIDBroadcastNR != null) return 5;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return cellIDBroadcastEUTRA;
+            case 1:
+                return tAIBroadcastEUTRA;
+            case 2:
+                return emergencyAreaIDBroadcastEUTRA;
+            case 3:
+                return cellIDBroadcastNR;
+            case 4:
+                return tAIBroadcastNR;
+            case 5:
+                return emergencyAreaIDBroadcastNR;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                cellIDBroadcastEUTRA = (NGAP_CellIDBroadcastEUTRA) value;
+                break;
+            case 1:
+                tAIBroadcastEUTRA = (NGAP_TAIBroadcastEUTRA) value;
+                break;
+            case 2:
+                emergencyAreaIDBroadcastEUTRA = (NGAP_EmergencyAreaIDBroadcastEUTRA) value;
+                break;
+            case 3:
+                cellIDBroadcastNR = (NGAP_CellIDBroadcastNR) value;
+                break;
+            case 4:
+                tAIBroadcastNR = (NGAP_TAIBroadcastNR) value;
+                break;
+            case 5:
+                emergencyAreaIDBroadcastNR = (NGAP_EmergencyAreaIDBroadcastNR) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
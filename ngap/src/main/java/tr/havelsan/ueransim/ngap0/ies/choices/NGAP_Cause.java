@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_Cause extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_CauseRadioNetwork.class, NGAP_CauseTransport.class, NGAP_CauseNas.class, NGAP_CauseProtocol.class, NGAP_CauseMisc.class};
+
     public NGAP_CauseRadioNetwork radioNetwork;
     public NGAP_CauseTransport transport;
     public NGAP_CauseNas nas;
@@ -42,4 +45,60 @@ public class NGAP_Cause extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"radioNetwork", "transport", "nas", "protocol", "misc"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (radioNetwork != null) return 0;
+        if (transport != null) return 1;
+        if (nas != null) return 2;
+        if (protocol != null) return 3;
+        if (misc != null) return 4;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return radioNetwork;
+            case 1:
+                return transport;
+            case 2:
+                return nas;
+            case 3:
+                return protocol;
+            case 4:
+                return misc;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                radioNetwork = (NGAP_CauseRadioNetwork) value;
+                break;
+            case 1:
+                transport = (NGAP_CauseTransport) value;
+                break;
+            case 2:
+                nas = (NGAP_CauseNas) value;
+                break;
+            case 3:
+                protocol = (NGAP_CauseProtocol) value;
+                break;
+            case 4:
+                misc = (NGAP_CauseMisc) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_CellIDListForRestart extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_EUTRA_CGIList.class, NGAP_NR_CGIList.class};
+
     public NGAP_EUTRA_CGIList eUTRA_CGIListforRestart;
     public NGAP_NR_CGIList nR_CGIListforRestart;
 
@@ -39,4 +42,42 @@ public class NGAP_CellIDListForRestart extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"eUTRA_CGIListforRestart", "nR_CGIListforRestart"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (eUTRA_CGIListforRestart != null) return 0;
+        if (nR_CGIListforRestart != null) return 1;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return eUTRA_CGIListforRestart;
+            case 1:
+                return nR_CGIListforRestart;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                eUTRA_CGIListforRestart = (NGAP_EUTRA_CGIList) value;
+                break;
+            case 1:
+                nR_CGIListforRestart = (NGAP_NR_CGIList) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
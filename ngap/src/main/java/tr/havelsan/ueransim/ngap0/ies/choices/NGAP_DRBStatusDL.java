@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_DRBStatusDL extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_DRBStatusDL12.class, NGAP_DRBStatusDL18.class};
+
     public NGAP_DRBStatusDL12 dRBStatusDL12;
     public NGAP_DRBStatusDL18 dRBStatusDL18;
 
@@ -39,4 +42,42 @@ public class NGAP_DRBStatusDL extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"dRBStatusDL12", "dRBStatusDL18"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (dRBStatusDL12 != null) return 0;
+        if (dRBStatusDL18 != null) return 1;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return dRBStatusDL12;
+            case 1:
+                return dRBStatusDL18;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                dRBStatusDL12 = (NGAP_DRBStatusDL12) value;
+                break;
+            case 1:
+                dRBStatusDL18 = (NGAP_DRBStatusDL18) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
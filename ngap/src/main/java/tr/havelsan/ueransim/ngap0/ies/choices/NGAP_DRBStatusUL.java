@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_DRBStatusUL extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_DRBStatusUL12.class, NGAP_DRBStatusUL18.class};
+
     public NGAP_DRBStatusUL12 dRBStatusUL12;
     public NGAP_DRBStatusUL18 dRBStatusUL18;
 
@@ -39,4 +42,42 @@ public class NGAP_DRBStatusUL extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"dRBStatusUL12", "dRBStatusUL18"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (dRBStatusUL12 != null) return 0;
+        if (dRBStatusUL18 != null) return 1;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return dRBStatusUL12;
+            case 1:
+                return dRBStatusUL18;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                dRBStatusUL12 = (NGAP_DRBStatusUL12) value;
+                break;
+            case 1:
+                dRBStatusUL18 = (NGAP_DRBStatusUL18) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
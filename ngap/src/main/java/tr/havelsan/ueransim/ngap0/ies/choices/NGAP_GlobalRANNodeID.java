@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_GlobalRANNodeID extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_GlobalGNB_ID.class, NGAP_GlobalNgENB_ID.class, NGAP_GlobalN3IWF_ID.class};
+
     public NGAP_GlobalGNB_ID globalGNB_ID;
     public NGAP_GlobalNgENB_ID globalNgENB_ID;
     public NGAP_GlobalN3IWF_ID globalN3IWF_ID;
@@ -40,4 +43,48 @@ public class NGAP_GlobalRANNodeID extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"globalGNB_ID", "globalNgENB_ID", "globalN3IWF_ID"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (globalGNB_ID != null) return 0;
+        if (globalNgENB_ID != null) return 1;
+        if (globalN3IWF_ID != null) return 2;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return globalGNB_ID;
+            case 1:
+                return globalNgENB_ID;
+            case 2:
+                return globalN3IWF_ID;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                globalGNB_ID = (NGAP_GlobalGNB_ID) value;
+                break;
+            case 1:
+                globalNgENB_ID = (NGAP_GlobalNgENB_ID) value;
+                break;
+            case 2:
+                globalN3IWF_ID = (NGAP_GlobalN3IWF_ID) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_LastVisitedCellInformation extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_LastVisitedNGRANCellInformation.class, NGAP_LastVisitedEUTRANCellInformation.class, NGAP_LastVisitedUTRANCellInformation.class, NGAP_LastVisitedGERANCellInformation.class};
+
     public NGAP_LastVisitedNGRANCellInformation nGRANCell;
     public NGAP_LastVisitedEUTRANCellInformation eUTRANCell;
     public NGAP_LastVisitedUTRANCellInformation uTRANCell;
@@ -41,4 +44,54 @@ public class NGAP_LastVisitedCellInformation extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"nGRANCell", "eUTRANCell", "uTRANCell", "gERANCell"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (nGRANCell != null) return 0;
+        if (eUTRANCell != null) return 1;
+        if (uTRANCell != null) return 2;
+        if (gERANCell != null) return 3;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return nGRANCell;
+            case 1:
+                return eUTRANCell;
+            case 2:
+                return uTRANCell;
+            case 3:
+                return gERANCell;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                nGRANCell = (NGAP_LastVisitedNGRANCellInformation) value;
+                break;
+            case 1:
+                eUTRANCell = (NGAP_LastVisitedEUTRANCellInformation) value;
+                break;
+            case 2:
+                uTRANCell = (NGAP_LastVisitedUTRANCellInformation) value;
+                break;
+            case 3:
+                gERANCell = (NGAP_LastVisitedGERANCellInformation) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
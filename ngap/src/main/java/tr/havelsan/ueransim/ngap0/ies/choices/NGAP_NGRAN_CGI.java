@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_NGRAN_CGI extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_NR_CGI.class, NGAP_EUTRA_CGI.class};
+
     public NGAP_NR_CGI nR_CGI;
     public NGAP_EUTRA_CGI eUTRA_CGI;
 
@@ -39,4 +42,42 @@ public class NGAP_NGRAN_CGI extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"nR_CGI", "eUTRA_CGI"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (nR_CGI != null) return 0;
+        if (eUTRA_CGI != null) return 1;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return nR_CGI;
+            case 1:
+                return eUTRA_CGI;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                nR_CGI = (NGAP_NR_CGI) value;
+                break;
+            case 1:
+                eUTRA_CGI = (NGAP_EUTRA_CGI) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_NgENB_ID extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_BitString.class, NGAP_BitString.class, NGAP_BitString.class};
+
     public NGAP_BitString macroNgENB_ID;
     public NGAP_BitString shortMacroNgENB_ID;
     public NGAP_BitString longMacroNgENB_ID;
@@ -40,4 +43,48 @@ public class NGAP_NgENB_ID extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"macroNgENB_ID", "shortMacroNgENB_ID", "longMacroNgENB_ID"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (macroNgENB_ID != null) return 0;
+        if (shortMacroNgENB_ID != null) return 1;
+        if (longMacroNgENB_ID != null) return 2;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return macroNgENB_ID;
+            case 1:
+                return shortMacroNgENB_ID;
+            case 2:
+                return longMacroNgENB_ID;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                macroNgENB_ID = (NGAP_BitString) value;
+                break;
+            case 1:
+                shortMacroNgENB_ID = (NGAP_BitString) value;
+                break;
+            case 2:
+                longMacroNgENB_ID = (NGAP_BitString) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
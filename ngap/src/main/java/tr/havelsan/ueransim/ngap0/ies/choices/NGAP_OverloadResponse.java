@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_OverloadResponse extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_OverloadAction.class};
+
     public NGAP_OverloadAction overloadAction;
 
     @Override
@@ -38,4 +41,36 @@ public class NGAP_OverloadResponse extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"overloadAction"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (overloadAction != null) return 0;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return overloadAction;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                overloadAction = (NGAP_OverloadAction) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_QosCharacteristics extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_NonDynamic5QIDescriptor.class, NGAP_Dynamic5QIDescriptor.class};
+
     public NGAP_NonDynamic5QIDescriptor nonDynamic5QI;
     public NGAP_Dynamic5QIDescriptor dynamic5QI;
 
@@ -39,4 +42,42 @@ public class NGAP_QosCharacteristics extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"nonDynamic5QI", "dynamic5QI"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (nonDynamic5QI != null) return 0;
+        if (dynamic5QI != null) return 1;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return nonDynamic5QI;
+            case 1:
+                return dynamic5QI;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                nonDynamic5QI = (NGAP_NonDynamic5QIDescriptor) value;
+                break;
+            case 1:
+                dynamic5QI = (NGAP_Dynamic5QIDescriptor) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
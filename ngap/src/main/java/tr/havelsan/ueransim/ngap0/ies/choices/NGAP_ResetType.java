@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_ResetType extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_ResetAll.class, NGAP_UE_associatedLogicalNG_connectionList.class};
+
     public NGAP_ResetAll nG_Interface;
     public NGAP_UE_associatedLogicalNG_connectionList partOfNG_Interface;
 
@@ -39,4 +42,42 @@ public class NGAP_ResetType extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"nG_Interface", "partOfNG_Interface"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (nG_Interface != null) return 0;
+        if (partOfNG_Interface != null) return 1;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return nG_Interface;
+            case 1:
+                return partOfNG_Interface;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                nG_Interface = (NGAP_ResetAll) value;
+                break;
+            case 1:
+                partOfNG_Interface = (NGAP_UE_associatedLogicalNG_connectionList) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_SONInformation extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_SONInformationRequest.class, NGAP_SONInformationReply.class};
+
     public NGAP_SONInformationRequest sONInformationRequest;
     public NGAP_SONInformationReply sONInformationReply;
 
@@ -39,4 +42,42 @@ public class NGAP_SONInformation extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"sONInformationRequest", "sONInformationReply"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (sONInformationRequest != null) return 0;
+        if (sONInformationReply != null) return 1;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return sONInformationRequest;
+            case 1:
+                return sONInformationReply;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                sONInformationRequest = (NGAP_SONInformationRequest) value;
+                break;
+            case 1:
+                sONInformationReply = (NGAP_SONInformationReply) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_TargetID extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_TargetRANNodeID.class, NGAP_TargeteNB_ID.class};
+
     public NGAP_TargetRANNodeID targetRANNodeID;
     public NGAP_TargeteNB_ID targeteNB_ID;
 
@@ -39,4 +42,42 @@ public class NGAP_TargetID extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"targetRANNodeID", "targeteNB_ID"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (targetRANNodeID != null) return 0;
+        if (targeteNB_ID != null) return 1;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return targetRANNodeID;
+            case 1:
+                return targeteNB_ID;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                targetRANNodeID = (NGAP_TargetRANNodeID) value;
+                break;
+            case 1:
+                targeteNB_ID = (NGAP_TargeteNB_ID) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
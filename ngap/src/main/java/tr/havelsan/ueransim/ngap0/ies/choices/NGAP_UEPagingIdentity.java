@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_UEPagingIdentity extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_FiveG_S_TMSI.class};
+
     public NGAP_FiveG_S_TMSI fiveG_S_TMSI;
 
     @Override
@@ -38,4 +41,36 @@ public class NGAP_UEPagingIdentity extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"fiveG_S_TMSI"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (fiveG_S_TMSI != null) return 0;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return fiveG_S_TMSI;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                fiveG_S_TMSI = (NGAP_FiveG_S_TMSI) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
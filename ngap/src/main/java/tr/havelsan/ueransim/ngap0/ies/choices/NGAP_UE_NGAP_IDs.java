@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_UE_NGAP_IDs extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_UE_NGAP_ID_pair.class, NGAP_AMF_UE_NGAP_ID.class};
+
     public NGAP_UE_NGAP_ID_pair uE_NGAP_ID_pair;
     public NGAP_AMF_UE_NGAP_ID aMF_UE_NGAP_ID;
 
@@ -39,4 +42,42 @@ public class NGAP_UE_NGAP_IDs extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"uE_NGAP_ID_pair", "aMF_UE_NGAP_ID"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (uE_NGAP_ID_pair != null) return 0;
+        if (aMF_UE_NGAP_ID != null) return 1;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return uE_NGAP_ID_pair;
+            case 1:
+                return aMF_UE_NGAP_ID;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                uE_NGAP_ID_pair = (NGAP_UE_NGAP_ID_pair) value;
+                break;
+            case 1:
+                aMF_UE_NGAP_ID = (NGAP_AMF_UE_NGAP_ID) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_UserLocationInformation extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_UserLocationInformationEUTRA.class, NGAP_UserLocationInformationNR.class, NGAP_UserLocationInformationN3IWF.class};
+
     public NGAP_UserLocationInformationEUTRA userLocationInformationEUTRA;
     public NGAP_UserLocationInformationNR userLocationInformationNR;
     public NGAP_UserLocationInformationN3IWF userLocationInformationN3IWF;
@@ -40,4 +43,48 @@ public class NGAP_UserLocationInformation extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"userLocationInformationEUTRA", "userLocationInformationNR", "userLocationInformationN3IWF"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (userLocationInformationEUTRA != null) return 0;
+        if (userLocationInformationNR != null) return 1;
+        if (userLocationInformationN3IWF != null) return 2;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return userLocationInformationEUTRA;
+            case 1:
+                return userLocationInformationNR;
+            case 2:
+                return userLocationInformationN3IWF;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                userLocationInformationEUTRA = (NGAP_UserLocationInformationEUTRA) value;
+                break;
+            case 1:
+                userLocationInformationNR = (NGAP_UserLocationInformationNR) value;
+                break;
+            case 2:
+                userLocationInformationN3IWF = (NGAP_UserLocationInformationN3IWF) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
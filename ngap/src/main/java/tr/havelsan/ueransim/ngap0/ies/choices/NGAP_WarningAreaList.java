@@ -17,6 +17,9 @@ import java.util.List;
 
 public class NGAP_WarningAreaList extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_EUTRA_CGIListForWarning.class, NGAP_NR_CGIListForWarning.class, NGAP_TAIListForWarning.class, NGAP_EmergencyAreaIDList.class};
+
     public NGAP_EUTRA_CGIListForWarning eUTRA_CGIListForWarning;
     public NGAP_NR_CGIListForWarning nR_CGIListForWarning;
     public NGAP_TAIListForWarning tAIListForWarning;
@@ -41,4 +44,54 @@ public class NGAP_WarningAreaList extends NGAP_Choice {
     public String[] getMemberIdentifiers() {
         return new String[]{"eUTRA_CGIListForWarning", "nR_CGIListForWarning", "tAIListForWarning", "emergencyAreaIDList"};
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (eUTRA_CGIListForWarning != null) return 0;
+        if (nR_CGIListForWarning != null) return 1;
+        if (tAIListForWarning != null) return 2;
+        if (emergencyAreaIDList != null) return 3;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return eUTRA_CGIListForWarning;
+            case 1:
+                return nR_CGIListForWarning;
+            case 2:
+                return tAIListForWarning;
+            case 3:
+                return emergencyAreaIDList;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                eUTRA_CGIListForWarning = (NGAP_EUTRA_CGIListForWarning) value;
+                break;
+            case 1:
+                nR_CGIListForWarning = (NGAP_NR_CGIListForWarning) value;
+                break;
+            case 2:
+                tAIListForWarning = (NGAP_TAIListForWarning) value;
+                break;
+            case 3:
+                emergencyAreaIDList = (NGAP_EmergencyAreaIDList) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
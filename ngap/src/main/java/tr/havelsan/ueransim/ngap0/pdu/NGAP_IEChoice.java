@@ -11,508 +11,524 @@ import tr.havelsan.ueransim.ngap0.ies.octet_strings.*;
 import tr.havelsan.ueransim.ngap0.ies.integers.*;
 import tr.havelsan.ueransim.ngap0.ies.enumerations.*;
 
+import java.util.HashMap;
+
 public class NGAP_IEChoice extends NGAP_Choice {
 
-    public NGAP_AdditionalDLUPTNLInformationForHOItem AdditionalDLUPTNLInformationForHOItem;
-    public NGAP_AdditionalDLUPTNLInformationForHOList AdditionalDLUPTNLInformationForHOList;
-    public NGAP_AdditionalQosFlowInformation AdditionalQosFlowInformation;
-    public NGAP_AllocationAndRetentionPriority AllocationAndRetentionPriority;
-    public NGAP_AllowedNSSAI AllowedNSSAI;
-    public NGAP_AllowedNSSAI_Item AllowedNSSAI_Item;
-    public NGAP_AllowedTACs AllowedTACs;
-    public NGAP_AMF_TNLAssociationSetupItem AMF_TNLAssociationSetupItem;
-    public NGAP_AMF_TNLAssociationSetupList AMF_TNLAssociationSetupList;
-    public NGAP_AMF_TNLAssociationToAddItem AMF_TNLAssociationToAddItem;
-    public NGAP_AMF_TNLAssociationToAddList AMF_TNLAssociationToAddList;
-    public NGAP_AMF_TNLAssociationToRemoveItem AMF_TNLAssociationToRemoveItem;
-    public NGAP_AMF_TNLAssociationToRemoveList AMF_TNLAssociationToRemoveList;
-    public NGAP_AMF_TNLAssociationToUpdateItem AMF_TNLAssociationToUpdateItem;
-    public NGAP_AMF_TNLAssociationToUpdateList AMF_TNLAssociationToUpdateList;
-    public NGAP_AMF_UE_NGAP_ID AMF_UE_NGAP_ID;
-    public NGAP_AMFName AMFName;
-    public NGAP_AMFPagingTarget AMFPagingTarget;
-    public NGAP_AMFPointer AMFPointer;
-    public NGAP_AMFRegionID AMFRegionID;
-    public NGAP_AMFSetID AMFSetID;
-    public NGAP_AreaOfInterest AreaOfInterest;
-    public NGAP_AreaOfInterestCellItem AreaOfInterestCellItem;
-    public NGAP_AreaOfInterestCellList AreaOfInterestCellList;
-    public NGAP_AreaOfInterestItem AreaOfInterestItem;
-    public NGAP_AreaOfInterestList AreaOfInterestList;
-    public NGAP_AreaOfInterestRANNodeItem AreaOfInterestRANNodeItem;
-    public NGAP_AreaOfInterestRANNodeList AreaOfInterestRANNodeList;
-    public NGAP_AreaOfInterestTAIItem AreaOfInterestTAIItem;
-    public NGAP_AreaOfInterestTAIList AreaOfInterestTAIList;
-    public NGAP_AssistanceDataForPaging AssistanceDataForPaging;
-    public NGAP_AssistanceDataForRecommendedCells AssistanceDataForRecommendedCells;
-    public NGAP_AssociatedQosFlowItem AssociatedQosFlowItem;
-    public NGAP_AssociatedQosFlowList AssociatedQosFlowList;
-    public NGAP_AveragingWindow AveragingWindow;
-    public NGAP_BitRate BitRate;
-    public NGAP_BroadcastCancelledAreaList BroadcastCancelledAreaList;
-    public NGAP_BroadcastCompletedAreaList BroadcastCompletedAreaList;
-    public NGAP_BroadcastPLMNItem BroadcastPLMNItem;
-    public NGAP_BroadcastPLMNList BroadcastPLMNList;
-    public NGAP_CancelAllWarningMessages CancelAllWarningMessages;
-    public NGAP_CancelledCellsInEAI_EUTRA CancelledCellsInEAI_EUTRA;
-    public NGAP_CancelledCellsInEAI_EUTRA_Item CancelledCellsInEAI_EUTRA_Item;
-    public NGAP_CancelledCellsInEAI_NR CancelledCellsInEAI_NR;
-    public NGAP_CancelledCellsInEAI_NR_Item CancelledCellsInEAI_NR_Item;
-    public NGAP_CancelledCellsInTAI_EUTRA CancelledCellsInTAI_EUTRA;
-    public NGAP_CancelledCellsInTAI_EUTRA_Item CancelledCellsInTAI_EUTRA_Item;
-    public NGAP_CancelledCellsInTAI_NR CancelledCellsInTAI_NR;
-    public NGAP_CancelledCellsInTAI_NR_Item CancelledCellsInTAI_NR_Item;
-    public NGAP_Cause Cause;
-    public NGAP_CauseMisc CauseMisc;
-    public NGAP_CauseNas CauseNas;
-    public NGAP_CauseProtocol CauseProtocol;
-    public NGAP_CauseRadioNetwork CauseRadioNetwork;
-    public NGAP_CauseTransport CauseTransport;
-    public NGAP_CellIDBroadcastEUTRA CellIDBroadcastEUTRA;
-    public NGAP_CellIDBroadcastEUTRA_Item CellIDBroadcastEUTRA_Item;
-    public NGAP_CellIDBroadcastNR CellIDBroadcastNR;
-    public NGAP_CellIDBroadcastNR_Item CellIDBroadcastNR_Item;
-    public NGAP_CellIDCancelledEUTRA CellIDCancelledEUTRA;
-    public NGAP_CellIDCancelledEUTRA_Item CellIDCancelledEUTRA_Item;
-    public NGAP_CellIDCancelledNR CellIDCancelledNR;
-    public NGAP_CellIDCancelledNR_Item CellIDCancelledNR_Item;
-    public NGAP_CellIDListForRestart CellIDListForRestart;
-    public NGAP_CellSize CellSize;
-    public NGAP_CellType CellType;
-    public NGAP_CNAssistedRANTuning CNAssistedRANTuning;
-    public NGAP_CNTypeRestrictionsForEquivalent CNTypeRestrictionsForEquivalent;
-    public NGAP_CNTypeRestrictionsForEquivalentItem CNTypeRestrictionsForEquivalentItem;
-    public NGAP_CNTypeRestrictionsForServing CNTypeRestrictionsForServing;
-    public NGAP_CommonNetworkInstance CommonNetworkInstance;
-    public NGAP_CompletedCellsInEAI_EUTRA CompletedCellsInEAI_EUTRA;
-    public NGAP_CompletedCellsInEAI_EUTRA_Item CompletedCellsInEAI_EUTRA_Item;
-    public NGAP_CompletedCellsInEAI_NR CompletedCellsInEAI_NR;
-    public NGAP_CompletedCellsInEAI_NR_Item CompletedCellsInEAI_NR_Item;
-    public NGAP_CompletedCellsInTAI_EUTRA CompletedCellsInTAI_EUTRA;
-    public NGAP_CompletedCellsInTAI_EUTRA_Item CompletedCellsInTAI_EUTRA_Item;
-    public NGAP_CompletedCellsInTAI_NR CompletedCellsInTAI_NR;
-    public NGAP_CompletedCellsInTAI_NR_Item CompletedCellsInTAI_NR_Item;
-    public NGAP_ConcurrentWarningMessageInd ConcurrentWarningMessageInd;
-    public NGAP_ConfidentialityProtectionIndication ConfidentialityProtectionIndication;
-    public NGAP_ConfidentialityProtectionResult ConfidentialityProtectionResult;
-    public NGAP_ConfiguredNSSAI ConfiguredNSSAI;
-    public NGAP_CoreNetworkAssistanceInformationForInactive CoreNetworkAssistanceInformationForInactive;
-    public NGAP_COUNTValueForPDCP_SN12 COUNTValueForPDCP_SN12;
-    public NGAP_COUNTValueForPDCP_SN18 COUNTValueForPDCP_SN18;
-    public NGAP_CPTransportLayerInformation CPTransportLayerInformation;
-    public NGAP_Criticality Criticality;
-    public NGAP_CriticalityDiagnostics CriticalityDiagnostics;
-    public NGAP_CriticalityDiagnostics_IE_Item CriticalityDiagnostics_IE_Item;
-    public NGAP_CriticalityDiagnostics_IE_List CriticalityDiagnostics_IE_List;
-    public NGAP_DataCodingScheme DataCodingScheme;
-    public NGAP_DataForwardingAccepted DataForwardingAccepted;
-    public NGAP_DataForwardingNotPossible DataForwardingNotPossible;
-    public NGAP_DataForwardingResponseDRBItem DataForwardingResponseDRBItem;
-    public NGAP_DataForwardingResponseDRBList DataForwardingResponseDRBList;
-    public NGAP_DelayCritical DelayCritical;
-    public NGAP_DirectForwardingPathAvailability DirectForwardingPathAvailability;
-    public NGAP_DL_NGU_TNLInformationReused DL_NGU_TNLInformationReused;
-    public NGAP_DLForwarding DLForwarding;
-    public NGAP_DRB_ID DRB_ID;
-    public NGAP_DRBsSubjectToStatusTransferItem DRBsSubjectToStatusTransferItem;
-    public NGAP_DRBsSubjectToStatusTransferList DRBsSubjectToStatusTransferList;
-    public NGAP_DRBStatusDL DRBStatusDL;
-    public NGAP_DRBStatusDL12 DRBStatusDL12;
-    public NGAP_DRBStatusDL18 DRBStatusDL18;
-    public NGAP_DRBStatusUL DRBStatusUL;
-    public NGAP_DRBStatusUL12 DRBStatusUL12;
-    public NGAP_DRBStatusUL18 DRBStatusUL18;
-    public NGAP_DRBsToQosFlowsMappingItem DRBsToQosFlowsMappingItem;
-    public NGAP_DRBsToQosFlowsMappingList DRBsToQosFlowsMappingList;
-    public NGAP_Dynamic5QIDescriptor Dynamic5QIDescriptor;
-    public NGAP_E_RAB_ID E_RAB_ID;
-    public NGAP_E_RABInformationItem E_RABInformationItem;
-    public NGAP_E_RABInformationList E_RABInformationList;
-    public NGAP_EmergencyAreaID EmergencyAreaID;
-    public NGAP_EmergencyAreaIDBroadcastEUTRA EmergencyAreaIDBroadcastEUTRA;
-    public NGAP_EmergencyAreaIDBroadcastEUTRA_Item EmergencyAreaIDBroadcastEUTRA_Item;
-    public NGAP_EmergencyAreaIDBroadcastNR EmergencyAreaIDBroadcastNR;
-    public NGAP_EmergencyAreaIDBroadcastNR_Item EmergencyAreaIDBroadcastNR_Item;
-    public NGAP_EmergencyAreaIDCancelledEUTRA EmergencyAreaIDCancelledEUTRA;
-    public NGAP_EmergencyAreaIDCancelledEUTRA_Item EmergencyAreaIDCancelledEUTRA_Item;
-    public NGAP_EmergencyAreaIDCancelledNR EmergencyAreaIDCancelledNR;
-    public NGAP_EmergencyAreaIDCancelledNR_Item EmergencyAreaIDCancelledNR_Item;
-    public NGAP_EmergencyAreaIDList EmergencyAreaIDList;
-    public NGAP_EmergencyAreaIDListForRestart EmergencyAreaIDListForRestart;
-    public NGAP_EmergencyFallbackIndicator EmergencyFallbackIndicator;
-    public NGAP_EmergencyFallbackRequestIndicator EmergencyFallbackRequestIndicator;
-    public NGAP_EmergencyServiceTargetCN EmergencyServiceTargetCN;
-    public NGAP_EN_DCSONConfigurationTransfer EN_DCSONConfigurationTransfer;
-    public NGAP_EndpointIPAddressAndPort EndpointIPAddressAndPort;
-    public NGAP_EPS_TAC EPS_TAC;
-    public NGAP_EPS_TAI EPS_TAI;
-    public NGAP_EquivalentPLMNs EquivalentPLMNs;
-    public NGAP_EUTRA_CGI EUTRA_CGI;
-    public NGAP_EUTRA_CGIList EUTRA_CGIList;
-    public NGAP_EUTRA_CGIListForWarning EUTRA_CGIListForWarning;
-    public NGAP_EUTRACellIdentity EUTRACellIdentity;
-    public NGAP_EUTRAencryptionAlgorithms EUTRAencryptionAlgorithms;
-    public NGAP_EUTRAintegrityProtectionAlgorithms EUTRAintegrityProtectionAlgorithms;
-    public NGAP_EventType EventType;
-    public NGAP_ExpectedActivityPeriod ExpectedActivityPeriod;
-    public NGAP_ExpectedHOInterval ExpectedHOInterval;
-    public NGAP_ExpectedIdlePeriod ExpectedIdlePeriod;
-    public NGAP_ExpectedUEActivityBehaviour ExpectedUEActivityBehaviour;
-    public NGAP_ExpectedUEBehaviour ExpectedUEBehaviour;
-    public NGAP_ExpectedUEMobility ExpectedUEMobility;
-    public NGAP_ExpectedUEMovingTrajectory ExpectedUEMovingTrajectory;
-    public NGAP_ExpectedUEMovingTrajectoryItem ExpectedUEMovingTrajectoryItem;
-    public NGAP_FiveG_S_TMSI FiveG_S_TMSI;
-    public NGAP_FiveG_TMSI FiveG_TMSI;
-    public NGAP_FiveQI FiveQI;
-    public NGAP_ForbiddenAreaInformation ForbiddenAreaInformation;
-    public NGAP_ForbiddenAreaInformation_Item ForbiddenAreaInformation_Item;
-    public NGAP_ForbiddenTACs ForbiddenTACs;
-    public NGAP_GBR_QosInformation GBR_QosInformation;
-    public NGAP_GlobalGNB_ID GlobalGNB_ID;
-    public NGAP_GlobalN3IWF_ID GlobalN3IWF_ID;
-    public NGAP_GlobalNgENB_ID GlobalNgENB_ID;
-    public NGAP_GlobalRANNodeID GlobalRANNodeID;
-    public NGAP_GNB_ID GNB_ID;
-    public NGAP_GTP_TEID GTP_TEID;
-    public NGAP_GTPTunnel GTPTunnel;
-    public NGAP_GUAMI GUAMI;
-    public NGAP_HandoverCommandTransfer HandoverCommandTransfer;
-    public NGAP_HandoverFlag HandoverFlag;
-    public NGAP_HandoverPreparationUnsuccessfulTransfer HandoverPreparationUnsuccessfulTransfer;
-    public NGAP_HandoverRequestAcknowledgeTransfer HandoverRequestAcknowledgeTransfer;
-    public NGAP_HandoverRequiredTransfer HandoverRequiredTransfer;
-    public NGAP_HandoverResourceAllocationUnsuccessfulTransfer HandoverResourceAllocationUnsuccessfulTransfer;
-    public NGAP_HandoverType HandoverType;
-    public NGAP_IMSVoiceSupportIndicator IMSVoiceSupportIndicator;
-    public NGAP_IndexToRFSP IndexToRFSP;
-    public NGAP_InfoOnRecommendedCellsAndRANNodesForPaging InfoOnRecommendedCellsAndRANNodesForPaging;
-    public NGAP_IntegrityProtectionIndication IntegrityProtectionIndication;
-    public NGAP_IntegrityProtectionResult IntegrityProtectionResult;
-    public NGAP_IntendedNumberOfPagingAttempts IntendedNumberOfPagingAttempts;
-    public NGAP_InterfacesToTrace InterfacesToTrace;
-    public NGAP_LastVisitedCellInformation LastVisitedCellInformation;
-    public NGAP_LastVisitedCellItem LastVisitedCellItem;
-    public NGAP_LastVisitedEUTRANCellInformation LastVisitedEUTRANCellInformation;
-    public NGAP_LastVisitedGERANCellInformation LastVisitedGERANCellInformation;
-    public NGAP_LastVisitedNGRANCellInformation LastVisitedNGRANCellInformation;
-    public NGAP_LastVisitedUTRANCellInformation LastVisitedUTRANCellInformation;
-    public NGAP_LocationReportingAdditionalInfo LocationReportingAdditionalInfo;
-    public NGAP_LocationReportingReferenceID LocationReportingReferenceID;
-    public NGAP_LocationReportingRequestType LocationReportingRequestType;
-    public NGAP_MaskedIMEISV MaskedIMEISV;
-    public NGAP_MaximumDataBurstVolume MaximumDataBurstVolume;
-    public NGAP_MaximumIntegrityProtectedDataRate MaximumIntegrityProtectedDataRate;
-    public NGAP_MessageIdentifier MessageIdentifier;
-    public NGAP_MICOModeIndication MICOModeIndication;
-    public NGAP_MobilityRestrictionList MobilityRestrictionList;
-    public NGAP_N3IWF_ID N3IWF_ID;
-    public NGAP_NAS_PDU NAS_PDU;
-    public NGAP_NASSecurityParametersFromNGRAN NASSecurityParametersFromNGRAN;
-    public NGAP_NetworkInstance NetworkInstance;
-    public NGAP_NewSecurityContextInd NewSecurityContextInd;
-    public NGAP_NextHopChainingCount NextHopChainingCount;
-    public NGAP_NextPagingAreaScope NextPagingAreaScope;
-    public NGAP_NGAP_Message NGAP_Message;
-    public NGAP_NgENB_ID NgENB_ID;
-    public NGAP_NGRAN_CGI NGRAN_CGI;
-    public NGAP_NGRAN_TNLAssociationToRemoveItem NGRAN_TNLAssociationToRemoveItem;
-    public NGAP_NGRAN_TNLAssociationToRemoveList NGRAN_TNLAssociationToRemoveList;
-    public NGAP_NGRANTraceID NGRANTraceID;
-    public NGAP_NonDynamic5QIDescriptor NonDynamic5QIDescriptor;
-    public NGAP_NotAllowedTACs NotAllowedTACs;
-    public NGAP_NotificationCause NotificationCause;
-    public NGAP_NotificationControl NotificationControl;
-    public NGAP_NR_CGI NR_CGI;
-    public NGAP_NR_CGIList NR_CGIList;
-    public NGAP_NR_CGIListForWarning NR_CGIListForWarning;
-    public NGAP_NRCellIdentity NRCellIdentity;
-    public NGAP_NRencryptionAlgorithms NRencryptionAlgorithms;
-    public NGAP_NRintegrityProtectionAlgorithms NRintegrityProtectionAlgorithms;
-    public NGAP_NRPPa_PDU NRPPa_PDU;
-    public NGAP_NumberOfBroadcasts NumberOfBroadcasts;
-    public NGAP_NumberOfBroadcastsRequested NumberOfBroadcastsRequested;
-    public NGAP_OverloadAction OverloadAction;
-    public NGAP_OverloadResponse OverloadResponse;
-    public NGAP_OverloadStartNSSAIItem OverloadStartNSSAIItem;
-    public NGAP_OverloadStartNSSAIList OverloadStartNSSAIList;
-    public NGAP_PacketDelayBudget PacketDelayBudget;
-    public NGAP_PacketErrorRate PacketErrorRate;
-    public NGAP_PacketLossRate PacketLossRate;
-    public NGAP_PagingAttemptCount PagingAttemptCount;
-    public NGAP_PagingAttemptInformation PagingAttemptInformation;
-    public NGAP_PagingDRX PagingDRX;
-    public NGAP_PagingOrigin PagingOrigin;
-    public NGAP_PagingPriority PagingPriority;
-    public NGAP_PathSwitchRequestAcknowledgeTransfer PathSwitchRequestAcknowledgeTransfer;
-    public NGAP_PathSwitchRequestSetupFailedTransfer PathSwitchRequestSetupFailedTransfer;
-    public NGAP_PathSwitchRequestTransfer PathSwitchRequestTransfer;
-    public NGAP_PathSwitchRequestUnsuccessfulTransfer PathSwitchRequestUnsuccessfulTransfer;
-    public NGAP_PDUSessionAggregateMaximumBitRate PDUSessionAggregateMaximumBitRate;
-    public NGAP_PDUSessionID PDUSessionID;
-    public NGAP_PDUSessionResourceAdmittedItem PDUSessionResourceAdmittedItem;
-    public NGAP_PDUSessionResourceAdmittedList PDUSessionResourceAdmittedList;
-    public NGAP_PDUSessionResourceFailedToModifyItemModCfm PDUSessionResourceFailedToModifyItemModCfm;
-    public NGAP_PDUSessionResourceFailedToModifyItemModRes PDUSessionResourceFailedToModifyItemModRes;
-    public NGAP_PDUSessionResourceFailedToModifyListModCfm PDUSessionResourceFailedToModifyListModCfm;
-    public NGAP_PDUSessionResourceFailedToModifyListModRes PDUSessionResourceFailedToModifyListModRes;
-    public NGAP_PDUSessionResourceFailedToSetupItemCxtFail PDUSessionResourceFailedToSetupItemCxtFail;
-    public NGAP_PDUSessionResourceFailedToSetupItemCxtRes PDUSessionResourceFailedToSetupItemCxtRes;
-    public NGAP_PDUSessionResourceFailedToSetupItemHOAck PDUSessionResourceFailedToSetupItemHOAck;
-    public NGAP_PDUSessionResourceFailedToSetupItemPSReq PDUSessionResourceFailedToSetupItemPSReq;
-    public NGAP_PDUSessionResourceFailedToSetupItemSURes PDUSessionResourceFailedToSetupItemSURes;
-    public NGAP_PDUSessionResourceFailedToSetupListCxtFail PDUSessionResourceFailedToSetupListCxtFail;
-    public NGAP_PDUSessionResourceFailedToSetupListCxtRes PDUSessionResourceFailedToSetupListCxtRes;
-    public NGAP_PDUSessionResourceFailedToSetupListHOAck PDUSessionResourceFailedToSetupListHOAck;
-    public NGAP_PDUSessionResourceFailedToSetupListPSReq PDUSessionResourceFailedToSetupListPSReq;
-    public NGAP_PDUSessionResourceFailedToSetupListSURes PDUSessionResourceFailedToSetupListSURes;
-    public NGAP_PDUSessionResourceHandoverItem PDUSessionResourceHandoverItem;
-    public NGAP_PDUSessionResourceHandoverList PDUSessionResourceHandoverList;
-    public NGAP_PDUSessionResourceInformationItem PDUSessionResourceInformationItem;
-    public NGAP_PDUSessionResourceInformationList PDUSessionResourceInformationList;
-    public NGAP_PDUSessionResourceItemCxtRelCpl PDUSessionResourceItemCxtRelCpl;
-    public NGAP_PDUSessionResourceItemCxtRelReq PDUSessionResourceItemCxtRelReq;
-    public NGAP_PDUSessionResourceItemHORqd PDUSessionResourceItemHORqd;
-    public NGAP_PDUSessionResourceListCxtRelCpl PDUSessionResourceListCxtRelCpl;
-    public NGAP_PDUSessionResourceListCxtRelReq PDUSessionResourceListCxtRelReq;
-    public NGAP_PDUSessionResourceListHORqd PDUSessionResourceListHORqd;
-    public NGAP_PDUSessionResourceModifyConfirmTransfer PDUSessionResourceModifyConfirmTransfer;
-    public NGAP_PDUSessionResourceModifyIndicationTransfer PDUSessionResourceModifyIndicationTransfer;
-    public NGAP_PDUSessionResourceModifyIndicationUnsuccessfulTransfer PDUSessionResourceModifyIndicationUnsuccessfulTransfer;
-    public NGAP_PDUSessionResourceModifyItemModCfm PDUSessionResourceModifyItemModCfm;
-    public NGAP_PDUSessionResourceModifyItemModInd PDUSessionResourceModifyItemModInd;
-    public NGAP_PDUSessionResourceModifyItemModReq PDUSessionResourceModifyItemModReq;
-    public NGAP_PDUSessionResourceModifyItemModRes PDUSessionResourceModifyItemModRes;
-    public NGAP_PDUSessionResourceModifyListModCfm PDUSessionResourceModifyListModCfm;
-    public NGAP_PDUSessionResourceModifyListModInd PDUSessionResourceModifyListModInd;
-    public NGAP_PDUSessionResourceModifyListModReq PDUSessionResourceModifyListModReq;
-    public NGAP_PDUSessionResourceModifyListModRes PDUSessionResourceModifyListModRes;
-    public NGAP_PDUSessionResourceModifyRequestTransfer PDUSessionResourceModifyRequestTransfer;
-    public NGAP_PDUSessionResourceModifyResponseTransfer PDUSessionResourceModifyResponseTransfer;
-    public NGAP_PDUSessionResourceModifyUnsuccessfulTransfer PDUSessionResourceModifyUnsuccessfulTransfer;
-    public NGAP_PDUSessionResourceNotifyItem PDUSessionResourceNotifyItem;
-    public NGAP_PDUSessionResourceNotifyList PDUSessionResourceNotifyList;
-    public NGAP_PDUSessionResourceNotifyReleasedTransfer PDUSessionResourceNotifyReleasedTransfer;
-    public NGAP_PDUSessionResourceNotifyTransfer PDUSessionResourceNotifyTransfer;
-    public NGAP_PDUSessionResourceReleaseCommandTransfer PDUSessionResourceReleaseCommandTransfer;
-    public NGAP_PDUSessionResourceReleasedItemNot PDUSessionResourceReleasedItemNot;
-    public NGAP_PDUSessionResourceReleasedItemPSAck PDUSessionResourceReleasedItemPSAck;
-    public NGAP_PDUSessionResourceReleasedItemPSFail PDUSessionResourceReleasedItemPSFail;
-    public NGAP_PDUSessionResourceReleasedItemRelRes PDUSessionResourceReleasedItemRelRes;
-    public NGAP_PDUSessionResourceReleasedListNot PDUSessionResourceReleasedListNot;
-    public NGAP_PDUSessionResourceReleasedListPSAck PDUSessionResourceReleasedListPSAck;
-    public NGAP_PDUSessionResourceReleasedListPSFail PDUSessionResourceReleasedListPSFail;
-    public NGAP_PDUSessionResourceReleasedListRelRes PDUSessionResourceReleasedListRelRes;
-    public NGAP_PDUSessionResourceReleaseResponseTransfer PDUSessionResourceReleaseResponseTransfer;
-    public NGAP_PDUSessionResourceReleaseResponseTransfer_OCTET_STRING PDUSessionResourceReleaseResponseTransfer_OCTET_STRING;
-    public NGAP_PDUSessionResourceSecondaryRATUsageItem PDUSessionResourceSecondaryRATUsageItem;
-    public NGAP_PDUSessionResourceSecondaryRATUsageList PDUSessionResourceSecondaryRATUsageList;
-    public NGAP_PDUSessionResourceSetupItemCxtReq PDUSessionResourceSetupItemCxtReq;
-    public NGAP_PDUSessionResourceSetupItemCxtRes PDUSessionResourceSetupItemCxtRes;
-    public NGAP_PDUSessionResourceSetupItemHOReq PDUSessionResourceSetupItemHOReq;
-    public NGAP_PDUSessionResourceSetupItemSUReq PDUSessionResourceSetupItemSUReq;
-    public NGAP_PDUSessionResourceSetupItemSURes PDUSessionResourceSetupItemSURes;
-    public NGAP_PDUSessionResourceSetupListCxtReq PDUSessionResourceSetupListCxtReq;
-    public NGAP_PDUSessionResourceSetupListCxtRes PDUSessionResourceSetupListCxtRes;
-    public NGAP_PDUSessionResourceSetupListHOReq PDUSessionResourceSetupListHOReq;
-    public NGAP_PDUSessionResourceSetupListSUReq PDUSessionResourceSetupListSUReq;
-    public NGAP_PDUSessionResourceSetupListSURes PDUSessionResourceSetupListSURes;
-    public NGAP_PDUSessionResourceSetupRequestTransfer PDUSessionResourceSetupRequestTransfer;
-    public NGAP_PDUSessionResourceSetupResponseTransfer PDUSessionResourceSetupResponseTransfer;
-    public NGAP_PDUSessionResourceSetupUnsuccessfulTransfer PDUSessionResourceSetupUnsuccessfulTransfer;
-    public NGAP_PDUSessionResourceSwitchedItem PDUSessionResourceSwitchedItem;
-    public NGAP_PDUSessionResourceSwitchedList PDUSessionResourceSwitchedList;
-    public NGAP_PDUSessionResourceToBeSwitchedDLItem PDUSessionResourceToBeSwitchedDLItem;
-    public NGAP_PDUSessionResourceToBeSwitchedDLList PDUSessionResourceToBeSwitchedDLList;
-    public NGAP_PDUSessionResourceToReleaseItemHOCmd PDUSessionResourceToReleaseItemHOCmd;
-    public NGAP_PDUSessionResourceToReleaseItemRelCmd PDUSessionResourceToReleaseItemRelCmd;
-    public NGAP_PDUSessionResourceToReleaseListHOCmd PDUSessionResourceToReleaseListHOCmd;
-    public NGAP_PDUSessionResourceToReleaseListRelCmd PDUSessionResourceToReleaseListRelCmd;
-    public NGAP_PDUSessionType PDUSessionType;
-    public NGAP_PDUSessionUsageReport PDUSessionUsageReport;
-    public NGAP_PeriodicRegistrationUpdateTimer PeriodicRegistrationUpdateTimer;
-    public NGAP_PLMNIdentity PLMNIdentity;
-    public NGAP_PLMNSupportItem PLMNSupportItem;
-    public NGAP_PLMNSupportList PLMNSupportList;
-    public NGAP_PortNumber PortNumber;
-    public NGAP_Pre_emptionCapability Pre_emptionCapability;
-    public NGAP_Pre_emptionVulnerability Pre_emptionVulnerability;
-    public NGAP_Presence Presence;
-    public NGAP_PriorityLevelARP PriorityLevelARP;
-    public NGAP_PriorityLevelQos PriorityLevelQos;
-    public NGAP_ProcedureCode ProcedureCode;
-    public NGAP_ProtocolExtensionID ProtocolExtensionID;
-    public NGAP_ProtocolIE_ID ProtocolIE_ID;
-    public NGAP_PWSFailedCellIDList PWSFailedCellIDList;
-    public NGAP_QosCharacteristics QosCharacteristics;
-    public NGAP_QosFlowAcceptedItem QosFlowAcceptedItem;
-    public NGAP_QosFlowAcceptedList QosFlowAcceptedList;
-    public NGAP_QosFlowAddOrModifyRequestItem QosFlowAddOrModifyRequestItem;
-    public NGAP_QosFlowAddOrModifyRequestList QosFlowAddOrModifyRequestList;
-    public NGAP_QosFlowAddOrModifyResponseItem QosFlowAddOrModifyResponseItem;
-    public NGAP_QosFlowAddOrModifyResponseList QosFlowAddOrModifyResponseList;
-    public NGAP_QosFlowIdentifier QosFlowIdentifier;
-    public NGAP_QosFlowInformationItem QosFlowInformationItem;
-    public NGAP_QosFlowInformationList QosFlowInformationList;
-    public NGAP_QosFlowItemWithDataForwarding QosFlowItemWithDataForwarding;
-    public NGAP_QosFlowLevelQosParameters QosFlowLevelQosParameters;
-    public NGAP_QosFlowListWithCause QosFlowListWithCause;
-    public NGAP_QosFlowListWithDataForwarding QosFlowListWithDataForwarding;
-    public NGAP_QosFlowModifyConfirmItem QosFlowModifyConfirmItem;
-    public NGAP_QosFlowModifyConfirmList QosFlowModifyConfirmList;
-    public NGAP_QosFlowNotifyItem QosFlowNotifyItem;
-    public NGAP_QosFlowNotifyList QosFlowNotifyList;
-    public NGAP_QosFlowPerTNLInformation QosFlowPerTNLInformation;
-    public NGAP_QosFlowPerTNLInformationItem QosFlowPerTNLInformationItem;
-    public NGAP_QosFlowPerTNLInformationList QosFlowPerTNLInformationList;
-    public NGAP_QosFlowSetupRequestItem QosFlowSetupRequestItem;
-    public NGAP_QosFlowSetupRequestList QosFlowSetupRequestList;
-    public NGAP_QosFlowSetupResponseItemSURes QosFlowSetupResponseItemSURes;
-    public NGAP_QosFlowSetupResponseListSURes QosFlowSetupResponseListSURes;
-    public NGAP_QoSFlowsUsageReport_Item QoSFlowsUsageReport_Item;
-    public NGAP_QoSFlowsUsageReportList QoSFlowsUsageReportList;
-    public NGAP_QosFlowToBeForwardedItem QosFlowToBeForwardedItem;
-    public NGAP_QosFlowToBeForwardedList QosFlowToBeForwardedList;
-    public NGAP_QosFlowWithCauseItem QosFlowWithCauseItem;
-    public NGAP_RAN_UE_NGAP_ID RAN_UE_NGAP_ID;
-    public NGAP_RANNodeName RANNodeName;
-    public NGAP_RANPagingPriority RANPagingPriority;
-    public NGAP_RANStatusTransfer_TransparentContainer RANStatusTransfer_TransparentContainer;
-    public NGAP_RATRestrictionInformation RATRestrictionInformation;
-    public NGAP_RATRestrictions RATRestrictions;
-    public NGAP_RATRestrictions_Item RATRestrictions_Item;
-    public NGAP_RecommendedCellItem RecommendedCellItem;
-    public NGAP_RecommendedCellList RecommendedCellList;
-    public NGAP_RecommendedCellsForPaging RecommendedCellsForPaging;
-    public NGAP_RecommendedRANNodeItem RecommendedRANNodeItem;
-    public NGAP_RecommendedRANNodeList RecommendedRANNodeList;
-    public NGAP_RecommendedRANNodesForPaging RecommendedRANNodesForPaging;
-    public NGAP_RedirectionVoiceFallback RedirectionVoiceFallback;
-    public NGAP_ReferenceID ReferenceID;
-    public NGAP_ReflectiveQosAttribute ReflectiveQosAttribute;
-    public NGAP_RejectedNSSAIinPLMN RejectedNSSAIinPLMN;
-    public NGAP_RejectedNSSAIinTA RejectedNSSAIinTA;
-    public NGAP_RelativeAMFCapacity RelativeAMFCapacity;
-    public NGAP_RepetitionPeriod RepetitionPeriod;
-    public NGAP_ReportArea ReportArea;
-    public NGAP_ResetAll ResetAll;
-    public NGAP_ResetType ResetType;
-    public NGAP_RoutingID RoutingID;
-    public NGAP_RRCContainer RRCContainer;
-    public NGAP_RRCEstablishmentCause RRCEstablishmentCause;
-    public NGAP_RRCInactiveTransitionReportRequest RRCInactiveTransitionReportRequest;
-    public NGAP_RRCState RRCState;
-    public NGAP_S_NSSAI S_NSSAI;
-    public NGAP_SCTP_TLAs SCTP_TLAs;
-    public NGAP_SD SD;
-    public NGAP_SecondaryRATDataUsageReportTransfer SecondaryRATDataUsageReportTransfer;
-    public NGAP_SecondaryRATUsageInformation SecondaryRATUsageInformation;
-    public NGAP_SecurityContext SecurityContext;
-    public NGAP_SecurityIndication SecurityIndication;
-    public NGAP_SecurityKey SecurityKey;
-    public NGAP_SecurityResult SecurityResult;
-    public NGAP_SerialNumber SerialNumber;
-    public NGAP_ServedGUAMIItem ServedGUAMIItem;
-    public NGAP_ServedGUAMIList ServedGUAMIList;
-    public NGAP_ServiceAreaInformation ServiceAreaInformation;
-    public NGAP_ServiceAreaInformation_Item ServiceAreaInformation_Item;
-    public NGAP_SliceOverloadItem SliceOverloadItem;
-    public NGAP_SliceOverloadList SliceOverloadList;
-    public NGAP_SliceSupportItem SliceSupportItem;
-    public NGAP_SliceSupportList SliceSupportList;
-    public NGAP_SONConfigurationTransfer SONConfigurationTransfer;
-    public NGAP_SONInformation SONInformation;
-    public NGAP_SONInformationReply SONInformationReply;
-    public NGAP_SONInformationRequest SONInformationRequest;
-    public NGAP_SourceNGRANNode_ToTargetNGRANNode_TransparentContainer SourceNGRANNode_ToTargetNGRANNode_TransparentContainer;
-    public NGAP_SourceOfUEActivityBehaviourInformation SourceOfUEActivityBehaviourInformation;
-    public NGAP_SourceRANNodeID SourceRANNodeID;
-    public NGAP_SourceToTarget_AMFInformationReroute SourceToTarget_AMFInformationReroute;
-    public NGAP_SourceToTarget_TransparentContainer SourceToTarget_TransparentContainer;
-    public NGAP_SST SST;
-    public NGAP_SupportedTAItem SupportedTAItem;
-    public NGAP_SupportedTAList SupportedTAList;
-    public NGAP_TAC TAC;
-    public NGAP_TAI TAI;
-    public NGAP_TAIBroadcastEUTRA TAIBroadcastEUTRA;
-    public NGAP_TAIBroadcastEUTRA_Item TAIBroadcastEUTRA_Item;
-    public NGAP_TAIBroadcastNR TAIBroadcastNR;
-    public NGAP_TAIBroadcastNR_Item TAIBroadcastNR_Item;
-    public NGAP_TAICancelledEUTRA TAICancelledEUTRA;
-    public NGAP_TAICancelledEUTRA_Item TAICancelledEUTRA_Item;
-    public NGAP_TAICancelledNR TAICancelledNR;
-    public NGAP_TAICancelledNR_Item TAICancelledNR_Item;
-    public NGAP_TAIListForInactive TAIListForInactive;
-    public NGAP_TAIListForInactiveItem TAIListForInactiveItem;
-    public NGAP_TAIListForPaging TAIListForPaging;
-    public NGAP_TAIListForPagingItem TAIListForPagingItem;
-    public NGAP_TAIListForRestart TAIListForRestart;
-    public NGAP_TAIListForWarning TAIListForWarning;
-    public NGAP_TargeteNB_ID TargeteNB_ID;
-    public NGAP_TargetID TargetID;
-    public NGAP_TargetNGRANNode_ToSourceNGRANNode_TransparentContainer TargetNGRANNode_ToSourceNGRANNode_TransparentContainer;
-    public NGAP_TargetRANNodeID TargetRANNodeID;
-    public NGAP_TargetToSource_TransparentContainer TargetToSource_TransparentContainer;
-    public NGAP_TimerApproachForGUAMIRemoval TimerApproachForGUAMIRemoval;
-    public NGAP_TimeStamp TimeStamp;
-    public NGAP_TimeToWait TimeToWait;
-    public NGAP_TimeUEStayedInCell TimeUEStayedInCell;
-    public NGAP_TimeUEStayedInCellEnhancedGranularity TimeUEStayedInCellEnhancedGranularity;
-    public NGAP_TNLAddressWeightFactor TNLAddressWeightFactor;
-    public NGAP_TNLAssociationItem TNLAssociationItem;
-    public NGAP_TNLAssociationList TNLAssociationList;
-    public NGAP_TNLAssociationUsage TNLAssociationUsage;
-    public NGAP_TraceActivation TraceActivation;
-    public NGAP_TraceDepth TraceDepth;
-    public NGAP_TrafficLoadReductionIndication TrafficLoadReductionIndication;
-    public NGAP_TransportLayerAddress TransportLayerAddress;
-    public NGAP_TriggeringMessage TriggeringMessage;
-    public NGAP_TypeOfError TypeOfError;
-    public NGAP_UE_associatedLogicalNG_connectionItem UE_associatedLogicalNG_connectionItem;
-    public NGAP_UE_associatedLogicalNG_connectionList UE_associatedLogicalNG_connectionList;
-    public NGAP_UE_NGAP_ID_pair UE_NGAP_ID_pair;
-    public NGAP_UE_NGAP_IDs UE_NGAP_IDs;
-    public NGAP_UEAggregateMaximumBitRate UEAggregateMaximumBitRate;
-    public NGAP_UEContextRequest UEContextRequest;
-    public NGAP_UEHistoryInformation UEHistoryInformation;
-    public NGAP_UEIdentityIndexValue UEIdentityIndexValue;
-    public NGAP_UEPagingIdentity UEPagingIdentity;
-    public NGAP_UEPresence UEPresence;
-    public NGAP_UEPresenceInAreaOfInterestItem UEPresenceInAreaOfInterestItem;
-    public NGAP_UEPresenceInAreaOfInterestList UEPresenceInAreaOfInterestList;
-    public NGAP_UERadioCapability UERadioCapability;
-    public NGAP_UERadioCapabilityForPaging UERadioCapabilityForPaging;
-    public NGAP_UERadioCapabilityForPagingOfEUTRA UERadioCapabilityForPagingOfEUTRA;
-    public NGAP_UERadioCapabilityForPagingOfNR UERadioCapabilityForPagingOfNR;
-    public NGAP_UERetentionInformation UERetentionInformation;
-    public NGAP_UESecurityCapabilities UESecurityCapabilities;
-    public NGAP_UL_NGU_UP_TNLModifyItem UL_NGU_UP_TNLModifyItem;
-    public NGAP_UL_NGU_UP_TNLModifyList UL_NGU_UP_TNLModifyList;
-    public NGAP_ULForwarding ULForwarding;
-    public NGAP_UnavailableGUAMIItem UnavailableGUAMIItem;
-    public NGAP_UnavailableGUAMIList UnavailableGUAMIList;
-    public NGAP_UPTransportLayerInformation UPTransportLayerInformation;
-    public NGAP_UPTransportLayerInformationItem UPTransportLayerInformationItem;
-    public NGAP_UPTransportLayerInformationList UPTransportLayerInformationList;
-    public NGAP_UPTransportLayerInformationPairItem UPTransportLayerInformationPairItem;
-    public NGAP_UPTransportLayerInformationPairList UPTransportLayerInformationPairList;
-    public NGAP_UserLocationInformation UserLocationInformation;
-    public NGAP_UserLocationInformationEUTRA UserLocationInformationEUTRA;
-    public NGAP_UserLocationInformationN3IWF UserLocationInformationN3IWF;
-    public NGAP_UserLocationInformationNR UserLocationInformationNR;
-    public NGAP_UserPlaneSecurityInformation UserPlaneSecurityInformation;
-    public NGAP_VolumeTimedReport_Item VolumeTimedReport_Item;
-    public NGAP_VolumeTimedReportList VolumeTimedReportList;
-    public NGAP_WarningAreaCoordinates WarningAreaCoordinates;
-    public NGAP_WarningAreaList WarningAreaList;
-    public NGAP_WarningMessageContents WarningMessageContents;
-    public NGAP_WarningSecurityInfo WarningSecurityInfo;
-    public NGAP_WarningType WarningType;
-    public NGAP_XnExtTLA_Item XnExtTLA_Item;
-    public NGAP_XnExtTLAs XnExtTLAs;
-    public NGAP_XnGTP_TLAs XnGTP_TLAs;
-    public NGAP_XnTLAs XnTLAs;
-    public NGAP_XnTNLConfigurationInfo XnTNLConfigurationInfo;
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{
+            NGAP_AdditionalDLUPTNLInformationForHOItem.class,
+            NGAP_AdditionalDLUPTNLInformationForHOList.class,
+            NGAP_AdditionalQosFlowInformation.class,
+            NGAP_AllocationAndRetentionPriority.class,
+            NGAP_AllowedNSSAI.class,
+            NGAP_AllowedNSSAI_Item.class,
+            NGAP_AllowedTACs.class,
+            NGAP_AMF_TNLAssociationSetupItem.class,
+            NGAP_AMF_TNLAssociationSetupList.class,
+            NGAP_AMF_TNLAssociationToAddItem.class,
+            NGAP_AMF_TNLAssociationToAddList.class,
+            NGAP_AMF_TNLAssociationToRemoveItem.class,
+            NGAP_AMF_TNLAssociationToRemoveList.class,
+            NGAP_AMF_TNLAssociationToUpdateItem.class,
+            NGAP_AMF_TNLAssociationToUpdateList.class,
+            NGAP_AMF_UE_NGAP_ID.class,
+            NGAP_AMFName.class,
+            NGAP_AMFPagingTarget.class,
+            NGAP_AMFPointer.class,
+            NGAP_AMFRegionID.class,
+            NGAP_AMFSetID.class,
+            NGAP_AreaOfInterest.class,
+            NGAP_AreaOfInterestCellItem.class,
+            NGAP_AreaOfInterestCellList.class,
+            NGAP_AreaOfInterestItem.class,
+            NGAP_AreaOfInterestList.class,
+            NGAP_AreaOfInterestRANNodeItem.class,
+            NGAP_AreaOfInterestRANNodeList.class,
+            NGAP_AreaOfInterestTAIItem.class,
+            NGAP_AreaOfInterestTAIList.class,
+            NGAP_AssistanceDataForPaging.class,
+            NGAP_AssistanceDataForRecommendedCells.class,
+            NGAP_AssociatedQosFlowItem.class,
+            NGAP_AssociatedQosFlowList.class,
+            NGAP_AveragingWindow.class,
+            NGAP_BitRate.class,
+            NGAP_BroadcastCancelledAreaList.class,
+            NGAP_BroadcastCompletedAreaList.class,
+            NGAP_BroadcastPLMNItem.class,
+            NGAP_BroadcastPLMNList.class,
+            NGAP_CancelAllWarningMessages.class,
+            NGAP_CancelledCellsInEAI_EUTRA.class,
+            NGAP_CancelledCellsInEAI_EUTRA_Item.class,
+            NGAP_CancelledCellsInEAI_NR.class,
+            NGAP_CancelledCellsInEAI_NR_Item.class,
+            NGAP_CancelledCellsInTAI_EUTRA.class,
+            NGAP_CancelledCellsInTAI_EUTRA_Item.class,
+            NGAP_CancelledCellsInTAI_NR.class,
+            NGAP_CancelledCellsInTAI_NR_Item.class,
+            NGAP_Cause.class,
+            NGAP_CauseMisc.class,
+            NGAP_CauseNas.class,
+            NGAP_CauseProtocol.class,
+            NGAP_CauseRadioNetwork.class,
+            NGAP_CauseTransport.class,
+            NGAP_CellIDBroadcastEUTRA.class,
+            NGAP_CellIDBroadcastEUTRA_Item.class,
+            NGAP_CellIDBroadcastNR.class,
+            NGAP_CellIDBroadcastNR_Item.class,
+            NGAP_CellIDCancelledEUTRA.class,
+            NGAP_CellIDCancelledEUTRA_Item.class,
+            NGAP_CellIDCancelledNR.class,
+            NGAP_CellIDCancelledNR_Item.class,
+            NGAP_CellIDListForRestart.class,
+            NGAP_CellSize.class,
+            NGAP_CellType.class,
+            NGAP_CNAssistedRANTuning.class,
+            NGAP_CNTypeRestrictionsForEquivalent.class,
+            NGAP_CNTypeRestrictionsForEquivalentItem.class,
+            NGAP_CNTypeRestrictionsForServing.class,
+            NGAP_CommonNetworkInstance.class,
+            NGAP_CompletedCellsInEAI_EUTRA.class,
+            NGAP_CompletedCellsInEAI_EUTRA_Item.class,
+            NGAP_CompletedCellsInEAI_NR.class,
+            NGAP_CompletedCellsInEAI_NR_Item.class,
+            NGAP_CompletedCellsInTAI_EUTRA.class,
+            NGAP_CompletedCellsInTAI_EUTRA_Item.class,
+            NGAP_CompletedCellsInTAI_NR.class,
+            NGAP_CompletedCellsInTAI_NR_Item.class,
+            NGAP_ConcurrentWarningMessageInd.class,
+            NGAP_ConfidentialityProtectionIndication.class,
+            NGAP_ConfidentialityProtectionResult.class,
+            NGAP_ConfiguredNSSAI.class,
+            NGAP_CoreNetworkAssistanceInformationForInactive.class,
+            NGAP_COUNTValueForPDCP_SN12.class,
+            NGAP_COUNTValueForPDCP_SN18.class,
+            NGAP_CPTransportLayerInformation.class,
+            NGAP_Criticality.class,
+            NGAP_CriticalityDiagnostics.class,
+            NGAP_CriticalityDiagnostics_IE_Item.class,
+            NGAP_CriticalityDiagnostics_IE_List.class,
+            NGAP_DataCodingScheme.class,
+            NGAP_DataForwardingAccepted.class,
+            NGAP_DataForwardingNotPossible.class,
+            NGAP_DataForwardingResponseDRBItem.class,
+            NGAP_DataForwardingResponseDRBList.class,
+            NGAP_DelayCritical.class,
+            NGAP_DirectForwardingPathAvailability.class,
+            NGAP_DL_NGU_TNLInformationReused.class,
+            NGAP_DLForwarding.class,
+            NGAP_DRB_ID.class,
+            NGAP_DRBsSubjectToStatusTransferItem.class,
+            NGAP_DRBsSubjectToStatusTransferList.class,
+            NGAP_DRBStatusDL.class,
+            NGAP_DRBStatusDL12.class,
+            NGAP_DRBStatusDL18.class,
+            NGAP_DRBStatusUL.class,
+            NGAP_DRBStatusUL12.class,
+            NGAP_DRBStatusUL18.class,
+            NGAP_DRBsToQosFlowsMappingItem.class,
+            NGAP_DRBsToQosFlowsMappingList.class,
+            NGAP_Dynamic5QIDescriptor.class,
+            NGAP_E_RAB_ID.class,
+            NGAP_E_RABInformationItem.class,
+            NGAP_E_RABInformationList.class,
+            NGAP_EmergencyAreaID.class,
+            NGAP_EmergencyAreaIDBroadcastEUTRA.class,
+            NGAP_EmergencyAreaIDBroadcastEUTRA_Item.class,
+            NGAP_EmergencyAreaIDBroadcastNR.class,
+            NGAP_EmergencyAreaIDBroadcastNR_Item.class,
+            NGAP_EmergencyAreaIDCancelledEUTRA.class,
+            NGAP_EmergencyAreaIDCancelledEUTRA_Item.class,
+            NGAP_EmergencyAreaIDCancelledNR.class,
+            NGAP_EmergencyAreaIDCancelledNR_Item.class,
+            NGAP_EmergencyAreaIDList.class,
+            NGAP_EmergencyAreaIDListForRestart.class,
+            NGAP_EmergencyFallbackIndicator.class,
+            NGAP_EmergencyFallbackRequestIndicator.class,
+            NGAP_EmergencyServiceTargetCN.class,
+            NGAP_EN_DCSONConfigurationTransfer.class,
+            NGAP_EndpointIPAddressAndPort.class,
+            NGAP_EPS_TAC.class,
+            NGAP_EPS_TAI.class,
+            NGAP_EquivalentPLMNs.class,
+            NGAP_EUTRA_CGI.class,
+            NGAP_EUTRA_CGIList.class,
+            NGAP_EUTRA_CGIListForWarning.class,
+            NGAP_EUTRACellIdentity.class,
+            NGAP_EUTRAencryptionAlgorithms.class,
+            NGAP_EUTRAintegrityProtectionAlgorithms.class,
+            NGAP_EventType.class,
+            NGAP_ExpectedActivityPeriod.class,
+            NGAP_ExpectedHOInterval.class,
+            NGAP_ExpectedIdlePeriod.class,
+            NGAP_ExpectedUEActivityBehaviour.class,
+            NGAP_ExpectedUEBehaviour.class,
+            NGAP_ExpectedUEMobility.class,
+            NGAP_ExpectedUEMovingTrajectory.class,
+            NGAP_ExpectedUEMovingTrajectoryItem.class,
+            NGAP_FiveG_S_TMSI.class,
+            NGAP_FiveG_TMSI.class,
+            NGAP_FiveQI.class,
+            NGAP_ForbiddenAreaInformation.class,
+            NGAP_ForbiddenAreaInformation_Item.class,
+            NGAP_ForbiddenTACs.class,
+            NGAP_GBR_QosInformation.class,
+            NGAP_GlobalGNB_ID.class,
+            NGAP_GlobalN3IWF_ID.class,
+            NGAP_GlobalNgENB_ID.class,
+            NGAP_GlobalRANNodeID.class,
+            NGAP_GNB_ID.class,
+            NGAP_GTP_TEID.class,
+            NGAP_GTPTunnel.class,
+            NGAP_GUAMI.class,
+            NGAP_HandoverCommandTransfer.class,
+            NGAP_HandoverFlag.class,
+            NGAP_HandoverPreparationUnsuccessfulTransfer.class,
+            NGAP_HandoverRequestAcknowledgeTransfer.class,
+            NGAP_HandoverRequiredTransfer.class,
+            NGAP_HandoverResourceAllocationUnsuccessfulTransfer.class,
+            NGAP_HandoverType.class,
+            NGAP_IMSVoiceSupportIndicator.class,
+            NGAP_IndexToRFSP.class,
+            NGAP_InfoOnRecommendedCellsAndRANNodesForPaging.class,
+            NGAP_IntegrityProtectionIndication.class,
+            NGAP_IntegrityProtectionResult.class,
+            NGAP_IntendedNumberOfPagingAttempts.class,
+            NGAP_InterfacesToTrace.class,
+            NGAP_LastVisitedCellInformation.class,
+            NGAP_LastVisitedCellItem.class,
+            NGAP_LastVisitedEUTRANCellInformation.class,
+            NGAP_LastVisitedGERANCellInformation.class,
+            NGAP_LastVisitedNGRANCellInformation.class,
+            NGAP_LastVisitedUTRANCellInformation.class,
+            NGAP_LocationReportingAdditionalInfo.class,
+            NGAP_LocationReportingReferenceID.class,
+            NGAP_LocationReportingRequestType.class,
+            NGAP_MaskedIMEISV.class,
+            NGAP_MaximumDataBurstVolume.class,
+            NGAP_MaximumIntegrityProtectedDataRate.class,
+            NGAP_MessageIdentifier.class,
+            NGAP_MICOModeIndication.class,
+            NGAP_MobilityRestrictionList.class,
+            NGAP_N3IWF_ID.class,
+            NGAP_NAS_PDU.class,
+            NGAP_NASSecurityParametersFromNGRAN.class,
+            NGAP_NetworkInstance.class,
+            NGAP_NewSecurityContextInd.class,
+            NGAP_NextHopChainingCount.class,
+            NGAP_NextPagingAreaScope.class,
+            NGAP_NGAP_Message.class,
+            NGAP_NgENB_ID.class,
+            NGAP_NGRAN_CGI.class,
+            NGAP_NGRAN_TNLAssociationToRemoveItem.class,
+            NGAP_NGRAN_TNLAssociationToRemoveList.class,
+            NGAP_NGRANTraceID.class,
+            NGAP_NonDynamic5QIDescriptor.class,
+            NGAP_NotAllowedTACs.class,
+            NGAP_NotificationCause.class,
+            NGAP_NotificationControl.class,
+            NGAP_NR_CGI.class,
+            NGAP_NR_CGIList.class,
+            NGAP_NR_CGIListForWarning.class,
+            NGAP_NRCellIdentity.class,
+            NGAP_NRencryptionAlgorithms.class,
+            NGAP_NRintegrityProtectionAlgorithms.class,
+            NGAP_NRPPa_PDU.class,
+            NGAP_NumberOfBroadcasts.class,
+            NGAP_NumberOfBroadcastsRequested.class,
+            NGAP_OverloadAction.class,
+            NGAP_OverloadResponse.class,
+            NGAP_OverloadStartNSSAIItem.class,
+            NGAP_OverloadStartNSSAIList.class,
+            NGAP_PacketDelayBudget.class,
+            NGAP_PacketErrorRate.class,
+            NGAP_PacketLossRate.class,
+            NGAP_PagingAttemptCount.class,
+            NGAP_PagingAttemptInformation.class,
+            NGAP_PagingDRX.class,
+            NGAP_PagingOrigin.class,
+            NGAP_PagingPriority.class,
+            NGAP_PathSwitchRequestAcknowledgeTransfer.class,
+            NGAP_PathSwitchRequestSetupFailedTransfer.class,
+            NGAP_PathSwitchRequestTransfer.class,
+            NGAP_PathSwitchRequestUnsuccessfulTransfer.class,
+            NGAP_PDUSessionAggregateMaximumBitRate.class,
+            NGAP_PDUSessionID.class,
+            NGAP_PDUSessionResourceAdmittedItem.class,
+            NGAP_PDUSessionResourceAdmittedList.class,
+            NGAP_PDUSessionResourceFailedToModifyItemModCfm.class,
+            NGAP_PDUSessionResourceFailedToModifyItemModRes.class,
+            NGAP_PDUSessionResourceFailedToModifyListModCfm.class,
+            NGAP_PDUSessionResourceFailedToModifyListModRes.class,
+            NGAP_PDUSessionResourceFailedToSetupItemCxtFail.class,
+            NGAP_PDUSessionResourceFailedToSetupItemCxtRes.class,
+            NGAP_PDUSessionResourceFailedToSetupItemHOAck.class,
+            NGAP_PDUSessionResourceFailedToSetupItemPSReq.class,
+            NGAP_PDUSessionResourceFailedToSetupItemSURes.class,
+            NGAP_PDUSessionResourceFailedToSetupListCxtFail.class,
+            NGAP_PDUSessionResourceFailedToSetupListCxtRes.class,
+            NGAP_PDUSessionResourceFailedToSetupListHOAck.class,
+            NGAP_PDUSessionResourceFailedToSetupListPSReq.class,
+            NGAP_PDUSessionResourceFailedToSetupListSURes.class,
+            NGAP_PDUSessionResourceHandoverItem.class,
+            NGAP_PDUSessionResourceHandoverList.class,
+            NGAP_PDUSessionResourceInformationItem.class,
+            NGAP_PDUSessionResourceInformationList.class,
+            NGAP_PDUSessionResourceItemCxtRelCpl.class,
+            NGAP_PDUSessionResourceItemCxtRelReq.class,
+            NGAP_PDUSessionResourceItemHORqd.class,
+            NGAP_PDUSessionResourceListCxtRelCpl.class,
+            NGAP_PDUSessionResourceListCxtRelReq.class,
+            NGAP_PDUSessionResourceListHORqd.class,
+            NGAP_PDUSessionResourceModifyConfirmTransfer.class,
+            NGAP_PDUSessionResourceModifyIndicationTransfer.class,
+            NGAP_PDUSessionResourceModifyIndicationUnsuccessfulTransfer.class,
+            NGAP_PDUSessionResourceModifyItemModCfm.class,
+            NGAP_PDUSessionResourceModifyItemModInd.class,
+            NGAP_PDUSessionResourceModifyItemModReq.class,
+            NGAP_PDUSessionResourceModifyItemModRes.class,
+            NGAP_PDUSessionResourceModifyListModCfm.class,
+            NGAP_PDUSessionResourceModifyListModInd.class,
+            NGAP_PDUSessionResourceModifyListModReq.class,
+            NGAP_PDUSessionResourceModifyListModRes.class,
+            NGAP_PDUSessionResourceModifyRequestTransfer.class,
+            NGAP_PDUSessionResourceModifyResponseTransfer.class,
+            NGAP_PDUSessionResourceModifyUnsuccessfulTransfer.class,
+            NGAP_PDUSessionResourceNotifyItem.class,
+            NGAP_PDUSessionResourceNotifyList.class,
+            NGAP_PDUSessionResourceNotifyReleasedTransfer.class,
+            NGAP_PDUSessionResourceNotifyTransfer.class,
+            NGAP_PDUSessionResourceReleaseCommandTransfer.class,
+            NGAP_PDUSessionResourceReleasedItemNot.class,
+            NGAP_PDUSessionResourceReleasedItemPSAck.class,
+            NGAP_PDUSessionResourceReleasedItemPSFail.class,
+            NGAP_PDUSessionResourceReleasedItemRelRes.class,
+            NGAP_PDUSessionResourceReleasedListNot.class,
+            NGAP_PDUSessionResourceReleasedListPSAck.class,
+            NGAP_PDUSessionResourceReleasedListPSFail.class,
+            NGAP_PDUSessionResourceReleasedListRelRes.class,
+            NGAP_PDUSessionResourceReleaseResponseTransfer.class,
+            NGAP_PDUSessionResourceReleaseResponseTransfer_OCTET_STRING.class,
+            NGAP_PDUSessionResourceSecondaryRATUsageItem.class,
+            NGAP_PDUSessionResourceSecondaryRATUsageList.class,
+            NGAP_PDUSessionResourceSetupItemCxtReq.class,
+            NGAP_PDUSessionResourceSetupItemCxtRes.class,
+            NGAP_PDUSessionResourceSetupItemHOReq.class,
+            NGAP_PDUSessionResourceSetupItemSUReq.class,
+            NGAP_PDUSessionResourceSetupItemSURes.class,
+            NGAP_PDUSessionResourceSetupListCxtReq.class,
+            NGAP_PDUSessionResourceSetupListCxtRes.class,
+            NGAP_PDUSessionResourceSetupListHOReq.class,
+            NGAP_PDUSessionResourceSetupListSUReq.class,
+            NGAP_PDUSessionResourceSetupListSURes.class,
+            NGAP_PDUSessionResourceSetupRequestTransfer.class,
+            NGAP_PDUSessionResourceSetupResponseTransfer.class,
+            NGAP_PDUSessionResourceSetupUnsuccessfulTransfer.class,
+            NGAP_PDUSessionResourceSwitchedItem.class,
+            NGAP_PDUSessionResourceSwitchedList.class,
+            NGAP_PDUSessionResourceToBeSwitchedDLItem.class,
+            NGAP_PDUSessionResourceToBeSwitchedDLList.class,
+            NGAP_PDUSessionResourceToReleaseItemHOCmd.class,
+            NGAP_PDUSessionResourceToReleaseItemRelCmd.class,
+            NGAP_PDUSessionResourceToReleaseListHOCmd.class,
+            NGAP_PDUSessionResourceToReleaseListRelCmd.class,
+            NGAP_PDUSessionType.class,
+            NGAP_PDUSessionUsageReport.class,
+            NGAP_PeriodicRegistrationUpdateTimer.class,
+            NGAP_PLMNIdentity.class,
+            NGAP_PLMNSupportItem.class,
+            NGAP_PLMNSupportList.class,
+            NGAP_PortNumber.class,
+            NGAP_Pre_emptionCapability.class,
+            NGAP_Pre_emptionVulnerability.class,
+            NGAP_Presence.class,
+            NGAP_PriorityLevelARP.class,
+            NGAP_PriorityLevelQos.class,
+            NGAP_ProcedureCode.class,
+            NGAP_ProtocolExtensionID.class,
+            NGAP_ProtocolIE_ID.class,
+            NGAP_PWSFailedCellIDList.class,
+            NGAP_QosCharacteristics.class,
+            NGAP_QosFlowAcceptedItem.class,
+            NGAP_QosFlowAcceptedList.class,
+            NGAP_QosFlowAddOrModifyRequestItem.class,
+            NGAP_QosFlowAddOrModifyRequestList.class,
+            NGAP_QosFlowAddOrModifyResponseItem.class,
+            NGAP_QosFlowAddOrModifyResponseList.class,
+            NGAP_QosFlowIdentifier.class,
+            NGAP_QosFlowInformationItem.class,
+            NGAP_QosFlowInformationList.class,
+            NGAP_QosFlowItemWithDataForwarding.class,
+            NGAP_QosFlowLevelQosParameters.class,
+            NGAP_QosFlowListWithCause.class,
+            NGAP_QosFlowListWithDataForwarding.class,
+            NGAP_QosFlowModifyConfirmItem.class,
+            NGAP_QosFlowModifyConfirmList.class,
+            NGAP_QosFlowNotifyItem.class,
+            NGAP_QosFlowNotifyList.class,
+            NGAP_QosFlowPerTNLInformation.class,
+            NGAP_QosFlowPerTNLInformationItem.class,
+            NGAP_QosFlowPerTNLInformationList.class,
+            NGAP_QosFlowSetupRequestItem.class,
+            NGAP_QosFlowSetupRequestList.class,
+            NGAP_QosFlowSetupResponseItemSURes.class,
+            NGAP_QosFlowSetupResponseListSURes.class,
+            NGAP_QoSFlowsUsageReport_Item.class,
+            NGAP_QoSFlowsUsageReportList.class,
+            NGAP_QosFlowToBeForwardedItem.class,
+            NGAP_QosFlowToBeForwardedList.class,
+            NGAP_QosFlowWithCauseItem.class,
+            NGAP_RAN_UE_NGAP_ID.class,
+            NGAP_RANNodeName.class,
+            NGAP_RANPagingPriority.class,
+            NGAP_RANStatusTransfer_TransparentContainer.class,
+            NGAP_RATRestrictionInformation.class,
+            NGAP_RATRestrictions.class,
+            NGAP_RATRestrictions_Item.class,
+            NGAP_RecommendedCellItem.class,
+            NGAP_RecommendedCellList.class,
+            NGAP_RecommendedCellsForPaging.class,
+            NGAP_RecommendedRANNodeItem.class,
+            NGAP_RecommendedRANNodeList.class,
+            NGAP_RecommendedRANNodesForPaging.class,
+            NGAP_RedirectionVoiceFallback.class,
+            NGAP_ReferenceID.class,
+            NGAP_ReflectiveQosAttribute.class,
+            NGAP_RejectedNSSAIinPLMN.class,
+            NGAP_RejectedNSSAIinTA.class,
+            NGAP_RelativeAMFCapacity.class,
+            NGAP_RepetitionPeriod.class,
+            NGAP_ReportArea.class,
+            NGAP_ResetAll.class,
+            NGAP_ResetType.class,
+            NGAP_RoutingID.class,
+            NGAP_RRCContainer.class,
+            NGAP_RRCEstablishmentCause.class,
+            NGAP_RRCInactiveTransitionReportRequest.class,
+            NGAP_RRCState.class,
+            NGAP_S_NSSAI.class,
+            NGAP_SCTP_TLAs.class,
+            NGAP_SD.class,
+            NGAP_SecondaryRATDataUsageReportTransfer.class,
+            NGAP_SecondaryRATUsageInformation.class,
+            NGAP_SecurityContext.class,
+            NGAP_SecurityIndication.class,
+            NGAP_SecurityKey.class,
+            NGAP_SecurityResult.class,
+            NGAP_SerialNumber.class,
+            NGAP_ServedGUAMIItem.class,
+            NGAP_ServedGUAMIList.class,
+            NGAP_ServiceAreaInformation.class,
+            NGAP_ServiceAreaInformation_Item.class,
+            NGAP_SliceOverloadItem.class,
+            NGAP_SliceOverloadList.class,
+            NGAP_SliceSupportItem.class,
+            NGAP_SliceSupportList.class,
+            NGAP_SONConfigurationTransfer.class,
+            NGAP_SONInformation.class,
+            NGAP_SONInformationReply.class,
+            NGAP_SONInformationRequest.class,
+            NGAP_SourceNGRANNode_ToTargetNGRANNode_TransparentContainer.class,
+            NGAP_SourceOfUEActivityBehaviourInformation.class,
+            NGAP_SourceRANNodeID.class,
+            NGAP_SourceToTarget_AMFInformationReroute.class,
+            NGAP_SourceToTarget_TransparentContainer.class,
+            NGAP_SST.class,
+            NGAP_SupportedTAItem.class,
+            NGAP_SupportedTAList.class,
+            NGAP_TAC.class,
+            NGAP_TAI.class,
+            NGAP_TAIBroadcastEUTRA.class,
+            NGAP_TAIBroadcastEUTRA_Item.class,
+            NGAP_TAIBroadcastNR.class,
+            NGAP_TAIBroadcastNR_Item.class,
+            NGAP_TAICancelledEUTRA.class,
+            NGAP_TAICancelledEUTRA_Item.class,
+            NGAP_TAICancelledNR.class,
+            NGAP_TAICancelledNR_Item.class,
+            NGAP_TAIListForInactive.class,
+            NGAP_TAIListForInactiveItem.class,
+            NGAP_TAIListForPaging.class,
+            NGAP_TAIListForPagingItem.class,
+            NGAP_TAIListForRestart.class,
+            NGAP_TAIListForWarning.class,
+            NGAP_TargeteNB_ID.class,
+            NGAP_TargetID.class,
+            NGAP_TargetNGRANNode_ToSourceNGRANNode_TransparentContainer.class,
+            NGAP_TargetRANNodeID.class,
+            NGAP_TargetToSource_TransparentContainer.class,
+            NGAP_TimerApproachForGUAMIRemoval.class,
+            NGAP_TimeStamp.class,
+            NGAP_TimeToWait.class,
+            NGAP_TimeUEStayedInCell.class,
+            NGAP_TimeUEStayedInCellEnhancedGranularity.class,
+            NGAP_TNLAddressWeightFactor.class,
+            NGAP_TNLAssociationItem.class,
+            NGAP_TNLAssociationList.class,
+            NGAP_TNLAssociationUsage.class,
+            NGAP_TraceActivation.class,
+            NGAP_TraceDepth.class,
+            NGAP_TrafficLoadReductionIndication.class,
+            NGAP_TransportLayerAddress.class,
+            NGAP_TriggeringMessage.class,
+            NGAP_TypeOfError.class,
+            NGAP_UE_associatedLogicalNG_connectionItem.class,
+            NGAP_UE_associatedLogicalNG_connectionList.class,
+            NGAP_UE_NGAP_ID_pair.class,
+            NGAP_UE_NGAP_IDs.class,
+            NGAP_UEAggregateMaximumBitRate.class,
+            NGAP_UEContextRequest.class,
+            NGAP_UEHistoryInformation.class,
+            NGAP_UEIdentityIndexValue.class,
+            NGAP_UEPagingIdentity.class,
+            NGAP_UEPresence.class,
+            NGAP_UEPresenceInAreaOfInterestItem.class,
+            NGAP_UEPresenceInAreaOfInterestList.class,
+            NGAP_UERadioCapability.class,
+            NGAP_UERadioCapabilityForPaging.class,
+            NGAP_UERadioCapabilityForPagingOfEUTRA.class,
+            NGAP_UERadioCapabilityForPagingOfNR.class,
+            NGAP_UERetentionInformation.class,
+            NGAP_UESecurityCapabilities.class,
+            NGAP_UL_NGU_UP_TNLModifyItem.class,
+            NGAP_UL_NGU_UP_TNLModifyList.class,
+            NGAP_ULForwarding.class,
+            NGAP_UnavailableGUAMIItem.class,
+            NGAP_UnavailableGUAMIList.class,
+            NGAP_UPTransportLayerInformation.class,
+            NGAP_UPTransportLayerInformationItem.class,
+            NGAP_UPTransportLayerInformationList.class,
+            NGAP_UPTransportLayerInformationPairItem.class,
+            NGAP_UPTransportLayerInformationPairList.class,
+            NGAP_UserLocationInformation.class,
+            NGAP_UserLocationInformationEUTRA.class,
+            NGAP_UserLocationInformationN3IWF.class,
+            NGAP_UserLocationInformationNR.class,
+            NGAP_UserPlaneSecurityInformation.class,
+            NGAP_VolumeTimedReport_Item.class,
+            NGAP_VolumeTimedReportList.class,
+            NGAP_WarningAreaCoordinates.class,
+            NGAP_WarningAreaList.class,
+            NGAP_WarningMessageContents.class,
+            NGAP_WarningSecurityInfo.class,
+            NGAP_WarningType.class,
+            NGAP_XnExtTLA_Item.class,
+            NGAP_XnExtTLAs.class,
+            NGAP_XnGTP_TLAs.class,
+            NGAP_XnTLAs.class,
+            NGAP_XnTNLConfigurationInfo.class
+    };
+
+    private static final HashMap<Class<?>, Integer> MEMBER_INDICES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < MEMBER_TYPES.length; i++) {
+            MEMBER_INDICES.put(MEMBER_TYPES[i], i);
+        }
+    }
+
+    private int presentIndex = -1;
+    private NGAP_Value presentValue;
 
     @Override
     public String[] getMemberIdentifiers() {
@@ -533,4 +549,51 @@ public class NGAP_IEChoice extends NGAP_Choice {
     public String getXmlTagName() {
         throw new IllegalStateException();
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        return presentIndex;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        return index == presentIndex ? presentValue : null;
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        if (index < 0 || index >= MEMBER_TYPES.length) {
+            throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+        if (value == null) {
+            if (index == presentIndex) {
+                presentIndex = -1;
+                presentValue = null;
+            }
+            return;
+        }
+        if (!MEMBER_TYPES[index].isInstance(value)) {
+            throw new IllegalArgumentException("invalid value type for choice member: " + value.getClass().getSimpleName());
+        }
+        presentIndex = index;
+        presentValue = value;
+    }
+
+    @Override
+    public NGAP_Value getPresentValue() {
+        return presentValue;
+    }
+
+    @Override
+    public void setPresentValue(NGAP_Value value) {
+        var index = MEMBER_INDICES.get(value.getClass());
+        if (index != null) {
+            setMemberValue(index, value);
+        }
+    }
 }
@@ -4,87 +4,103 @@ import tr.havelsan.ueransim.ngap0.msg.*;
 import tr.havelsan.ueransim.ngap0.pdu.*;
 import tr.havelsan.ueransim.ngap0.core.*;
 
+import java.util.HashMap;
+
 public class NGAP_MessageChoice extends NGAP_Choice {
 
-    public NGAP_AMFConfigurationUpdate AMFConfigurationUpdate;
-    public NGAP_AMFConfigurationUpdateAcknowledge AMFConfigurationUpdateAcknowledge;
-    public NGAP_AMFConfigurationUpdateFailure AMFConfigurationUpdateFailure;
-    public NGAP_AMFStatusIndication AMFStatusIndication;
-    public NGAP_CellTrafficTrace CellTrafficTrace;
-    public NGAP_DeactivateTrace DeactivateTrace;
-    public NGAP_DownlinkNASTransport DownlinkNASTransport;
-    public NGAP_DownlinkNonUEAssociatedNRPPaTransport DownlinkNonUEAssociatedNRPPaTransport;
-    public NGAP_DownlinkRANConfigurationTransfer DownlinkRANConfigurationTransfer;
-    public NGAP_DownlinkRANStatusTransfer DownlinkRANStatusTransfer;
-    public NGAP_DownlinkUEAssociatedNRPPaTransport DownlinkUEAssociatedNRPPaTransport;
-    public NGAP_ErrorIndication ErrorIndication;
-    public NGAP_HandoverCancel HandoverCancel;
-    public NGAP_HandoverCancelAcknowledge HandoverCancelAcknowledge;
-    public NGAP_HandoverCommand HandoverCommand;
-    public NGAP_HandoverFailure HandoverFailure;
-    public NGAP_HandoverNotify HandoverNotify;
-    public NGAP_HandoverPreparationFailure HandoverPreparationFailure;
-    public NGAP_HandoverRequest HandoverRequest;
-    public NGAP_HandoverRequestAcknowledge HandoverRequestAcknowledge;
-    public NGAP_HandoverRequired HandoverRequired;
-    public NGAP_InitialContextSetupFailure InitialContextSetupFailure;
-    public NGAP_InitialContextSetupRequest InitialContextSetupRequest;
-    public NGAP_InitialContextSetupResponse InitialContextSetupResponse;
-    public NGAP_InitialUEMessage InitialUEMessage;
-    public NGAP_LocationReport LocationReport;
-    public NGAP_LocationReportingControl LocationReportingControl;
-    public NGAP_LocationReportingFailureIndication LocationReportingFailureIndication;
-    public NGAP_NASNonDeliveryIndication NASNonDeliveryIndication;
-    public NGAP_NGReset NGReset;
-    public NGAP_NGResetAcknowledge NGResetAcknowledge;
-    public NGAP_NGSetupFailure NGSetupFailure;
-    public NGAP_NGSetupRequest NGSetupRequest;
-    public NGAP_NGSetupResponse NGSetupResponse;
-    public NGAP_OverloadStart OverloadStart;
-    public NGAP_OverloadStop OverloadStop;
-    public NGAP_Paging Paging;
-    public NGAP_PathSwitchRequest PathSwitchRequest;
-    public NGAP_PathSwitchRequestAcknowledge PathSwitchRequestAcknowledge;
-    public NGAP_PathSwitchRequestFailure PathSwitchRequestFailure;
-    public NGAP_PDUSessionResourceModifyConfirm PDUSessionResourceModifyConfirm;
-    public NGAP_PDUSessionResourceModifyIndication PDUSessionResourceModifyIndication;
-    public NGAP_PDUSessionResourceModifyRequest PDUSessionResourceModifyRequest;
-    public NGAP_PDUSessionResourceModifyResponse PDUSessionResourceModifyResponse;
-    public NGAP_PDUSessionResourceNotify PDUSessionResourceNotify;
-    public NGAP_PDUSessionResourceReleaseCommand PDUSessionResourceReleaseCommand;
-    public NGAP_PDUSessionResourceReleaseResponse PDUSessionResourceReleaseResponse;
-    public NGAP_PDUSessionResourceSetupRequest PDUSessionResourceSetupRequest;
-    public NGAP_PDUSessionResourceSetupResponse PDUSessionResourceSetupResponse;
-    public NGAP_PrivateMessage PrivateMessage;
-    public NGAP_PWSCancelRequest PWSCancelRequest;
-    public NGAP_PWSCancelResponse PWSCancelResponse;
-    public NGAP_PWSFailureIndication PWSFailureIndication;
-    public NGAP_PWSRestartIndication PWSRestartIndication;
-    public NGAP_RANConfigurationUpdate RANConfigurationUpdate;
-    public NGAP_RANConfigurationUpdateAcknowledge RANConfigurationUpdateAcknowledge;
-    public NGAP_RANConfigurationUpdateFailure RANConfigurationUpdateFailure;
-    public NGAP_RerouteNASRequest RerouteNASRequest;
-    public NGAP_RRCInactiveTransitionReport RRCInactiveTransitionReport;
-    public NGAP_SecondaryRATDataUsageReport SecondaryRATDataUsageReport;
-    public NGAP_TraceFailureIndication TraceFailureIndication;
-    public NGAP_TraceStart TraceStart;
-    public NGAP_UEContextModificationFailure UEContextModificationFailure;
-    public NGAP_UEContextModificationRequest UEContextModificationRequest;
-    public NGAP_UEContextModificationResponse UEContextModificationResponse;
-    public NGAP_UEContextReleaseCommand UEContextReleaseCommand;
-    public NGAP_UEContextReleaseComplete UEContextReleaseComplete;
-    public NGAP_UEContextReleaseRequest UEContextReleaseRequest;
-    public NGAP_UERadioCapabilityCheckRequest UERadioCapabilityCheckRequest;
-    public NGAP_UERadioCapabilityCheckResponse UERadioCapabilityCheckResponse;
-    public NGAP_UERadioCapabilityInfoIndication UERadioCapabilityInfoIndication;
-    public NGAP_UETNLABindingReleaseRequest UETNLABindingReleaseRequest;
-    public NGAP_UplinkNASTransport UplinkNASTransport;
-    public NGAP_UplinkNonUEAssociatedNRPPaTransport UplinkNonUEAssociatedNRPPaTransport;
-    public NGAP_UplinkRANConfigurationTransfer UplinkRANConfigurationTransfer;
-    public NGAP_UplinkRANStatusTransfer UplinkRANStatusTransfer;
-    public NGAP_UplinkUEAssociatedNRPPaTransport UplinkUEAssociatedNRPPaTransport;
-    public NGAP_WriteReplaceWarningRequest WriteReplaceWarningRequest;
-    public NGAP_WriteReplaceWarningResponse WriteReplaceWarningResponse;
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{
+            NGAP_AMFConfigurationUpdate.class,
+            NGAP_AMFConfigurationUpdateAcknowledge.class,
+            NGAP_AMFConfigurationUpdateFailure.class,
+            NGAP_AMFStatusIndication.class,
+            NGAP_CellTrafficTrace.class,
+            NGAP_DeactivateTrace.class,
+            NGAP_DownlinkNASTransport.class,
+            NGAP_DownlinkNonUEAssociatedNRPPaTransport.class,
+            NGAP_DownlinkRANConfigurationTransfer.class,
+            NGAP_DownlinkRANStatusTransfer.class,
+            NGAP_DownlinkUEAssociatedNRPPaTransport.class,
+            NGAP_ErrorIndication.class,
+            NGAP_HandoverCancel.class,
+            NGAP_HandoverCancelAcknowledge.class,
+            NGAP_HandoverCommand.class,
+            NGAP_HandoverFailure.class,
+            NGAP_HandoverNotify.class,
+            NGAP_HandoverPreparationFailure.class,
+            NGAP_HandoverRequest.class,
+            NGAP_HandoverRequestAcknowledge.class,
+            NGAP_HandoverRequired.class,
+            NGAP_InitialContextSetupFailure.class,
+            NGAP_InitialContextSetupRequest.class,
+            NGAP_InitialContextSetupResponse.class,
+            NGAP_InitialUEMessage.class,
+            NGAP_LocationReport.class,
+            NGAP_LocationReportingControl.class,
+            NGAP_LocationReportingFailureIndication.class,
+            NGAP_NASNonDeliveryIndication.class,
+            NGAP_NGReset.class,
+            NGAP_NGResetAcknowledge.class,
+            NGAP_NGSetupFailure.class,
+            NGAP_NGSetupRequest.class,
+            NGAP_NGSetupResponse.class,
+            NGAP_OverloadStart.class,
+            NGAP_OverloadStop.class,
+            NGAP_Paging.class,
+            NGAP_PathSwitchRequest.class,
+            NGAP_PathSwitchRequestAcknowledge.class,
+            NGAP_PathSwitchRequestFailure.class,
+            NGAP_PDUSessionResourceModifyConfirm.class,
+            NGAP_PDUSessionResourceModifyIndication.class,
+            NGAP_PDUSessionResourceModifyRequest.class,
+            NGAP_PDUSessionResourceModifyResponse.class,
+            NGAP_PDUSessionResourceNotify.class,
+            NGAP_PDUSessionResourceReleaseCommand.class,
+            NGAP_PDUSessionResourceReleaseResponse.class,
+            NGAP_PDUSessionResourceSetupRequest.class,
+            NGAP_PDUSessionResourceSetupResponse.class,
+            NGAP_PrivateMessage.class,
+            NGAP_PWSCancelRequest.class,
+            NGAP_PWSCancelResponse.class,
+            NGAP_PWSFailureIndication.class,
+            NGAP_PWSRestartIndication.class,
+            NGAP_RANConfigurationUpdate.class,
+            NGAP_RANConfigurationUpdateAcknowledge.class,
+            NGAP_RANConfigurationUpdateFailure.class,
+            NGAP_RerouteNASRequest.class,
+            NGAP_RRCInactiveTransitionReport.class,
+            NGAP_SecondaryRATDataUsageReport.class,
+            NGAP_TraceFailureIndication.class,
+            NGAP_TraceStart.class,
+            NGAP_UEContextModificationFailure.class,
+            NGAP_UEContextModificationRequest.class,
+            NGAP_UEContextModificationResponse.class,
+            NGAP_UEContextReleaseCommand.class,
+            NGAP_UEContextReleaseComplete.class,
+            NGAP_UEContextReleaseRequest.class,
+            NGAP_UERadioCapabilityCheckRequest.class,
+            NGAP_UERadioCapabilityCheckResponse.class,
+            NGAP_UERadioCapabilityInfoIndication.class,
+            NGAP_UETNLABindingReleaseRequest.class,
+            NGAP_UplinkNASTransport.class,
+            NGAP_UplinkNonUEAssociatedNRPPaTransport.class,
+            NGAP_UplinkRANConfigurationTransfer.class,
+            NGAP_UplinkRANStatusTransfer.class,
+            NGAP_UplinkUEAssociatedNRPPaTransport.class,
+            NGAP_WriteReplaceWarningRequest.class,
+            NGAP_WriteReplaceWarningResponse.class
+    };
+
+    private static final HashMap<Class<?>, Integer> MEMBER_INDICES = new HashMap<>();
+
+    static {
+        for (int i = 0; i < MEMBER_TYPES.length; i++) {
+            MEMBER_INDICES.put(MEMBER_TYPES[i], i);
+        }
+    }
+
+    private int presentIndex = -1;
+    private NGAP_Value presentValue;
 
     @Override
     public String[] getMemberIdentifiers() {
@@ -105,4 +121,51 @@ public class NGAP_MessageChoice extends NGAP_Choice {
     public String getXmlTagName() {
         throw new IllegalStateException();
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        return presentIndex;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        return index == presentIndex ? presentValue : null;
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        if (index < 0 || index >= MEMBER_TYPES.length) {
+            throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+        if (value == null) {
+            if (index == presentIndex) {
+                presentIndex = -1;
+                presentValue = null;
+            }
+            return;
+        }
+        if (!MEMBER_TYPES[index].isInstance(value)) {
+            throw new IllegalArgumentException("invalid value type for choice member: " + value.getClass().getSimpleName());
+        }
+        presentIndex = index;
+        presentValue = value;
+    }
+
+    @Override
+    public NGAP_Value getPresentValue() {
+        return presentValue;
+    }
+
+    @Override
+    public void setPresentValue(NGAP_Value value) {
+        var index = MEMBER_INDICES.get(value.getClass());
+        if (index != null) {
+            setMemberValue(index, value);
+        }
+    }
 }
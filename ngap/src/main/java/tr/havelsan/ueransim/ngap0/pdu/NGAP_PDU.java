@@ -25,9 +25,13 @@
 package tr.havelsan.ueransim.ngap0.pdu;
 
 import tr.havelsan.ueransim.ngap0.core.NGAP_Choice;
+import tr.havelsan.ueransim.ngap0.core.NGAP_Value;
 
 public class NGAP_PDU extends NGAP_Choice {
 
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final Class<? extends NGAP_Value>[] MEMBER_TYPES = new Class[]{NGAP_InitiatingMessage.class, NGAP_SuccessfulOutcome.class, NGAP_UnsuccessfulOutcome.class};
+
     public NGAP_InitiatingMessage initiatingMessage;
     public NGAP_SuccessfulOutcome successfulOutcome;
     public NGAP_UnsuccessfulOutcome unsuccessfulOutcome;
@@ -51,4 +55,48 @@ public class NGAP_PDU extends NGAP_Choice {
     public String getXmlTagName() {
         return "NGAP-PDU";
     }
+
+    @Override
+    public Class<? extends NGAP_Value>[] getMemberTypes() {
+        return MEMBER_TYPES;
+    }
+
+    @Override
+    public int getPresentIndex() {
+        if (initiatingMessage != null) return 0;
+        if (successfulOutcome != null) return 1;
+        if (unsuccessfulOutcome != null) return 2;
+        return -1;
+    }
+
+    @Override
+    public NGAP_Value getMemberValue(int index) {
+        switch (index) {
+            case 0:
+                return initiatingMessage;
+            case 1:
+                return successfulOutcome;
+            case 2:
+                return unsuccessfulOutcome;
+            default:
+                return null;
+        }
+    }
+
+    @Override
+    public void setMemberValue(int index, NGAP_Value value) {
+        switch (index) {
+            case 0:
+                initiatingMessage = (NGAP_InitiatingMessage) value;
+                break;
+            case 1:
+                successfulOutcome = (NGAP_SuccessfulOutcome) value;
+                break;
+            case 2:
+                unsuccessfulOutcome = (NGAP_UnsuccessfulOutcome) value;
+                break;
+            default:
+                throw new IndexOutOfBoundsException("invalid choice member index: " + index);
+        }
+    }
 }
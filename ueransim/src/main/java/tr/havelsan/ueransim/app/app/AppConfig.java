@@ -30,9 +30,21 @@ import tr.havelsan.ueransim.app.common.contexts.GnbAmfContext;
 import tr.havelsan.ueransim.app.common.simctx.BaseSimContext;
 import tr.havelsan.ueransim.app.common.simctx.GnbSimContext;
 import tr.havelsan.ueransim.app.common.simctx.UeSimContext;
+import tr.havelsan.ueransim.app.gnb.utils.NgapUtils;
 import tr.havelsan.ueransim.core.Constants;
+import tr.havelsan.ueransim.itms.Itms;
+import tr.havelsan.ueransim.itms.ItmsAffinity;
+import tr.havelsan.ueransim.itms.ItmsScheduler;
+import tr.havelsan.ueransim.itms.ItmsThreadFactory;
 import tr.havelsan.ueransim.mts.ImplicitTypedObject;
 import tr.havelsan.ueransim.mts.MtsContext;
+import tr.havelsan.ueransim.nas.impl.values.VTrackingAreaIdentity;
+import tr.havelsan.ueransim.ngap0.NgapTemplateCache;
+import tr.havelsan.ueransim.ngap0.ies.choices.NGAP_UserLocationInformation;
+import tr.havelsan.ueransim.ngap0.msg.NGAP_InitialContextSetupResponse;
+import tr.havelsan.ueransim.ngap0.msg.NGAP_InitialUEMessage;
+import tr.havelsan.ueransim.ngap0.msg.NGAP_PDUSessionResourceSetupResponse;
+import tr.havelsan.ueransim.ngap0.msg.NGAP_UplinkNASTransport;
 import tr.havelsan.ueransim.utils.console.Console;
 import tr.havelsan.ueransim.utils.console.Logger;
 import tr.havelsan.ueransim.utils.jcolor.AnsiPalette;
@@ -43,12 +55,17 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ThreadFactory;
 
 public class AppConfig {
 
     public final MtsContext mts;
     private final String profile;
     private final UeRanSim ueRanSim;
+    private ItmsScheduler ueScheduler;
+    private UeShard[] ueShards;
+    private int nextUeShard;
+    private ThreadFactory threadFactory;
 
     public AppConfig(MtsContext mts, UeRanSim ueRanSim) {
         this.mts = mts;
@@ -62,6 +79,27 @@ public class AppConfig {
         var general = (ImplicitTypedObject) mts.decoder.decode(this.profile + "general.yaml");
         Constants.USE_LONG_MNC = general.getBool("use-long-mnc");
         Constants.TREAT_ERRORS_AS_FATAL = general.getBool("treat-errors-as-fatal");
+        Constants.USE_NGAP_VALUE_TREE = general.getBool("use-ngap-value-tree");
+        Constants.NGAP_DECODE_THREADS = general.getInt("ngap-decode-threads");
+        Constants.UE_WORKER_THREADS = general.getInt("ue-worker-threads");
+        Constants.ITMS_THREAD_TYPE = general.getString("itms-thread-type");
+        Constants.DATA_PLANE_QUEUE_CAPACITY = general.getInt("data-plane-queue-capacity");
+        Constants.DATA_PLANE_OVERFLOW_POLICY = general.getString("data-plane-overflow-policy");
+        Constants.ITMS_METRICS_INTERVAL = general.getInt("itms-metrics-interval");
+        Constants.UE_SHARDS = general.getInt("ue-shards");
+        Constants.UE_SHARD_AFFINITY = general.getBool("ue-shard-affinity");
+        Constants.LOG_DEBUG = general.getBool("log-debug");
+
+        if (Constants.ITMS_THREAD_TYPE.equals("virtual") && !ItmsThreadFactory.isVirtualSupported()) {
+            Console.println(AnsiPalette.PAINT_IMPORTANT_WARNING, "WARNING: Virtual threads are not supported by this JDK, using platform threads");
+            Constants.ITMS_THREAD_TYPE = "platform";
+        }
+        this.threadFactory = ItmsThreadFactory.of(Constants.ITMS_THREAD_TYPE);
+
+        if (Constants.UE_SHARD_AFFINITY && !ItmsAffinity.isSupported()) {
+            Console.println(AnsiPalette.PAINT_IMPORTANT_WARNING, "WARNING: CPU affinity library could not be loaded, UE shards are not pinned");
+            Constants.UE_SHARD_AFFINITY = false;
+        }
     }
 
     public static Logger createLoggerFor(String name) {
@@ -99,7 +137,7 @@ public class AppConfig {
     }
 
     public GnbSimContext createGnbSimContext(SimulationContext simCtx, GnbConfig config) {
-        var ctx = new GnbSimContext(ueRanSim);
+        var ctx = new GnbSimContext(ueRanSim, new Itms(null, threadFactory));
         ctx.config = config;
 
         // Create AMF gNB contexts
@@ -117,6 +155,17 @@ public class AppConfig {
             }
         }
 
+        // Create NGAP message templates
+        {
+            ctx.userLocationInformation = new NGAP_UserLocationInformation();
+            ctx.userLocationInformation.userLocationInformationNR = NgapUtils.createUserLocationInformationNr(config.gnbPlmn,
+                    new VTrackingAreaIdentity(config.gnbPlmn, config.tac), config.nci);
+
+            ctx.ngapTemplates = new NgapTemplateCache(NGAP_InitialUEMessage.class, NGAP_UplinkNASTransport.class,
+                    NGAP_InitialContextSetupResponse.class, NGAP_PDUSessionResourceSetupResponse.class);
+            ctx.ngapTemplates.addConstantIe(ctx.userLocationInformation);
+        }
+
         return ctx;
     }
 
@@ -125,11 +174,76 @@ public class AppConfig {
     }
 
     public UeSimContext createUeSimContext(SimulationContext simCtx, UeConfig config) {
-        var ctx = new UeSimContext(ueRanSim);
+        UeSimContext ctx;
+        if (Constants.UE_SHARDS == 0) {
+            ctx = new UeSimContext(ueRanSim, createUeItms());
+        } else {
+            var shard = nextUeShard();
+            shard.addUe();
+            ctx = new UeSimContext(ueRanSim, new Itms(shard.scheduler, threadFactory));
+            ctx.timerWheel = shard.timers;
+        }
         ctx.ueConfig = config;
         return ctx;
     }
 
+    /**
+     * Returns the UE shards, or null if UEs are not sharded.
+     */
+    public UeShard[] getUeShards() {
+        if (Constants.UE_SHARDS != 0 && ueShards == null) {
+            ueShards = createUeShards();
+        }
+        return ueShards;
+    }
+
+    // UEs are assigned to shards round-robin
+    private UeShard nextUeShard() {
+        var shards = getUeShards();
+        var shard = shards[nextUeShard];
+        nextUeShard = (nextUeShard + 1) % shards.length;
+        return shard;
+    }
+
+    private static UeShard[] createUeShards() {
+        int cpuCount = Runtime.getRuntime().availableProcessors();
+        int shardCount = Constants.UE_SHARDS > 0 ? Constants.UE_SHARDS : cpuCount;
+
+        // Every shard needs its own worker group, negative values mean one worker per core
+        int totalWorkers = Constants.UE_WORKER_THREADS > 0 ? Constants.UE_WORKER_THREADS : cpuCount;
+        if (Constants.UE_WORKER_THREADS == 0) {
+            Console.println(AnsiPalette.PAINT_IMPORTANT_WARNING, "WARNING: UE shards need worker threads, using one worker per core (%d) since ue-worker-threads is 0", totalWorkers);
+        }
+        if (shardCount > totalWorkers) {
+            Console.println(AnsiPalette.PAINT_IMPORTANT_WARNING, "WARNING: %d UE shards requested but only %d worker threads are available, using %d shards", shardCount, totalWorkers, totalWorkers);
+            shardCount = totalWorkers;
+        }
+
+        // The worker threads are divided between the shards as evenly as possible
+        var shards = new UeShard[shardCount];
+        int firstWorker = 0;
+        for (int i = 0; i < shardCount; i++) {
+            int workerCount = totalWorkers / shardCount + (i < totalWorkers % shardCount ? 1 : 0);
+            int firstCpu = Constants.UE_SHARD_AFFINITY ? firstWorker : -1;
+            shards[i] = new UeShard(i, workerCount, firstCpu);
+            firstWorker += workerCount;
+        }
+        return shards;
+    }
+
+    private Itms createUeItms() {
+        if (Constants.UE_WORKER_THREADS == 0)
+            return new Itms(null, threadFactory);
+
+        // All UEs share the same worker pool, negative values mean one worker per core
+        if (ueScheduler == null) {
+            ueScheduler = Constants.UE_WORKER_THREADS > 0
+                    ? new ItmsScheduler(Constants.UE_WORKER_THREADS)
+                    : ItmsScheduler.perCore();
+        }
+        return new Itms(ueScheduler, threadFactory);
+    }
+
     public GnbConfig createGnbConfig() {
         return mts.constructor.construct(GnbConfig.class, ((ImplicitTypedObject) mts.decoder.decode(profile + "gnb.yaml")), true);
     }
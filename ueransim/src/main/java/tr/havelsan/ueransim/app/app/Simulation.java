@@ -34,58 +34,38 @@ import java.util.UUID;
 public class Simulation {
 
     public static void registerUe(SimulationContext ctx, UeSimContext ue) {
-        synchronized (ctx) {
-            ctx.ueMap.put(ue.ctxId, ue);
-        }
+        if (ctx.ueMap.putIfAbsent(ue.ctxId, ue) != null)
+            throw new IllegalStateException("UE already registered");
     }
 
     public static void registerGnb(SimulationContext ctx, GnbSimContext gnb) {
-        synchronized (ctx) {
-            ctx.gnbMap.put(gnb.ctxId, gnb);
-        }
+        if (ctx.gnbMap.putIfAbsent(gnb.ctxId, gnb) != null)
+            throw new IllegalStateException("gNB already registered");
     }
 
     public static UeSimContext findUe(UeRanSim sim, UUID id) {
-        var ctx = sim.getSimCtx();
-        synchronized (ctx) {
-            return ctx.ueMap.get(id);
-        }
+        return sim.getSimCtx().ueMap.get(id);
     }
 
     public static GnbSimContext findGnb(UeRanSim sim, UUID id) {
-        var ctx = sim.getSimCtx();
-        synchronized (ctx) {
-            return ctx.gnbMap.get(id);
-        }
+        return sim.getSimCtx().gnbMap.get(id);
     }
 
+    /**
+     * Links the UE and the gNB directly, so that messages between them are routed without any lookup in the
+     * simulation context.
+     */
     public static void connectUeToGnb(UeSimContext ueContext, GnbSimContext gnbContext) {
-        synchronized (ueContext) {
-            synchronized (gnbContext) {
-                ueContext.connectedGnb = gnbContext.ctxId;
-            }
-        }
+        gnbContext.connectedUes.put(ueContext.ctxId, ueContext);
+        ueContext.connectedGnb = gnbContext;
     }
 
-
     public static HashSet<UUID> allUes(SimulationContext ctx) {
-        var res = new HashSet<UUID>();
-        synchronized (ctx) {
-            for (var item : ctx.ueMap.values()) {
-                res.add(item.ctxId);
-            }
-        }
-        return res;
+        return new HashSet<>(ctx.ueMap.keySet());
     }
 
     public static HashSet<UUID> allGnbs(SimulationContext ctx) {
-        var res = new HashSet<UUID>();
-        synchronized (ctx) {
-            for (var item : ctx.gnbMap.values()) {
-                res.add(item.ctxId);
-            }
-        }
-        return res;
+        return new HashSet<>(ctx.gnbMap.keySet());
     }
 
     public static void triggerOnSend(BaseSimContext ctx, Object msg) {
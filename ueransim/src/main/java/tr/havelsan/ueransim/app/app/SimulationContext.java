@@ -28,18 +28,18 @@ import tr.havelsan.ueransim.app.common.simctx.GnbSimContext;
 import tr.havelsan.ueransim.app.common.simctx.UeSimContext;
 
 import java.util.ArrayList;
-import java.util.HashMap;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class SimulationContext {
-    HashMap<UUID, GnbSimContext> gnbMap;
-    HashMap<UUID, UeSimContext> ueMap;
+    final ConcurrentHashMap<UUID, GnbSimContext> gnbMap;
+    final ConcurrentHashMap<UUID, UeSimContext> ueMap;
     final List<INodeMessagingListener> messagingListeners;
 
     public SimulationContext(List<INodeMessagingListener> messagingListeners) {
-        this.gnbMap = new HashMap<>();
-        this.ueMap = new HashMap<>();
+        this.gnbMap = new ConcurrentHashMap<>();
+        this.ueMap = new ConcurrentHashMap<>();
         this.messagingListeners = new ArrayList<>(messagingListeners);
     }
 }
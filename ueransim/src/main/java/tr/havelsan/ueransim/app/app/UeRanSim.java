@@ -33,6 +33,7 @@ import tr.havelsan.ueransim.app.gnb.GnbNode;
 import tr.havelsan.ueransim.app.gnb.app.GnbAppTask;
 import tr.havelsan.ueransim.app.ue.UeNode;
 import tr.havelsan.ueransim.app.utils.MtsInitializer;
+import tr.havelsan.ueransim.core.Constants;
 import tr.havelsan.ueransim.itms.ItmsId;
 import tr.havelsan.ueransim.mts.ImplicitTypedObject;
 import tr.havelsan.ueransim.mts.MtsContext;
@@ -139,11 +140,44 @@ public class UeRanSim {
             var ueContext = app.createUeSimContext(simCtx, config);
 
             Simulation.registerUe(simCtx, ueContext);
+            Simulation.connectUeToGnb(ueContext, gnbContext);
             UeNode.run(ueContext);
 
-            Simulation.connectUeToGnb(ueContext, gnbContext);
             ueContexts.add(ueContext);
         }
+
+        var shards = app.getUeShards();
+        if (shards != null) {
+            Console.println(AnsiPalette.PAINT_IMPORTANT_INFO, "INFO: UEs are partitioned into %d shards", shards.length);
+            if (Constants.ITMS_METRICS_INTERVAL > 0) {
+                startShardReporter(shards);
+            }
+        }
+    }
+
+    private static void startShardReporter(UeShard[] shards) {
+        var thread = new Thread(() -> {
+            var lastRuns = new long[shards.length];
+            while (true) {
+                try {
+                    Thread.sleep(Constants.ITMS_METRICS_INTERVAL * 1000L);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                for (var shard : shards) {
+                    var scheduler = shard.scheduler;
+                    long runs = scheduler.getCompletedRunCount();
+                    Log.info(Tag.METRICS, "UE shard %d: %d UEs, %d workers, %.1f runs/s, %d pending runs, %d pending timers",
+                            shard.index, shard.getUeCount(), scheduler.getWorkerCount(),
+                            (runs - lastRuns[shard.index]) / (double) Constants.ITMS_METRICS_INTERVAL,
+                            scheduler.getPendingRunCount(), shard.timers.getPendingCount());
+                    lastRuns[shard.index] = runs;
+                }
+            }
+        }, "ue-shard-metrics");
+        thread.setDaemon(true);
+        Log.registerLogger(thread, Logger.GLOBAL);
+        thread.start();
     }
 
     public String[] testCaseNames() {
@@ -0,0 +1,83 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.app.app;
+
+import tr.havelsan.ueransim.itms.ItmsAffinity;
+import tr.havelsan.ueransim.itms.ItmsScheduler;
+import tr.havelsan.ueransim.utils.TimingWheel;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A partition of the simulated UEs. Each shard has its own worker group and its own NAS timing wheel, so UEs of
+ * different shards never compete for the same threads or locks.
+ */
+public class UeShard {
+
+    public final int index;
+    public final ItmsScheduler scheduler;
+    public final TimingWheel timers;
+    private final AtomicInteger ueCount;
+
+    /**
+     * Creates a shard with the given number of workers, which must be positive.
+     * If firstCpu is not negative, worker i is pinned to CPU firstCpu + i (wrapping around the CPU count).
+     */
+    public UeShard(int index, int workerCount, int firstCpu) {
+        if (workerCount <= 0)
+            throw new IllegalArgumentException("workerCount must be positive");
+
+        this.index = index;
+        this.scheduler = new ItmsScheduler(workerCount, workerThreads(index, firstCpu));
+        this.timers = new TimingWheel("ue-shard-" + index + "-timers");
+        this.ueCount = new AtomicInteger();
+    }
+
+    private static ThreadFactory workerThreads(int index, int firstCpu) {
+        var names = ItmsScheduler.namedThreads("ue-shard-" + index + "-worker-");
+        if (firstCpu < 0)
+            return names;
+
+        int cpuCount = Runtime.getRuntime().availableProcessors();
+        var workerIndex = new AtomicInteger();
+        return runnable -> {
+            int cpu = (firstCpu + workerIndex.getAndIncrement()) % cpuCount;
+            return names.newThread(() -> {
+                ItmsAffinity.pinCurrentThread(cpu);
+                runnable.run();
+            });
+        };
+    }
+
+    void addUe() {
+        ueCount.incrementAndGet();
+    }
+
+    public int getUeCount() {
+        return ueCount.get();
+    }
+}
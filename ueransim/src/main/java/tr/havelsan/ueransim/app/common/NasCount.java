@@ -34,7 +34,7 @@ public class NasCount {
 
     public NasCount() {
         this.overflow = new Octet2();
-        this.sqn = new Octet();
+        this.sqn = Octet.valueOf(0);
     }
 
     public NasCount deepCopy() {
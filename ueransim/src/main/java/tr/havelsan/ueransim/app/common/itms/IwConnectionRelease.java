@@ -1,11 +1,14 @@
 package tr.havelsan.ueransim.app.common.itms;
 
+import tr.havelsan.ueransim.itms.ItmsMessage;
+
 import java.util.UUID;
 
-public class IwConnectionRelease {
+public class IwConnectionRelease extends ItmsMessage {
     public final UUID ue;
 
     public IwConnectionRelease(UUID ue) {
+        super(IwKind.CONNECTION_RELEASE);
         this.ue = ue;
     }
 }
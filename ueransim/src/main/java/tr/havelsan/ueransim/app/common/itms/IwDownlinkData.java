@@ -1,11 +1,34 @@
 package tr.havelsan.ueransim.app.common.itms;
 
+import tr.havelsan.ueransim.itms.ItmsMessage;
+import tr.havelsan.ueransim.itms.ItmsMessagePool;
 import tr.havelsan.ueransim.utils.octets.OctetString;
 
-public class IwDownlinkData {
-    public final OctetString ipPacket;
+public class IwDownlinkData extends ItmsMessage {
+    private static final ItmsMessagePool<IwDownlinkData> POOL = new ItmsMessagePool<>(4096, IwDownlinkData::new);
+
+    public OctetString ipPacket;
+
+    private IwDownlinkData() {
+        super(IwKind.DOWNLINK_DATA);
+    }
 
     public IwDownlinkData(OctetString ipPacket) {
+        this();
         this.ipPacket = ipPacket;
     }
+
+    public static IwDownlinkData obtain(OctetString ipPacket) {
+        var msg = POOL.acquire();
+        msg.ipPacket = ipPacket;
+        return msg;
+    }
+
+    /**
+     * Returns the message to the pool, it must not be used afterwards.
+     */
+    public void recycle() {
+        ipPacket = null;
+        POOL.release(this);
+    }
 }
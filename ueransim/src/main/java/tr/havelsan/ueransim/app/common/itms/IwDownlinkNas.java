@@ -24,15 +24,17 @@
 
 package tr.havelsan.ueransim.app.common.itms;
 
+import tr.havelsan.ueransim.itms.ItmsMessage;
 import tr.havelsan.ueransim.utils.octets.OctetString;
 
 import java.util.UUID;
 
-public class IwDownlinkNas {
+public class IwDownlinkNas extends ItmsMessage {
     public final UUID ue;
     public final OctetString nasPdu;
 
     public IwDownlinkNas(UUID ue, OctetString nasPdu) {
+        super(IwKind.DOWNLINK_NAS);
         this.ue = ue;
         this.nasPdu = nasPdu;
     }
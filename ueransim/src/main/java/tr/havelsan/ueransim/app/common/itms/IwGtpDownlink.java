@@ -1,17 +1,43 @@
 package tr.havelsan.ueransim.app.common.itms;
 
-import tr.havelsan.ueransim.utils.octets.OctetString;
+import tr.havelsan.ueransim.gtp.GtpMessage;
+import tr.havelsan.ueransim.itms.ItmsMessage;
+import tr.havelsan.ueransim.itms.ItmsMessagePool;
 
 import java.net.InetAddress;
 
-public class IwGtpDownlink {
-    public final OctetString data;
-    public final InetAddress address;
-    public final int port;
+public class IwGtpDownlink extends ItmsMessage {
+    private static final ItmsMessagePool<IwGtpDownlink> POOL = new ItmsMessagePool<>(4096, IwGtpDownlink::new);
 
-    public IwGtpDownlink(OctetString data, InetAddress address, int port) {
-        this.data = data;
+    public GtpMessage gtp;
+    public InetAddress address;
+    public int port;
+
+    private IwGtpDownlink() {
+        super(IwKind.GTP_DOWNLINK);
+    }
+
+    public IwGtpDownlink(GtpMessage gtp, InetAddress address, int port) {
+        this();
+        this.gtp = gtp;
         this.address = address;
         this.port = port;
     }
+
+    public static IwGtpDownlink obtain(GtpMessage gtp, InetAddress address, int port) {
+        var msg = POOL.acquire();
+        msg.gtp = gtp;
+        msg.address = address;
+        msg.port = port;
+        return msg;
+    }
+
+    /**
+     * Returns the message to the pool, it must not be used afterwards.
+     */
+    public void recycle() {
+        gtp = null;
+        address = null;
+        POOL.release(this);
+    }
 }
@@ -1,4 +1,10 @@
 package tr.havelsan.ueransim.app.common.itms;
 
-public class IwInitialSctpReady {
+import tr.havelsan.ueransim.itms.ItmsMessage;
+
+public class IwInitialSctpReady extends ItmsMessage {
+
+    public IwInitialSctpReady() {
+        super(IwKind.INITIAL_SCTP_READY);
+    }
 }
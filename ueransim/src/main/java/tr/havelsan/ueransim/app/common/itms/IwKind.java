@@ -0,0 +1,76 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.app.common.itms;
+
+public class IwKind {
+
+    public static final int CONNECTION_RELEASE = 1;
+    public static final int DOWNLINK_DATA = 2;
+    public static final int DOWNLINK_NAS = 3;
+    public static final int GTP_DOWNLINK = 4;
+    public static final int INITIAL_SCTP_READY = 5;
+    public static final int NAS_TIMER_EXPIRE = 6;
+    public static final int NGAP_RECEIVE = 7;
+    public static final int NGAP_SEND = 8;
+    public static final int PDU_SESSION_RESOURCE_CREATE = 9;
+    public static final int SCTP_ASSOCIATION_SETUP = 10;
+    public static final int UE_TEST_COMMAND = 11;
+    public static final int UPLINK_DATA = 12;
+    public static final int UPLINK_NAS = 13;
+
+    public static String nameOf(int kind) {
+        switch (kind) {
+            case CONNECTION_RELEASE:
+                return "CONNECTION_RELEASE";
+            case DOWNLINK_DATA:
+                return "DOWNLINK_DATA";
+            case DOWNLINK_NAS:
+                return "DOWNLINK_NAS";
+            case GTP_DOWNLINK:
+                return "GTP_DOWNLINK";
+            case INITIAL_SCTP_READY:
+                return "INITIAL_SCTP_READY";
+            case NAS_TIMER_EXPIRE:
+                return "NAS_TIMER_EXPIRE";
+            case NGAP_RECEIVE:
+                return "NGAP_RECEIVE";
+            case NGAP_SEND:
+                return "NGAP_SEND";
+            case PDU_SESSION_RESOURCE_CREATE:
+                return "PDU_SESSION_RESOURCE_CREATE";
+            case SCTP_ASSOCIATION_SETUP:
+                return "SCTP_ASSOCIATION_SETUP";
+            case UE_TEST_COMMAND:
+                return "UE_TEST_COMMAND";
+            case UPLINK_DATA:
+                return "UPLINK_DATA";
+            case UPLINK_NAS:
+                return "UPLINK_NAS";
+            default:
+                return String.valueOf(kind);
+        }
+    }
+}
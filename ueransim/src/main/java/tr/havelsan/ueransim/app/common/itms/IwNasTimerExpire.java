@@ -25,11 +25,13 @@
 package tr.havelsan.ueransim.app.common.itms;
 
 import tr.havelsan.ueransim.app.ue.nas.NasTimer;
+import tr.havelsan.ueransim.itms.ItmsMessage;
 
-public class IwNasTimerExpire {
+public class IwNasTimerExpire extends ItmsMessage {
     public final NasTimer timer;
 
     public IwNasTimerExpire(NasTimer timer) {
+        super(IwKind.NAS_TIMER_EXPIRE);
         this.timer = timer;
     }
 }
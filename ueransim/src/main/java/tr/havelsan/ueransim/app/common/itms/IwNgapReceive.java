@@ -25,16 +25,34 @@
 package tr.havelsan.ueransim.app.common.itms;
 
 import tr.havelsan.ueransim.app.common.Guami;
+import tr.havelsan.ueransim.itms.ItmsMessage;
+import tr.havelsan.ueransim.ngap0.NgapEncoding;
+import tr.havelsan.ueransim.ngap0.NgapHeader;
 import tr.havelsan.ueransim.ngap0.pdu.NGAP_PDU;
 
-public class IwNgapReceive {
+public class IwNgapReceive extends ItmsMessage {
     public final Guami associatedAmf;
     public final int stream;
-    public final NGAP_PDU ngapPdu;
+    public final byte[] data;
+    public final NgapHeader header;
 
-    public IwNgapReceive(Guami associatedAmf, int stream, NGAP_PDU ngapPdu) {
+    private NGAP_PDU ngapPdu;
+
+    public IwNgapReceive(Guami associatedAmf, int stream, byte[] data, NgapHeader header) {
+        super(IwKind.NGAP_RECEIVE);
         this.associatedAmf = associatedAmf;
         this.stream = stream;
-        this.ngapPdu = ngapPdu;
+        this.data = data;
+        this.header = header;
+    }
+
+    /**
+     * Decodes the received PDU on first access.
+     */
+    public NGAP_PDU getNgapPdu() {
+        if (ngapPdu == null) {
+            ngapPdu = NgapEncoding.decodeAper(data);
+        }
+        return ngapPdu;
     }
 }
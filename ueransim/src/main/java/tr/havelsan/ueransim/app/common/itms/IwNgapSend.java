@@ -25,13 +25,15 @@
 package tr.havelsan.ueransim.app.common.itms;
 
 import tr.havelsan.ueransim.app.common.Guami;
+import tr.havelsan.ueransim.itms.ItmsMessage;
 
-public class IwNgapSend {
+public class IwNgapSend extends ItmsMessage {
     public final int streamNumber;
     public final byte[] data;
     public final Guami associatedAmf;
 
     public IwNgapSend(int streamNumber, byte[] data, Guami associatedAmf) {
+        super(IwKind.NGAP_SEND);
         this.streamNumber = streamNumber;
         this.data = data;
         this.associatedAmf = associatedAmf;
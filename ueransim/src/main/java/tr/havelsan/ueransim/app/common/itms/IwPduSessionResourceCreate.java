@@ -1,11 +1,13 @@
 package tr.havelsan.ueransim.app.common.itms;
 
 import tr.havelsan.ueransim.app.common.PduSessionResource;
+import tr.havelsan.ueransim.itms.ItmsMessage;
 
-public class IwPduSessionResourceCreate {
+public class IwPduSessionResourceCreate extends ItmsMessage {
     public final PduSessionResource pduSessionResource;
 
     public IwPduSessionResourceCreate(PduSessionResource pduSessionResource) {
+        super(IwKind.PDU_SESSION_RESOURCE_CREATE);
         this.pduSessionResource = pduSessionResource;
     }
 }
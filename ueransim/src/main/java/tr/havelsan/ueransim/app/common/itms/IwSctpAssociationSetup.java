@@ -25,13 +25,15 @@
 package tr.havelsan.ueransim.app.common.itms;
 
 import tr.havelsan.ueransim.app.common.Guami;
+import tr.havelsan.ueransim.itms.ItmsMessage;
 import tr.havelsan.ueransim.sctp.SctpAssociation;
 
-public class IwSctpAssociationSetup {
+public class IwSctpAssociationSetup extends ItmsMessage {
     public final Guami guami;
     public final SctpAssociation association;
 
     public IwSctpAssociationSetup(Guami guami, SctpAssociation association) {
+        super(IwKind.SCTP_ASSOCIATION_SETUP);
         this.guami = guami;
         this.association = association;
     }
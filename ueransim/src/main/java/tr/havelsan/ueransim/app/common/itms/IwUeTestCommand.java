@@ -25,11 +25,13 @@
 package tr.havelsan.ueransim.app.common.itms;
 
 import tr.havelsan.ueransim.app.common.testcmd.TestCmd;
+import tr.havelsan.ueransim.itms.ItmsMessage;
 
-public class IwUeTestCommand {
+public class IwUeTestCommand extends ItmsMessage {
     public final TestCmd cmd;
 
     public IwUeTestCommand(TestCmd cmd) {
+        super(IwKind.UE_TEST_COMMAND);
         this.cmd = cmd;
     }
 }
@@ -1,11 +1,34 @@
 package tr.havelsan.ueransim.app.common.itms;
 
+import tr.havelsan.ueransim.itms.ItmsMessage;
+import tr.havelsan.ueransim.itms.ItmsMessagePool;
 import tr.havelsan.ueransim.utils.octets.OctetString;
 
-public class IwUplinkData {
-    public final OctetString ipData;
+public class IwUplinkData extends ItmsMessage {
+    private static final ItmsMessagePool<IwUplinkData> POOL = new ItmsMessagePool<>(4096, IwUplinkData::new);
+
+    public OctetString ipData;
+
+    private IwUplinkData() {
+        super(IwKind.UPLINK_DATA);
+    }
 
     public IwUplinkData(OctetString ipData) {
+        this();
         this.ipData = ipData;
     }
+
+    public static IwUplinkData obtain(OctetString ipData) {
+        var msg = POOL.acquire();
+        msg.ipData = ipData;
+        return msg;
+    }
+
+    /**
+     * Returns the message to the pool, it must not be used afterwards.
+     */
+    public void recycle() {
+        ipData = null;
+        POOL.release(this);
+    }
 }
@@ -24,15 +24,17 @@
 
 package tr.havelsan.ueransim.app.common.itms;
 
+import tr.havelsan.ueransim.itms.ItmsMessage;
 import tr.havelsan.ueransim.utils.octets.OctetString;
 
 import java.util.UUID;
 
-public class IwUplinkNas {
+public class IwUplinkNas extends ItmsMessage {
     public final UUID ue;
     public final OctetString nasPdu;
 
     public IwUplinkNas(UUID ue, OctetString nasPdu) {
+        super(IwKind.UPLINK_NAS);
         this.ue = ue;
         this.nasPdu = nasPdu;
     }
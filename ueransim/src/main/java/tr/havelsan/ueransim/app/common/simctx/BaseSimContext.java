@@ -35,8 +35,12 @@ public class BaseSimContext {
     public final Itms itms;
 
     public BaseSimContext(UeRanSim sim) {
+        this(sim, new Itms());
+    }
+
+    public BaseSimContext(UeRanSim sim, Itms itms) {
         this.sim = sim;
         this.ctxId = UUID.randomUUID();
-        this.itms = new Itms();
+        this.itms = itms;
     }
 }
@@ -30,10 +30,14 @@ import tr.havelsan.ueransim.app.common.configs.GnbConfig;
 import tr.havelsan.ueransim.app.common.contexts.GnbAmfContext;
 import tr.havelsan.ueransim.app.common.contexts.GnbUeContext;
 import tr.havelsan.ueransim.app.common.contexts.GtpUContext;
+import tr.havelsan.ueransim.itms.Itms;
+import tr.havelsan.ueransim.ngap0.NgapTemplateCache;
+import tr.havelsan.ueransim.ngap0.ies.choices.NGAP_UserLocationInformation;
 import tr.havelsan.ueransim.utils.console.Logger;
 
 import java.util.HashMap;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class GnbSimContext extends BaseSimContext {
     public Logger logger;
@@ -41,13 +45,22 @@ public class GnbSimContext extends BaseSimContext {
 
     public HashMap<Guami, GnbAmfContext> amfContexts;
     public HashMap<UUID, GnbUeContext> ueContexts;
+    public final ConcurrentHashMap<UUID, UeSimContext> connectedUes;
     public long ueNgapIdCounter;
 
     public GtpUContext gtpUCtx;
 
+    public NGAP_UserLocationInformation userLocationInformation;
+    public NgapTemplateCache ngapTemplates;
+
     public GnbSimContext(UeRanSim sim) {
-        super(sim);
+        this(sim, new Itms());
+    }
+
+    public GnbSimContext(UeRanSim sim, Itms itms) {
+        super(sim, itms);
         this.amfContexts = new HashMap<>();
         this.ueContexts = new HashMap<>();
+        this.connectedUes = new ConcurrentHashMap<>();
     }
 }
@@ -31,10 +31,10 @@ import tr.havelsan.ueransim.app.common.configs.UeConfig;
 import tr.havelsan.ueransim.app.common.contexts.MmContext;
 import tr.havelsan.ueransim.app.common.contexts.SmContext;
 import tr.havelsan.ueransim.app.ue.nas.NasSecurityContext;
+import tr.havelsan.ueransim.itms.Itms;
+import tr.havelsan.ueransim.utils.TimingWheel;
 import tr.havelsan.ueransim.utils.console.Logger;
 
-import java.util.UUID;
-
 public class UeSimContext extends BaseSimContext {
     public Logger logger;
 
@@ -42,7 +42,8 @@ public class UeSimContext extends BaseSimContext {
     public UeConfig ueConfig;
     public UeTimers ueTimers;
 
-    public UUID connectedGnb;
+    public volatile GnbSimContext connectedGnb;
+    public TimingWheel timerWheel;
 
     public MmContext mmCtx;
     public SmContext smCtx;
@@ -50,7 +51,11 @@ public class UeSimContext extends BaseSimContext {
     public NasSecurityContext nonCurrentNsCtx;
 
     public UeSimContext(UeRanSim sim) {
-        super(sim);
+        this(sim, new Itms());
+    }
+
+    public UeSimContext(UeRanSim sim, Itms itms) {
+        super(sim, itms);
         this.ueTimers = new UeTimers(this);
         this.mmCtx = new MmContext();
         this.smCtx = new SmContext();
@@ -25,6 +25,7 @@
 package tr.havelsan.ueransim.app.gnb;
 
 import tr.havelsan.ueransim.app.app.AppConfig;
+import tr.havelsan.ueransim.app.common.itms.IwKind;
 import tr.havelsan.ueransim.app.common.simctx.GnbSimContext;
 import tr.havelsan.ueransim.app.gnb.app.GnbAppTask;
 import tr.havelsan.ueransim.app.gnb.gtp.GtpTask;
@@ -32,7 +33,9 @@ import tr.havelsan.ueransim.app.gnb.gtp.TunTask;
 import tr.havelsan.ueransim.app.gnb.mr.MrTask;
 import tr.havelsan.ueransim.app.gnb.ngap.NgapTask;
 import tr.havelsan.ueransim.app.gnb.sctp.SctpTask;
+import tr.havelsan.ueransim.core.Constants;
 import tr.havelsan.ueransim.itms.ItmsId;
+import tr.havelsan.ueransim.itms.ItmsLogMetricsSink;
 import tr.havelsan.ueransim.itms.ItmsTask;
 import tr.havelsan.ueransim.utils.console.Log;
 
@@ -52,6 +55,10 @@ public class GnbNode {
                 new GtpTask(itms, ItmsId.GNB_TASK_GTP, ctx),
         };
 
+        if (Constants.ITMS_METRICS_INTERVAL > 0) {
+            itms.enableMetrics(new ItmsLogMetricsSink(IwKind::nameOf));
+        }
+
         for (var task : tasks) {
             Log.registerLogger(task.thread, ctx.logger);
         }
@@ -61,5 +68,25 @@ public class GnbNode {
         for (var task : tasks) {
             itms.startTask(task);
         }
+
+        if (Constants.ITMS_METRICS_INTERVAL > 0) {
+            startMetricsReporter(ctx);
+        }
+    }
+
+    private static void startMetricsReporter(GnbSimContext ctx) {
+        var thread = new Thread(() -> {
+            while (true) {
+                try {
+                    Thread.sleep(Constants.ITMS_METRICS_INTERVAL * 1000L);
+                } catch (InterruptedException e) {
+                    break;
+                }
+                ctx.itms.reportMetrics();
+            }
+        }, "itms-metrics");
+        thread.setDaemon(true);
+        Log.registerLogger(thread, ctx.logger);
+        thread.start();
     }
 }
@@ -1,6 +1,6 @@
 package tr.havelsan.ueransim.app.gnb.app;
 
-import tr.havelsan.ueransim.app.common.itms.IwInitialSctpReady;
+import tr.havelsan.ueransim.app.common.itms.IwKind;
 import tr.havelsan.ueransim.app.common.simctx.GnbSimContext;
 import tr.havelsan.ueransim.itms.Itms;
 import tr.havelsan.ueransim.itms.ItmsTask;
@@ -19,7 +19,7 @@ public class GnbAppTask extends ItmsTask {
     public void main() {
         while (true) {
             var msg = ctx.itms.receiveMessage(this);
-            if (msg instanceof IwInitialSctpReady) {
+            if (msg.kind == IwKind.INITIAL_SCTP_READY) {
                 initialSctpReady = true;
             }
         }
@@ -4,9 +4,11 @@ import tr.havelsan.ueransim.app.common.PduSessionResource;
 import tr.havelsan.ueransim.app.common.contexts.GtpUContext;
 import tr.havelsan.ueransim.app.common.itms.IwDownlinkData;
 import tr.havelsan.ueransim.app.common.itms.IwGtpDownlink;
+import tr.havelsan.ueransim.app.common.itms.IwKind;
 import tr.havelsan.ueransim.app.common.itms.IwPduSessionResourceCreate;
 import tr.havelsan.ueransim.app.common.itms.IwUplinkData;
 import tr.havelsan.ueransim.app.common.simctx.GnbSimContext;
+import tr.havelsan.ueransim.core.Constants;
 import tr.havelsan.ueransim.gtp.GtpDecoder;
 import tr.havelsan.ueransim.gtp.GtpEncoder;
 import tr.havelsan.ueransim.gtp.GtpMessage;
@@ -14,30 +16,45 @@ import tr.havelsan.ueransim.gtp.ext.PduSessionContainerExtHeader;
 import tr.havelsan.ueransim.gtp.pdusup.UlPduSessionInformation;
 import tr.havelsan.ueransim.itms.Itms;
 import tr.havelsan.ueransim.itms.ItmsId;
+import tr.havelsan.ueransim.itms.ItmsMailbox;
+import tr.havelsan.ueransim.itms.ItmsMessage;
+import tr.havelsan.ueransim.itms.ItmsOverflowPolicy;
 import tr.havelsan.ueransim.itms.ItmsTask;
+import tr.havelsan.ueransim.utils.OctetOutputStream;
 import tr.havelsan.ueransim.utils.Tag;
 import tr.havelsan.ueransim.utils.bits.Bit6;
 import tr.havelsan.ueransim.utils.console.Log;
 import tr.havelsan.ueransim.utils.octets.Octet;
-import tr.havelsan.ueransim.utils.octets.OctetString;
 
 import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 
 // TODO: this class is curently POC.
 public class GtpTask extends ItmsTask {
 
+    private static final int MAX_BATCH_SIZE = 64;
+    private static final int MAX_DATAGRAM_SIZE = 65535;
+
     private final GnbSimContext ctx;
+    private final ArrayList<ItmsMessage> downlinkBatch;
+    // Reused for every uplink packet, only accessed by the task thread
+    private final OctetOutputStream sendStream;
+    private final ByteBuffer sendBuffer;
     private GtpUContext gtpCtx;
     private PduSessionResource pduSession;
     private DatagramSocket socket;
 
     public GtpTask(Itms itms, int taskId, GnbSimContext ctx) {
-        super(itms, taskId);
+        super(itms, taskId, ItmsMailbox.create(Constants.DATA_PLANE_QUEUE_CAPACITY,
+                ItmsOverflowPolicy.parse(Constants.DATA_PLANE_OVERFLOW_POLICY)));
         this.ctx = ctx;
+        this.downlinkBatch = new ArrayList<>(MAX_BATCH_SIZE);
+        this.sendStream = new OctetOutputStream(true, new byte[2048]);
+        this.sendBuffer = ByteBuffer.allocate(MAX_DATAGRAM_SIZE);
     }
 
     @Override
@@ -51,9 +68,9 @@ public class GtpTask extends ItmsTask {
         }
 
         var receiverThread = new Thread(() -> {
-            var buffer = new byte[65535];
+            var buffer = ByteBuffer.allocate(MAX_DATAGRAM_SIZE);
 
-            var datagram = new DatagramPacket(buffer, buffer.length);
+            var datagram = new DatagramPacket(buffer.array(), buffer.capacity());
 
             while (true) {
                 try {
@@ -61,7 +78,17 @@ public class GtpTask extends ItmsTask {
                 } catch (IOException e) {
                     throw new RuntimeException(e);
                 }
-                itms.sendMessage(ItmsId.GNB_TASK_GTP, new IwGtpDownlink(new OctetString(datagram.getData(), datagram.getOffset(), datagram.getLength()), datagram.getAddress(), datagram.getPort()));
+
+                // Header is parsed in place, only the payload is copied out of the receive buffer
+                buffer.clear().limit(datagram.getLength());
+                GtpMessage gtp;
+                try {
+                    gtp = GtpDecoder.decode(buffer);
+                } catch (Exception e) {
+                    Log.error(Tag.CONNECTION, "GTP-U message could not be decoded (%s)", e.toString());
+                    continue;
+                }
+                itms.sendMessage(ItmsId.GNB_TASK_GTP, IwGtpDownlink.obtain(gtp, datagram.getAddress(), datagram.getPort()));
             }
         });
 
@@ -69,15 +96,34 @@ public class GtpTask extends ItmsTask {
 
         receiverThread.start();
 
+        var batch = new ArrayList<ItmsMessage>(MAX_BATCH_SIZE);
+
         while (true) {
-            var msg = itms.receiveMessage(this);
-            if (msg instanceof IwUplinkData) {
-                handleUplinkData((IwUplinkData) msg);
-            } else if (msg instanceof IwPduSessionResourceCreate) {
-                this.pduSession = ((IwPduSessionResourceCreate) msg).pduSessionResource;
-            } else if (msg instanceof IwGtpDownlink) {
-                handleDownlinkGtp((IwGtpDownlink) msg);
+            itms.receiveMessages(this, batch, MAX_BATCH_SIZE);
+            for (var msg : batch) {
+                switch (msg.kind) {
+                    case IwKind.UPLINK_DATA: {
+                        var uplinkData = (IwUplinkData) msg;
+                        handleUplinkData(uplinkData);
+                        uplinkData.recycle();
+                        break;
+                    }
+                    case IwKind.PDU_SESSION_RESOURCE_CREATE:
+                        this.pduSession = ((IwPduSessionResourceCreate) msg).pduSessionResource;
+                        break;
+                    case IwKind.GTP_DOWNLINK: {
+                        var gtpDownlink = (IwGtpDownlink) msg;
+                        handleDownlinkGtp(gtpDownlink);
+                        gtpDownlink.recycle();
+                        break;
+                    }
+                }
             }
+            batch.clear();
+
+            // Downlink packets of a batch are passed to the TUN task at once
+            itms.sendMessages(ItmsId.GNB_TASK_TUN, downlinkBatch);
+            downlinkBatch.clear();
         }
     }
 
@@ -93,7 +139,7 @@ public class GtpTask extends ItmsTask {
 
         var gtp = new GtpMessage();
         gtp.payload = data;
-        gtp.msgType = new Octet(GtpMessage.MT_G_PDU);
+        gtp.msgType = Octet.valueOf(GtpMessage.MT_G_PDU);
         gtp.teid = pduSession.upLayer.gTPTunnel.gTP_TEID.value.get4(0);
         gtp.extHeaders = new ArrayList<>();
 
@@ -109,8 +155,13 @@ public class GtpTask extends ItmsTask {
 
     private void sendGtp(GtpMessage msg, byte[] address) {
         try {
-            var data = GtpEncoder.encode(msg);
-            var pck = new DatagramPacket(data, data.length, InetAddress.getByAddress(address), 2152);
+            sendStream.reset();
+            GtpEncoder.encode(msg, sendStream);
+
+            sendBuffer.clear();
+            sendStream.writeTo(sendBuffer);
+
+            var pck = new DatagramPacket(sendBuffer.array(), sendBuffer.position(), InetAddress.getByAddress(address), 2152);
             socket.send(pck);
         } catch (Exception e) {
             throw new RuntimeException(e);
@@ -118,13 +169,13 @@ public class GtpTask extends ItmsTask {
     }
 
     private void handleDownlinkGtp(IwGtpDownlink msg) {
-        var gtp = GtpDecoder.decode(msg.data);
+        var gtp = msg.gtp;
         if (gtp.msgType.intValue() != GtpMessage.MT_G_PDU) {
             Log.warning(Tag.NOT_IMPL_YET, "Unhandled GTP-U message type: " + gtp.msgType);
             return;
         }
 
         var ipPacket = gtp.payload;
-        itms.sendMessage(ItmsId.GNB_TASK_TUN, new IwDownlinkData(ipPacket));
+        downlinkBatch.add(IwDownlinkData.obtain(ipPacket));
     }
 }
\ No newline at end of file
@@ -1,10 +1,15 @@
 package tr.havelsan.ueransim.app.gnb.gtp;
 
 import tr.havelsan.ueransim.app.common.itms.IwDownlinkData;
+import tr.havelsan.ueransim.app.common.itms.IwKind;
 import tr.havelsan.ueransim.app.common.itms.IwUplinkData;
 import tr.havelsan.ueransim.app.common.simctx.GnbSimContext;
+import tr.havelsan.ueransim.core.Constants;
 import tr.havelsan.ueransim.itms.Itms;
 import tr.havelsan.ueransim.itms.ItmsId;
+import tr.havelsan.ueransim.itms.ItmsMailbox;
+import tr.havelsan.ueransim.itms.ItmsMessage;
+import tr.havelsan.ueransim.itms.ItmsOverflowPolicy;
 import tr.havelsan.ueransim.itms.ItmsTask;
 import tr.havelsan.ueransim.utils.Tag;
 import tr.havelsan.ueransim.utils.console.Log;
@@ -14,9 +19,12 @@ import java.io.IOException;
 import java.net.DatagramPacket;
 import java.net.DatagramSocket;
 import java.net.InetAddress;
+import java.util.ArrayList;
 
 public class TunTask extends ItmsTask {
 
+    private static final int MAX_BATCH_SIZE = 64;
+
     private final GnbSimContext ctx;
     private DatagramSocket bridge;
     private int bridgeEndpointAddr;
@@ -25,7 +33,8 @@ public class TunTask extends ItmsTask {
     private PacketMeter packetMeter;
 
     public TunTask(Itms itms, int taskId, GnbSimContext ctx) {
-        super(itms, taskId);
+        super(itms, taskId, ItmsMailbox.create(Constants.DATA_PLANE_QUEUE_CAPACITY,
+                ItmsOverflowPolicy.parse(Constants.DATA_PLANE_OVERFLOW_POLICY)));
         this.ctx = ctx;
         this.packetMeter = new PacketMeter();
     }
@@ -45,11 +54,18 @@ public class TunTask extends ItmsTask {
         Log.registerLogger(receiverThread, Log.getLoggerOrDefault(thread));
         receiverThread.start();
 
+        var batch = new ArrayList<ItmsMessage>(MAX_BATCH_SIZE);
+
         while (true) {
-            var msg = itms.receiveMessage(this);
-            if (msg instanceof IwDownlinkData) {
-                handleDownlinkData((IwDownlinkData) msg);
+            itms.receiveMessages(this, batch, MAX_BATCH_SIZE);
+            for (var msg : batch) {
+                if (msg.kind == IwKind.DOWNLINK_DATA) {
+                    var downlinkData = (IwDownlinkData) msg;
+                    handleDownlinkData(downlinkData);
+                    downlinkData.recycle();
+                }
             }
+            batch.clear();
         }
     }
 
@@ -85,7 +101,7 @@ public class TunTask extends ItmsTask {
                 }
             }
 
-            itms.sendMessage(ItmsId.GNB_TASK_MR, new IwUplinkData(new OctetString(datagram.getData(), datagram.getOffset(), datagram.getLength())));
+            itms.sendMessage(ItmsId.GNB_TASK_MR, IwUplinkData.obtain(new OctetString(datagram.getData(), datagram.getOffset(), datagram.getLength())));
         }
     }
 
@@ -24,10 +24,9 @@
 
 package tr.havelsan.ueransim.app.gnb.mr;
 
-import tr.havelsan.ueransim.app.app.Simulation;
 import tr.havelsan.ueransim.app.common.itms.IwConnectionRelease;
 import tr.havelsan.ueransim.app.common.itms.IwDownlinkNas;
-import tr.havelsan.ueransim.app.common.itms.IwUplinkData;
+import tr.havelsan.ueransim.app.common.itms.IwKind;
 import tr.havelsan.ueransim.app.common.itms.IwUplinkNas;
 import tr.havelsan.ueransim.app.common.simctx.GnbSimContext;
 import tr.havelsan.ueransim.app.gnb.ngap.NgapNasTransport;
@@ -49,19 +48,25 @@ public class MrTask extends ItmsTask {
     public void main() {
         while (true) {
             var msg = itms.receiveMessage(this);
-            if (msg instanceof IwUplinkNas) {
-                var w = (IwUplinkNas) msg;
-                NgapNasTransport.receiveUplinkNasTransport(ctx, w.ue, NasDecoder.nasPdu(w.nasPdu));
-            } else if (msg instanceof IwDownlinkNas) {
-                var w = (IwDownlinkNas) msg;
-                // TODO
-                Simulation.findUe(ctx.sim, w.ue).itms.sendMessage(ItmsId.UE_TASK_MR, new IwDownlinkNas(w.ue, w.nasPdu));
-            } else if (msg instanceof IwConnectionRelease) {
-                var w = (IwConnectionRelease) msg;
-                // TODO
-                Simulation.findUe(ctx.sim, w.ue).itms.sendMessage(ItmsId.UE_TASK_MR, new IwConnectionRelease(w.ue));
-            } else if (msg instanceof IwUplinkData) {
-                itms.sendMessage(ItmsId.GNB_TASK_GTP, msg);
+            switch (msg.kind) {
+                case IwKind.UPLINK_NAS: {
+                    var w = (IwUplinkNas) msg;
+                    NgapNasTransport.receiveUplinkNasTransport(ctx, w.ue, NasDecoder.nasPdu(w.nasPdu));
+                    break;
+                }
+                case IwKind.DOWNLINK_NAS: {
+                    var w = (IwDownlinkNas) msg;
+                    ctx.connectedUes.get(w.ue).itms.sendMessage(ItmsId.UE_TASK_MR, new IwDownlinkNas(w.ue, w.nasPdu));
+                    break;
+                }
+                case IwKind.CONNECTION_RELEASE: {
+                    var w = (IwConnectionRelease) msg;
+                    ctx.connectedUes.get(w.ue).itms.sendMessage(ItmsId.UE_TASK_MR, new IwConnectionRelease(w.ue));
+                    break;
+                }
+                case IwKind.UPLINK_DATA:
+                    itms.sendMessage(ItmsId.GNB_TASK_GTP, msg);
+                    break;
             }
         }
     }
@@ -25,20 +25,19 @@
 package tr.havelsan.ueransim.app.gnb.ngap;
 
 import tr.havelsan.ueransim.app.app.Simulation;
-import tr.havelsan.ueransim.app.common.Guami;
 import tr.havelsan.ueransim.app.common.exceptions.NgapErrorException;
+import tr.havelsan.ueransim.app.common.itms.IwKind;
 import tr.havelsan.ueransim.app.common.itms.IwNgapReceive;
 import tr.havelsan.ueransim.app.common.itms.IwSctpAssociationSetup;
 import tr.havelsan.ueransim.app.common.simctx.GnbSimContext;
 import tr.havelsan.ueransim.itms.Itms;
 import tr.havelsan.ueransim.itms.ItmsTask;
 import tr.havelsan.ueransim.ngap0.Ngap;
+import tr.havelsan.ueransim.ngap0.NgapHeader;
 import tr.havelsan.ueransim.ngap0.NgapXerEncoder;
-import tr.havelsan.ueransim.ngap0.core.NGAP_Value;
+import tr.havelsan.ueransim.ngap0.core.NGAP_BaseMessage;
 import tr.havelsan.ueransim.ngap0.ies.choices.NGAP_Cause;
-import tr.havelsan.ueransim.ngap0.ies.choices.NGAP_UE_NGAP_IDs;
 import tr.havelsan.ueransim.ngap0.ies.enumerations.NGAP_CauseProtocol;
-import tr.havelsan.ueransim.ngap0.ies.integers.NGAP_RAN_UE_NGAP_ID;
 import tr.havelsan.ueransim.ngap0.msg.*;
 import tr.havelsan.ueransim.ngap0.pdu.NGAP_PDU;
 import tr.havelsan.ueransim.utils.Tag;
@@ -59,60 +58,42 @@ public class NgapTask extends ItmsTask {
     public void main() {
         while (true) {
             var msg = itms.receiveMessage(this);
-            if (msg instanceof IwNgapReceive) {
-                receiveNgap(((IwNgapReceive) msg).associatedAmf, ((IwNgapReceive) msg).stream, ((IwNgapReceive) msg).ngapPdu);
-            } else if (msg instanceof IwSctpAssociationSetup) {
-                NgapInterfaceManagement.sendNgSetupRequest(ctx, ((IwSctpAssociationSetup) msg).guami);
+            switch (msg.kind) {
+                case IwKind.NGAP_RECEIVE:
+                    receiveNgap((IwNgapReceive) msg);
+                    break;
+                case IwKind.SCTP_ASSOCIATION_SETUP:
+                    NgapInterfaceManagement.sendNgSetupRequest(ctx, ((IwSctpAssociationSetup) msg).guami);
+                    break;
             }
         }
     }
 
-    private void receiveNgap(Guami associatedAmf, int stream, NGAP_PDU ngapPdu) {
-        Log.debug(Tag.MESSAGING, "Received NGAP: %s", ngapPdu.getClass().getSimpleName());
-        Log.debug(Tag.MESSAGING, Utils.xmlToJson(NgapXerEncoder.encode(ngapPdu)));
+    private void receiveNgap(IwNgapReceive msg) {
+        var associatedAmf = msg.associatedAmf;
+        var stream = msg.stream;
 
-        var ngapMessage = Ngap.getMessageFromPdu(ngapPdu);
-        if (ngapMessage == null) {
-            return;
+        // The stream checks only need the header, the full PDU is decoded afterwards. If the header could not be
+        // scanned, the PDU is decoded first and the header is taken from the decoded message.
+        var header = msg.header;
+        NGAP_BaseMessage ngapMessage = null;
+        if (header == null) {
+            ngapMessage = decodeMessage(msg);
+            if (ngapMessage == null) {
+                return;
+            }
+            header = NgapHeader.of(ngapMessage);
         }
 
-        Simulation.triggerOnReceive(ctx, ngapMessage);
-
         try {
             if (!ctx.config.ignoreStreamIds) {
-                NGAP_Value ie = ngapMessage.getProtocolIe(NGAP_UE_NGAP_IDs.class);
-                if (ie != null) {
-                    if (stream == 0) {
-                        Log.error(Tag.CONNECTION, "received stream number == 0 in UE-associated signalling");
-                        throw new NgapErrorException(NGAP_CauseProtocol.UNSPECIFIED);
-                    }
-                    var ueCtx = ctx.ueContexts.get(NgapUeManagement.findAssociatedUeForUeNgapIds(ctx, ngapMessage));
-                    if (ueCtx.downlinkStream == 0) {
-                        ueCtx.downlinkStream = stream;
-                    } else if (ueCtx.downlinkStream != stream) {
-                        Log.error(Tag.CONNECTION, "received stream number is inconsistent. received %d, expected :%d", stream, ueCtx.downlinkStream);
-                        throw new NgapErrorException(NGAP_CauseProtocol.UNSPECIFIED);
-                    }
-                } else {
-                    ie = ngapMessage.getProtocolIe(NGAP_RAN_UE_NGAP_ID.class);
-                    if (ie != null) {
-                        if (stream == 0) {
-                            Log.error(Tag.CONNECTION, "received stream number == 0 in UE-associated signalling");
-                            throw new NgapErrorException(NGAP_CauseProtocol.UNSPECIFIED);
-                        }
-                        var ueCtx = ctx.ueContexts.get(NgapUeManagement.findAssociatedUeIdDefault(ctx, ngapMessage));
-                        if (ueCtx.downlinkStream == 0) {
-                            ueCtx.downlinkStream = stream;
-                        } else if (ueCtx.downlinkStream != stream) {
-                            Log.error(Tag.CONNECTION, "received stream number is inconsistent. received %d, expected :%d", stream, ueCtx.downlinkStream);
-                            throw new NgapErrorException(NGAP_CauseProtocol.UNSPECIFIED);
-                        }
-                    } else {
-                        if (stream != 0) {
-                            Log.error(Tag.CONNECTION, "received stream number != 0 in non-UE-associated signalling");
-                            throw new NgapErrorException(NGAP_CauseProtocol.UNSPECIFIED);
-                        }
-                    }
+                checkStream(header, stream);
+            }
+
+            if (ngapMessage == null) {
+                ngapMessage = decodeMessage(msg);
+                if (ngapMessage == null) {
+                    return;
                 }
             }
 
@@ -138,6 +119,12 @@ public class NgapTask extends ItmsTask {
                 Log.error(Tag.MESSAGING, "Unhandled message received: %s", ngapMessage.getClass().getSimpleName());
             }
         } catch (NgapErrorException e) {
+            // The stream is checked before decoding, but PDUs that cannot be decoded or are not known messages are
+            // still dropped silently, as they were before the header scan
+            if (ngapMessage == null && decodeMessage(msg) == null) {
+                return;
+            }
+
             var errorIndication = new NGAP_ErrorIndication();
             var ngapCause = new NGAP_Cause();
             ngapCause.setPresentValue(e.cause);
@@ -150,4 +137,49 @@ public class NgapTask extends ItmsTask {
             }
         }
     }
+
+    /**
+     * Returns null if the PDU could not be decoded or is not a known message, in which case the PDU is dropped.
+     */
+    private NGAP_BaseMessage decodeMessage(IwNgapReceive msg) {
+        NGAP_PDU ngapPdu;
+        try {
+            ngapPdu = msg.getNgapPdu();
+        } catch (RuntimeException e) {
+            Log.error(Tag.MESSAGING, "NGAP PDU could not be decoded on stream %d, dropped (%s)", msg.stream, e.toString());
+            return null;
+        }
+
+        if (Log.isDebugEnabled()) {
+            Log.debug(Tag.MESSAGING, "Received NGAP: %s", ngapPdu.getClass().getSimpleName());
+            Log.debug(Tag.MESSAGING, Utils.xmlToJson(NgapXerEncoder.encode(ngapPdu)));
+        }
+
+        var ngapMessage = Ngap.getMessageFromPdu(ngapPdu);
+        if (ngapMessage != null) {
+            Simulation.triggerOnReceive(ctx, ngapMessage);
+        }
+        return ngapMessage;
+    }
+
+    private void checkStream(NgapHeader header, int stream) {
+        if (header.isUeAssociated()) {
+            if (stream == 0) {
+                Log.error(Tag.CONNECTION, "received stream number == 0 in UE-associated signalling");
+                throw new NgapErrorException(NGAP_CauseProtocol.UNSPECIFIED);
+            }
+            var ueCtx = ctx.ueContexts.get(NgapUeManagement.findAssociatedUeId(ctx, header));
+            if (ueCtx.downlinkStream == 0) {
+                ueCtx.downlinkStream = stream;
+            } else if (ueCtx.downlinkStream != stream) {
+                Log.error(Tag.CONNECTION, "received stream number is inconsistent. received %d, expected :%d", stream, ueCtx.downlinkStream);
+                throw new NgapErrorException(NGAP_CauseProtocol.UNSPECIFIED);
+            }
+        } else {
+            if (stream != 0) {
+                Log.error(Tag.CONNECTION, "received stream number != 0 in non-UE-associated signalling");
+                throw new NgapErrorException(NGAP_CauseProtocol.UNSPECIFIED);
+            }
+        }
+    }
 }
@@ -28,12 +28,11 @@ import tr.havelsan.ueransim.app.app.Simulation;
 import tr.havelsan.ueransim.app.common.Guami;
 import tr.havelsan.ueransim.app.common.itms.IwNgapSend;
 import tr.havelsan.ueransim.app.common.simctx.GnbSimContext;
-import tr.havelsan.ueransim.app.gnb.utils.NgapUtils;
 import tr.havelsan.ueransim.itms.ItmsId;
-import tr.havelsan.ueransim.nas.impl.values.VTrackingAreaIdentity;
 import tr.havelsan.ueransim.ngap0.NgapEncoding;
 import tr.havelsan.ueransim.ngap0.NgapXerEncoder;
 import tr.havelsan.ueransim.ngap0.core.NGAP_BaseMessage;
+import tr.havelsan.ueransim.ngap0.pdu.NGAP_PDU;
 import tr.havelsan.ueransim.ngap0.ies.choices.NGAP_UserLocationInformation;
 import tr.havelsan.ueransim.ngap0.ies.integers.NGAP_AMF_UE_NGAP_ID;
 import tr.havelsan.ueransim.ngap0.ies.integers.NGAP_RAN_UE_NGAP_ID;
@@ -49,7 +48,9 @@ public class NgapTransfer {
         var ngapPdu = message.buildPdu();
 
         Log.debug(Tag.MESSAGING, "Sending NGAP: %s", message.getClass().getSimpleName());
-        Log.debug(Tag.MESSAGING, Utils.xmlToJson(NgapXerEncoder.encode(ngapPdu)));
+        if (Log.isDebugEnabled()) {
+            Log.debug(Tag.MESSAGING, Utils.xmlToJson(NgapXerEncoder.encode(ngapPdu)));
+        }
 
         ctx.itms.sendMessage(ItmsId.GNB_TASK_SCTP, new IwNgapSend(0, NgapEncoding.encodeAper(ngapPdu), associatedAmf));
 
@@ -79,19 +80,29 @@ public class NgapTransfer {
         // Adding user location information
         {
             if (message.isProtocolIeUsable(NGAP_UserLocationInformation.class)) {
-                var ie = new NGAP_UserLocationInformation();
-                ie.userLocationInformationNR = NgapUtils.createUserLocationInformationNr(ctx.config.gnbPlmn,
-                        new VTrackingAreaIdentity(ctx.config.gnbPlmn, ctx.config.tac), ctx.config.nci);
-                message.addProtocolIe(ie);
+                message.addProtocolIe(ctx.userLocationInformation);
             }
         }
 
-        var ngapPdu = message.buildPdu();
+        // The PDU is only built for the debug dump and for messages that have no template
+        NGAP_PDU ngapPdu = null;
 
         Log.debug(Tag.MESSAGING, "Sending NGAP: %s", message.getClass().getSimpleName());
-        Log.debug(Tag.MESSAGING, Utils.xmlToJson(NgapXerEncoder.encode(ngapPdu)));
+        if (Log.isDebugEnabled()) {
+            ngapPdu = message.buildPdu();
+            Log.debug(Tag.MESSAGING, Utils.xmlToJson(NgapXerEncoder.encode(ngapPdu)));
+        }
+
+        // Frequently sent messages are encoded from templates, others are encoded fully
+        var data = ctx.ngapTemplates.encode(message);
+        if (data == null) {
+            if (ngapPdu == null) {
+                ngapPdu = message.buildPdu();
+            }
+            data = NgapEncoding.encodeAper(ngapPdu);
+        }
 
-        ctx.itms.sendMessage(ItmsId.GNB_TASK_SCTP, new IwNgapSend(ueCtx.uplinkStream, NgapEncoding.encodeAper(ngapPdu), ueCtx.associatedAmf));
+        ctx.itms.sendMessage(ItmsId.GNB_TASK_SCTP, new IwNgapSend(ueCtx.uplinkStream, data, ueCtx.associatedAmf));
 
         Simulation.triggerOnSend(ctx, message);
     }
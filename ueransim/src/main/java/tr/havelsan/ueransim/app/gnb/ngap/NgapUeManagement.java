@@ -28,6 +28,7 @@ import tr.havelsan.ueransim.app.common.Guami;
 import tr.havelsan.ueransim.app.common.contexts.GnbUeContext;
 import tr.havelsan.ueransim.app.common.exceptions.NgapErrorException;
 import tr.havelsan.ueransim.app.common.simctx.GnbSimContext;
+import tr.havelsan.ueransim.ngap0.NgapHeader;
 import tr.havelsan.ueransim.ngap0.core.NGAP_BaseMessage;
 import tr.havelsan.ueransim.ngap0.ies.choices.NGAP_UE_NGAP_IDs;
 import tr.havelsan.ueransim.ngap0.ies.enumerations.NGAP_CauseProtocol;
@@ -106,12 +107,17 @@ public class NgapUeManagement {
     }
 
     private static UUID findAssociatedUeId(GnbSimContext ctx, NGAP_AMF_UE_NGAP_ID amfUeNgapId, NGAP_RAN_UE_NGAP_ID ranUeNgapId) {
+        return findAssociatedUeId(ctx, amfUeNgapId != null ? amfUeNgapId.value : null,
+                ranUeNgapId != null ? ranUeNgapId.value : null);
+    }
+
+    private static UUID findAssociatedUeId(GnbSimContext ctx, Long amfUeNgapId, Long ranUeNgapId) {
         if (amfUeNgapId == null || ranUeNgapId == null) {
             throw new NgapErrorException(NGAP_CauseProtocol.ABSTRACT_SYNTAX_ERROR_FALSELY_CONSTRUCTED_MESSAGE);
         }
 
-        long amf = amfUeNgapId.value;
-        long ran = ranUeNgapId.value;
+        long amf = amfUeNgapId;
+        long ran = ranUeNgapId;
 
         var associatedUe = NgapUeManagement.findUeByRanId(ctx, ran);
         if (associatedUe == null) {
@@ -136,19 +142,40 @@ public class NgapUeManagement {
             return findAssociatedUeId(ctx, ueNgapIDs.uE_NGAP_ID_pair.aMF_UE_NGAP_ID, ueNgapIDs.uE_NGAP_ID_pair.rAN_UE_NGAP_ID);
         }
         if (ueNgapIDs.aMF_UE_NGAP_ID != null) {
-            var ue = findUeByAmfId(ctx, ueNgapIDs.aMF_UE_NGAP_ID.value);
-            if (ue != null) return ue;
-            throw new NgapErrorException(NGAP_CauseRadioNetwork.INCONSISTENT_REMOTE_UE_NGAP_ID);
+            return findAssociatedUeIdByAmfId(ctx, ueNgapIDs.aMF_UE_NGAP_ID.value);
         }
         throw new NgapErrorException(NGAP_CauseProtocol.ABSTRACT_SYNTAX_ERROR_FALSELY_CONSTRUCTED_MESSAGE);
     }
 
+    private static UUID findAssociatedUeIdByAmfId(GnbSimContext ctx, long amfUeNgapId) {
+        var ue = findUeByAmfId(ctx, amfUeNgapId);
+        if (ue != null) return ue;
+        throw new NgapErrorException(NGAP_CauseRadioNetwork.INCONSISTENT_REMOTE_UE_NGAP_ID);
+    }
+
     public static UUID findAssociatedUeIdDefault(GnbSimContext ctx, NGAP_BaseMessage ngapMessage) {
         var ieAmfUeNgapId = ngapMessage.getProtocolIe(NGAP_AMF_UE_NGAP_ID.class);
         var ieRanUeNgapId = ngapMessage.getProtocolIe(NGAP_RAN_UE_NGAP_ID.class);
         return findAssociatedUeId(ctx, ieAmfUeNgapId, ieRanUeNgapId);
     }
 
+    /**
+     * Same as {@link #findAssociatedUeForUeNgapIds} or {@link #findAssociatedUeIdDefault}, depending on the header,
+     * but works on the scanned header, so the message does not have to be decoded.
+     */
+    public static UUID findAssociatedUeId(GnbSimContext ctx, NgapHeader header) {
+        if (!header.hasUeNgapIds) {
+            return findAssociatedUeId(ctx, header.amfUeNgapId, header.ranUeNgapId);
+        }
+        if (header.ranUeNgapId != null) {
+            return findAssociatedUeId(ctx, header.amfUeNgapId, header.ranUeNgapId);
+        }
+        if (header.amfUeNgapId != null) {
+            return findAssociatedUeIdByAmfId(ctx, header.amfUeNgapId);
+        }
+        throw new NgapErrorException(NGAP_CauseProtocol.ABSTRACT_SYNTAX_ERROR_FALSELY_CONSTRUCTED_MESSAGE);
+    }
+
     public static UUID findAssociatedUeForUeNgapIds(GnbSimContext ctx, NGAP_BaseMessage message) {
         var ie = message.getProtocolIe(NGAP_UE_NGAP_IDs.class);
         return findAssociatedUeId(ctx, ie);
@@ -0,0 +1,102 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.app.gnb.sctp;
+
+import tr.havelsan.ueransim.app.common.itms.IwNgapReceive;
+import tr.havelsan.ueransim.itms.Itms;
+import tr.havelsan.ueransim.itms.ItmsId;
+import tr.havelsan.ueransim.utils.Tag;
+import tr.havelsan.ueransim.utils.console.Log;
+import tr.havelsan.ueransim.utils.console.Logger;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decodes received NGAP PDUs on a fixed set of worker threads before handing them to the NGAP task.
+ * Each message is routed to a worker by its SCTP stream. The AMF uses one stream per UE, so messages of the
+ * same UE are always decoded and delivered in the order they were received, whichever UE IDs they carry.
+ * PDUs that cannot be decoded are logged, counted and dropped here, and are never delivered to the NGAP task.
+ */
+public class NgapDecodePool {
+
+    private final Itms itms;
+    private final BlockingQueue<IwNgapReceive>[] queues;
+    private final AtomicLong decodeFailures;
+
+    @SuppressWarnings("unchecked")
+    public NgapDecodePool(Itms itms, int threadCount, Logger logger) {
+        if (threadCount <= 0)
+            throw new IllegalArgumentException("threadCount must be positive");
+
+        this.itms = itms;
+        this.queues = new BlockingQueue[threadCount];
+        this.decodeFailures = new AtomicLong();
+
+        for (int i = 0; i < threadCount; i++) {
+            var queue = new LinkedBlockingQueue<IwNgapReceive>();
+            queues[i] = queue;
+
+            var worker = new Thread(() -> workerLoop(queue), "ngap-decode-" + i);
+            worker.setDaemon(true);
+            Log.registerLogger(worker, logger);
+            worker.start();
+        }
+    }
+
+    public void submit(IwNgapReceive msg) {
+        queues[Integer.remainderUnsigned(msg.stream, queues.length)].add(msg);
+    }
+
+    /**
+     * Returns the number of received PDUs that could not be decoded by the workers.
+     */
+    public long getDecodeFailureCount() {
+        return decodeFailures.get();
+    }
+
+    private void workerLoop(BlockingQueue<IwNgapReceive> queue) {
+        while (true) {
+            IwNgapReceive msg;
+            try {
+                msg = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+
+            try {
+                msg.getNgapPdu();
+            } catch (RuntimeException e) {
+                decodeFailures.incrementAndGet();
+                Log.error(Tag.NGAP_INTERNAL, "NGAP PDU could not be decoded on stream %d, dropped (%s)", msg.stream, e.toString());
+                continue;
+            }
+
+            itms.sendMessage(ItmsId.GNB_TASK_NGAP, msg);
+        }
+    }
+}
@@ -27,6 +27,7 @@ package tr.havelsan.ueransim.app.gnb.sctp;
 import tr.havelsan.ueransim.app.common.Guami;
 import tr.havelsan.ueransim.app.common.contexts.GnbAmfContext;
 import tr.havelsan.ueransim.app.common.itms.IwInitialSctpReady;
+import tr.havelsan.ueransim.app.common.itms.IwKind;
 import tr.havelsan.ueransim.app.common.itms.IwNgapReceive;
 import tr.havelsan.ueransim.app.common.itms.IwNgapSend;
 import tr.havelsan.ueransim.app.common.itms.IwSctpAssociationSetup;
@@ -35,7 +36,7 @@ import tr.havelsan.ueransim.core.Constants;
 import tr.havelsan.ueransim.itms.Itms;
 import tr.havelsan.ueransim.itms.ItmsId;
 import tr.havelsan.ueransim.itms.ItmsTask;
-import tr.havelsan.ueransim.ngap0.NgapEncoding;
+import tr.havelsan.ueransim.ngap0.NgapHeader;
 import tr.havelsan.ueransim.sctp.ISctpAssociationHandler;
 import tr.havelsan.ueransim.sctp.SctpAssociation;
 import tr.havelsan.ueransim.sctp.SctpClient;
@@ -50,6 +51,7 @@ public class SctpTask extends ItmsTask {
 
     private final GnbSimContext ctx;
     private final HashMap<Guami, GnbAmfContext> amfs;
+    private NgapDecodePool decodePool;
 
     public SctpTask(Itms itms, int taskId, GnbSimContext ctx) {
         super(itms, taskId);
@@ -64,6 +66,10 @@ public class SctpTask extends ItmsTask {
             return;
         }
 
+        if (Constants.NGAP_DECODE_THREADS > 0) {
+            decodePool = new NgapDecodePool(itms, Constants.NGAP_DECODE_THREADS, Log.getLoggerOrDefault(thread));
+        }
+
         var setupCount = new AtomicInteger(0);
 
         for (var amf : ctx.amfContexts.values()) {
@@ -115,7 +121,7 @@ public class SctpTask extends ItmsTask {
 
         while (true) {
             var msg = itms.receiveMessage(this);
-            if (msg instanceof IwNgapSend) {
+            if (msg.kind == IwKind.NGAP_SEND) {
                 var wrapper = (IwNgapSend) msg;
                 amfs.get(wrapper.associatedAmf).sctpClient.send(wrapper.streamNumber, wrapper.data);
             }
@@ -123,7 +129,12 @@ public class SctpTask extends ItmsTask {
     }
 
     public void handleSCTPMessage(Guami associatedAmf, byte[] receivedBytes, int streamNumber) {
-        var pdu = NgapEncoding.decodeAper(receivedBytes);
-        itms.sendMessage(ItmsId.GNB_TASK_NGAP, new IwNgapReceive(associatedAmf, streamNumber, pdu));
+        var header = NgapHeader.scan(receivedBytes);
+        var msg = new IwNgapReceive(associatedAmf, streamNumber, receivedBytes, header);
+        if (decodePool != null) {
+            decodePool.submit(msg);
+        } else {
+            itms.sendMessage(ItmsId.GNB_TASK_NGAP, msg);
+        }
     }
 }
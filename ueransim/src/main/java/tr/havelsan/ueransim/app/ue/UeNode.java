@@ -29,7 +29,6 @@ import tr.havelsan.ueransim.app.common.simctx.UeSimContext;
 import tr.havelsan.ueransim.app.ue.app.UeAppTask;
 import tr.havelsan.ueransim.app.ue.mr.MrTask;
 import tr.havelsan.ueransim.app.ue.nas.NasTask;
-import tr.havelsan.ueransim.app.ue.nas.NasTimersTask;
 import tr.havelsan.ueransim.itms.ItmsId;
 import tr.havelsan.ueransim.itms.ItmsTask;
 import tr.havelsan.ueransim.utils.console.Log;
@@ -44,7 +43,6 @@ public class UeNode {
         var itms = ctx.itms;
 
         var tasks = new ItmsTask[]{
-                new NasTimersTask(itms, ItmsId.UE_TASK_NAS_TIMERS, ctx),
                 new MrTask(itms, ItmsId.UE_TASK_MR, ctx),
                 new NasTask(itms, ItmsId.UE_TASK_NAS, ctx),
                 new UeAppTask(itms, ItmsId.UE_TASK_APP, ctx)
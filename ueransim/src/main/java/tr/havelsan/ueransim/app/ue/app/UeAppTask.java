@@ -24,14 +24,16 @@
 
 package tr.havelsan.ueransim.app.ue.app;
 
+import tr.havelsan.ueransim.app.common.itms.IwKind;
 import tr.havelsan.ueransim.app.common.itms.IwUeTestCommand;
 import tr.havelsan.ueransim.app.common.simctx.UeSimContext;
 import tr.havelsan.ueransim.app.common.testcmd.*;
 import tr.havelsan.ueransim.itms.Itms;
+import tr.havelsan.ueransim.itms.ItmsActor;
 import tr.havelsan.ueransim.itms.ItmsId;
-import tr.havelsan.ueransim.itms.ItmsTask;
+import tr.havelsan.ueransim.itms.ItmsMessage;
 
-public class UeAppTask extends ItmsTask {
+public class UeAppTask extends ItmsActor {
 
     private final UeSimContext ctx;
 
@@ -41,23 +43,20 @@ public class UeAppTask extends ItmsTask {
     }
 
     @Override
-    public void main() {
-        while (true) {
-            var msg = ctx.itms.receiveMessage(this);
-            if (msg instanceof IwUeTestCommand) {
-                var cmd = ((IwUeTestCommand) msg).cmd;
+    protected void onMessage(ItmsMessage msg) {
+        if (msg.kind == IwKind.UE_TEST_COMMAND) {
+            var cmd = ((IwUeTestCommand) msg).cmd;
 
-                if (cmd instanceof TestCmd_InitialRegistration) {
-                    ctx.itms.sendMessage(ItmsId.UE_TASK_NAS, msg);
-                } else if (cmd instanceof TestCmd_PeriodicRegistration) {
-                    ctx.itms.sendMessage(ItmsId.UE_TASK_NAS, msg);
-                } else if (cmd instanceof TestCmd_PduSessionEstablishment) {
-                    ctx.itms.sendMessage(ItmsId.UE_TASK_NAS, msg);
-                } else if (cmd instanceof TestCmd_Deregistration) {
-                    ctx.itms.sendMessage(ItmsId.UE_TASK_NAS, msg);
-                } else if (cmd instanceof TestCmd_Ping) {
-                    // TODO
-                }
+            if (cmd instanceof TestCmd_InitialRegistration) {
+                ctx.itms.sendMessage(ItmsId.UE_TASK_NAS, msg);
+            } else if (cmd instanceof TestCmd_PeriodicRegistration) {
+                ctx.itms.sendMessage(ItmsId.UE_TASK_NAS, msg);
+            } else if (cmd instanceof TestCmd_PduSessionEstablishment) {
+                ctx.itms.sendMessage(ItmsId.UE_TASK_NAS, msg);
+            } else if (cmd instanceof TestCmd_Deregistration) {
+                ctx.itms.sendMessage(ItmsId.UE_TASK_NAS, msg);
+            } else if (cmd instanceof TestCmd_Ping) {
+                // TODO
             }
         }
     }
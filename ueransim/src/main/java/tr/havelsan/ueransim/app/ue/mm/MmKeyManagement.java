@@ -52,11 +52,11 @@ public class MmKeyManagement {
     }
 
     public static void deriveNasKeys(NasSecurityContext securityContext) {
-        var kdfEnc = KDF.calculateKey(securityContext.keys.kAmf, 0x69, new Octet(N_NAS_enc_alg).toOctetString(),
-                new Octet(securityContext.selectedAlgorithms.ciphering.intValue()).toOctetString());
+        var kdfEnc = KDF.calculateKey(securityContext.keys.kAmf, 0x69, Octet.valueOf(N_NAS_enc_alg).toOctetString(),
+                Octet.valueOf(securityContext.selectedAlgorithms.ciphering.intValue()).toOctetString());
 
-        var kdfInt = KDF.calculateKey(securityContext.keys.kAmf, 0x69, new Octet(N_NAS_int_alg).toOctetString(),
-                new Octet(securityContext.selectedAlgorithms.integrity.intValue()).toOctetString());
+        var kdfInt = KDF.calculateKey(securityContext.keys.kAmf, 0x69, Octet.valueOf(N_NAS_int_alg).toOctetString(),
+                Octet.valueOf(securityContext.selectedAlgorithms.integrity.intValue()).toOctetString());
 
         securityContext.keys.kNasEnc = kdfEnc.substring(16, 16);
         securityContext.keys.kNasInt = kdfInt.substring(16, 16);
@@ -24,16 +24,14 @@
 
 package tr.havelsan.ueransim.app.ue.mr;
 
-import tr.havelsan.ueransim.app.app.Simulation;
-import tr.havelsan.ueransim.app.common.itms.IwConnectionRelease;
-import tr.havelsan.ueransim.app.common.itms.IwDownlinkNas;
-import tr.havelsan.ueransim.app.common.itms.IwUplinkNas;
+import tr.havelsan.ueransim.app.common.itms.IwKind;
 import tr.havelsan.ueransim.app.common.simctx.UeSimContext;
 import tr.havelsan.ueransim.itms.Itms;
+import tr.havelsan.ueransim.itms.ItmsActor;
 import tr.havelsan.ueransim.itms.ItmsId;
-import tr.havelsan.ueransim.itms.ItmsTask;
+import tr.havelsan.ueransim.itms.ItmsMessage;
 
-public class MrTask extends ItmsTask {
+public class MrTask extends ItmsActor {
 
     private final UeSimContext ctx;
 
@@ -43,17 +41,17 @@ public class MrTask extends ItmsTask {
     }
 
     @Override
-    public void main() {
-        while (true) {
-            var msg = itms.receiveMessage(this);
-            if (msg instanceof IwDownlinkNas) {
+    protected void onMessage(ItmsMessage msg) {
+        switch (msg.kind) {
+            case IwKind.DOWNLINK_NAS:
                 ctx.itms.sendMessage(ItmsId.UE_TASK_NAS, msg);
-            } else if (msg instanceof IwUplinkNas) {
-                // TODO
-                Simulation.findGnb(ctx.sim, ctx.connectedGnb).itms.sendMessage(ItmsId.GNB_TASK_MR, msg);
-            } else if (msg instanceof IwConnectionRelease) {
+                break;
+            case IwKind.UPLINK_NAS:
+                ctx.connectedGnb.itms.sendMessage(ItmsId.GNB_TASK_MR, msg);
+                break;
+            case IwKind.CONNECTION_RELEASE:
                 ctx.itms.sendMessage(ItmsId.UE_TASK_NAS, msg);
-            }
+                break;
         }
     }
 }
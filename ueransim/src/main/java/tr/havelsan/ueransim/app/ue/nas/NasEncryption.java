@@ -92,7 +92,7 @@ public class NasEncryption {
 
     private static OctetString encryptData(ETypeOfCipheringAlgorithm alg, NasCount count, EConnectionIdentifier cnId,
                                            byte[] data, OctetString key) {
-        Bit5 bearer = new Bit5(cnId.intValue());
+        Bit5 bearer = Bit5.valueOf(cnId.intValue());
         Bit direction = Bit.ZERO;
         BitString message = BitString.from(data);
 
@@ -163,7 +163,7 @@ public class NasEncryption {
             return new OctetString(data);
         }
 
-        Bit5 bearer = new Bit5(cnId.intValue());
+        Bit5 bearer = Bit5.valueOf(cnId.intValue());
         Bit direction = Bit.ONE;
         BitString message = BitString.from(data);
 
@@ -208,8 +208,8 @@ public class NasEncryption {
             return new Octet4(0);
         }
 
-        Bit5 bearer = new Bit5(cnId.intValue());
-        Bit direction = new Bit(isUplink ? 0 : 1);
+        Bit5 bearer = Bit5.valueOf(cnId.intValue());
+        Bit direction = Bit.valueOf(isUplink ? 0 : 1);
         BitString message = BitString.from(data);
 
         Log.debug(Tag.VALUE, "count: %s", count.toOctet4());
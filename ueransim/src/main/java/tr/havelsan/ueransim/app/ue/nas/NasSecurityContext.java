@@ -77,7 +77,7 @@ public class NasSecurityContext {
     }
 
     public void countOnEncrypt() {
-        uplinkCount.sqn = new Octet((uplinkCount.sqn.longValue() + 1) & 0xFF);
+        uplinkCount.sqn = Octet.valueOf((uplinkCount.sqn.intValue() + 1) & 0xFF);
         if (uplinkCount.sqn.longValue() == 0) {
             uplinkCount.overflow = new Octet2((uplinkCount.overflow.longValue() + 1) & 0xFFFF);
         }
@@ -25,8 +25,8 @@
 package tr.havelsan.ueransim.app.ue.nas;
 
 
-import tr.havelsan.ueransim.app.common.itms.IwConnectionRelease;
 import tr.havelsan.ueransim.app.common.itms.IwDownlinkNas;
+import tr.havelsan.ueransim.app.common.itms.IwKind;
 import tr.havelsan.ueransim.app.common.itms.IwNasTimerExpire;
 import tr.havelsan.ueransim.app.common.itms.IwUeTestCommand;
 import tr.havelsan.ueransim.app.common.simctx.UeSimContext;
@@ -34,13 +34,14 @@ import tr.havelsan.ueransim.app.common.testcmd.TestCmd;
 import tr.havelsan.ueransim.app.ue.mm.MobilityManagement;
 import tr.havelsan.ueransim.app.ue.sm.SessionManagement;
 import tr.havelsan.ueransim.itms.Itms;
-import tr.havelsan.ueransim.itms.ItmsTask;
+import tr.havelsan.ueransim.itms.ItmsActor;
+import tr.havelsan.ueransim.itms.ItmsMessage;
 import tr.havelsan.ueransim.nas.NasDecoder;
 import tr.havelsan.ueransim.utils.Tag;
 import tr.havelsan.ueransim.utils.console.Log;
 
 
-public class NasTask extends ItmsTask {
+public class NasTask extends ItmsActor {
 
     private final UeSimContext ctx;
 
@@ -58,15 +59,17 @@ public class NasTask extends ItmsTask {
     }
 
     @Override
-    public void main() {
-        // TODO: Make this task sleepable/wakeable like other tasks.
-        while (true) {
-            MobilityManagement.cycle(ctx);
+    protected void onStart() {
+        cycleMobilityManagement();
+    }
 
-            var msg = ctx.itms.receiveMessageNonBlocking(this);
-            if (msg instanceof IwDownlinkNas) {
+    @Override
+    protected void onMessage(ItmsMessage msg) {
+        switch (msg.kind) {
+            case IwKind.DOWNLINK_NAS:
                 NasTransport.receiveNas(ctx, NasDecoder.nasPdu(((IwDownlinkNas) msg).nasPdu));
-            } else if (msg instanceof IwNasTimerExpire) {
+                break;
+            case IwKind.NAS_TIMER_EXPIRE: {
                 var timer = ((IwNasTimerExpire) msg).timer;
                 Log.info(Tag.NAS_TIMER, "NAS Timer expired: %s", timer);
 
@@ -75,11 +78,33 @@ public class NasTask extends ItmsTask {
                 } else {
                     SessionManagement.receiveTimerExpire(ctx, timer);
                 }
-            } else if (msg instanceof IwUeTestCommand) {
+                break;
+            }
+            case IwKind.UE_TEST_COMMAND:
                 executeCommand(ctx, ((IwUeTestCommand) msg).cmd);
-            } else if (msg instanceof IwConnectionRelease) {
+                break;
+            case IwKind.CONNECTION_RELEASE:
                 // TODO
-            }
+                break;
+        }
+
+        cycleMobilityManagement();
+    }
+
+    /**
+     * MM state and timers only change while handling an event, so the MM cycle is performed after each event
+     * until the state settles, instead of polling it continuously.
+     */
+    private void cycleMobilityManagement() {
+        var mmCtx = ctx.mmCtx;
+        while (true) {
+            var state = mmCtx.mmState;
+            var subState = mmCtx.mmSubState;
+
+            MobilityManagement.cycle(ctx);
+
+            if (state == mmCtx.mmState && subState == mmCtx.mmSubState)
+                break;
         }
     }
 }
@@ -24,22 +24,29 @@
 
 package tr.havelsan.ueransim.app.ue.nas;
 
+import tr.havelsan.ueransim.app.common.itms.IwNasTimerExpire;
 import tr.havelsan.ueransim.app.common.simctx.UeSimContext;
+import tr.havelsan.ueransim.itms.ItmsId;
 import tr.havelsan.ueransim.nas.impl.ies.IEGprsTimer2;
 import tr.havelsan.ueransim.nas.impl.ies.IEGprsTimer3;
 import tr.havelsan.ueransim.utils.Tag;
+import tr.havelsan.ueransim.utils.TimingWheel;
 import tr.havelsan.ueransim.utils.console.Log;
 
 public class NasTimer {
+    // Used by all UEs that do not belong to a shard, expirations are delivered to the NAS task of the owning UE
+    private static class SharedWheel {
+        static final TimingWheel INSTANCE = new TimingWheel("nas-timers");
+    }
+
     public final UeSimContext ctx;
     public final int timerCode;
     public final boolean isMmTimer;
 
     private int interval;
-    private long startMillis;
     private boolean isRunning;
-
-    private long _lastDebugPrintMs;
+    private TimingWheel.Timeout timeout;
+    private int generation;
 
     public NasTimer(UeSimContext ctx, int timerCode, boolean isMmTimer, int defaultInterval) {
         this.ctx = ctx;
@@ -49,8 +56,7 @@ public class NasTimer {
     }
 
     public synchronized void start() {
-        startMillis = System.currentTimeMillis();
-        isRunning = true;
+        schedule();
 
         Log.debug(Tag.NAS_TIMER, "NAS Timer %s started with interval: %ss", timerCode, interval);
     }
@@ -62,8 +68,7 @@ public class NasTimer {
         }
 
         interval = v.value.intValue();
-        startMillis = System.currentTimeMillis();
-        isRunning = true;
+        schedule();
 
         Log.debug(Tag.NAS_TIMER, "NAS Timer %s started with interval: %ss", timerCode, interval);
     }
@@ -86,15 +91,14 @@ public class NasTimer {
         else if (v.unit == IEGprsTimer3.EGprsTimerValueUnit3.MULTIPLES_OF_320HOUR) secs = val * 60 * 60 * 320;
 
         interval = secs;
-        startMillis = System.currentTimeMillis();
-        isRunning = true;
+        schedule();
 
         Log.debug(Tag.NAS_TIMER, "NAS Timer %s started with interval: %ss", timerCode, interval);
     }
 
     public synchronized void stop() {
         if (isRunning) {
-            startMillis = System.currentTimeMillis();
+            cancel();
             isRunning = false;
 
             Log.debug(Tag.NAS_TIMER, "NAS Timer %s stopped", timerCode);
@@ -105,23 +109,32 @@ public class NasTimer {
         return isRunning;
     }
 
-    public synchronized boolean performTick() {
-        if (isRunning) {
-            long currentMs = System.currentTimeMillis();
-            long deltaSec = (currentMs - startMillis) / 1000;
-            long remainingSec = interval - deltaSec;
-
-            if (currentMs - _lastDebugPrintMs > 10 * 1000) {
-                _lastDebugPrintMs = currentMs;
-                Log.debug(Tag.NAS_TIMER, "NAS Timer %s int:%ss rem:%ss", timerCode, interval, remainingSec);
-            }
-
-            if (remainingSec < 0) {
-                stop();
-                return true;
-            }
+    private void schedule() {
+        cancel();
+
+        int expectedGeneration = generation;
+        var wheel = ctx.timerWheel != null ? ctx.timerWheel : SharedWheel.INSTANCE;
+        timeout = wheel.schedule(interval * 1000L, () -> expire(expectedGeneration));
+        isRunning = true;
+    }
+
+    private void cancel() {
+        if (timeout != null) {
+            timeout.cancel();
+            timeout = null;
         }
-        return false;
+        // Invalidates an expiration that is already being delivered
+        generation++;
+    }
+
+    // Runs on the timing wheel thread, which has no logger
+    private synchronized void expire(int expectedGeneration) {
+        if (!isRunning || generation != expectedGeneration)
+            return;
+
+        timeout = null;
+        isRunning = false;
+        ctx.itms.sendMessage(ItmsId.UE_TASK_NAS, new IwNasTimerExpire(this));
     }
 
     @Override
@@ -27,25 +27,52 @@ package tr.havelsan.ueransim.utils;
 import tr.havelsan.ueransim.utils.bits.Bit;
 import tr.havelsan.ueransim.utils.octets.*;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
 public class OctetInputStream {
-    private final byte[] data;
+    // Index 0 of the buffer is the first octet of the stream, its byte order is the stream's byte order
+    private final ByteBuffer buffer;
+    private final int sourceOffset;
+    // Octet strings read from a stream over an OctetString are views of it, otherwise they are copies
+    private final OctetString shared;
     private final int length;
     private final boolean isBigEndian;
     private int index;
 
-    public OctetInputStream(byte[] data, boolean isBigEndian) {
-        this.data = data;
-        this.length = data.length;
+    private OctetInputStream(ByteBuffer source, boolean isBigEndian, OctetString shared) {
+        this.buffer = source.slice().order(isBigEndian ? ByteOrder.BIG_ENDIAN : ByteOrder.LITTLE_ENDIAN);
+        this.sourceOffset = source.position();
+        this.shared = shared;
+        this.length = buffer.limit();
         this.index = 0;
         this.isBigEndian = isBigEndian;
     }
 
+    public OctetInputStream(byte[] data, boolean isBigEndian) {
+        this(ByteBuffer.wrap(data), isBigEndian, null);
+    }
+
     public OctetInputStream(byte[] data) {
         this(data, true);
     }
 
     public OctetInputStream(OctetString data) {
-        this(data.toByteArray(), true);
+        this(data.asByteBuffer(), true, data);
+    }
+
+    /**
+     * Creates a stream over the remaining octets of the buffer, which may be a direct buffer.
+     * Octets are read in place and the buffer's position is not modified.
+     * Octet strings read from the stream are copies, so the buffer can be reused afterwards.
+     */
+    public OctetInputStream(ByteBuffer buffer, boolean isBigEndian) {
+        this(buffer, isBigEndian, null);
+    }
+
+    public OctetInputStream(ByteBuffer buffer) {
+        this(buffer, true);
     }
 
     /************ Peek Bit ************/
@@ -67,7 +94,7 @@ public class OctetInputStream {
     }
 
     public Bit peekBit(int offset) {
-        return new Bit(peekBitI(offset));
+        return Bit.valueOf(peekBitI(offset));
     }
 
     public Bit peekBit() {
@@ -77,7 +104,7 @@ public class OctetInputStream {
     /************ Peek Octet ************/
 
     public int peekOctetI(int offset) {
-        return data[index + offset] & 0xFF;
+        return buffer.get(index + offset) & 0xFF;
     }
 
     public int peekOctetI() {
@@ -85,7 +112,7 @@ public class OctetInputStream {
     }
 
     public Octet peekOctet(int offset) {
-        return new Octet(peekOctetI(offset));
+        return Octet.valueOf(peekOctetI(offset));
     }
 
     public Octet peekOctet() {
@@ -95,9 +122,7 @@ public class OctetInputStream {
     /************ Peek Octet 2 ************/
 
     public int peekOctet2I(int offset) {
-        int big = peekOctetI(isBigEndian ? offset : offset + 1);
-        int little = peekOctetI(isBigEndian ? offset + 1 : offset);
-        return (big << 8) | little;
+        return buffer.getShort(index + offset) & 0xFFFF;
     }
 
     public int peekOctet2I() {
@@ -129,11 +154,31 @@ public class OctetInputStream {
     }
 
     public OctetString peekOctetString(int offset, int length) {
-        return new OctetString(peekOctetArray(offset, length));
+        if (shared != null) {
+            return shared.substring(index + offset, length);
+        }
+        return OctetString.wrap(peekOctetArrayB(offset, length));
     }
 
     public OctetString peekOctetString(int length) {
-        return new OctetString(peekOctetArray(0, length));
+        return peekOctetString(0, length);
+    }
+
+    public byte[] peekOctetArrayB(int offset, int length) {
+        byte[] res = new byte[length];
+        copyTo(index + offset, res, 0, length);
+        return res;
+    }
+
+    private void copyTo(int index, byte[] dst, int dstOffset, int count) {
+        Objects.checkFromIndexSize(index, count, length);
+        if (buffer.hasArray()) {
+            System.arraycopy(buffer.array(), buffer.arrayOffset() + index, dst, dstOffset, count);
+        } else if (shared != null) {
+            shared.copyTo(index, dst, dstOffset, count);
+        } else {
+            buffer.duplicate().position(index).get(dst, dstOffset, count);
+        }
     }
 
     /************ Read Octet Array ************/
@@ -146,9 +191,8 @@ public class OctetInputStream {
     }
 
     public byte[] readOctetArrayB(int length) {
-        byte[] res = new byte[length];
-        for (int i = 0; i < length; i++)
-            res[i] = (byte) readOctetI();
+        byte[] res = peekOctetArrayB(0, length);
+        index += length;
         return res;
     }
 
@@ -160,33 +204,41 @@ public class OctetInputStream {
     }
 
     public OctetString readOctetString(int length) {
-        return new OctetString(readOctetArray(length));
+        var res = peekOctetString(0, length);
+        index += length;
+        return res;
     }
 
     public OctetString readOctetString() {
         return readOctetString(length - index);
     }
 
+    /**
+     * Reads the next count octets into the given array.
+     */
+    public void readInto(byte[] dst, int dstOffset, int count) {
+        copyTo(index, dst, dstOffset, count);
+        index += count;
+    }
+
     /************ Read Octet ************/
 
     public int readOctetI() {
-        int res = data[index] & 0xFF;
+        int res = buffer.get(index) & 0xFF;
         index++;
         return res;
     }
 
     public Octet readOctet() {
-        return new Octet(readOctetI());
+        return Octet.valueOf(readOctetI());
     }
 
     /************ Read Octet 2 ************/
 
     public int readOctet2I() {
-        int big = peekOctetI(isBigEndian ? 0 : 1);
-        int little = peekOctetI(isBigEndian ? 1 : 0);
-        readOctet();
-        readOctet();
-        return (big << 8) | little;
+        int res = buffer.getShort(index) & 0xFFFF;
+        index += 2;
+        return res;
     }
 
 
@@ -197,13 +249,11 @@ public class OctetInputStream {
     /************ Read Octet 3 ************/
 
     public int readOctet3I() {
-        int big = peekOctetI(isBigEndian ? 0 : 2);
-        int middle = peekOctetI(isBigEndian ? 1 : 1);
-        int little = peekOctetI(isBigEndian ? 2 : 0);
-        readOctet();
-        readOctet();
-        readOctet();
-        return (big << 16) | (middle << 8) | little;
+        int res = isBigEndian
+                ? (buffer.get(index) & 0xFF) << 16 | buffer.getShort(index + 1) & 0xFFFF
+                : (buffer.get(index + 2) & 0xFF) << 16 | buffer.getShort(index) & 0xFFFF;
+        index += 3;
+        return res;
     }
 
 
@@ -214,16 +264,13 @@ public class OctetInputStream {
     /************ Read Octet 4 ************/
 
     public Octet4 readOctet4() {
-        var octets = readOctetArray(4);
-        if (isBigEndian) {
-            return new Octet4(octets[0], octets[1], octets[2], octets[3]);
-        } else {
-            return new Octet4(octets[3], octets[2], octets[1], octets[0]);
-        }
+        return new Octet4(readOctet4L());
     }
 
     public long readOctet4L() {
-        return readOctet4().longValue();
+        long res = Integer.toUnsignedLong(buffer.getInt(index));
+        index += 4;
+        return res;
     }
 
     /************ Read Octet 8 ************/
@@ -247,4 +294,19 @@ public class OctetInputStream {
     }
 
     public int currentIndex() { return index; }
+
+    /**
+     * Returns the position in the source buffer where this stream starts.
+     * Octets in [sourceOffset(), sourcePosition()) of the source have been consumed.
+     */
+    public int sourceOffset() {
+        return sourceOffset;
+    }
+
+    /**
+     * Returns the position in the source buffer of the next octet to be read.
+     */
+    public int sourcePosition() {
+        return sourceOffset + index;
+    }
 }
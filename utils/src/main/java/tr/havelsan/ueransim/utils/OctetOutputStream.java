@@ -29,12 +29,14 @@ import tr.havelsan.ueransim.utils.bits.Bit8;
 import tr.havelsan.ueransim.utils.bits.BitN;
 import tr.havelsan.ueransim.utils.octets.*;
 
-import java.util.ArrayList;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.List;
 
 public class OctetOutputStream {
-    private final List<Octet> data;
+    private static final int DEFAULT_CAPACITY = 64;
+
+    private byte[] data;
+    private int length;
     private final boolean isBigEndian;
 
     public OctetOutputStream() {
@@ -42,16 +44,34 @@ public class OctetOutputStream {
     }
 
     public OctetOutputStream(boolean isBigEndian) {
-        this.data = new ArrayList<>();
+        this(isBigEndian, new byte[DEFAULT_CAPACITY]);
+    }
+
+    /**
+     * Creates a stream that writes into the given buffer, e.g. one that is reused between messages.
+     * If the buffer becomes full, the stream continues in a larger copy of it.
+     */
+    public OctetOutputStream(boolean isBigEndian, byte[] buffer) {
+        this.data = buffer;
         this.isBigEndian = isBigEndian;
     }
 
+    private void ensureCapacity(int additional) {
+        int required = length + additional;
+        if (required > data.length) {
+            data = Arrays.copyOf(data, Math.max(required, Math.max(data.length * 2, DEFAULT_CAPACITY)));
+        }
+    }
+
     public void writeOctet(int octet) {
-        writeOctet(new Octet(octet));
+        if (octet < 0)
+            throw new IllegalArgumentException("negative value");
+        ensureCapacity(1);
+        data[length++] = (byte) octet;
     }
 
     public void writeOctet(Octet octet) {
-        data.add(octet);
+        writeOctet(octet.intValue());
     }
 
     public void writeOctet(Bit8 octet) {
@@ -89,25 +109,23 @@ public class OctetOutputStream {
     }
 
     public void writeOctet2(Octet2 octet2) {
-        if (isBigEndian) {
-            writeOctet(octet2.intValue() >> 8 & 0xFF);
-            writeOctet(octet2.intValue() & 0xFF);
-        } else {
-            writeOctet(octet2.intValue() & 0xFF);
-            writeOctet(octet2.intValue() >> 8 & 0xFF);
-        }
+        writeOctet2(octet2.intValue());
     }
 
     public void writeOctet2(int octet2) {
-        writeOctet2(new Octet2(octet2));
+        if (octet2 < 0)
+            throw new IllegalArgumentException("negative value");
+        writeOctetN(octet2, 2);
     }
 
     public void writeOctet4(Octet4 octet4) {
-        writeOctetN(octet4);
+        writeOctet4(octet4.longValue());
     }
 
     public void writeOctet4(long octet4) {
-        writeOctet4(new Octet4(octet4));
+        if (octet4 < 0)
+            throw new IllegalArgumentException("negative value");
+        writeOctetN(octet4, 4);
     }
 
     public void writeOctet8(long octet8) {
@@ -121,83 +139,145 @@ public class OctetOutputStream {
     }
 
     public void writeOctet3(Octet3 octet3) {
-        writeOctetN(octet3);
+        writeOctet3(octet3.intValue());
     }
 
     public void writeOctet3(int octet3) {
-        writeOctet3(new Octet3(octet3));
+        if (octet3 < 0)
+            throw new IllegalArgumentException("negative value");
+        writeOctetN(octet3, 3);
     }
 
     public void writeStream(OctetOutputStream stream) {
-        var data = stream.data;
-        for (var octet : data) {
-            writeOctet(octet);
-        }
+        writeOctets(stream.data, 0, stream.length);
     }
 
     public void writeOctetString(OctetString octetString) {
-        writeOctets(octetString.getAsOctetArray());
+        ensureCapacity(octetString.length);
+        octetString.copyTo(0, data, length, octetString.length);
+        length += octetString.length;
     }
 
     public void writeOctets(Octet[] octets) {
-        data.addAll(Arrays.asList(octets));
+        ensureCapacity(octets.length);
+        for (var octet : octets) {
+            data[length++] = (byte) octet.intValue();
+        }
     }
 
-    private void writeOctetN(OctetN octets) {
-        writeOctets(octets.toOctetArray(isBigEndian));
+    // Writes the lowest octetCount octets of the value in the stream's byte order
+    private void writeOctetN(long value, int octetCount) {
+        ensureCapacity(octetCount);
+        for (int i = 0; i < octetCount; i++) {
+            int shift = isBigEndian ? 8 * (octetCount - i - 1) : 8 * i;
+            data[length++] = (byte) (value >> shift);
+        }
     }
 
     public void writeOctets(int[] octets) {
+        ensureCapacity(octets.length);
         for (int octet : octets) {
-            writeOctet(octet & 0xFF);
+            data[length++] = (byte) octet;
         }
     }
 
     public void writeOctets(byte[] octets) {
-        for (byte octet : octets) {
-            writeOctet(octet & 0xFF);
-        }
+        writeOctets(octets, 0, octets.length);
+    }
+
+    public void writeOctets(byte[] octets, int offset, int count) {
+        ensureCapacity(count);
+        System.arraycopy(octets, offset, data, length, count);
+        length += count;
     }
 
     public void writeOctetPadding(int length) {
-        for (int i = 0; i < length; i++) {
-            writeOctet(0);
-        }
+        if (length <= 0)
+            return;
+        ensureCapacity(length);
+        Arrays.fill(data, this.length, this.length + length, (byte) 0);
+        this.length += length;
     }
 
     public void writeBits(BitN value, boolean useMsb) {
-        writeOctets(value.toOctetArray(isBigEndian, useMsb));
+        writeBits(value.intValue(), value.bitCount(), useMsb);
+    }
+
+    /**
+     * Writes the lowest bitCount bits of the value, see {@link BitN#toOctetArray(boolean, boolean)}.
+     */
+    public void writeBits(int value, int bitCount, boolean useMsb) {
+        if (bitCount <= 0 || bitCount > 30)
+            throw new IllegalArgumentException("invalid bit count");
+        if (value < 0)
+            throw new IllegalArgumentException("negative value");
+        value &= (1 << bitCount) - 1;
+
+        int odd = bitCount % 8;
+        if (odd != 0) {
+            int spare = 8 - odd;
+            if (useMsb) {
+                value <<= spare;
+            } else {
+                int overflow = value & ((1 << odd) - 1);
+                value = ((value << spare) & ~0xFF) | overflow;
+            }
+            bitCount += spare;
+        }
+
+        writeOctetN(value, bitCount / 8);
     }
 
     public void writeBits(BitN value) {
         writeBits(value, true);
     }
 
+    /**
+     * Overwrites an already written octet, e.g. to fill in a length field after the content is written.
+     */
+    public void setOctet(int index, int octet) {
+        if (index < 0 || index >= length)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Length: " + length);
+        data[index] = (byte) octet;
+    }
+
+    /**
+     * Copies the written octets into the buffer, starting from its current position.
+     */
+    public void writeTo(ByteBuffer buffer) {
+        buffer.put(data, 0, length);
+    }
+
+    /**
+     * Discards the written octets, so that the stream and its buffer can be reused.
+     */
+    public void reset() {
+        length = 0;
+    }
+
     public Octet[] toOctetArray() {
-        return data.toArray(new Octet[0]);
+        Octet[] res = new Octet[length];
+        for (int i = 0; i < length; i++)
+            res[i] = Octet.valueOf(data[i]);
+        return res;
     }
 
     public int[] toIntArray() {
-        Octet[] arr = toOctetArray();
-        int[] buf = new int[arr.length];
-        for (int i = 0; i < arr.length; i++)
-            buf[i] = arr[i].intValue();
+        int[] buf = new int[length];
+        for (int i = 0; i < length; i++)
+            buf[i] = data[i] & 0xFF;
         return buf;
     }
 
     public byte[] toByteArray() {
-        Octet[] arr = toOctetArray();
-        byte[] buf = new byte[arr.length];
-        for (int i = 0; i < arr.length; i++)
-            buf[i] = (byte) arr[i].intValue();
-        return buf;
+        return Arrays.copyOf(data, length);
     }
 
     public OctetString toOctetString() {
-        return new OctetString(toOctetArray());
+        return new OctetString(data, 0, length);
     }
 
     public int length() {
-        return data.size();
+        return length;
     }
 }
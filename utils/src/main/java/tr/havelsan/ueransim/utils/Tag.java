@@ -38,6 +38,7 @@ public enum Tag {
     EVENT,
     NAS_TIMER,
     NAS_SECURITY,
+    METRICS,
     NOT_IMPL_YET;
 
     public boolean dispatch() {
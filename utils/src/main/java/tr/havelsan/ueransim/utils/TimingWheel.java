@@ -0,0 +1,275 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+
+package tr.havelsan.ueransim.utils;
+
+import tr.havelsan.ueransim.utils.console.Logger;
+
+import java.util.ArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Hierarchical hashed timing wheel with millisecond ticks, driven by a single thread.
+ * <p>
+ * Scheduling and cancelling are O(1). Timeouts are kept in a wheel level chosen by how far away they are, and
+ * are moved to lower levels as their deadline gets closer, so the driver thread only does work proportional
+ * to the number of expirations. Between expirations the thread sleeps until the nearest occupied slot is due, or
+ * until something is scheduled if the wheel is empty.
+ * <p>
+ * Tasks are run on the driver thread, so they must be short and must not block.
+ */
+public class TimingWheel {
+
+    private static final int LEVEL_BITS = 8;
+    private static final int SLOT_COUNT = 1 << LEVEL_BITS;
+    private static final int SLOT_MASK = SLOT_COUNT - 1;
+    private static final int LEVEL_COUNT = 6;
+    private static final long MAX_DELAY = (1L << (LEVEL_BITS * LEVEL_COUNT)) - 1;
+
+    private final Timeout[][] slots;
+    private final LongSupplier clock;
+    private long currentTick;
+    private int pendingCount;
+    // Tick the driver is sleeping until, or Long.MAX_VALUE if it is not sleeping on a deadline
+    private long wakeupTick;
+    private long failureCount;
+
+    public TimingWheel(String name) {
+        this(systemClock());
+
+        var thread = new Thread(this::driverLoop, name);
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Creates a wheel without a driver thread, which reads the time in milliseconds from the given clock and is
+     * moved forward by calling {@link #advance}.
+     */
+    TimingWheel(LongSupplier clock) {
+        this.slots = new Timeout[LEVEL_COUNT][SLOT_COUNT];
+        for (int level = 0; level < LEVEL_COUNT; level++) {
+            for (int i = 0; i < SLOT_COUNT; i++) {
+                var head = new Timeout(null, 0);
+                head.prev = head;
+                head.next = head;
+                slots[level][i] = head;
+            }
+        }
+        this.clock = clock;
+        this.wakeupTick = Long.MAX_VALUE;
+    }
+
+    private static LongSupplier systemClock() {
+        long startNanos = System.nanoTime();
+        return () -> TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    /**
+     * Runs the task on the driver thread after the given delay.
+     */
+    public synchronized Timeout schedule(long delayMillis, Runnable task) {
+        if (pendingCount == 0) {
+            // Nothing is waiting in the wheel, so the driver may be sleeping with a stale tick
+            currentTick = elapsedMillis();
+            notifyAll();
+        }
+
+        // Round the start up to the next tick, so that a timeout never fires before its delay has passed
+        long delay = Math.min(Math.max(delayMillis, 1), MAX_DELAY);
+        var timeout = new Timeout(task, elapsedMillis() + 1 + delay);
+        insert(timeout);
+        pendingCount++;
+
+        if (timeout.deadline < wakeupTick) {
+            // The driver is sleeping past this deadline
+            notifyAll();
+        }
+        return timeout;
+    }
+
+    public synchronized int getPendingCount() {
+        return pendingCount;
+    }
+
+    /**
+     * Returns the number of tasks that threw an exception.
+     */
+    public synchronized long getFailureCount() {
+        return failureCount;
+    }
+
+    private synchronized boolean cancel(Timeout timeout) {
+        if (timeout.next == null)
+            return false;
+        unlink(timeout);
+        pendingCount--;
+        return true;
+    }
+
+    private long elapsedMillis() {
+        return clock.getAsLong();
+    }
+
+    private void insert(Timeout timeout) {
+        long delta = Math.max(timeout.deadline - currentTick, 0);
+        // Deadlines that lag behind the current tick go to the slot being processed
+        long deadline = currentTick + delta;
+
+        int level = 0;
+        while (level < LEVEL_COUNT - 1 && delta >= (1L << (LEVEL_BITS * (level + 1)))) {
+            level++;
+        }
+
+        var head = slots[level][(int) ((deadline >>> (LEVEL_BITS * level)) & SLOT_MASK)];
+        timeout.prev = head.prev;
+        timeout.next = head;
+        head.prev.next = timeout;
+        head.prev = timeout;
+    }
+
+    private static void unlink(Timeout timeout) {
+        timeout.prev.next = timeout.next;
+        timeout.next.prev = timeout.prev;
+        timeout.prev = null;
+        timeout.next = null;
+    }
+
+    private void cascade(int level) {
+        var head = slots[level][(int) ((currentTick >>> (LEVEL_BITS * level)) & SLOT_MASK)];
+        var timeout = head.next;
+        head.prev = head;
+        head.next = head;
+
+        while (timeout != head) {
+            var next = timeout.next;
+            insert(timeout);
+            timeout = next;
+        }
+    }
+
+    void advance(ArrayList<Timeout> expired) {
+        long now = elapsedMillis();
+        while (currentTick < now) {
+            currentTick++;
+
+            for (int level = 1; level < LEVEL_COUNT; level++) {
+                if ((currentTick & ((1L << (LEVEL_BITS * level)) - 1)) != 0)
+                    break;
+                cascade(level);
+            }
+
+            var head = slots[0][(int) (currentTick & SLOT_MASK)];
+            while (head.next != head) {
+                var timeout = head.next;
+                unlink(timeout);
+                pendingCount--;
+                expired.add(timeout);
+            }
+        }
+    }
+
+    /**
+     * Returns the first tick after the current one at which an occupied slot is processed, either expiring its
+     * timeouts (level 0) or cascading them to a lower level.
+     */
+    long nextEventTick() {
+        long best = Long.MAX_VALUE;
+        for (int level = 0; level < LEVEL_COUNT; level++) {
+            int shift = LEVEL_BITS * level;
+            long position = currentTick >>> shift;
+            for (int k = 1; k <= SLOT_COUNT; k++) {
+                long tick = (position + k) << shift;
+                if (tick >= best)
+                    break;
+                var head = slots[level][(int) ((position + k) & SLOT_MASK)];
+                if (head.next != head) {
+                    best = tick;
+                    break;
+                }
+            }
+        }
+        return best;
+    }
+
+    private void driverLoop() {
+        var expired = new ArrayList<Timeout>();
+        while (true) {
+            synchronized (this) {
+                try {
+                    while (true) {
+                        if (pendingCount == 0) {
+                            wait();
+                            continue;
+                        }
+                        advance(expired);
+                        if (!expired.isEmpty())
+                            break;
+
+                        wakeupTick = nextEventTick();
+                        long delay = wakeupTick - elapsedMillis();
+                        if (delay > 0)
+                            wait(delay);
+                        wakeupTick = Long.MAX_VALUE;
+                    }
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+
+            for (var timeout : expired) {
+                try {
+                    timeout.task.run();
+                } catch (Exception e) {
+                    synchronized (this) {
+                        failureCount++;
+                    }
+                    Logger.GLOBAL.error(Tag.SYSTEM, "Timer task failed on %s (%s)", Thread.currentThread().getName(), e.toString());
+                }
+            }
+            expired.clear();
+        }
+    }
+
+    public final class Timeout {
+        private final Runnable task;
+        private final long deadline;
+        private Timeout prev;
+        private Timeout next;
+
+        private Timeout(Runnable task, long deadline) {
+            this.task = task;
+            this.deadline = deadline;
+        }
+
+        /**
+         * Returns true if the timeout was pending and is now cancelled.
+         */
+        public boolean cancel() {
+            return TimingWheel.this.cancel(this);
+        }
+    }
+}
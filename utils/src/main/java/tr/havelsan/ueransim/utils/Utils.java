@@ -462,7 +462,7 @@ public final class Utils {
         for (int i = 0; i < octetString.length; i++) {
             res[1 + i] = octetString.get1(i);
         }
-        res[0] = new Octet(length & 0xFF);
+        res[0] = Octet.valueOf(length & 0xFF);
         return new OctetString(res);
     }
 
@@ -485,8 +485,8 @@ public final class Utils {
         for (int i = 0; i < octetString.length; i++) {
             res[2 + i] = octetString.get1(i);
         }
-        res[0] = new Octet(length >> 8 & 0xFF);
-        res[1] = new Octet(length & 0xFF);
+        res[0] = Octet.valueOf(length >> 8 & 0xFF);
+        res[1] = Octet.valueOf(length & 0xFF);
         return new OctetString(res);
     }
 
@@ -506,10 +506,10 @@ public final class Utils {
         for (int i = 0; i < octetString.length; i++) {
             res[4 + i] = octetString.get1(i);
         }
-        res[0] = new Octet(length >> 24 & 0xFF);
-        res[1] = new Octet(length >> 16 & 0xFF);
-        res[2] = new Octet(length >> 8 & 0xFF);
-        res[3] = new Octet(length & 0xFF);
+        res[0] = Octet.valueOf(length >> 24 & 0xFF);
+        res[1] = Octet.valueOf(length >> 16 & 0xFF);
+        res[2] = Octet.valueOf(length >> 8 & 0xFF);
+        res[3] = Octet.valueOf(length & 0xFF);
         return new OctetString(res);
     }
 
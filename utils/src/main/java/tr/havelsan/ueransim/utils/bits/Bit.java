@@ -35,4 +35,16 @@ public final class Bit extends BitN {
     public Bit(Bit value) {
         super(value);
     }
+
+    /**
+     * Returns the shared instance for given value. Value is always masked with 0b1, so that negative values and
+     * values out of range wrap around (e.g. as a cast to byte does) instead of being rejected.
+     */
+    public static Bit valueOf(int value) {
+        return (value & 0b1) == 0 ? ZERO : ONE;
+    }
+
+    public static Bit valueOf(boolean value) {
+        return value ? ONE : ZERO;
+    }
 }
\ No newline at end of file
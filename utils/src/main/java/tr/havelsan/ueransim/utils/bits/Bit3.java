@@ -25,6 +25,12 @@
 package tr.havelsan.ueransim.utils.bits;
 
 public final class Bit3 extends BitN {
+    private static final Bit3[] CACHE = new Bit3[1 << 3];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++)
+            CACHE[i] = new Bit3(i);
+    }
 
     public Bit3(int value) {
         super(value, 3);
@@ -37,4 +43,12 @@ public final class Bit3 extends BitN {
     public Bit3(int bit2, int bit1, int bit0) {
         super(bit2, bit1, bit0);
     }
+
+    /**
+     * Returns the shared instance for given value. Value is always masked with 0b111, so that negative values and
+     * values out of range wrap around (e.g. as a cast to byte does) instead of being rejected.
+     */
+    public static Bit3 valueOf(int value) {
+        return CACHE[value & 0b111];
+    }
 }
\ No newline at end of file
@@ -25,6 +25,12 @@
 package tr.havelsan.ueransim.utils.bits;
 
 public final class Bit4 extends BitN {
+    private static final Bit4[] CACHE = new Bit4[1 << 4];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++)
+            CACHE[i] = new Bit4(i);
+    }
 
     public Bit4(int value) {
         super(value, 4);
@@ -37,4 +43,12 @@ public final class Bit4 extends BitN {
     public Bit4(int bit3, int bit2, int bit1, int bit0) {
         super(bit3, bit2, bit1, bit0);
     }
+
+    /**
+     * Returns the shared instance for given value. Value is always masked with 0b1111, so that negative values and
+     * values out of range wrap around (e.g. as a cast to byte does) instead of being rejected.
+     */
+    public static Bit4 valueOf(int value) {
+        return CACHE[value & 0b1111];
+    }
 }
\ No newline at end of file
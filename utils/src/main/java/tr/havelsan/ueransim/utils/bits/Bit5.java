@@ -25,6 +25,12 @@
 package tr.havelsan.ueransim.utils.bits;
 
 public final class Bit5 extends BitN {
+    private static final Bit5[] CACHE = new Bit5[1 << 5];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++)
+            CACHE[i] = new Bit5(i);
+    }
 
     public Bit5(int value) {
         super(value, 5);
@@ -37,4 +43,12 @@ public final class Bit5 extends BitN {
     public Bit5(int bit4, int bit3, int bit2, int bit1, int bit0) {
         super(bit4, bit3, bit2, bit1, bit0);
     }
+
+    /**
+     * Returns the shared instance for given value. Value is always masked with 0b11111, so that negative values and
+     * values out of range wrap around (e.g. as a cast to byte does) instead of being rejected.
+     */
+    public static Bit5 valueOf(int value) {
+        return CACHE[value & 0b11111];
+    }
 }
\ No newline at end of file
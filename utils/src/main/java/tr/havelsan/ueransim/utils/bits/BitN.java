@@ -173,7 +173,7 @@ public class BitN {
         var octets = new Octet[octetCount];
 
         for (int i = 0; i < octetCount; i++) {
-            octets[useBigEndian ? octetCount - i - 1 : i] = new Octet(intValue & 0xFF);
+            octets[useBigEndian ? octetCount - i - 1 : i] = Octet.valueOf(intValue & 0xFF);
             intValue >>= 8;
         }
 
@@ -195,7 +195,7 @@ public class BitN {
      * index 0 is the least significant and index k is the most significant.
      */
     public final Bit getBit(int index) {
-        return new Bit(getBitI(index));
+        return Bit.valueOf(getBitI(index));
     }
 
     /**
@@ -222,15 +222,9 @@ public class BitN {
             start = temp;
         }
 
-        long val = 0;
-        for (int i = end; i >= start; i--) {
-            int bit = getBitI(i);
-            val |= bit;
-
-            if (i != start)
-                val <<= 1L;
-        }
-        return val;
+        if (start < 0 || end > 29)
+            throw new IllegalArgumentException("invalid index");
+        return (_intValue >>> start) & ((1L << (end - start + 1)) - 1);
     }
 
     /**
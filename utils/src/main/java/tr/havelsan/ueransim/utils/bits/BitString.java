@@ -27,25 +27,37 @@ package tr.havelsan.ueransim.utils.bits;
 import tr.havelsan.ueransim.utils.octets.Octet;
 import tr.havelsan.ueransim.utils.octets.OctetString;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Objects;
+import java.util.Arrays;
 
 public final class BitString {
-    private final List<Boolean> bits;
+    private static final byte[] EMPTY = new byte[0];
+
+    // Bit i is stored in data[i / 8], starting from the most significant bit, which is the same layout as the
+    // octets the bit string is converted from and to. Bits after bitLength are always zero.
+    private byte[] data;
+    private int bitLength;
 
     public BitString() {
-        this.bits = new ArrayList<>();
+        this.data = EMPTY;
+    }
+
+    private BitString(byte[] data, int bitLength) {
+        this.data = data;
+        this.bitLength = bitLength;
     }
 
     public static void copy(BitString source, int sourceOffset, BitString destination, int destinationOffset, int bitLength) {
-        for (int i = 0; i < bitLength; i++) {
-            destination.set(destinationOffset + i, source.getB(sourceOffset + i));
+        if (bitLength <= 0) {
+            return;
         }
+        source.checkIndex(sourceOffset);
+        source.checkIndex(sourceOffset + bitLength - 1);
+        destination.expand(destinationOffset + bitLength - 1);
+        copyBits(source.data, sourceOffset, destination.data, destinationOffset, bitLength);
     }
 
     public static BitString from(OctetString octetString, int bitLength) {
-        return from(octetString.getAsOctetArray(), bitLength);
+        return from(octetString.toByteArray(), bitLength);
     }
 
     public static BitString from(OctetString octetString) {
@@ -53,21 +65,11 @@ public final class BitString {
     }
 
     public static BitString from(Octet[] octets, int bitLength) {
-        var res = new BitString();
+        var bytes = new byte[octets.length];
         for (int i = 0; i < octets.length; i++) {
-            if (res.bitLength() >= bitLength) {
-                break;
-            }
-            var octet = octets[i];
-            for (int j = 0; j < 8; j++) {
-                boolean bit = octet.getBitB(j);
-                res.set(i * 8 + (7 - j), bit);
-            }
-        }
-        if (bitLength != res.bitLength()) {
-            return res.substring(0, bitLength);
+            bytes[i] = (byte) octets[i].intValue();
         }
-        return res;
+        return from(bytes, bitLength);
     }
 
     public static BitString from(Octet[] octets) {
@@ -75,7 +77,12 @@ public final class BitString {
     }
 
     public static BitString from(byte[] octets, int bitLength) {
-        return from(new OctetString(octets), bitLength);
+        if (bitLength < 0 || bitLength > octets.length * 8) {
+            throw new IndexOutOfBoundsException("bitLength: " + bitLength);
+        }
+        var res = new BitString(Arrays.copyOf(octets, (bitLength + 7) / 8), bitLength);
+        res.clearTail();
+        return res;
     }
 
     public static BitString from(byte[] octets) {
@@ -91,14 +98,11 @@ public final class BitString {
     }
 
     public static BitString fromBits(String s) {
-        var res = new BitString();
+        var res = new BitString(new byte[(s.length() + 7) / 8], s.length());
         for (int i = 0; i < s.length(); i++) {
-            boolean b;
             char c = s.charAt(i);
-            if (c == '0') b = false;
-            else if (c == '1') b = true;
-            else throw new IllegalArgumentException();
-            res.set(i, b);
+            if (c == '1') res.data[i >> 3] |= 0x80 >>> (i & 7);
+            else if (c != '0') throw new IllegalArgumentException();
         }
         return res;
     }
@@ -107,31 +111,44 @@ public final class BitString {
         if (a.bitLength() != b.bitLength()) {
             throw new IllegalArgumentException("bit lengths must be the same");
         }
-        int length = a.bitLength();
-        BitString res = new BitString();
-        for (int i = 0; i < length; i++) {
-            res.set(i, a.getB(i) ^ b.getB(i));
+        int octetLength = a.octetLength();
+        var res = new BitString(new byte[octetLength], a.bitLength);
+        for (int i = 0; i < octetLength; i++) {
+            res.data[i] = (byte) (a.data[i] ^ b.data[i]);
         }
         return res;
     }
 
     public static BitString reverse(BitString bitString) {
-        var res = new BitString();
-        for (int i = 0; i < bitString.bitLength(); i++) {
-            res.set(bitString.bitLength() - i - 1, bitString.getB(i));
+        int length = bitString.bitLength;
+        int octetLength = bitString.octetLength();
+        var res = new BitString(new byte[octetLength], length);
+        if (length % 8 == 0) {
+            for (int i = 0; i < octetLength; i++) {
+                res.data[octetLength - i - 1] = (byte) (Integer.reverse(bitString.data[i]) >>> 24);
+            }
+        } else {
+            for (int i = 0; i < length; i++) {
+                if (bitString.getB(i)) {
+                    int j = length - i - 1;
+                    res.data[j >> 3] |= 0x80 >>> (j & 7);
+                }
+            }
         }
         return res;
     }
 
-    private BitString substring(int startIndex, int bitLength) {
-        var res = new BitString();
-        for (int i = 0; i < bitLength; i++) {
-            res.set(i, this.getB(startIndex + i));
+    /*package-private*/ BitString substring(int startIndex, int bitLength) {
+        var res = new BitString(new byte[(bitLength + 7) / 8], bitLength);
+        if (bitLength > 0) {
+            checkIndex(startIndex);
+            checkIndex(startIndex + bitLength - 1);
+            copyBits(data, startIndex, res.data, 0, bitLength);
         }
         return res;
     }
 
-    private BitString substring(int startIndex) {
+    /*package-private*/ BitString substring(int startIndex) {
         return substring(startIndex, this.bitLength() - startIndex);
     }
 
@@ -140,17 +157,40 @@ public final class BitString {
     }
 
     private void expand(int requiredIndex) {
-        if (bits.size() <= requiredIndex) {
-            int delta = requiredIndex - bits.size() + 1;
-            for (int i = 0; i < delta; i++) {
-                bits.add(false);
-            }
+        if (requiredIndex < bitLength) {
+            return;
+        }
+        int requiredOctets = (requiredIndex >> 3) + 1;
+        if (requiredOctets > data.length) {
+            data = Arrays.copyOf(data, Math.max(requiredOctets, data.length * 2));
+        }
+        bitLength = requiredIndex + 1;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= bitLength) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + bitLength);
+        }
+    }
+
+    // Keeps the bits after bitLength zero, so that whole octets can be compared and returned as they are
+    private void clearTail() {
+        int rem = bitLength & 7;
+        if (rem != 0) {
+            data[bitLength >> 3] &= (byte) (0xFF << (8 - rem));
         }
     }
 
     public void set(int index, boolean value) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Index: " + index);
+        }
         expand(index);
-        bits.set(index, value);
+        if (value) {
+            data[index >> 3] |= 0x80 >>> (index & 7);
+        } else {
+            data[index >> 3] &= ~(0x80 >>> (index & 7));
+        }
     }
 
     public void set(int fromIndex, int toIndex) {
@@ -176,21 +216,20 @@ public final class BitString {
     }
 
     public void clear(int fromIndex, int toIndex) {
-        for (int i = fromIndex; i <= toIndex; i++) {
-            clear(i);
-        }
+        set(fromIndex, toIndex, false);
     }
 
     public void clear() {
-        clear(0, bitLength() - 1);
+        Arrays.fill(data, (byte) 0);
     }
 
     public Bit get(int index) {
-        return new Bit(getI(index));
+        return Bit.valueOf(getI(index));
     }
 
     public boolean getB(int index) {
-        return bits.get(index);
+        checkIndex(index);
+        return (data[index >> 3] & (0x80 >>> (index & 7))) != 0;
     }
 
     public int getI(int index) {
@@ -198,53 +237,35 @@ public final class BitString {
     }
 
     public int bitLength() {
-        return bits.size();
+        return bitLength;
     }
 
     public int octetLength() {
-        return (int) Math.ceil(bitLength() / 8.0);
+        return (bitLength + 7) / 8;
     }
 
     public int[] toIntArray() {
-        int bitLength = bitLength();
-        int octetLength = octetLength();
-        if (octetLength == 0) {
-            return new int[0];
-        }
-
-        int[] res = new int[octetLength];
+        int[] res = new int[octetLength()];
         for (int i = 0; i < res.length; i++) {
-            for (int j = 0; j < 8; j++) {
-                int index = i * 8 + j;
-                boolean bit = index < bitLength && getB(index);
-                if (bit) {
-                    res[i] |= 0b1 << (7 - j);
-                }
-            }
+            res[i] = data[i] & 0xFF;
         }
         return res;
     }
 
     public byte[] toByteArray() {
-        int[] arr = toIntArray();
-        byte[] res = new byte[arr.length];
-        for (int i = 0; i < arr.length; i++) {
-            res[i] = (byte) (arr[i] & 0xFF);
-        }
-        return res;
+        return Arrays.copyOf(data, octetLength());
     }
 
     public Octet[] toOctetArray() {
-        int[] arr = toIntArray();
-        Octet[] res = new Octet[arr.length];
-        for (int i = 0; i < arr.length; i++) {
-            res[i] = new Octet(arr[i]);
+        Octet[] res = new Octet[octetLength()];
+        for (int i = 0; i < res.length; i++) {
+            res[i] = Octet.valueOf(data[i]);
         }
         return res;
     }
 
     public OctetString toOctetString() {
-        return new OctetString(toOctetArray());
+        return new OctetString(toByteArray());
     }
 
     public String toBinaryString() {
@@ -284,12 +305,19 @@ public final class BitString {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         BitString bitString = (BitString) o;
-        return Objects.equals(bits, bitString.bits);
+        int octetLength = octetLength();
+        return bitLength == bitString.bitLength
+                && Arrays.equals(data, 0, octetLength, bitString.data, 0, octetLength);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(bits);
+        int result = bitLength;
+        int octetLength = octetLength();
+        for (int i = 0; i < octetLength; i++) {
+            result = 31 * result + data[i];
+        }
+        return result;
     }
 
     public int intValue() {
@@ -305,4 +333,36 @@ public final class BitString {
         }
         return Long.parseLong(toBinaryString(false), 2);
     }
+
+    // Copies bits between bit strings that use the layout above, a whole octet at a time where possible
+    private static void copyBits(byte[] src, int srcPos, byte[] dst, int dstPos, int length) {
+        if (((srcPos | dstPos) & 7) == 0) {
+            int octets = length >> 3;
+            System.arraycopy(src, srcPos >> 3, dst, dstPos >> 3, octets);
+            srcPos += octets * 8;
+            dstPos += octets * 8;
+            length -= octets * 8;
+        }
+        while (length > 0) {
+            int dstBit = dstPos & 7;
+            int count = Math.min(8 - dstBit, length);
+            int shift = 8 - dstBit - count;
+            int mask = ((1 << count) - 1) << shift;
+            int bits = readBits(src, srcPos, count) << shift;
+            dst[dstPos >> 3] = (byte) ((dst[dstPos >> 3] & ~mask) | (bits & mask));
+            srcPos += count;
+            dstPos += count;
+            length -= count;
+        }
+    }
+
+    // Returns count (at most 8) bits starting from the given bit position, aligned to the right
+    private static int readBits(byte[] src, int pos, int count) {
+        int index = pos >> 3;
+        int word = (src[index] & 0xFF) << 8;
+        if (index + 1 < src.length) {
+            word |= src[index + 1] & 0xFF;
+        }
+        return (word >>> (16 - (pos & 7) - count)) & ((1 << count) - 1);
+    }
 }
@@ -1,5 +1,6 @@
 package tr.havelsan.ueransim.utils.console;
 
+import tr.havelsan.ueransim.core.Constants;
 import tr.havelsan.ueransim.utils.Severity;
 import tr.havelsan.ueransim.utils.Tag;
 import tr.havelsan.ueransim.utils.jcolor.AnsiColorFormat;
@@ -10,8 +11,17 @@ import java.util.function.Consumer;
 // WARNING: This class is caller sensitive
 public class Log {
 
+    // Keyed by thread id, which is also unique for virtual threads. Entries of finished threads must be removed
+    // with unregisterLogger, otherwise the map grows with every short-lived thread.
     private static final ConcurrentHashMap<Long, Logger> loggers = new ConcurrentHashMap<>();
 
+    /**
+     * Returns true if debug logs are written. Expensive debug output should only be built if this is true.
+     */
+    public static boolean isDebugEnabled() {
+        return Constants.LOG_DEBUG;
+    }
+
     public static void debug(Tag tag, String message, Object... args) {
         findLogger().debug(tag, message, args);
     }
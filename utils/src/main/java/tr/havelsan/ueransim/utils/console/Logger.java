@@ -80,6 +80,7 @@ public class Logger {
 
     public void log(Severity severity, AnsiColorFormat ansiColorFormat, int depth, Tag tag, String message, Object... args) {
         if (severity == null) severity = Severity.DEBUG;
+        if (severity == Severity.DEBUG && !Constants.LOG_DEBUG) return;
         if (message == null) message = "";
         if (args == null) args = new Object[0];
 
@@ -31,6 +31,12 @@ import tr.havelsan.ueransim.utils.bits.Bit;
  * Represents 1-octet or 8-bit unsigned integer
  */
 public final class Octet extends OctetN {
+    private static final Octet[] CACHE = new Octet[256];
+
+    static {
+        for (int i = 0; i < CACHE.length; i++)
+            CACHE[i] = new Octet(i);
+    }
 
     public Octet() {
         this(0);
@@ -52,18 +58,38 @@ public final class Octet extends OctetN {
         super(value, 1);
     }
 
+    /**
+     * Returns the shared instance for given value. Value is always masked with 0xFF, so that negative values and
+     * values out of range wrap around (e.g. as a cast to byte does) instead of being rejected.
+     */
+    public static Octet valueOf(int value) {
+        return CACHE[value & 0xFF];
+    }
+
+    /**
+     * Returns the shared instance for given unsigned byte.
+     */
+    public static Octet valueOf(byte value) {
+        return CACHE[value & 0xFF];
+    }
+
     @Override
     public final Octet setBit(int index, int bit) {
-        return new Octet(super.setBit(index, bit).longValue());
+        return CACHE[(int) (withBit(longValue(), index, bit) & 0xFF)];
     }
 
     @Override
     public final Octet setBit(int index, Bit bit) {
-        return new Octet(super.setBit(index, bit).longValue());
+        return setBit(index, bit.intValue());
+    }
+
+    @Override
+    public final Octet setBit(int index, boolean bit) {
+        return setBit(index, bit ? 1 : 0);
     }
 
     @Override
     public final Octet setBitRange(int start, int end, long value) {
-        return new Octet(super.setBitRange(start, end, value).longValue());
+        return CACHE[(int) (withBitRange(longValue(), 1, start, end, value) & 0xFF)];
     }
 }
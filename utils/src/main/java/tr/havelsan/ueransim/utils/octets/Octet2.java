@@ -54,16 +54,16 @@ public final class Octet2 extends OctetN {
 
     @Override
     public final Octet2 setBit(int index, int bit) {
-        return new Octet2(super.setBit(index, bit).longValue());
+        return new Octet2(withBit(longValue(), index, bit));
     }
 
     @Override
     public final Octet2 setBit(int index, Bit bit) {
-        return new Octet2(super.setBit(index, bit).longValue());
+        return new Octet2(withBit(longValue(), index, bit.intValue()));
     }
 
     @Override
     public final Octet2 setBitRange(int start, int end, long value) {
-        return new Octet2(super.setBitRange(start, end, value).longValue());
+        return new Octet2(withBitRange(longValue(), 2, start, end, value));
     }
 }
@@ -54,16 +54,16 @@ public final class Octet3 extends OctetN {
 
     @Override
     public final Octet3 setBit(int index, int bit) {
-        return new Octet3(super.setBit(index, bit).longValue());
+        return new Octet3(withBit(longValue(), index, bit));
     }
 
     @Override
     public final Octet3 setBit(int index, Bit bit) {
-        return new Octet3(super.setBit(index, bit).longValue());
+        return new Octet3(withBit(longValue(), index, bit.intValue()));
     }
 
     @Override
     public final Octet3 setBitRange(int start, int end, long value) {
-        return new Octet3(super.setBitRange(start, end, value).longValue());
+        return new Octet3(withBitRange(longValue(), 3, start, end, value));
     }
 }
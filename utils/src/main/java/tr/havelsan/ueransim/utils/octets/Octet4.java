@@ -54,16 +54,16 @@ public final class Octet4 extends OctetN {
 
     @Override
     public final Octet4 setBit(int index, int bit) {
-        return new Octet4(super.setBit(index, bit).longValue());
+        return new Octet4(withBit(longValue(), index, bit));
     }
 
     @Override
     public final Octet4 setBit(int index, Bit bit) {
-        return new Octet4(super.setBit(index, bit).longValue());
+        return new Octet4(withBit(longValue(), index, bit.intValue()));
     }
 
     @Override
     public final Octet4 setBitRange(int start, int end, long value) {
-        return new Octet4(super.setBitRange(start, end, value).longValue());
+        return new Octet4(withBitRange(longValue(), 4, start, end, value));
     }
 }
@@ -46,16 +46,16 @@ public final class Octet5 extends OctetN {
 
     @Override
     public final Octet5 setBit(int index, int bit) {
-        return new Octet5(super.setBit(index, bit).longValue());
+        return new Octet5(withBit(longValue(), index, bit));
     }
 
     @Override
     public final Octet5 setBit(int index, Bit bit) {
-        return new Octet5(super.setBit(index, bit).longValue());
+        return new Octet5(withBit(longValue(), index, bit.intValue()));
     }
 
     @Override
     public final Octet5 setBitRange(int start, int end, long value) {
-        return new Octet5(super.setBitRange(start, end, value).longValue());
+        return new Octet5(withBitRange(longValue(), 5, start, end, value));
     }
 }
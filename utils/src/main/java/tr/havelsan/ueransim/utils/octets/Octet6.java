@@ -46,16 +46,16 @@ public final class Octet6 extends OctetN {
 
     @Override
     public final Octet6 setBit(int index, int bit) {
-        return new Octet6(super.setBit(index, bit).longValue());
+        return new Octet6(withBit(longValue(), index, bit));
     }
 
     @Override
     public final Octet6 setBit(int index, Bit bit) {
-        return new Octet6(super.setBit(index, bit).longValue());
+        return new Octet6(withBit(longValue(), index, bit.intValue()));
     }
 
     @Override
     public final Octet6 setBitRange(int start, int end, long value) {
-        return new Octet6(super.setBitRange(start, end, value).longValue());
+        return new Octet6(withBitRange(longValue(), 6, start, end, value));
     }
 }
@@ -46,16 +46,16 @@ public final class Octet7 extends OctetN {
 
     @Override
     public final Octet7 setBit(int index, int bit) {
-        return new Octet7(super.setBit(index, bit).longValue());
+        return new Octet7(withBit(longValue(), index, bit));
     }
 
     @Override
     public final Octet7 setBit(int index, Bit bit) {
-        return new Octet7(super.setBit(index, bit).longValue());
+        return new Octet7(withBit(longValue(), index, bit.intValue()));
     }
 
     @Override
     public final Octet7 setBitRange(int start, int end, long value) {
-        return new Octet7(super.setBitRange(start, end, value).longValue());
+        return new Octet7(withBitRange(longValue(), 7, start, end, value));
     }
 }
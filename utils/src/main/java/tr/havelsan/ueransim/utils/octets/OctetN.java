@@ -131,7 +131,7 @@ public class OctetN {
      *              [0] is the least significant bit, while [n-1] is the most significant bit
      */
     public final Bit getBit(int index) {
-        return new Bit(getBitI(index));
+        return Bit.valueOf(getBitI(index));
     }
 
     /**
@@ -142,7 +142,7 @@ public class OctetN {
      * @param bit   new bit value to be assigned
      */
     public OctetN setBit(int index, int bit) {
-        return new OctetN((bit & 1) == 0 ? _longValue & ~(1L << index) : _longValue | (1L << index), _octetCount);
+        return new OctetN(withBit(_longValue, index, bit), _octetCount);
     }
 
     /**
@@ -183,6 +183,10 @@ public class OctetN {
             start = temp;
         }
 
+        int length = end - start + 1;
+        if (start >= 0 && length < 64)
+            return (_longValue >>> start) & ((1L << length) - 1);
+
         long val = 0;
         for (int i = end; i >= start; i--) {
             int bit = getBitI(i);
@@ -221,12 +225,29 @@ public class OctetN {
      * @param value is the value to be assigned.
      */
     public OctetN setBitRange(int start, int end, long value) {
-        OctetN octetN = new OctetN(_longValue, _octetCount);
-        OctetN val = new OctetN(value, _octetCount);
+        return new OctetN(withBitRange(_longValue, _octetCount, start, end, value), _octetCount);
+    }
+
+    /*package-private*/ static long withBit(long longValue, int index, int bit) {
+        return (bit & 1) == 0 ? longValue & ~(1L << index) : longValue | (1L << index);
+    }
+
+    /*package-private*/ static long withBitRange(long longValue, int octetCount, int start, int end, long value) {
+        if (value < 0)
+            throw new IllegalArgumentException("negative value");
+        value &= (1L << (8 * octetCount)) - 1;
+
         int length = end - start + 1;
+        if (length <= 0)
+            return longValue;
+        if (start >= 0 && start + length < 64) {
+            long mask = ((1L << length) - 1) << start;
+            return (longValue & ~mask) | ((value << start) & mask);
+        }
+
         for (int i = 0; i < length; i++)
-            octetN = octetN.setBit(start + i, val.getBitI(i));
-        return octetN;
+            longValue = withBit(longValue, start + i, (int) (value >> i) & 1);
+        return longValue & ((1L << (8 * octetCount)) - 1);
     }
 
     /**
@@ -248,11 +269,11 @@ public class OctetN {
         var octets = new Octet[octetCount()];
         if (!useBigEndian) {
             for (int i = 0; i < octets.length; i++) {
-                octets[i] = new Octet((int) ((_longValue >> (8 * i)) & 0xFF));
+                octets[i] = Octet.valueOf((int) ((_longValue >> (8 * i)) & 0xFF));
             }
         } else {
             for (int i = 0; i < octets.length; i++) {
-                octets[octets.length - i - 1] = new Octet((int) ((_longValue >> (8 * i)) & 0xFF));
+                octets[octets.length - i - 1] = Octet.valueOf((int) ((_longValue >> (8 * i)) & 0xFF));
             }
         }
         return octets;
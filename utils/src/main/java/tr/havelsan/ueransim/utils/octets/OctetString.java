@@ -26,9 +26,20 @@ package tr.havelsan.ueransim.utils.octets;
 
 import tr.havelsan.ueransim.utils.Utils;
 
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Immutable sequence of octets. Octet strings may share their backing array with each other: {@link #substring}
+ * and {@link #wrap} return views instead of copies, which is safe as long as nobody modifies a wrapped array.
+ */
 public final class OctetString {
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
     public final int length;
     private final byte[] data;
+    private final int offset;
 
     public OctetString(Octet... octets) {
         var data = new byte[octets.length];
@@ -36,6 +47,7 @@ public final class OctetString {
             data[i] = (byte) (octets[i].intValue() & 0xFF);
 
         this.data = data;
+        this.offset = 0;
         this.length = data.length;
     }
 
@@ -45,29 +57,59 @@ public final class OctetString {
             data[i] = (byte) (octetInts[i] & 0xFF);
 
         this.data = data;
+        this.offset = 0;
         this.length = data.length;
     }
 
-    // TODO: Or just wrap the byte array
+    /**
+     * Copies the given array, see {@link #wrap(byte[])} for sharing it instead.
+     */
     public OctetString(byte[] octetBytes) {
-        var sub = new byte[octetBytes.length];
-        System.arraycopy(octetBytes, 0, sub, 0, octetBytes.length);
-
-        this.data = sub;
-        this.length = data.length;
+        this(octetBytes, 0, octetBytes.length, true);
     }
 
-    // TODO: Or just wrap the byte array
+    /**
+     * Copies the given range, see {@link #wrap(byte[], int, int)} for sharing it instead.
+     */
     public OctetString(byte[] buffer, int offset, int length) {
-        var sub = new byte[length];
-        System.arraycopy(buffer, offset, sub, 0, length);
-
-        this.data = sub;
-        this.length = data.length;
+        this(buffer, offset, length, true);
     }
 
     public OctetString(String hex) {
-        this(Utils.hexStringToByteArray(hex));
+        this(Utils.hexStringToByteArray(hex), false);
+    }
+
+    private OctetString(byte[] data, boolean copy) {
+        this(data, 0, data.length, copy);
+    }
+
+    private OctetString(byte[] buffer, int offset, int length, boolean copy) {
+        Objects.checkFromIndexSize(offset, length, buffer.length);
+
+        if (copy) {
+            this.data = Arrays.copyOfRange(buffer, offset, offset + length);
+            this.offset = 0;
+        } else {
+            this.data = buffer;
+            this.offset = offset;
+        }
+        this.length = length;
+    }
+
+    /**
+     * Returns an octet string that uses the given array without copying it. The array must not be modified
+     * afterwards.
+     */
+    public static OctetString wrap(byte[] octetBytes) {
+        return new OctetString(octetBytes, false);
+    }
+
+    /**
+     * Returns an octet string that uses the given range of the array without copying it. The range must not be
+     * modified afterwards.
+     */
+    public static OctetString wrap(byte[] buffer, int offset, int length) {
+        return new OctetString(buffer, offset, length, false);
     }
 
     public static OctetString concat(OctetString... octetStrings) {
@@ -80,48 +122,63 @@ public final class OctetString {
         int index = 0;
 
         for (var octetString : octetStrings) {
-            for (var octet : octetString.data) {
-                arr[index++] = octet;
-            }
+            System.arraycopy(octetString.data, octetString.offset, arr, index, octetString.length);
+            index += octetString.length;
         }
-        return new OctetString(arr);
+        return wrap(arr);
     }
 
     public static OctetString xor(OctetString s1, OctetString s2) {
         if (s1.length != s2.length) {
             throw new IllegalStateException("s1.length != s2.length");
         }
-        Octet[] arr = s1.getAsOctetArray();
-        for (int i = 0; i < s1.length; i++) {
-            arr[i] = new Octet(arr[i].intValue() ^ s2.get1(i).intValue());
+        byte[] arr = new byte[s1.length];
+        for (int i = 0; i < arr.length; i++) {
+            arr[i] = (byte) (s1.data[s1.offset + i] ^ s2.data[s2.offset + i]);
         }
-        return new OctetString(arr);
+        return wrap(arr);
     }
 
     public byte get(int index) {
-        return data[index];
+        return data[offset + Objects.checkIndex(index, length)];
+    }
+
+    public int getI(int index) {
+        return get(index) & 0xFF;
+    }
+
+    public int get2I(int index) {
+        return getI(index) << 8 | getI(index + 1);
+    }
+
+    public int get3I(int index) {
+        return getI(index) << 16 | getI(index + 1) << 8 | getI(index + 2);
+    }
+
+    public long get4L(int index) {
+        return (long) getI(index) << 24 | getI(index + 1) << 16 | getI(index + 2) << 8 | getI(index + 3);
     }
 
     public Octet get1(int index) {
-        return new Octet(data[index]);
+        return Octet.valueOf(getI(index));
     }
 
     public Octet2 get2(int index) {
-        return new Octet2(get1(index), get1(index + 1));
+        return new Octet2(get2I(index));
     }
 
     public Octet3 get3(int index) {
-        return new Octet3(get1(index), get1(index + 1), get1(index + 2));
+        return new Octet3(get3I(index));
     }
 
     public Octet4 get4(int index) {
-        return new Octet4(get1(index), get1(index + 1), get1(index + 2), get1(index + 3));
+        return new Octet4(get4L(index));
     }
 
     public Octet[] getAsOctetArray() {
         var res = new Octet[length];
         for (int i = 0; i < length; i++) {
-            res[i] = new Octet(data[i]);
+            res[i] = Octet.valueOf(data[offset + i]);
         }
         return res;
     }
@@ -136,12 +193,13 @@ public final class OctetString {
     }
 
     public String toHexString(boolean withSpace) {
-        var sb = new StringBuilder();
-        for (byte octet : data) {
-            sb.append(String.format("%02x", octet));
-            if (withSpace) sb.append(' ');
+        var sb = new StringBuilder(length * (withSpace ? 3 : 2));
+        for (int i = 0; i < length; i++) {
+            int octet = data[offset + i] & 0xFF;
+            sb.append(HEX_DIGITS[octet >> 4]).append(HEX_DIGITS[octet & 0xF]);
+            if (withSpace && i != length - 1) sb.append(' ');
         }
-        return sb.toString().trim();
+        return sb.toString();
     }
 
     @Override
@@ -149,33 +207,49 @@ public final class OctetString {
         if (!(obj instanceof OctetString))
             return false;
         var os = (OctetString) obj;
-        if (os.length != this.length)
-            return false;
-        for (int i = 0; i < os.length; i++) {
-            if (os.data[i] != this.data[i])
-                return false;
+        return Arrays.equals(os.data, os.offset, os.offset + os.length, data, offset, offset + length);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < length; i++) {
+            result = 31 * result + data[offset + i];
         }
-        return true;
+        return result;
     }
 
     public byte[] toByteArray() {
-        var octetArray = getAsOctetArray();
-        var byteArray = new byte[octetArray.length];
-        for (int i = 0; i < byteArray.length; i++) {
-            byteArray[i] = (byte) (octetArray[i].longValue() & 0xFF);
-        }
-        return byteArray;
+        return Arrays.copyOfRange(data, offset, offset + length);
+    }
+
+    /**
+     * Copies count octets starting from index to the given array.
+     */
+    public void copyTo(int index, byte[] destination, int destinationOffset, int count) {
+        Objects.checkFromIndexSize(index, count, length);
+        System.arraycopy(data, offset + index, destination, destinationOffset, count);
+    }
+
+    /**
+     * Returns a read-only buffer over the octets, without copying them.
+     */
+    public ByteBuffer asByteBuffer() {
+        return ByteBuffer.wrap(data, offset, length).slice().asReadOnlyBuffer();
     }
 
+    /**
+     * Returns the octets from startIndex to the end. The result shares this string's memory.
+     */
     public OctetString substring(int startIndex) {
-        var data = new byte[this.length - startIndex];
-        System.arraycopy(this.data, startIndex, data, 0, data.length);
-        return new OctetString(data);
+        return substring(startIndex, this.length - startIndex);
     }
 
+    /**
+     * Returns the given range of octets. The result shares this string's memory.
+     */
     public OctetString substring(int startIndex, int length) {
-        var data = new byte[length];
-        System.arraycopy(this.data, startIndex, data, 0, data.length);
-        return new OctetString(data);
+        Objects.checkFromIndexSize(startIndex, length, this.length);
+        return new OctetString(data, offset + startIndex, length, false);
     }
 }
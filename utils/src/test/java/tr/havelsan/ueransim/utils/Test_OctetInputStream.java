@@ -0,0 +1,175 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tr.havelsan.ueransim.utils;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+import tr.havelsan.ueransim.utils.octets.Octet;
+import tr.havelsan.ueransim.utils.octets.Octet2;
+import tr.havelsan.ueransim.utils.octets.Octet3;
+import tr.havelsan.ueransim.utils.octets.Octet4;
+import tr.havelsan.ueransim.utils.octets.OctetString;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+public class Test_OctetInputStream {
+
+    private static final byte[] DATA = {(byte) 0x01, (byte) 0x82, (byte) 0xFF, (byte) 0x7F, (byte) 0x00, (byte) 0xAB,
+            (byte) 0xCD, (byte) 0xEF, (byte) 0x10, (byte) 0x20};
+
+    @Test
+    public void testPrimitiveReads() {
+        var stream = new OctetInputStream(DATA);
+        Assert.assertEquals(0x01, stream.readOctetI());
+        Assert.assertEquals(0x82FF, stream.readOctet2I());
+        Assert.assertEquals(0x7F00AB, stream.readOctet3I());
+        Assert.assertEquals(0xCDEF1020L, stream.readOctet4L());
+        Assert.assertFalse(stream.hasNext());
+    }
+
+    @Test
+    public void testPrimitiveReadsMatchObjectReads() {
+        var primitive = new OctetInputStream(DATA);
+        var object = new OctetInputStream(DATA);
+        Assert.assertEquals(new Octet(primitive.readOctetI()), object.readOctet());
+        Assert.assertEquals(new Octet2(primitive.readOctet2I()), object.readOctet2());
+        Assert.assertEquals(new Octet3(primitive.readOctet3I()), object.readOctet3());
+        Assert.assertEquals(new Octet4(primitive.readOctet4L()), object.readOctet4());
+    }
+
+    @Test
+    public void testReadOctetReturnsSharedInstances() {
+        var stream = new OctetInputStream(DATA);
+        for (byte b : DATA) {
+            Assert.assertSame(Octet.valueOf(b), stream.readOctet());
+        }
+    }
+
+    // Buffers of every kind over the same octets, DATA[2..9], with the position at the first of them
+    private static ByteBuffer[] buffers() {
+        var heap = ByteBuffer.wrap(DATA.clone(), 2, 8);
+
+        var direct = ByteBuffer.allocateDirect(DATA.length);
+        direct.put(DATA).position(2);
+
+        var readOnly = ByteBuffer.wrap(DATA.clone()).position(2).asReadOnlyBuffer();
+
+        // Byte order of the source buffer does not matter
+        var littleEndian = ByteBuffer.wrap(DATA.clone()).order(ByteOrder.LITTLE_ENDIAN).position(2);
+
+        var sliced = ByteBuffer.wrap(DATA.clone()).position(1).slice().position(1);
+
+        return new ByteBuffer[]{heap, direct, readOnly, littleEndian, sliced};
+    }
+
+    @Test
+    public void testByteBufferSources() {
+        for (var buffer : buffers()) {
+            int start = buffer.position();
+            var stream = new OctetInputStream(buffer);
+            Assert.assertEquals(8, stream.length());
+            Assert.assertEquals(start, stream.sourceOffset());
+
+            Assert.assertEquals(0xFF, stream.peekOctetI());
+            Assert.assertEquals(0xFF7F, stream.peekOctet2I());
+            Assert.assertEquals(0xFF7F00ABL, new OctetInputStream(buffer).readOctet4L());
+
+            Assert.assertEquals(0xFF7F, stream.readOctet2I());
+            Assert.assertEquals(0x00ABCD, stream.readOctet3I());
+            Assert.assertEquals(start + 5, stream.sourcePosition());
+            Assert.assertEquals(new OctetString("ef1020"), stream.readOctetString());
+            Assert.assertEquals(start + 8, stream.sourcePosition());
+            Assert.assertFalse(stream.hasNext());
+
+            // The source buffer is read in place without moving it
+            Assert.assertEquals(start, buffer.position());
+        }
+    }
+
+    @Test
+    public void testLittleEndianReads() {
+        for (var buffer : buffers()) {
+            var stream = new OctetInputStream(buffer, false);
+            Assert.assertEquals(0x7FFF, stream.peekOctet2I());
+            Assert.assertEquals(0x7FFF, stream.readOctet2I());
+            Assert.assertEquals(0xCDAB00, stream.readOctet3I());
+            Assert.assertEquals(new Octet3(0x2010EF), stream.readOctet3());
+        }
+
+        var stream = new OctetInputStream(DATA, false);
+        Assert.assertEquals(0x8201, stream.readOctet2I());
+        Assert.assertEquals(new Octet4(0xAB007FFFL), stream.readOctet4());
+        Assert.assertEquals(new Octet2(0xEFCD), stream.readOctet2());
+        Assert.assertEquals(0x10, stream.readOctetI());
+    }
+
+    @Test
+    public void testReadInto() {
+        for (var buffer : buffers()) {
+            var stream = new OctetInputStream(buffer);
+            stream.readOctetI();
+
+            var dst = new byte[6];
+            stream.readInto(dst, 1, 4);
+            Assert.assertArrayEquals(new byte[]{0, 0x7F, 0x00, (byte) 0xAB, (byte) 0xCD, 0}, dst);
+            Assert.assertEquals(5, stream.currentIndex());
+            Assert.assertEquals(3, stream.remaining());
+
+            try {
+                stream.readInto(dst, 0, 4);
+                Assert.fail();
+            } catch (IndexOutOfBoundsException e) {
+                // expected
+            }
+            Assert.assertEquals(5, stream.currentIndex());
+            Assert.assertArrayEquals(new byte[]{(byte) 0xEF, 0x10, 0x20}, stream.readOctetArrayB(3));
+        }
+    }
+
+    @Test
+    public void testOctetStringsFromBuffersAreCopies() {
+        var data = DATA.clone();
+        var stream = new OctetInputStream(ByteBuffer.wrap(data));
+        var octetString = stream.readOctetString(4);
+        data[0] = 0;
+        Assert.assertEquals(new OctetString("0182ff7f"), octetString);
+    }
+
+    @Test
+    public void testOctetStringSource() {
+        var source = OctetString.wrap(DATA).substring(2, 6);
+        var stream = new OctetInputStream(source);
+        Assert.assertEquals(0, stream.sourceOffset());
+        Assert.assertEquals(0xFF, stream.readOctetI());
+        Assert.assertEquals(source.substring(1, 3), stream.readOctetString(3));
+        Assert.assertEquals(4, stream.sourcePosition());
+
+        var dst = new byte[2];
+        stream.readInto(dst, 0, 2);
+        Assert.assertArrayEquals(new byte[]{(byte) 0xCD, (byte) 0xEF}, dst);
+        Assert.assertFalse(stream.hasNext());
+    }
+}
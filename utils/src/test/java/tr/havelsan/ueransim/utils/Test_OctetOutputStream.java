@@ -0,0 +1,249 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tr.havelsan.ueransim.utils;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+import tr.havelsan.ueransim.utils.bits.Bit12;
+import tr.havelsan.ueransim.utils.bits.Bit4;
+import tr.havelsan.ueransim.utils.bits.Bit9;
+import tr.havelsan.ueransim.utils.bits.BitN;
+import tr.havelsan.ueransim.utils.octets.Octet;
+import tr.havelsan.ueransim.utils.octets.Octet2;
+import tr.havelsan.ueransim.utils.octets.Octet3;
+import tr.havelsan.ueransim.utils.octets.Octet4;
+import tr.havelsan.ueransim.utils.octets.OctetString;
+
+import java.nio.ByteBuffer;
+
+public class Test_OctetOutputStream {
+
+    @Test
+    public void testPrimitiveWrites() {
+        var stream = new OctetOutputStream();
+        stream.writeOctet(0x01);
+        stream.writeOctet2(0x82FF);
+        stream.writeOctet3(0x7F00AB);
+        stream.writeOctet4(0xCDEF1020L);
+        Assert.assertArrayEquals(Utils.hexStringToByteArray("0182ff7f00abcdef1020"), stream.toByteArray());
+    }
+
+    @Test
+    public void testPrimitiveWritesMatchObjectWrites() {
+        var primitive = new OctetOutputStream();
+        primitive.writeOctet(0x01);
+        primitive.writeOctet2(0x82FF);
+        primitive.writeOctet3(0x7F00AB);
+        primitive.writeOctet4(0xCDEF1020L);
+
+        var object = new OctetOutputStream();
+        object.writeOctet(new Octet(0x01));
+        object.writeOctet2(new Octet2(0x82FF));
+        object.writeOctet3(new Octet3(0x7F00AB));
+        object.writeOctet4(new Octet4(0xCDEF1020L));
+
+        Assert.assertArrayEquals(object.toByteArray(), primitive.toByteArray());
+    }
+
+    @Test
+    public void testWriteBitsMatchesOctetArray() {
+        BitN[] values = {new Bit4(0b1010), new Bit9(0b1_0110_0101), new Bit12(0xABC)};
+        for (var bigEndian : new boolean[]{true, false}) {
+            for (var useMsb : new boolean[]{true, false}) {
+                for (var value : values) {
+                    var stream = new OctetOutputStream(bigEndian);
+                    stream.writeBits(value.intValue(), value.bitCount(), useMsb);
+
+                    var expected = new OctetOutputStream(bigEndian);
+                    expected.writeOctets(value.toOctetArray(bigEndian, useMsb));
+
+                    Assert.assertArrayEquals(expected.toByteArray(), stream.toByteArray());
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testToOctetArrayReturnsSharedInstances() {
+        var stream = new OctetOutputStream();
+        stream.writeOctets(new int[]{0, 0x7F, 0x80, 0xFF});
+        var octets = stream.toOctetArray();
+        Assert.assertSame(Octet.valueOf(0), octets[0]);
+        Assert.assertSame(Octet.valueOf(0x7F), octets[1]);
+        Assert.assertSame(Octet.valueOf(0x80), octets[2]);
+        Assert.assertSame(Octet.valueOf(0xFF), octets[3]);
+    }
+
+    @Test
+    public void testGrowth() {
+        var stream = new OctetOutputStream();
+        var expected = new byte[1000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) i;
+            stream.writeOctet(i & 0xFF);
+        }
+        Assert.assertEquals(expected.length, stream.length());
+        Assert.assertArrayEquals(expected, stream.toByteArray());
+
+        // Multi-octet writes that cross the capacity of the given buffer
+        var buffer = new byte[3];
+        stream = new OctetOutputStream(true, buffer);
+        stream.writeOctet2(0x0102);
+        stream.writeOctet4(0x03040506L);
+        stream.writeOctets(new byte[]{7, 8, 9});
+        stream.writeOctetPadding(2);
+        Assert.assertArrayEquals(new byte[]{1, 2, 3, 4, 5, 6, 7, 8, 9, 0, 0}, stream.toByteArray());
+    }
+
+    @Test
+    public void testGivenBufferIsReused() {
+        var buffer = new byte[8];
+        var stream = new OctetOutputStream(true, buffer);
+        stream.writeOctet4(0x01020304L);
+        Assert.assertArrayEquals(new byte[]{1, 2, 3, 4, 0, 0, 0, 0}, buffer);
+
+        stream.reset();
+        Assert.assertEquals(0, stream.length());
+        stream.writeOctet2(0x0506);
+        Assert.assertArrayEquals(new byte[]{5, 6}, stream.toByteArray());
+        Assert.assertArrayEquals(new byte[]{5, 6, 3, 4, 0, 0, 0, 0}, buffer);
+    }
+
+    @Test
+    public void testLittleEndianWrites() {
+        var stream = new OctetOutputStream(false);
+        stream.writeOctet(0x01);
+        stream.writeOctet2(0x0203);
+        stream.writeOctet2(0x04, 0x05);
+        stream.writeOctet3(0x060708);
+        stream.writeOctet4(0x090A0B0CL);
+        stream.writeOctet8(0x0D0E0F1011121314L);
+        Assert.assertEquals(new OctetString("01030205040807060c0b0a0914131211100f0e0d"), stream.toOctetString());
+
+        stream = new OctetOutputStream(false);
+        stream.writeOctet2(new Octet2(0x0203));
+        stream.writeOctet2(new Octet(0x04), new Octet(0x05));
+        stream.writeOctet3(new Octet3(0x060708));
+        stream.writeOctet4(new Octet4(0x090A0B0CL));
+        Assert.assertEquals(new OctetString("030205040807060c0b0a09"), stream.toOctetString());
+    }
+
+    @Test
+    public void testBigEndianWriteOctet8() {
+        var stream = new OctetOutputStream();
+        stream.writeOctet8(0x0D0E0F1011121314L);
+        Assert.assertEquals(new OctetString("0d0e0f1011121314"), stream.toOctetString());
+    }
+
+    @Test
+    public void testWriteBitsAlignment() {
+        // Bits are padded on the right when useMsb is set, otherwise the last octet is padded on the left
+        var stream = new OctetOutputStream();
+        stream.writeBits(0b1010, 4, true);
+        stream.writeBits(0b1010, 4, false);
+        stream.writeBits(0xABC, 12, true);
+        stream.writeBits(0xABC, 12, false);
+        stream.writeBits(0x1234, 16, true);
+        stream.writeBits(new Bit4(0b0110));
+        Assert.assertEquals(new OctetString("a00aabc0ab0c123460"), stream.toOctetString());
+
+        stream = new OctetOutputStream(false);
+        stream.writeBits(0xABC, 12, true);
+        stream.writeBits(0xABC, 12, false);
+        Assert.assertEquals(new OctetString("c0ab0cab"), stream.toOctetString());
+
+        // Only the lowest bitCount bits are written
+        stream = new OctetOutputStream();
+        stream.writeBits(0x1FF, 4, true);
+        Assert.assertEquals(new OctetString("f0"), stream.toOctetString());
+    }
+
+    @Test
+    public void testInvalidWrites() {
+        var stream = new OctetOutputStream();
+        try {
+            stream.writeOctet(-1);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            stream.writeBits(1, 0, true);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            stream.setOctet(0, 1);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        Assert.assertEquals(0, stream.length());
+    }
+
+    @Test
+    public void testSetOctet() {
+        var stream = new OctetOutputStream();
+        stream.writeOctet(0);
+        stream.writeOctets(new int[]{1, 2, 3});
+        stream.setOctet(0, stream.length() - 1);
+        Assert.assertEquals(new OctetString("03010203"), stream.toOctetString());
+    }
+
+    @Test
+    public void testWriteStreamAndOctetString() {
+        var inner = new OctetOutputStream();
+        inner.writeOctets(new int[]{1, 2, 3});
+
+        var stream = new OctetOutputStream();
+        stream.writeStream(inner);
+        stream.writeOctetString(new OctetString("0a0b0c0d").substring(1, 2));
+        Assert.assertEquals(new OctetString("0102030b0c"), stream.toOctetString());
+    }
+
+    @Test
+    public void testWriteTo() {
+        var stream = new OctetOutputStream();
+        stream.writeOctets(new int[]{1, 2, 3});
+
+        var heap = ByteBuffer.allocate(8);
+        heap.put((byte) 9);
+        stream.writeTo(heap);
+        Assert.assertEquals(4, heap.position());
+        Assert.assertArrayEquals(new byte[]{9, 1, 2, 3, 0, 0, 0, 0}, heap.array());
+
+        var direct = ByteBuffer.allocateDirect(3);
+        stream.writeTo(direct);
+        Assert.assertEquals(3, direct.position());
+        direct.flip();
+        var read = new byte[3];
+        direct.get(read);
+        Assert.assertArrayEquals(new byte[]{1, 2, 3}, read);
+
+        // Stream is not consumed by writeTo
+        Assert.assertEquals(3, stream.length());
+    }
+}
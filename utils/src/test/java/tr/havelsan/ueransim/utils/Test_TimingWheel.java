@@ -0,0 +1,234 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tr.havelsan.ueransim.utils;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class Test_TimingWheel {
+
+    private static final Runnable NOTHING = () -> {
+    };
+
+    @Test
+    public void testLevelBoundaries() {
+        // Delays just below and at the first two level sizes, scheduled on a tick aligned to a level and on one that
+        // is not, so that cascading is done both at the first level boundary and after it
+        long[] delays = {1, 255, 256, 65535, 65536};
+        long[] starts = {0, 100, 255};
+
+        for (long start : starts) {
+            for (long delay : delays) {
+                var clock = new AtomicLong(start);
+                var wheel = new TimingWheel(clock::get);
+                var expired = new ArrayList<TimingWheel.Timeout>();
+
+                var timeout = wheel.schedule(delay, NOTHING);
+                long deadline = start + 1 + delay;
+
+                clock.set(deadline - 1);
+                wheel.advance(expired);
+                Assert.assertTrue(expired.isEmpty());
+                Assert.assertEquals(1, wheel.getPendingCount());
+
+                clock.set(deadline);
+                wheel.advance(expired);
+                Assert.assertEquals(1, expired.size());
+                Assert.assertSame(timeout, expired.get(0));
+                Assert.assertEquals(0, wheel.getPendingCount());
+            }
+        }
+    }
+
+    @Test
+    public void testLevelBoundariesTickByTick() {
+        for (long delay : new long[]{255, 256, 65535, 65536}) {
+            var clock = new AtomicLong(0);
+            var wheel = new TimingWheel(clock::get);
+            var expired = new ArrayList<TimingWheel.Timeout>();
+
+            wheel.schedule(delay, NOTHING);
+            long deadline = 1 + delay;
+
+            for (long tick = 1; tick < deadline; tick++) {
+                clock.set(tick);
+                wheel.advance(expired);
+                Assert.assertTrue(expired.isEmpty());
+            }
+            clock.set(deadline);
+            wheel.advance(expired);
+            Assert.assertEquals(1, expired.size());
+        }
+    }
+
+    @Test
+    public void testSameDeadlineFromDifferentLevels() {
+        var clock = new AtomicLong(0);
+        var wheel = new TimingWheel(clock::get);
+        var expired = new ArrayList<TimingWheel.Timeout>();
+
+        // Scheduled into level 2 first, then into level 1 and level 0 as the deadline gets closer
+        var first = wheel.schedule(65535, NOTHING);
+        clock.set(65536 - 300);
+        wheel.advance(expired);
+        var second = wheel.schedule(299 - 1, NOTHING);
+        clock.set(65536 - 10);
+        wheel.advance(expired);
+        var third = wheel.schedule(9 - 1, NOTHING);
+        Assert.assertTrue(expired.isEmpty());
+
+        clock.set(65536);
+        wheel.advance(expired);
+        Assert.assertEquals(3, expired.size());
+        Assert.assertTrue(expired.contains(first));
+        Assert.assertTrue(expired.contains(second));
+        Assert.assertTrue(expired.contains(third));
+    }
+
+    @Test
+    public void testCancel() {
+        var clock = new AtomicLong(0);
+        var wheel = new TimingWheel(clock::get);
+        var expired = new ArrayList<TimingWheel.Timeout>();
+
+        var cancelled = wheel.schedule(1000, NOTHING);
+        var kept = wheel.schedule(1000, NOTHING);
+        Assert.assertEquals(2, wheel.getPendingCount());
+
+        // Cancelled after it has been cascaded from level 1 to level 0
+        clock.set(1000);
+        wheel.advance(expired);
+        Assert.assertTrue(cancelled.cancel());
+        Assert.assertFalse(cancelled.cancel());
+        Assert.assertEquals(1, wheel.getPendingCount());
+
+        clock.set(1001);
+        wheel.advance(expired);
+        Assert.assertEquals(1, expired.size());
+        Assert.assertSame(kept, expired.get(0));
+        Assert.assertFalse(kept.cancel());
+        Assert.assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    public void testCancelBeforeCascade() {
+        var clock = new AtomicLong(0);
+        var wheel = new TimingWheel(clock::get);
+        var expired = new ArrayList<TimingWheel.Timeout>();
+
+        var timeout = wheel.schedule(65536, NOTHING);
+        Assert.assertTrue(timeout.cancel());
+        Assert.assertEquals(Long.MAX_VALUE, wheel.nextEventTick());
+
+        clock.set(70000);
+        wheel.advance(expired);
+        Assert.assertTrue(expired.isEmpty());
+    }
+
+    @Test
+    public void testNextEventTick() {
+        var clock = new AtomicLong(0);
+        var wheel = new TimingWheel(clock::get);
+        var expired = new ArrayList<TimingWheel.Timeout>();
+        Assert.assertEquals(Long.MAX_VALUE, wheel.nextEventTick());
+
+        // Level 0
+        wheel.schedule(9, NOTHING);
+        Assert.assertEquals(10, wheel.nextEventTick());
+        clock.set(10);
+        wheel.advance(expired);
+        Assert.assertEquals(1, expired.size());
+        Assert.assertEquals(Long.MAX_VALUE, wheel.nextEventTick());
+        expired.clear();
+
+        // Level 2, the deadline is 10 + 1 + 65536 = 65547 and is first cascaded at tick 65536
+        wheel.schedule(65536, NOTHING);
+        Assert.assertEquals(65536, wheel.nextEventTick());
+
+        // Level 1 slot is due before the level 2 one
+        wheel.schedule(500, NOTHING);
+        Assert.assertEquals(256, wheel.nextEventTick());
+
+        clock.set(256);
+        wheel.advance(expired);
+        Assert.assertEquals(511, wheel.nextEventTick());
+        clock.set(511);
+        wheel.advance(expired);
+        Assert.assertEquals(1, expired.size());
+        Assert.assertEquals(65536, wheel.nextEventTick());
+
+        clock.set(65536);
+        wheel.advance(expired);
+        Assert.assertEquals(65547, wheel.nextEventTick());
+    }
+
+    @Test
+    public void testScheduleWhileDriverSleeps() throws Exception {
+        var wheel = new TimingWheel("test-timing-wheel");
+
+        // The driver sleeps until the far timeout is due, and must wake up for the nearer one scheduled later
+        wheel.schedule(60_000, NOTHING);
+        Thread.sleep(50);
+
+        var latch = new CountDownLatch(1);
+        long startNanos = System.nanoTime();
+        wheel.schedule(20, latch::countDown);
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertTrue(System.nanoTime() - startNanos >= TimeUnit.MILLISECONDS.toNanos(20));
+        Assert.assertEquals(1, wheel.getPendingCount());
+    }
+
+    @Test
+    public void testScheduleWhileDriverIdle() throws Exception {
+        var wheel = new TimingWheel("test-timing-wheel");
+        Thread.sleep(50);
+
+        var latch = new CountDownLatch(2);
+        wheel.schedule(10, latch::countDown);
+        wheel.schedule(30, latch::countDown);
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(0, wheel.getPendingCount());
+    }
+
+    @Test
+    public void testFailingTask() throws Exception {
+        var wheel = new TimingWheel("test-timing-wheel");
+
+        var latch = new CountDownLatch(1);
+        wheel.schedule(5, () -> {
+            throw new IllegalStateException();
+        });
+        wheel.schedule(10, latch::countDown);
+
+        Assert.assertTrue(latch.await(5, TimeUnit.SECONDS));
+        Assert.assertEquals(1, wheel.getFailureCount());
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tr.havelsan.ueransim.utils.bits;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+import tr.havelsan.ueransim.utils.octets.OctetString;
+
+import java.util.Random;
+
+public class Test_BitString {
+
+    // Bit strings are compared against their binary string form, which is built one bit at a time
+    private static String randomBits(Random random, int length) {
+        var sb = new StringBuilder();
+        for (int i = 0; i < length; i++) {
+            sb.append(random.nextBoolean() ? '1' : '0');
+        }
+        return sb.toString();
+    }
+
+    @Test
+    public void testFromBits() {
+        var random = new Random(1);
+        for (int length = 0; length <= 40; length++) {
+            var bits = randomBits(random, length);
+            var bitString = BitString.fromBits(bits);
+            Assert.assertEquals(length, bitString.bitLength());
+            Assert.assertEquals((length + 7) / 8, bitString.octetLength());
+            Assert.assertEquals(bits, bitString.toBinaryString());
+            for (int i = 0; i < length; i++) {
+                Assert.assertEquals(bits.charAt(i) == '1', bitString.getB(i));
+            }
+        }
+    }
+
+    @Test
+    public void testFromByteArray() {
+        var bytes = new byte[]{(byte) 0xA5, (byte) 0xFF, (byte) 0x3C};
+
+        var full = BitString.from(bytes);
+        Assert.assertEquals(24, full.bitLength());
+        Assert.assertArrayEquals(bytes, full.toByteArray());
+        Assert.assertEquals("a5ff3c", full.toHexString());
+
+        // Bits after the bit length are dropped
+        var partial = BitString.from(bytes, 12);
+        Assert.assertEquals(12, partial.bitLength());
+        Assert.assertArrayEquals(new byte[]{(byte) 0xA5, (byte) 0xF0}, partial.toByteArray());
+        Assert.assertEquals(BitString.fromBits("101001011111"), partial);
+
+        Assert.assertEquals(0, BitString.from(bytes, 0).bitLength());
+        Assert.assertArrayEquals(new byte[0], BitString.from(bytes, 0).toByteArray());
+
+        // The bit string does not share the given array
+        var copy = bytes.clone();
+        var bitString = BitString.from(copy);
+        copy[0] = 0;
+        Assert.assertArrayEquals(bytes, bitString.toByteArray());
+    }
+
+    @Test
+    public void testFromByteArrayOutOfBounds() {
+        try {
+            BitString.from(new byte[2], 17);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            BitString.from(new byte[2], -1);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testToByteArray() {
+        var bitString = BitString.fromBits("1");
+        Assert.assertArrayEquals(new byte[]{(byte) 0x80}, bitString.toByteArray());
+        Assert.assertArrayEquals(new int[]{0x80}, bitString.toIntArray());
+
+        bitString = BitString.fromBits("0000000101");
+        Assert.assertArrayEquals(new byte[]{(byte) 0x01, (byte) 0x40}, bitString.toByteArray());
+        Assert.assertEquals(new OctetString("0140"), bitString.toOctetString());
+        Assert.assertEquals(5, bitString.intValue());
+        Assert.assertEquals(5L, bitString.longValue());
+    }
+
+    @Test
+    public void testSet() {
+        var bitString = new BitString();
+        bitString.set(10);
+        Assert.assertEquals(11, bitString.bitLength());
+        Assert.assertEquals("00000000001", bitString.toBinaryString());
+
+        bitString.set(2, 4);
+        bitString.clear(3);
+        Assert.assertEquals("00101000001", bitString.toBinaryString());
+
+        bitString.set(20, false);
+        Assert.assertEquals(21, bitString.bitLength());
+        Assert.assertEquals(BitString.fromBits("001010000010000000000"), bitString);
+
+        try {
+            bitString.getB(21);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testCopy() {
+        var random = new Random(2);
+        for (int n = 0; n < 500; n++) {
+            var sourceBits = randomBits(random, 1 + random.nextInt(40));
+            var destinationBits = randomBits(random, random.nextInt(40));
+            int sourceOffset = random.nextInt(sourceBits.length());
+            int bitLength = random.nextInt(sourceBits.length() - sourceOffset + 1);
+            int destinationOffset = random.nextInt(destinationBits.length() + 1);
+
+            var destination = BitString.fromBits(destinationBits);
+            BitString.copy(BitString.fromBits(sourceBits), sourceOffset, destination, destinationOffset, bitLength);
+
+            var expected = new StringBuilder(destinationBits);
+            for (int i = 0; i < bitLength; i++) {
+                var bit = sourceBits.charAt(sourceOffset + i);
+                if (destinationOffset + i < expected.length()) {
+                    expected.setCharAt(destinationOffset + i, bit);
+                } else {
+                    expected.append(bit);
+                }
+            }
+            Assert.assertEquals(expected.toString(), destination.toBinaryString());
+        }
+    }
+
+    @Test
+    public void testCopyOutOfBounds() {
+        try {
+            BitString.copy(BitString.fromBits("1010"), 2, new BitString(), 0, 3);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSubstring() {
+        var random = new Random(3);
+        for (int length = 0; length <= 40; length++) {
+            var bits = randomBits(random, length);
+            var bitString = BitString.fromBits(bits);
+            for (int start = 0; start <= length; start++) {
+                int subLength = random.nextInt(length - start + 1);
+                var substring = bitString.substring(start, subLength);
+                Assert.assertEquals(bits.substring(start, start + subLength), substring.toBinaryString());
+                Assert.assertEquals(BitString.fromBits(bits.substring(start, start + subLength)), substring);
+                Assert.assertEquals(bits.substring(start), bitString.substring(start).toBinaryString());
+            }
+        }
+        try {
+            BitString.fromBits("1010").substring(2, 3);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testReverse() {
+        var random = new Random(4);
+        for (int length = 0; length <= 40; length++) {
+            var bits = randomBits(random, length);
+            var reversed = BitString.reverse(BitString.fromBits(bits));
+            Assert.assertEquals(new StringBuilder(bits).reverse().toString(), reversed.toBinaryString());
+            Assert.assertEquals(BitString.fromBits(bits), BitString.reverse(reversed));
+        }
+    }
+
+    @Test
+    public void testXor() {
+        var random = new Random(5);
+        for (int length = 0; length <= 40; length++) {
+            var a = randomBits(random, length);
+            var b = randomBits(random, length);
+            var expected = new StringBuilder();
+            for (int i = 0; i < length; i++) {
+                expected.append(a.charAt(i) == b.charAt(i) ? '0' : '1');
+            }
+            var xor = BitString.xor(BitString.fromBits(a), BitString.fromBits(b));
+            Assert.assertEquals(expected.toString(), xor.toBinaryString());
+            Assert.assertEquals(BitString.fromBits(expected.toString()), xor);
+        }
+        try {
+            BitString.xor(BitString.fromBits("101"), BitString.fromBits("1010"));
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        var fromBits = BitString.fromBits("1100101011");
+        var fromBytes = BitString.from(new byte[]{(byte) 0xCA, (byte) 0xFF}, 10);
+        var fromSet = new BitString();
+        for (int i : new int[]{0, 1, 4, 6, 8, 9}) {
+            fromSet.set(i);
+        }
+
+        Assert.assertEquals(fromBits, fromBytes);
+        Assert.assertEquals(fromBits, fromSet);
+        Assert.assertEquals(fromBits.hashCode(), fromBytes.hashCode());
+        Assert.assertEquals(fromBits.hashCode(), fromSet.hashCode());
+
+        // Same octets but a different bit length
+        Assert.assertNotEquals(BitString.fromBits("1"), BitString.fromBits("10"));
+        Assert.assertNotEquals(fromBits, BitString.fromBits("1100101010"));
+        Assert.assertNotEquals(fromBits, BitString.fromBits("11001010110"));
+        Assert.assertEquals(new BitString(), BitString.fromBits(""));
+    }
+}
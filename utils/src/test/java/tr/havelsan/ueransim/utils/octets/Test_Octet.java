@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tr.havelsan.ueransim.utils.octets;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+import tr.havelsan.ueransim.utils.bits.Bit;
+import tr.havelsan.ueransim.utils.bits.Bit3;
+import tr.havelsan.ueransim.utils.bits.Bit4;
+import tr.havelsan.ueransim.utils.bits.Bit5;
+
+public class Test_Octet {
+
+    @Test
+    public void testValueOfCacheBounds() {
+        for (int i = 0; i < 256; i++) {
+            var octet = Octet.valueOf(i);
+            Assert.assertEquals(i, octet.intValue());
+            Assert.assertEquals(new Octet(i), octet);
+            Assert.assertSame(octet, Octet.valueOf(i));
+        }
+        Assert.assertSame(Octet.valueOf(0), Octet.valueOf((byte) 0));
+        Assert.assertSame(Octet.valueOf(255), Octet.valueOf((byte) -1));
+        Assert.assertSame(Octet.valueOf(128), Octet.valueOf((byte) -128));
+        Assert.assertSame(Octet.valueOf(127), Octet.valueOf((byte) 127));
+    }
+
+    @Test
+    public void testValueOfMasksOutOfRangeValues() {
+        Assert.assertSame(Octet.valueOf(0), Octet.valueOf(256));
+        Assert.assertSame(Octet.valueOf(44), Octet.valueOf(300));
+        Assert.assertSame(Octet.valueOf(255), Octet.valueOf(-1));
+        Assert.assertSame(Octet.valueOf(0), Octet.valueOf(Integer.MIN_VALUE));
+        Assert.assertSame(Octet.valueOf(255), Octet.valueOf(Integer.MAX_VALUE));
+    }
+
+    @Test
+    public void testConstructorRejectsNegativeValues() {
+        try {
+            new Octet(-1);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new Octet4(1, 2, 3, -4);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testSetBitReturnsSharedInstances() {
+        var octet = Octet.valueOf(0);
+        Assert.assertSame(Octet.valueOf(0x80), octet.setBit(7, 1));
+        Assert.assertSame(Octet.valueOf(0x01), octet.setBit(0, true));
+        Assert.assertSame(Octet.valueOf(0x04), octet.setBit(2, Bit.ONE));
+        Assert.assertSame(Octet.valueOf(0xF0), octet.setBitRange(4, 7, 0xF));
+        Assert.assertSame(Octet.valueOf(0xFE), Octet.valueOf(0xFF).setBit(0, 0));
+    }
+
+    @Test
+    public void testBitValueOf() {
+        Assert.assertSame(Bit.ZERO, Bit.valueOf(0));
+        Assert.assertSame(Bit.ONE, Bit.valueOf(1));
+        Assert.assertSame(Bit.ZERO, Bit.valueOf(2));
+        Assert.assertSame(Bit.ONE, Bit.valueOf(-1));
+
+        for (int i = 0; i < 8; i++) {
+            Assert.assertEquals(i, Bit3.valueOf(i).intValue());
+            Assert.assertSame(Bit3.valueOf(i), Bit3.valueOf(i + 8));
+        }
+        for (int i = 0; i < 16; i++) {
+            Assert.assertEquals(i, Bit4.valueOf(i).intValue());
+            Assert.assertSame(Bit4.valueOf(i), Bit4.valueOf(i + 16));
+        }
+        for (int i = 0; i < 32; i++) {
+            Assert.assertEquals(i, Bit5.valueOf(i).intValue());
+            Assert.assertSame(Bit5.valueOf(i), Bit5.valueOf(i + 32));
+        }
+        Assert.assertSame(Bit5.valueOf(31), Bit5.valueOf(-1));
+    }
+}
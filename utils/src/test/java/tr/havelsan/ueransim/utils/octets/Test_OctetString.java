@@ -0,0 +1,183 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 ALİ GÜNGÖR
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package tr.havelsan.ueransim.utils.octets;
+
+import org.junit.Assert;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+
+public class Test_OctetString {
+
+    private static final byte[] DATA = {0x00, 0x11, 0x22, 0x33, 0x44, 0x55, 0x66, 0x77, (byte) 0x88, (byte) 0x99};
+
+    @Test
+    public void testConstructorCopies() {
+        var data = DATA.clone();
+        var octetString = new OctetString(data, 2, 4);
+        data[2] = 0;
+        Assert.assertEquals(4, octetString.length);
+        Assert.assertEquals("22334455", octetString.toHexString());
+
+        var full = new OctetString(data);
+        data[0] = 1;
+        Assert.assertEquals(0, full.getI(0));
+    }
+
+    @Test
+    public void testWrapShares() {
+        var data = DATA.clone();
+        var octetString = OctetString.wrap(data, 2, 4);
+        data[2] = 0;
+        Assert.assertEquals("00334455", octetString.toHexString());
+    }
+
+    @Test
+    public void testViewOffsetsAndLengths() {
+        var octetString = OctetString.wrap(DATA, 1, 8);
+        Assert.assertEquals("1122334455667788", octetString.toHexString());
+
+        var view = octetString.substring(2, 4);
+        Assert.assertEquals(4, view.length);
+        Assert.assertEquals(0x33, view.getI(0));
+        Assert.assertEquals(0x66, view.getI(3));
+        Assert.assertEquals(0x3344, view.get2I(0));
+        Assert.assertEquals(0x445566, view.get3I(1));
+        Assert.assertEquals(0x33445566L, view.get4L(0));
+        Assert.assertEquals(new Octet4(0x33445566L), view.get4(0));
+        Assert.assertArrayEquals(new byte[]{0x33, 0x44, 0x55, 0x66}, view.toByteArray());
+        Assert.assertEquals("33 44 55 66", view.toHexString(true));
+
+        var nested = view.substring(1);
+        Assert.assertEquals("445566", nested.toHexString());
+        Assert.assertEquals(0, view.substring(4).length);
+
+        var copied = new byte[6];
+        nested.copyTo(1, copied, 2, 2);
+        Assert.assertArrayEquals(new byte[]{0, 0, 0x55, 0x66, 0, 0}, copied);
+
+        var buffer = nested.asByteBuffer();
+        Assert.assertTrue(buffer.isReadOnly());
+        Assert.assertEquals(0, buffer.position());
+        Assert.assertEquals(3, buffer.remaining());
+        Assert.assertEquals(0x44, buffer.get(0));
+
+        Assert.assertArrayEquals(new Octet[]{Octet.valueOf(0x44), Octet.valueOf(0x55), Octet.valueOf(0x66)},
+                nested.getAsOctetArray());
+    }
+
+    @Test
+    public void testConcatAndXorOfViews() {
+        var a = OctetString.wrap(DATA, 0, 2);
+        var b = OctetString.wrap(DATA, 8, 2);
+        Assert.assertEquals(new OctetString("00118899"), OctetString.concat(a, b));
+        Assert.assertEquals(new OctetString("8888"), OctetString.xor(a, b));
+        try {
+            OctetString.xor(a, OctetString.wrap(DATA, 0, 3));
+            Assert.fail();
+        } catch (IllegalStateException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testOutOfBoundsSlices() {
+        var view = OctetString.wrap(DATA, 2, 4);
+        int[][] invalidRanges = {{-1, 1}, {0, 5}, {4, 1}, {5, 0}, {2, -1}};
+        for (var range : invalidRanges) {
+            try {
+                view.substring(range[0], range[1]);
+                Assert.fail(Arrays.toString(range));
+            } catch (IndexOutOfBoundsException e) {
+                // expected
+            }
+        }
+        try {
+            view.substring(5);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            OctetString.wrap(DATA, 8, 3);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            new OctetString(DATA, -1, 2);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+
+        // Octets of the backing array outside the view are not reachable
+        try {
+            view.get(4);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            view.get(-1);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            view.get2I(3);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            view.copyTo(2, new byte[4], 0, 3);
+            Assert.fail();
+        } catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testEqualsAndHashCode() {
+        var view = OctetString.wrap(DATA, 3, 4);
+        var copy = new OctetString(DATA, 3, 4);
+        var fromHex = new OctetString("33445566");
+        var fromInts = new OctetString(new int[]{0x33, 0x44, 0x55, 0x66});
+        var nestedView = OctetString.wrap(DATA).substring(1, 8).substring(2, 4);
+
+        for (var other : new OctetString[]{copy, fromHex, fromInts, nestedView}) {
+            Assert.assertEquals(view, other);
+            Assert.assertEquals(other, view);
+            Assert.assertEquals(view.hashCode(), other.hashCode());
+        }
+
+        Assert.assertNotEquals(view, OctetString.wrap(DATA, 3, 3));
+        Assert.assertNotEquals(view, OctetString.wrap(DATA, 4, 4));
+        Assert.assertNotEquals(view, "33445566");
+        Assert.assertEquals(OctetString.wrap(DATA, 3, 0), new OctetString());
+        Assert.assertEquals(OctetString.wrap(DATA, 3, 0).hashCode(), new OctetString().hashCode());
+    }
+}